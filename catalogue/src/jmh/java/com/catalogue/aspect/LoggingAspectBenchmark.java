@@ -0,0 +1,173 @@
+package com.catalogue.aspect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import com.catalogue.cache.CategoryTreeCache;
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.service.CategoryService;
+import com.common.tenant.TenantContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Overhead of method tracing on the cached {@code getAllCategories} path, with DEBUG off as in production.
+ * The baseline proxy carries a pass-through interceptor, standing in for the transaction interceptor the
+ * service is always proxied with, so the difference to it is the cost of tracing alone. Also measures the
+ * previous aspect, which resolved the logger, class name and signature on every call.
+ * Run with {@code gradle :catalogue:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+
+    private static final String TENANT_ID = "benchmark-tenant";
+
+    private static final MethodInterceptor PASS_THROUGH = MethodInvocation::proceed;
+
+    private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+
+    private CategoryService baseline;
+    private CategoryService traced;
+    private CategoryService tracedSampled;
+    private CategoryService previousAspect;
+
+    /**
+     * Build the service around a warm category tree cache, so calls never reach the database.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryTreeCache cache = new CategoryTreeCache(10, 3600, 3600, 5000, 1, new SimpleMeterRegistry(),
+                new TenantContextHolder());
+        List<CategoryDTO> tree = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            CategoryDTO category = new CategoryDTO();
+            category.setName("Category " + i);
+            tree.add(category);
+        }
+        cache.get(TENANT_ID, tenantId -> tree);
+
+        CategoryService service = new CategoryService(null, tenantContextHolder, null, cache, event -> { });
+        baseline = proxy(service, PASS_THROUGH);
+        traced = proxy(service, new LoggingAspect(0));
+        // Sampled calls log at INFO; one in a million keeps the console quiet while exercising the draw
+        tracedSampled = proxy(service, new LoggingAspect(0.000_001));
+        AspectJProxyFactory previous = new AspectJProxyFactory(service);
+        previous.setProxyTargetClass(true);
+        previous.addAdvice(PASS_THROUGH);
+        previous.addAspect(new PreviousLoggingAspect());
+        previousAspect = previous.getProxy();
+        tenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    /**
+     * Clear the tenant of the benchmark thread.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tenantContextHolder.clear();
+    }
+
+    /**
+     * Proxy with only the pass-through interceptor, the floor for any tracing.
+     *
+     * @return The category tree
+     */
+    @Benchmark
+    public List<CategoryDTO> baseline() {
+        return baseline.getAllCategories();
+    }
+
+    /**
+     * Tracing aspect with DEBUG off and sampling disabled.
+     *
+     * @return The category tree
+     */
+    @Benchmark
+    public List<CategoryDTO> traced() {
+        return traced.getAllCategories();
+    }
+
+    /**
+     * Tracing aspect with DEBUG off and sampling enabled.
+     *
+     * @return The category tree
+     */
+    @Benchmark
+    public List<CategoryDTO> tracedSampled() {
+        return tracedSampled.getAllCategories();
+    }
+
+    /**
+     * The aspect this one replaced, with DEBUG off.
+     *
+     * @return The category tree
+     */
+    @Benchmark
+    public List<CategoryDTO> previousAspect() {
+        return previousAspect.getAllCategories();
+    }
+
+    /**
+     * Proxy the service as the application context does, with the pass-through interceptor and the given one
+     */
+    private static CategoryService proxy(CategoryService target, MethodInterceptor interceptor) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(PASS_THROUGH);
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(LoggingAspect.POINTCUT);
+        factory.addAdvisor(new DefaultPointcutAdvisor(pointcut, interceptor));
+        return factory.getProxy();
+    }
+
+    /**
+     * The tracing advice as it was before the fast path, kept for comparison.
+     */
+    @Aspect
+    public static class PreviousLoggingAspect {
+
+        /**
+         * Advice resolving the logger and names on every call.
+         *
+         * @param joinPoint Join point for advice
+         * @return The result of proceeding with the intercepted method call
+         * @throws Throwable If proceeding with the intercepted method call throws
+         */
+        @Around("execution(* com.catalogue.service.*.*(..))")
+        public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+            Logger logger = LoggerFactory.getLogger(joinPoint.getTarget().getClass());
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            String methodName = joinPoint.getSignature().getName();
+            logger.debug("Entering: {}.{}()", className, methodName);
+            long startTime = System.currentTimeMillis();
+            Object result = joinPoint.proceed();
+            long duration = System.currentTimeMillis() - startTime;
+            logger.debug("Exiting: {}.{}() with result: {}. Time taken: {} ms",
+                    className, methodName, result, duration);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.catalogue.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.catalogue.tenant.TenantRegistry;
+
+/**
+ * Cost of resolving the tenant of a request URI: the regex the filter used before, against the path scanner
+ * with the registry lookup that replaced it. Run with {@code gradle :catalogue:jmh}; add {@code -prof gc}
+ * to the JMH arguments to compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TenantPathBenchmark {
+
+    private static final Pattern TENANT_PATTERN = Pattern.compile("/api/v1/tenants/([^/]+)");
+
+    private static final int TENANT_COUNT = 200;
+
+    private TenantRegistry tenantRegistry;
+    private String path;
+
+    /**
+     * Register the tenants in an in-memory tenants table and build a request URI as the container hands it
+     * to the filter.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:tenants;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tenants"
+                + " (id integer generated by default as identity primary key, slug varchar(255) not null unique)");
+        tenantRegistry = new TenantRegistry(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        for (int i = 0; i < TENANT_COUNT; i++) {
+            tenantRegistry.register("tenant-" + i);
+        }
+        path = "/api/v1/tenants/tenant-" + TENANT_COUNT / 2 + "/categories/42/components";
+    }
+
+    /**
+     * The previous extraction: a matcher and a group substring per request, with no tenant check.
+     *
+     * @return The tenant ID
+     */
+    @Benchmark
+    public String regex() {
+        Matcher matcher = TENANT_PATTERN.matcher(path);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * The path scanner with the registry lookup, which also rejects unknown tenants.
+     *
+     * @return The registered tenant ID instance
+     */
+    @Benchmark
+    public String scanner() {
+        String result = null;
+        int start = TenantPathScanner.tenantIdStart(path);
+        if (start >= 0) {
+            result = tenantRegistry.canonicalize(path, start, TenantPathScanner.tenantIdEnd(path, start));
+        }
+        return result;
+    }
+}
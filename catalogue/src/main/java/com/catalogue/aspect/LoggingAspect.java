@@ -1,70 +1,142 @@
 package com.catalogue.aspect;
 
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Pointcut;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
- * Aspect for logging method executions.
+ * Aspect for tracing service and controller method executions.
+ *
+ * <p>Calls are traced at DEBUG on the target class's logger. When DEBUG is off, a call costs one cached
+ * logger lookup and one level check, plus a random draw when sampling is enabled; nothing else is
+ * computed or allocated. The advice is a plain interceptor rather than an {@code @Aspect}, which would
+ * allocate a join point and invoke the advice reflectively on every call; it is applied to
+ * {@link #POINTCUT} by {@code TracingConfig}.
+ *
+ * <p>Sampling ({@code catalogue.tracing.sample-rate}) traces that share of calls at INFO, for production
+ * where DEBUG is too verbose. Results are summarized by type and size and are never rendered with
+ * {@code toString}.
  */
-@Aspect
 @Component
-public class LoggingAspect {
+public class LoggingAspect implements MethodInterceptor {
 
     /**
-     * Pointcut for all service methods.
+     * Methods traced: all service and controller methods.
      */
-    @Pointcut("execution(* com.catalogue.service.*.*(..))")
-    public void servicePointcut() { }
+    public static final String POINTCUT =
+            "execution(* com.catalogue.service.*.*(..)) || execution(* com.catalogue.controller.*.*(..))";
+
+    private static final long NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+    /**
+     * Loggers of the traced classes, resolved once per class.
+     */
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    private final double sampleRate;
 
     /**
-     * Pointcut for all controller methods.
+     * Constructor.
+     *
+     * @param sampleRate Share of calls traced at INFO regardless of the DEBUG level, from 0 to 1
      */
-    @Pointcut("execution(* com.catalogue.controller.*.*(..))")
-    public void controllerPointcut() { }
+    public LoggingAspect(@Value("${catalogue.tracing.sample-rate:0}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("catalogue.tracing.sample-rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
 
     /**
      * Advice to log method entry, exit, and execution time.
      *
-     * @param joinPoint Join point for advice
+     * @param invocation The intercepted method call
      * @return The result of proceeding with the intercepted method call
      * @throws Throwable If proceeding with the intercepted method call throws
      */
-    @Around("servicePointcut() || controllerPointcut()")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        Logger logger = LoggerFactory.getLogger(joinPoint.getTarget().getClass());
-
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-
-        // Log method entry
-        logger.debug("Entering: {}.{}()", className, methodName);
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Logger logger = LOGGERS.get(targetClass(invocation));
+        Object result;
+        if (logger.isDebugEnabled()) {
+            result = trace(invocation, logger, false);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            result = trace(invocation, logger, true);
+        } else {
+            try {
+                result = invocation.proceed();
+            } catch (Exception e) {
+                logFailure(invocation, logger, e);
+                throw e;
+            }
+        }
+        return result;
+    }
 
-        // Record start time
-        long startTime = System.currentTimeMillis();
+    private static Object trace(MethodInvocation invocation, Logger logger, boolean sampled) throws Throwable {
+        String className = targetClass(invocation).getSimpleName();
+        String methodName = invocation.getMethod().getName();
+        if (!sampled) {
+            logger.debug("Entering: {}.{}()", className, methodName);
+        }
 
+        long startTime = System.nanoTime();
+        Object result;
         try {
-            // Execute the method
-            Object result = joinPoint.proceed();
+            result = invocation.proceed();
+        } catch (Exception e) {
+            logFailure(invocation, logger, e);
+            throw e;
+        }
+        long durationMicros = (System.nanoTime() - startTime) / NANOS_PER_MICRO;
 
-            // Record end time and calculate duration
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
+        if (sampled) {
+            logger.info("Sampled: {}.{}() returned {} in {} us",
+                    className, methodName, summarize(result), durationMicros);
+        } else {
+            logger.debug("Exiting: {}.{}() with result: {}. Time taken: {} us",
+                    className, methodName, summarize(result), durationMicros);
+        }
+        return result;
+    }
 
-            // Log method exit with execution time
-            logger.debug("Exiting: {}.{}() with result: {}. Time taken: {} ms",
-                    className, methodName, result, duration);
+    private static Class<?> targetClass(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        return target == null ? invocation.getMethod().getDeclaringClass() : target.getClass();
+    }
 
-            return result;
-        } catch (Exception e) {
-            // Log exceptions
-            logger.error("Exception in {}.{}() with cause: {}",
-                    className, methodName, e.getMessage());
-            throw e;
+    private static void logFailure(MethodInvocation invocation, Logger logger, Exception e) {
+        logger.error("Exception in {}.{}() with cause: {}",
+                targetClass(invocation).getSimpleName(), invocation.getMethod().getName(), e.getMessage());
+    }
+
+    /**
+     * Describe a result by its type and, for collections and maps, its size
+     */
+    static String summarize(Object result) {
+        String summary;
+        if (result == null) {
+            summary = "null";
+        } else if (result instanceof Collection<?> collection) {
+            summary = result.getClass().getSimpleName() + "[" + collection.size() + "]";
+        } else if (result instanceof Map<?, ?> map) {
+            summary = result.getClass().getSimpleName() + "[" + map.size() + "]";
+        } else {
+            summary = result.getClass().getSimpleName();
         }
+        return summary;
     }
 }
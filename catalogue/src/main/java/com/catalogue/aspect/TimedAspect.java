@@ -1,74 +1,147 @@
 package com.catalogue.aspect;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
 
 import com.catalogue.annotation.Timed;
 
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
 /**
- * Aspect that handles the custom @Timed annotation for performance monitoring.
+ * Aspect that records methods annotated with {@link Timed} as Micrometer timers.
+ * Meters are resolved once per method and cached, so a call only reads the clock twice and records the
+ * duration; the one exception is {@code longTask}, whose active-task sample is allocated per call.
  */
 @Aspect
 @Component
 public class TimedAspect {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(TimedAspect.class);
+    /**
+     * Metric name used when the annotation does not name one; methods are told apart by tags.
+     */
+    public static final String DEFAULT_METRIC_NAME = "method.timed";
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final Map<Method, TimedMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry the timers are published to
+     */
+    public TimedAspect(MeterRegistry registry) {
+        this.registry = registry;
+        this.clock = registry.config().clock();
+    }
 
     /**
-     * Advice that measures and logs the execution time of methods
-     * annotated with @Timed.
+     * Advice that records the execution time of methods annotated with @Timed, or declared
+     * in a class annotated with @Timed.
      *
      * @param joinPoint The joint point for advice
      * @return The result of the method execution
      * @throws Throwable If the method execution throws any exception or error
      */
-    @Around("@annotation(com.catalogue.annotation.Timed)")
+    @Around("@annotation(com.catalogue.annotation.Timed) || @within(com.catalogue.annotation.Timed)")
     public Object timeMethod(ProceedingJoinPoint joinPoint) throws Throwable {
-        // Get method signature and extract annotation
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Timed timedAnnotation = signature.getMethod().getAnnotation(Timed.class);
-
-        // Get metric name from annotation or use method name
-        String metricName = timedAnnotation.value().isEmpty()
-                ? signature.getDeclaringType().getSimpleName() + "." + signature.getName()
-                : timedAnnotation.value();
-
-        // Record start time
-        long startTime = System.currentTimeMillis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        TimedMeters timedMeters = meters.get(method);
+        if (timedMeters == null) {
+            timedMeters = meters.computeIfAbsent(method, this::createMeters);
+        }
 
+        LongTaskTimer.Sample activeTask = timedMeters.longTaskTimer == null
+                ? null
+                : timedMeters.longTaskTimer.start();
+        long start = clock.monotonicTime();
+        boolean succeeded = false;
         try {
-            // Execute the method
             Object result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            Timer timer = succeeded ? timedMeters.success : timedMeters.failure;
+            timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            if (activeTask != null) {
+                activeTask.stop();
+            }
+        }
+    }
 
-            // Calculate execution time
-            long executionTime = System.currentTimeMillis() - startTime;
+    private TimedMeters createMeters(Method method) {
+        Timed timed = AnnotatedElementUtils.findMergedAnnotation(method, Timed.class);
+        if (timed == null) {
+            timed = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Timed.class);
+        }
 
-            // Log execution time
-            LOGGER.info("Method {} executed in {} ms", metricName, executionTime);
+        String name = timed.value().isEmpty() ? DEFAULT_METRIC_NAME : timed.value();
+        Tags tags = Tags.of("class", method.getDeclaringClass().getSimpleName(), "method", method.getName())
+                .and(parseTags(timed.extraTags()));
+        String description = timed.description().isEmpty() ? null : timed.description();
 
-            return result;
-        } catch (Exception exception) {
-            // Calculate execution time even if method throws exception
-            long executionTime = System.currentTimeMillis() - startTime;
-
-            // Log execution time with error
-            LOGGER.error("Method {} failed after {} ms: {}",
-                    metricName, executionTime, exception.getMessage());
-
-            throw exception;
-        } catch (Error error) {
-            // Log execution time with error
-            long executionTime = System.currentTimeMillis() - startTime;
-            LOGGER.error("Method {} failed with Error after {} ms: {}",
-                    metricName, executionTime, error.getMessage());
-
-            // Re-throw errors directly without wrapping
-            throw error;
+        LongTaskTimer longTaskTimer = timed.longTask()
+                ? LongTaskTimer.builder(name + ".active").description(description).tags(tags).register(registry)
+                : null;
+        return new TimedMeters(
+                timer(name, description, tags.and("outcome", "success"), timed.percentiles()),
+                timer(name, description, tags.and("outcome", "error"), timed.percentiles()),
+                longTaskTimer);
+    }
+
+    private Timer timer(String name, String description, Tags tags, double... percentiles) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentiles.length > 0)
+                .register(registry);
+    }
+
+    /**
+     * Parse extra tags written as {@code key=value}
+     */
+    private static List<Tag> parseTags(String... extraTags) {
+        List<Tag> tags = new ArrayList<>(extraTags.length);
+        for (String extraTag : extraTags) {
+            int separator = extraTag.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("@Timed extra tag must be written as key=value: " + extraTag);
+            }
+            tags.add(Tag.of(extraTag.substring(0, separator).trim(), extraTag.substring(separator + 1).trim()));
+        }
+        return tags;
+    }
+
+    /**
+     * Meters of one timed method.
+     */
+    private static final class TimedMeters {
+
+        private final Timer success;
+        private final Timer failure;
+        private final LongTaskTimer longTaskTimer;
+
+        TimedMeters(Timer success, Timer failure, LongTaskTimer longTaskTimer) {
+            this.success = success;
+            this.failure = failure;
+            this.longTaskTimer = longTaskTimer;
         }
     }
 }
@@ -0,0 +1,185 @@
+package com.catalogue.cache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import com.catalogue.search.SearchAnalyzer;
+
+/**
+ * Allergen masks of a tenant's category items and customizations, for filtering by allergen without walking
+ * their components.
+ *
+ * <p>Every allergen named in the tenant's allergenic components is assigned a bit, and every item and
+ * customization gets the union of the bits of its components. Components flagged allergenic without naming an
+ * allergen set a reserved bit that every non-empty exclusion matches, so an unlabelled allergen is never let
+ * through a dietary filter. Allergen names are matched case-insensitively and with every word reduced to its
+ * singular, so {@code egg} matches {@code "Contains eggs"}. Instances are immutable.
+ */
+public final class AllergenIndex {
+
+    /**
+     * Index of a tenant without allergenic components.
+     */
+    public static final AllergenIndex EMPTY = new AllergenIndex(Map.of(), Map.of(), Map.of());
+
+    private static final int UNSPECIFIED_BIT = 0;
+    private static final Pattern LEADING_CONTAINS = Pattern.compile("^\\s*contains:?\\s+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SEPARATORS = Pattern.compile("\\s*(?:[,;/]|\\band\\b)\\s*");
+
+    private final Map<String, Integer> bits;
+    private final Map<Long, BitSet> itemMasks;
+    private final Map<Long, BitSet> customizationMasks;
+
+    private AllergenIndex(Map<String, Integer> bits, Map<Long, BitSet> itemMasks,
+                          Map<Long, BitSet> customizationMasks) {
+        this.bits = bits;
+        this.itemMasks = itemMasks;
+        this.customizationMasks = customizationMasks;
+    }
+
+    /**
+     * Build an index from the allergenic components of a tenant's items and customizations.
+     *
+     * @param itemRows Rows of (category item ID, allergen info) for each allergenic component of an item
+     * @param customizationRows Rows of (customization ID, allergen info) for each allergenic component of a
+     *                          customization
+     * @return The index
+     */
+    public static AllergenIndex build(List<Object[]> itemRows, List<Object[]> customizationRows) {
+        Map<String, Integer> bits = new HashMap<>();
+        Map<Long, BitSet> itemMasks = masks(itemRows, bits);
+        Map<Long, BitSet> customizationMasks = masks(customizationRows, bits);
+        return new AllergenIndex(Map.copyOf(bits), Map.copyOf(itemMasks), Map.copyOf(customizationMasks));
+    }
+
+    /**
+     * Get the mask matching items or customizations that contain any of the given allergens.
+     *
+     * @param allergens Allergen names, in any case
+     * @return The mask; empty if no allergens are given
+     */
+    public BitSet maskOf(Collection<String> allergens) {
+        BitSet mask = new BitSet();
+        for (String allergen : allergens) {
+            Integer bit = bits.get(normalize(allergen));
+            if (bit != null) {
+                mask.set(bit);
+            }
+        }
+        if (!allergens.isEmpty()) {
+            mask.set(UNSPECIFIED_BIT);
+        }
+        return mask;
+    }
+
+    /**
+     * Find the allergens that none of the tenant's allergenic components name, which {@link #maskOf} cannot match.
+     *
+     * @param allergens Allergen names, in any case
+     * @return The undeclared names, as given
+     */
+    public List<String> undeclared(Collection<String> allergens) {
+        List<String> undeclared = new ArrayList<>();
+        for (String allergen : allergens) {
+            if (!bits.containsKey(normalize(allergen))) {
+                undeclared.add(allergen);
+            }
+        }
+        return undeclared;
+    }
+
+    /**
+     * Get the allergens named by the tenant's allergenic components.
+     *
+     * @return The normalized allergen names, sorted
+     */
+    public Set<String> declared() {
+        return new TreeSet<>(bits.keySet());
+    }
+
+    /**
+     * Check whether a category item contains any allergen of a mask.
+     *
+     * @param categoryItemId The category item ID
+     * @param mask Mask returned by {@link #maskOf}
+     * @return True if the item's components contain an allergen of the mask
+     */
+    public boolean itemContainsAny(Long categoryItemId, BitSet mask) {
+        BitSet itemMask = itemMasks.get(categoryItemId);
+        return itemMask != null && itemMask.intersects(mask);
+    }
+
+    /**
+     * Check whether a customization contains any allergen of a mask.
+     *
+     * @param customizationId The customization ID
+     * @param mask Mask returned by {@link #maskOf}
+     * @return True if the customization's components contain an allergen of the mask
+     */
+    public boolean customizationContainsAny(Long customizationId, BitSet mask) {
+        BitSet customizationMask = customizationMasks.get(customizationId);
+        return customizationMask != null && customizationMask.intersects(mask);
+    }
+
+    /**
+     * Extract the allergen names of a component's allergen info, such as {@code "Contains gluten, eggs"}.
+     *
+     * @param allergenInfo The allergen info, or null
+     * @return The normalized allergen names, empty if none are named
+     */
+    static Set<String> parse(String allergenInfo) {
+        Set<String> allergens = new LinkedHashSet<>();
+        if (allergenInfo != null) {
+            String names = LEADING_CONTAINS.matcher(allergenInfo.toLowerCase(Locale.ROOT)).replaceFirst("");
+            for (String name : SEPARATORS.split(names)) {
+                String allergen = normalize(name);
+                if (!allergen.isEmpty()) {
+                    allergens.add(allergen);
+                }
+            }
+        }
+        return allergens;
+    }
+
+    private static Map<Long, BitSet> masks(List<Object[]> rows, Map<String, Integer> bits) {
+        Map<Long, BitSet> masks = new HashMap<>();
+        for (Object[] row : rows) {
+            BitSet mask = masks.computeIfAbsent((Long) row[0], id -> new BitSet());
+            Set<String> allergens = parse((String) row[1]);
+            if (allergens.isEmpty()) {
+                mask.set(UNSPECIFIED_BIT);
+            }
+            for (String allergen : allergens) {
+                // Bit 0 is reserved for allergens that are not named
+                mask.set(bits.computeIfAbsent(allergen, name -> bits.size() + 1));
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Lower-case an allergen name and reduce each of its words to its singular, so plurals match on both sides.
+     */
+    private static String normalize(String allergen) {
+        StringBuilder normalized = new StringBuilder();
+        for (String word : WHITESPACE.split(allergen.trim().toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                if (normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(SearchAnalyzer.stem(word));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.catalogue.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.repository.ComponentRepository;
+
+/**
+ * Per-tenant {@link AllergenIndex}, built on first use from two projected queries over the allergenic
+ * components of the tenant's items and customizations.
+ *
+ * <p>A tenant's index is dropped once a change to its catalogue has been committed, and rebuilt by the next
+ * read; catalogue changes are not itemized, so the index is rebuilt as a whole.
+ */
+@Component
+public class AllergenIndexCache {
+
+    private final Map<String, AllergenIndex> indexes = new ConcurrentHashMap<>();
+    private final ComponentRepository componentRepository;
+
+    /**
+     * Constructor.
+     *
+     * @param componentRepository Repository providing the allergenic components
+     */
+    public AllergenIndexCache(ComponentRepository componentRepository) {
+        this.componentRepository = componentRepository;
+    }
+
+    /**
+     * Get the allergen index of a tenant, building it on first access. Must be called with the tenant as the
+     * current tenant.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's allergen index
+     */
+    public AllergenIndex get(String tenantId) {
+        // An eviction waits for a build in progress and then drops its result, so a stale index is never kept
+        return indexes.computeIfAbsent(tenantId, key -> AllergenIndex.build(
+                componentRepository.findCategoryItemAllergens(),
+                componentRepository.findCustomizationAllergens()));
+    }
+
+    /**
+     * Remove the allergen index of a tenant.
+     *
+     * @param tenantId The tenant identifier
+     */
+    public void evict(String tenantId) {
+        indexes.remove(tenantId);
+    }
+
+    /**
+     * Drop the tenant's index once the transaction that changed its catalogue has committed.
+     *
+     * @param event The catalogue change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        evict(event.getTenantId());
+    }
+}
@@ -0,0 +1,44 @@
+package com.catalogue.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions of the catalogue entities and their collections.
+ * Every region is created up front by {@code SecondLevelCacheConfig}, with a size bound and statistics.
+ */
+public final class CatalogueCacheRegions {
+
+    /**
+     * Region of {@code Component} entities.
+     */
+    public static final String COMPONENT = "catalogue.component";
+
+    /**
+     * Region of {@code Category} entities.
+     */
+    public static final String CATEGORY = "catalogue.category";
+
+    /**
+     * Region of {@code CategoryItem} entities, which the cached collections refer to by ID.
+     */
+    public static final String CATEGORY_ITEM = "catalogue.categoryItem";
+
+    /**
+     * Region of the {@code Category.categoryItems} collections.
+     */
+    public static final String CATEGORY_ITEMS = "catalogue.category.categoryItems";
+
+    /**
+     * Region of the {@code CategoryItem.components} collections.
+     */
+    public static final String ITEM_COMPONENTS = "catalogue.categoryItem.components";
+
+    /**
+     * All regions.
+     */
+    public static final List<String> ALL = List.of(COMPONENT, CATEGORY, CATEGORY_ITEM, CATEGORY_ITEMS,
+            ITEM_COMPONENTS);
+
+    private CatalogueCacheRegions() {
+    }
+}
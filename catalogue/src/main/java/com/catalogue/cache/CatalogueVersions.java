@@ -0,0 +1,100 @@
+package com.catalogue.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.tenant.TenantSchemaRouter;
+
+/**
+ * Per-tenant catalogue version stamps, kept in the {@code catalogue_version} column of the {@code tenants} table.
+ *
+ * <p>A tenant's version is incremented in the transaction that changes its catalogue, so a snapshot stamped with
+ * the version read before it was built is current for as long as the version stays the same. Changes received
+ * from other nodes were already counted by the node that made them. The version of a tenant with a schema of its
+ * own is kept in that schema's {@code tenants} table, next to the catalogue it stamps.
+ */
+@Component
+public class CatalogueVersions {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE tenants SET catalogue_version = catalogue_version + 1 WHERE slug = ?";
+    private static final String INCREMENT_ALL_SQL = "UPDATE tenants SET catalogue_version = catalogue_version + 1";
+    private static final String FIND_VERSION_SQL = "SELECT catalogue_version FROM tenants WHERE slug = ?";
+    private static final String LOAD_VERSIONS_SQL = "SELECT slug, catalogue_version FROM tenants";
+
+    private final TenantSchemaRouter schemaRouter;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaRouter Router running the statements on the tenants table of the tenant's schema
+     */
+    public CatalogueVersions(TenantSchemaRouter schemaRouter) {
+        this.schemaRouter = schemaRouter;
+    }
+
+    /**
+     * Increment the version of a tenant whose catalogue this node changed. Runs synchronously, inside the
+     * transaction of the change when there is one.
+     *
+     * @param event The catalogue change event
+     */
+    @EventListener
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        if (!event.isRemote()) {
+            schemaRouter.inTenantSchema(event.getTenantId(),
+                    jdbcTemplate -> jdbcTemplate.update(INCREMENT_SQL, event.getTenantId()));
+        }
+    }
+
+    /**
+     * Increment the version of every tenant, for changes that bypass the change events.
+     */
+    public void incrementAll() {
+        schemaRouter.inSchema(null, jdbcTemplate -> jdbcTemplate.update(INCREMENT_ALL_SQL));
+        for (String schema : schemaRouter.isolatedSchemas()) {
+            schemaRouter.inSchema(schema, jdbcTemplate -> jdbcTemplate.update(INCREMENT_ALL_SQL));
+        }
+    }
+
+    /**
+     * Get the current version of a tenant's catalogue.
+     *
+     * @param tenantId The tenant identifier
+     * @return The version, or 0 if the tenant is unknown
+     */
+    public long versionOf(String tenantId) {
+        List<Long> versions = schemaRouter.inTenantSchema(tenantId,
+                jdbcTemplate -> jdbcTemplate.queryForList(FIND_VERSION_SQL, Long.class, tenantId));
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    /**
+     * Get the current version of every tenant's catalogue.
+     *
+     * @return Versions by tenant ID
+     */
+    public Map<String, Long> versions() {
+        Map<String, Long> versions = new HashMap<>();
+        loadVersions(null, versions);
+        // Each isolated schema holds the current version of its tenant only
+        for (String schema : schemaRouter.isolatedSchemas()) {
+            loadVersions(schema, versions);
+        }
+        return versions;
+    }
+
+    private void loadVersions(String schema, Map<String, Long> versions) {
+        schemaRouter.inSchema(schema, jdbcTemplate -> {
+            jdbcTemplate.query(LOAD_VERSIONS_SQL, rs -> {
+                versions.put(rs.getString(1), rs.getLong(2));
+            });
+            return null;
+        });
+    }
+}
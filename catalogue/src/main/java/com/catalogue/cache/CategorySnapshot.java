@@ -0,0 +1,65 @@
+package com.catalogue.cache;
+
+/**
+ * Immutable, pre-serialized category tree for one tenant together with its strong ETag and the catalogue
+ * version (see {@link CatalogueVersions}) it was built from. The response envelope around the tree is written
+ * per request (see {@link CategorySnapshotCache#responseBody}), so its timestamp is the time of the request.
+ */
+public final class CategorySnapshot {
+
+    private final byte[] data;
+    private final String etag;
+    private final long version;
+
+    /**
+     * Constructor.
+     *
+     * @param data Compact UTF-8 JSON of the category tree, the {@code data} of the catalogue response
+     * @param etag Quoted strong entity tag identifying the catalogue content
+     * @param version Catalogue version read before the snapshot was built
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public CategorySnapshot(byte[] data, String etag, long version) {
+        this.data = data;
+        this.etag = etag;
+        this.version = version;
+    }
+
+    /**
+     * Get the serialized category tree. The array is shared between requests and must not be modified.
+     *
+     * @return The category tree bytes
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public byte[] getData() {
+        return data;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check whether an If-None-Match header value matches this snapshot.
+     *
+     * @param ifNoneMatch The raw If-None-Match header value, may be null
+     * @return true if the client already holds this version of the catalogue
+     */
+    public boolean matches(String ifNoneMatch) {
+        boolean matched = false;
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if ("*".equals(tag) || etag.equals(tag) || ("W/" + etag).equals(tag)) {
+                    matched = true;
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+}
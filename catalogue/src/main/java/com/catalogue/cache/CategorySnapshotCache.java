@@ -0,0 +1,244 @@
+package com.catalogue.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.catalogue.dto.ApiResponse;
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.service.CategoryService;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps a compact, pre-serialized JSON category tree and a strong ETag per tenant, so catalogue reads
+ * are answered by writing cached bytes instead of walking the DTO tree with Jackson. Only the response
+ * envelope is written per request, so its {@code timestamp} is the time of the request, as for every other
+ * response, and not the time the snapshot was built. Snapshots are rebuilt in the background after a
+ * tenant's catalogue changes; until the rebuild finishes, readers keep receiving the previous snapshot.
+ *
+ * <p>Every read otherwise goes through {@link CategoryService#getAllCategories()}, and so through the
+ * {@link CategoryTreeCache}, whose soft and hard TTLs, background refreshes and coalesced loads apply to the
+ * snapshots too: a snapshot records the tree instance it was built from, and is rebuilt once the tree cache
+ * returns another one. Restored snapshots were built by an earlier run and are served until their background
+ * rebuild.
+ *
+ * <p>Snapshots are held for as many tenants and as long as category trees are
+ * ({@code catalogue.cache.category-tree.maximum-size} and {@code ttl-seconds}) in a {@link TenantRebuildCache},
+ * so inactive tenants do not stay in memory and concurrent first reads of a tenant share one build.
+ */
+@Component
+public class CategorySnapshotCache {
+
+    /**
+     * Message carried in the snapshot response, matching the regular catalogue response.
+     */
+    public static final String SUCCESS_MESSAGE = "Categories retrieved successfully";
+
+    private static final int ETAG_BYTES = 16;
+    private static final byte[] ENVELOPE_START = "{\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENVELOPE_END = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final TenantRebuildCache<CachedSnapshot> snapshots;
+    private final CategoryService categoryService;
+    private final CatalogueVersions catalogueVersions;
+    private final ObjectWriter compactWriter;
+    private final byte[] envelopeFields;
+
+    /**
+     * Constructor.
+     *
+     * @param categoryService Service providing the category tree
+     * @param catalogueVersions Versions the snapshots are stamped with
+     * @param tenantContextHolder Holder for tenant context
+     * @param objectMapper Application object mapper
+     * @param maximumSize Maximum number of tenants whose snapshot is kept
+     * @param ttlSeconds Time after which a snapshot is dropped and rebuilt on the next read, in seconds
+     * @param loadTimeoutMillis Time a read waits for a snapshot built by a concurrent read, in milliseconds
+     */
+    @Autowired
+    public CategorySnapshotCache(CategoryService categoryService, CatalogueVersions catalogueVersions,
+                                 TenantContextHolder tenantContextHolder, ObjectMapper objectMapper,
+                                 @Value("${catalogue.cache.category-tree.maximum-size:1000}") long maximumSize,
+                                 @Value("${catalogue.cache.category-tree.ttl-seconds:600}") long ttlSeconds,
+                                 @Value("${catalogue.cache.category-tree.load-timeout-ms:5000}")
+                                 long loadTimeoutMillis) {
+        this(categoryService, catalogueVersions, tenantContextHolder, objectMapper, maximumSize,
+                Duration.ofSeconds(ttlSeconds), Duration.ofMillis(loadTimeoutMillis),
+                TenantRebuildCache.rebuildWorker("catalogue-snapshot"), Ticker.systemTicker());
+    }
+
+    /**
+     * Constructor with an explicit executor for background rebuilds.
+     *
+     * @param categoryService Service providing the category tree
+     * @param catalogueVersions Versions the snapshots are stamped with
+     * @param tenantContextHolder Holder for tenant context
+     * @param objectMapper Application object mapper
+     * @param maximumSize Maximum number of tenants whose snapshot is kept
+     * @param ttl Time after which a snapshot is dropped and rebuilt on the next read
+     * @param loadTimeout Time a read waits for a snapshot built by a concurrent read
+     * @param rebuildExecutor Executor running snapshot rebuilds
+     * @param ticker Clock for snapshot ages
+     */
+    CategorySnapshotCache(CategoryService categoryService, CatalogueVersions catalogueVersions,
+                          TenantContextHolder tenantContextHolder, ObjectMapper objectMapper, long maximumSize,
+                          Duration ttl, Duration loadTimeout, Executor rebuildExecutor, Ticker ticker) {
+        this.snapshots = new TenantRebuildCache<>("catalogue snapshot", tenantContextHolder, this::build,
+                maximumSize, ttl, loadTimeout, rebuildExecutor, ticker, current -> { });
+        this.categoryService = categoryService;
+        this.catalogueVersions = catalogueVersions;
+        this.compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.envelopeFields = envelopeFields(compactWriter);
+    }
+
+    /**
+     * Get the snapshot for a tenant, building it on first access, and rebuilding it when the category tree
+     * cache has refreshed or reloaded the tree it was built from.
+     *
+     * @param tenantId The tenant identifier
+     * @return The current snapshot for the tenant
+     */
+    public CategorySnapshot get(String tenantId) {
+        return snapshots.get(tenantId, this::isOutdated).snapshot();
+    }
+
+    /**
+     * Write the catalogue response around a snapshot's category tree, with the fields of
+     * {@link ApiResponse#success} in the same order.
+     *
+     * @param snapshot The tenant's snapshot
+     * @param timestamp Time of the response
+     * @return The response body
+     */
+    public byte[] responseBody(CategorySnapshot snapshot, LocalDateTime timestamp) {
+        try {
+            byte[] time = compactWriter.writeValueAsBytes(timestamp);
+            byte[] data = snapshot.getData();
+            return ByteBuffer.allocate(ENVELOPE_START.length + time.length + envelopeFields.length + data.length
+                            + ENVELOPE_END.length)
+                    .put(ENVELOPE_START).put(time).put(envelopeFields).put(data).put(ENVELOPE_END)
+                    .array();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize timestamp " + timestamp, e);
+        }
+    }
+
+    /**
+     * Get the current snapshot of every tenant.
+     *
+     * @return Snapshots by tenant ID
+     */
+    public Map<String, CategorySnapshot> snapshots() {
+        Map<String, CategorySnapshot> current = new HashMap<>();
+        snapshots.values().forEach((tenantId, cached) -> current.put(tenantId, cached.snapshot()));
+        return Map.copyOf(current);
+    }
+
+    /**
+     * Serve snapshots restored from an earlier run until they have been rebuilt in the background. Tenants
+     * whose snapshot was already built are left as they are.
+     *
+     * @param restored Snapshots by tenant ID, current as of their catalogue version
+     */
+    public void restore(Map<String, CategorySnapshot> restored) {
+        restored.forEach((tenantId, snapshot) -> snapshots.restore(tenantId, new CachedSnapshot(snapshot, null)));
+    }
+
+    /**
+     * Rebuild the tenant's snapshot in the background once a catalogue change has committed.
+     * Runs after the category tree cache has been evicted so the rebuild sees fresh data.
+     *
+     * @param event The catalogue change event
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        snapshots.rebuild(event.getTenantId());
+    }
+
+    /**
+     * Stop the background rebuild worker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        snapshots.shutdown();
+    }
+
+    /**
+     * Check whether the tree cache returns another tree than the snapshot was built from.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals") // A reloaded tree is a new instance, equal or not
+    private boolean isOutdated(CachedSnapshot cached) {
+        return cached.tree() != null && cached.tree() != categoryService.getAllCategories();
+    }
+
+    /**
+     * Serialize the tenant's category tree and compute its ETag from the category data,
+     * so the tag only changes when the menu itself changes. The version is read first, so a
+     * change committed during the build leaves the snapshot with an older version, never a newer one.
+     */
+    private CachedSnapshot build(String tenantId) {
+        try {
+            long version = catalogueVersions.versionOf(tenantId);
+            List<CategoryDTO> categories = categoryService.getAllCategories();
+            byte[] data = compactWriter.writeValueAsBytes(categories);
+            return new CachedSnapshot(new CategorySnapshot(data, computeEtag(data), version), categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize catalogue for tenant " + tenantId, e);
+        }
+    }
+
+    /**
+     * Serialize the envelope fields between the timestamp and the category tree, which are the same for every
+     * response.
+     */
+    private static byte[] envelopeFields(ObjectWriter writer) {
+        ApiResponse<Void> envelope = ApiResponse.success(SUCCESS_MESSAGE, null);
+        try {
+            return (",\"status\":" + envelope.getStatus() + ",\"message\":"
+                    + writer.writeValueAsString(envelope.getMessage()) + ",\"data\":")
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the catalogue response envelope", e);
+        }
+    }
+
+    private static String computeEtag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            String hex = HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+            return "\"" + hex + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A snapshot and the category tree instance it was built from, or null if it was restored.
+     */
+    private record CachedSnapshot(CategorySnapshot snapshot, List<CategoryDTO> tree) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.catalogue.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Checkpoints the category snapshots of all tenants to a memory-mapped file on local disk (see
+ * {@link CategorySnapshotFile}), so a restarted node does not start cold.
+ *
+ * <p>On startup, snapshots whose catalogue version still matches the database are served straight away, and
+ * rebuilt from the database in the background; the others are dropped and built on first access. The file is
+ * rewritten every {@code catalogue.cache.snapshot-file.checkpoint-interval-seconds} when the snapshots have
+ * changed, and once more on shutdown. Enabled by {@code catalogue.cache.snapshot-file.enabled}.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogue.cache.snapshot-file.enabled", havingValue = "true")
+public class CategorySnapshotCheckpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategorySnapshotCheckpoint.class);
+
+    private final Path path;
+    private final long intervalSeconds;
+    private final CategorySnapshotCache snapshotCache;
+    private final CatalogueVersions catalogueVersions;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalogue-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object lock = new Object();
+    private Map<String, CategorySnapshot> lastWritten = Map.of();
+
+    /**
+     * Constructor.
+     *
+     * @param path File the snapshots are checkpointed to
+     * @param intervalSeconds Time between checkpoints, in seconds
+     * @param snapshotCache Cache holding the snapshots
+     * @param catalogueVersions Current catalogue versions, which restored snapshots are checked against
+     */
+    public CategorySnapshotCheckpoint(
+            @Value("${catalogue.cache.snapshot-file.path}") Path path,
+            @Value("${catalogue.cache.snapshot-file.checkpoint-interval-seconds:60}") long intervalSeconds,
+            CategorySnapshotCache snapshotCache, CatalogueVersions catalogueVersions) {
+        this.path = path;
+        this.intervalSeconds = intervalSeconds;
+        this.snapshotCache = snapshotCache;
+        this.catalogueVersions = catalogueVersions;
+    }
+
+    /**
+     * Restore the snapshots of the previous run, then start checkpointing. Runs after the tenant registry has
+     * loaded, which the background rebuilds need.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        restore();
+        scheduler.scheduleWithFixedDelay(this::saveQuietly, intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Serve the persisted snapshots that are still current.
+     *
+     * @return Number of snapshots restored
+     */
+    public int restore() {
+        int restored = 0;
+        if (Files.exists(path)) {
+            try {
+                Map<String, CategorySnapshot> persisted = CategorySnapshotFile.read(path);
+                Map<String, Long> versions = catalogueVersions.versions();
+                Map<String, CategorySnapshot> current = new HashMap<>();
+                persisted.forEach((tenantId, snapshot) -> {
+                    Long version = versions.get(tenantId);
+                    if (version != null && version == snapshot.getVersion()) {
+                        current.put(tenantId, snapshot);
+                    }
+                });
+                snapshotCache.restore(current);
+                restored = current.size();
+                LOGGER.info("Restored {} of {} category snapshots from {}", restored, persisted.size(), path);
+            } catch (IOException e) {
+                LOGGER.warn("Ignoring unreadable category snapshot file {}: {}", path, e.getMessage());
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Write the current snapshots to the file, unless they are the ones written last.
+     *
+     * @throws IOException If the file cannot be written
+     */
+    public void save() throws IOException {
+        synchronized (lock) {
+            Map<String, CategorySnapshot> snapshots = snapshotCache.snapshots();
+            // Snapshots are immutable and replaced on rebuild, so an equal map holds the very same snapshots
+            if (!snapshots.equals(lastWritten)) {
+                CategorySnapshotFile.write(path, snapshots);
+                lastWritten = snapshots;
+                LOGGER.debug("Checkpointed {} category snapshots to {}", snapshots.size(), path);
+            }
+        }
+    }
+
+    /**
+     * Stop checkpointing and write the snapshots one last time.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        saveQuietly();
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            LOGGER.warn("Could not checkpoint category snapshots to {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.catalogue.cache;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes category snapshots as a memory-mapped file.
+ *
+ * <p>The file starts with a magic number, the format version, the number of snapshots and a CRC32 of the rest
+ * of the file, followed by one record per tenant: the tenant ID, the catalogue version, the ETag and the
+ * category tree, each string and tree prefixed with its length. Files are written to a temporary sibling and
+ * moved into place, so a reader never sees a partly written file.
+ */
+public final class CategorySnapshotFile {
+
+    private static final int MAGIC = 0x43415453;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8;
+    private static final int CRC_OFFSET = 12;
+
+    private CategorySnapshotFile() {
+    }
+
+    /**
+     * Write snapshots to a file, replacing it atomically.
+     *
+     * @param path The file to write
+     * @param snapshots Snapshots by tenant ID
+     * @throws IOException If the file cannot be written, or the snapshots do not fit in one mapping
+     */
+    public static void write(Path path, Map<String, CategorySnapshot> snapshots) throws IOException {
+        long size = HEADER_BYTES;
+        for (Map.Entry<String, CategorySnapshot> entry : snapshots.entrySet()) {
+            size += 4 + utf8Length(entry.getKey()) + 8 + 4 + utf8Length(entry.getValue().getEtag())
+                    + 4 + entry.getValue().getData().length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshots of " + size + " bytes exceed the size of a single mapping");
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(snapshots.size()).putLong(0);
+            for (Map.Entry<String, CategorySnapshot> entry : snapshots.entrySet()) {
+                CategorySnapshot snapshot = entry.getValue();
+                putString(buffer, entry.getKey());
+                buffer.putLong(snapshot.getVersion());
+                putString(buffer, snapshot.getEtag());
+                buffer.putInt(snapshot.getData().length).put(snapshot.getData());
+            }
+            buffer.putLong(CRC_OFFSET, checksum(buffer));
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read the snapshots of a file. Bodies are copied out of the mapping, so the snapshots stay valid after the
+     * file is replaced.
+     *
+     * @param path The file to read
+     * @return Snapshots by tenant ID
+     * @throws IOException If the file cannot be read or is not a valid snapshot file
+     */
+    public static Map<String, CategorySnapshot> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a snapshot file: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a snapshot file of format " + FORMAT_VERSION + ": " + path);
+            }
+            int count = buffer.getInt();
+            if (buffer.getLong() != checksum(buffer)) {
+                throw new IOException("Checksum mismatch in snapshot file " + path);
+            }
+            return readSnapshots(buffer, count);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated snapshot file " + path, e);
+        }
+    }
+
+    private static Map<String, CategorySnapshot> readSnapshots(ByteBuffer buffer, int count) {
+        Map<String, CategorySnapshot> snapshots = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String tenantId = getString(buffer);
+            long version = buffer.getLong();
+            String etag = getString(buffer);
+            byte[] data = new byte[buffer.getInt()];
+            buffer.get(data);
+            snapshots.put(tenantId, new CategorySnapshot(data, etag, version));
+        }
+        return snapshots;
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.limit() - HEADER_BYTES));
+        return crc.getValue();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
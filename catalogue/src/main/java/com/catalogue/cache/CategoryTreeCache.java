@@ -0,0 +1,270 @@
+package com.catalogue.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.common.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tenant-scoped read-through cache for the category tree returned by the catalogue API.
+ * Entries are bounded in number and evicted as soon as a change to the tenant's catalogue has
+ * been committed.
+ *
+ * <p>Entries have a soft and a hard TTL. Past the soft TTL, the cached tree is still returned at
+ * once, and a refresh is queued on a small bounded pool, so readers do not wait on the database.
+ * Past the hard TTL, the entry is gone and the request loads the tree itself. Refreshes are
+ * counted in {@code catalogue.cache.category-tree.refreshes} by result, and the age of each stale
+ * tree served is recorded in {@code catalogue.cache.category-tree.staleness}.
+ *
+ * <p>Concurrent misses for a tenant are coalesced (see {@link SingleFlight}): one request loads the
+ * tree and the others wait for it, so an expired entry costs one database load rather than one per
+ * request. Requests give up waiting after {@code catalogue.cache.category-tree.load-timeout-ms}.
+ */
+@Component
+public class CategoryTreeCache {
+
+    /**
+     * Name under which the cache statistics are published to the meter registry.
+     */
+    public static final String CACHE_NAME = "categoryTree";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryTreeCache.class);
+    private static final String REFRESHES_METRIC = "catalogue.cache.category-tree.refreshes";
+
+    private final Cache<String, CachedTree> cache;
+    private final SingleFlight<String, List<CategoryDTO>> loads;
+    private final AtomicLong evictions = new AtomicLong();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final long softTtlNanos;
+    private final Ticker ticker;
+    private final Executor refreshExecutor;
+    private final TenantContextHolder tenantContextHolder;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Counter refreshRejections;
+    private final Timer staleness;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize Maximum number of tenants kept in the cache
+     * @param ttlSeconds Hard TTL: time after which a cached tree is no longer served, in seconds
+     * @param softTtlSeconds Soft TTL: time after which a cached tree is refreshed in the background, in seconds
+     * @param loadTimeoutMillis Time a request waits for a tree loaded by a concurrent request, in milliseconds
+     * @param refreshThreads Number of threads refreshing stale trees
+     * @param meterRegistry Registry receiving the cache and refresh metrics
+     * @param tenantContextHolder Holder for the tenant context of background refreshes
+     */
+    @Autowired
+    public CategoryTreeCache(
+            @Value("${catalogue.cache.category-tree.maximum-size:1000}") long maximumSize,
+            @Value("${catalogue.cache.category-tree.ttl-seconds:600}") long ttlSeconds,
+            @Value("${catalogue.cache.category-tree.soft-ttl-seconds:300}") long softTtlSeconds,
+            @Value("${catalogue.cache.category-tree.load-timeout-ms:5000}") long loadTimeoutMillis,
+            @Value("${catalogue.cache.category-tree.refresh-threads:2}") int refreshThreads,
+            MeterRegistry meterRegistry, TenantContextHolder tenantContextHolder) {
+        // At most one refresh is queued per cached tenant, so the queue never needs more than maximumSize slots
+        this(maximumSize, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(softTtlSeconds),
+                Duration.ofMillis(loadTimeoutMillis), meterRegistry, tenantContextHolder,
+                new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>((int) Math.min(maximumSize, Integer.MAX_VALUE)), runnable -> {
+                            Thread thread = new Thread(runnable, "catalogue-tree-refresh");
+                            thread.setDaemon(true);
+                            return thread;
+                        }),
+                Ticker.systemTicker());
+    }
+
+    /**
+     * Constructor with an explicit refresh executor and clock.
+     *
+     * @param maximumSize Maximum number of tenants kept in the cache
+     * @param ttl Hard TTL: time after which a cached tree is no longer served
+     * @param softTtl Soft TTL: time after which a cached tree is refreshed in the background
+     * @param loadTimeout Time a request waits for a tree loaded by a concurrent request
+     * @param meterRegistry Registry receiving the cache and refresh metrics
+     * @param tenantContextHolder Holder for the tenant context of background refreshes
+     * @param refreshExecutor Executor running background refreshes
+     * @param ticker Clock for entry ages
+     */
+    CategoryTreeCache(long maximumSize, Duration ttl, Duration softTtl, Duration loadTimeout,
+                      MeterRegistry meterRegistry, TenantContextHolder tenantContextHolder,
+                      Executor refreshExecutor, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.loads = new SingleFlight<>(loadTimeout);
+        this.softTtlNanos = softTtl.toNanos();
+        this.ticker = ticker;
+        this.refreshExecutor = refreshExecutor;
+        this.tenantContextHolder = tenantContextHolder;
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        this.refreshRejections = refreshCounter(meterRegistry, "rejected");
+        this.staleness = Timer.builder("catalogue.cache.category-tree.staleness")
+                .description("Age of stale category trees served while they are refreshed")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the category tree for a tenant, loading it on a cache miss. A tree past the soft TTL is
+     * returned as is and refreshed in the background.
+     *
+     * @param tenantId The tenant identifier
+     * @param loader Function that builds the tree for the tenant
+     * @return The cached or freshly loaded category tree
+     * @throws com.catalogue.exception.CacheLoadTimeoutException If a concurrent load did not complete in time
+     */
+    public List<CategoryDTO> get(String tenantId, Function<String, List<CategoryDTO>> loader) {
+        List<CategoryDTO> result;
+        if (tenantId == null) {
+            result = loader.apply(null);
+        } else {
+            CachedTree cached = cache.getIfPresent(tenantId);
+            if (cached == null) {
+                result = loads.load(tenantId, key -> loadIfAbsent(key, loader));
+            } else {
+                long age = ticker.read() - cached.loadedAt();
+                if (age > softTtlNanos) {
+                    staleness.record(age, TimeUnit.NANOSECONDS);
+                    scheduleRefresh(tenantId, loader);
+                }
+                result = cached.tree();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove the cached category tree for a tenant.
+     *
+     * @param tenantId The tenant identifier
+     */
+    public void evict(String tenantId) {
+        evictions.incrementAndGet();
+        cache.invalidate(tenantId);
+        loads.forget(tenantId);
+    }
+
+    /**
+     * Evict the tenant's tree once the transaction that changed its catalogue has committed,
+     * so concurrent readers cannot re-populate the cache with uncommitted state.
+     *
+     * @param event The catalogue change event
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        evict(event.getTenantId());
+    }
+
+    /**
+     * Stop the background refresh workers.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Load the tree unless a load that completed after this request's miss has cached it already, which would
+     * otherwise let a request that missed just before the put start a second load just after it.
+     */
+    private List<CategoryDTO> loadIfAbsent(String tenantId, Function<String, List<CategoryDTO>> loader) {
+        // Read through the map view, which does not count as a second hit or miss
+        CachedTree cached = cache.asMap().get(tenantId);
+        return cached == null ? load(tenantId, loader) : cached.tree();
+    }
+
+    private List<CategoryDTO> load(String tenantId, Function<String, List<CategoryDTO>> loader) {
+        long evictionsBefore = evictions.get();
+        long loadedAt = ticker.read();
+        List<CategoryDTO> tree = loader.apply(tenantId);
+        cache.put(tenantId, new CachedTree(tree, loadedAt));
+        if (evictions.get() != evictionsBefore) {
+            // An eviction raced with the load, which may have read the catalogue before the change
+            cache.invalidate(tenantId);
+        }
+        return tree;
+    }
+
+    /**
+     * Queue a refresh of the tenant's tree unless one is already queued or running. When the pool
+     * is saturated the stale tree keeps being served until a later read queues the refresh again
+     * or the hard TTL expires it.
+     */
+    private void scheduleRefresh(String tenantId, Function<String, List<CategoryDTO>> loader) {
+        if (refreshing.add(tenantId)) {
+            try {
+                refreshExecutor.execute(() -> refresh(tenantId, loader));
+            } catch (RejectedExecutionException e) {
+                refreshing.remove(tenantId);
+                refreshRejections.increment();
+            }
+        }
+    }
+
+    private void refresh(String tenantId, Function<String, List<CategoryDTO>> loader) {
+        tenantContextHolder.setTenantId(tenantId);
+        try {
+            loads.load(tenantId, key -> load(key, loader));
+            refreshSuccesses.increment();
+        } catch (RuntimeException e) {
+            // Keep serving the stale tree; the hard TTL bounds how long that can last
+            LOGGER.warn("Failed to refresh category tree for tenant {}", tenantId, e);
+            refreshFailures.increment();
+        } finally {
+            tenantContextHolder.clear();
+            refreshing.remove(tenantId);
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REFRESHES_METRIC)
+                .description("Background refreshes of stale category trees")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A cached tree and the ticker time at which its load started.
+     */
+    private record CachedTree(List<CategoryDTO> tree, long loadedAt) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.catalogue.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+
+import org.hibernate.cache.internal.CacheKeyImplementation;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+
+/**
+ * Evicts a tenant's entries from the Hibernate second-level cache regions in {@link CatalogueCacheRegions}.
+ *
+ * <p>Hibernate keeps the regions in step with the changes it writes itself, but not with rows written over
+ * JDBC, such as by the catalogue importer or a data reset. A tenant's entries are therefore evicted once a
+ * change to its catalogue has been committed, together with the entries cached by sessions without a tenant,
+ * which are keyed by {@link TenantKeyResolver#ROOT_TENANT_KEY} and would otherwise go stale.
+ *
+ * <p>The keys of each region are indexed by tenant as entries are created, and dropped from the index as they
+ * are removed, evicted or expire, so an eviction removes the tenant's keys without scanning the region.
+ */
+@Component
+public class SecondLevelCacheEviction {
+
+    private static final String ROOT_TENANT = Integer.toString(TenantKeyResolver.ROOT_TENANT_KEY);
+
+    private final CacheManager cacheManager;
+    private final TenantRegistry tenantRegistry;
+    private final Map<String, TenantKeyIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param cacheManager Cache manager holding the second-level cache regions
+     * @param tenantRegistry Registry mapping tenant IDs to the tenant keys in the cache keys
+     */
+    @SuppressWarnings("PMD.CloseResource") // The regions are closed with the cache manager
+    public SecondLevelCacheEviction(CacheManager cacheManager, TenantRegistry tenantRegistry) {
+        this.cacheManager = cacheManager;
+        this.tenantRegistry = tenantRegistry;
+        for (String region : CatalogueCacheRegions.ALL) {
+            TenantKeyIndex index = new TenantKeyIndex();
+            // Synchronous, so a key is indexed before the write that cached it returns
+            cacheManager.getCache(region).registerCacheEntryListener(
+                    new MutableCacheEntryListenerConfiguration<>(() -> index, null, false, true));
+            indexes.put(region, index);
+        }
+    }
+
+    /**
+     * Remove a tenant's entries from every region.
+     *
+     * @param tenantId The tenant identifier
+     */
+    @SuppressWarnings("PMD.CloseResource") // The regions are closed with the cache manager
+    public void evictTenant(String tenantId) {
+        Integer tenantKey = tenantRegistry.keyOf(tenantId);
+        if (tenantKey != null) {
+            for (String region : CatalogueCacheRegions.ALL) {
+                TenantKeyIndex index = indexes.get(region);
+                Cache<Object, Object> cache = cacheManager.getCache(region);
+                cache.removeAll(index.keysOf(tenantKey.toString()));
+                cache.removeAll(index.keysOf(ROOT_TENANT));
+            }
+        }
+    }
+
+    /**
+     * Remove every entry from every region, once the current transaction has committed if there is one.
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeAll();
+                }
+            });
+        } else {
+            removeAll();
+        }
+    }
+
+    private void removeAll() {
+        for (String region : CatalogueCacheRegions.ALL) {
+            cacheManager.getCache(region).removeAll();
+        }
+    }
+
+    /**
+     * Evict the tenant's entries once the transaction that changed its catalogue has committed, so concurrent
+     * sessions cannot cache the state being replaced again.
+     *
+     * @param event The catalogue change event
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        evictTenant(event.getTenantId());
+    }
+
+    /**
+     * Keys of the entries of one region, by the tenant key of the session that cached them.
+     */
+    private static final class TenantKeyIndex implements CacheEntryCreatedListener<Object, Object>,
+            CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object> {
+
+        private final Map<String, Set<Object>> keysByTenant = new ConcurrentHashMap<>();
+
+        Set<Object> keysOf(String tenantKey) {
+            Set<Object> keys = keysByTenant.get(tenantKey);
+            return keys == null ? Set.of() : Set.copyOf(keys);
+        }
+
+        @Override
+        public void onCreated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+            for (CacheEntryEvent<? extends Object, ? extends Object> event : events) {
+                if (event.getKey() instanceof CacheKeyImplementation key) {
+                    keysByTenant.compute(key.getTenantId(), (tenantKey, keys) -> {
+                        Set<Object> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                        indexed.add(key);
+                        return indexed;
+                    });
+                }
+            }
+        }
+
+        @Override
+        public void onRemoved(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+            unindex(events);
+        }
+
+        @Override
+        public void onExpired(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+            unindex(events);
+        }
+
+        private void unindex(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+            for (CacheEntryEvent<? extends Object, ? extends Object> event : events) {
+                if (event.getKey() instanceof CacheKeyImplementation key) {
+                    keysByTenant.computeIfPresent(key.getTenantId(), (tenantKey, keys) -> {
+                        keys.remove(key);
+                        return keys.isEmpty() ? null : keys;
+                    });
+                }
+            }
+        }
+    }
+}
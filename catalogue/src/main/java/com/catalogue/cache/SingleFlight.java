@@ -0,0 +1,110 @@
+package com.catalogue.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.catalogue.exception.CacheLoadTimeoutException;
+
+/**
+ * Coalesces concurrent loads of the same key into one.
+ *
+ * <p>The first caller for a key runs the loader on its own thread, so it keeps its tenant context and
+ * transaction; callers arriving while that load is in flight wait on its result instead of loading again. A
+ * failed load is rethrown to every waiting caller and is not remembered, so the next caller loads again. Waiting
+ * callers give up after a timeout, which does not cancel the load itself.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    /**
+     * Constructor.
+     *
+     * @param timeout Time a caller waits for a load started by another caller
+     */
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Load the value of a key, or wait for the load already in flight for it.
+     *
+     * @param key The key
+     * @param loader Function loading the value of the key
+     * @return The loaded value
+     * @throws CacheLoadTimeoutException If the load in flight did not complete within the timeout
+     */
+    public V load(K key, Function<K, V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> flight = inFlight.putIfAbsent(key, own);
+        V value;
+        if (flight == null) {
+            value = lead(key, loader, own);
+        } else {
+            value = await(key, flight);
+        }
+        return value;
+    }
+
+    /**
+     * Detach the load in flight for a key, so later callers start a load of their own. Callers already waiting
+     * still receive its result.
+     *
+     * @param key The key
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Number of loads currently in flight.
+     *
+     * @return The number of keys being loaded
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // waiting callers must see any failure of the load
+    private V lead(K key, Function<K, V> loader, CompletableFuture<V> own) {
+        try {
+            V value = loader.apply(key);
+            own.complete(value);
+            return value;
+        } catch (Throwable e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace") // the load's failure is rethrown as is, as if the caller had loaded
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CacheLoadTimeoutException("Timed out after " + timeout.toMillis()
+                    + " ms waiting for the load of " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoadTimeoutException("Interrupted waiting for the load of " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw cause instanceof RuntimeException failure ? failure : new IllegalStateException(cause);
+        }
+    }
+}
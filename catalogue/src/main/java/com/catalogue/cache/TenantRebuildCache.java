@@ -0,0 +1,242 @@
+package com.catalogue.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.common.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Bounded per-tenant cache of values built from a tenant's catalogue, such as indexes and snapshots, rebuilt in
+ * the background after the catalogue changes while reads keep using the previous value.
+ *
+ * <p>Values are held in a Caffeine cache bounded in size and age, so inactive tenants do not stay in memory.
+ * Concurrent first reads of a tenant share one build (see {@link SingleFlight}), which runs on the reading thread
+ * outside any lock of the cache, with the tenant as the current tenant. Rebuilds after changes run on one
+ * worker, in the order the changes were committed; a failed rebuild drops the value, so the next read builds it
+ * again. The listener is called with all values after each build, rebuild, drop or eviction.
+ *
+ * @param <V> Value type
+ */
+public class TenantRebuildCache<V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantRebuildCache.class);
+
+    private final String name;
+    private final Cache<String, V> values;
+    private final SingleFlight<String, V> builds;
+    private final AtomicLong changes = new AtomicLong();
+    private final Map<String, Integer> pendingRebuilds = new ConcurrentHashMap<>();
+    private final TenantContextHolder tenantContextHolder;
+    private final Function<String, V> loader;
+    private final Executor rebuildExecutor;
+    private final Consumer<Map<String, V>> listener;
+
+    /**
+     * Constructor.
+     *
+     * @param name Name of the cached values, for logging
+     * @param tenantContextHolder Holder for the tenant context of builds
+     * @param loader Function building the value of a tenant, called with the tenant as the current tenant
+     * @param maximumSize Maximum number of tenants whose value is kept
+     * @param ttl Time after which a value is dropped and built again on the next read
+     * @param loadTimeout Time a read waits for a value built by a concurrent read
+     * @param rebuildExecutor Executor running rebuilds, see {@link #rebuildWorker}
+     * @param ticker Clock for value ages
+     * @param listener Listener called with all values whenever they change
+     */
+    public TenantRebuildCache(String name, TenantContextHolder tenantContextHolder, Function<String, V> loader,
+                              long maximumSize, Duration ttl, Duration loadTimeout, Executor rebuildExecutor,
+                              Ticker ticker, Consumer<Map<String, V>> listener) {
+        this.name = name;
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .<String, V>removalListener((tenantId, value, cause) -> onRemoval(cause))
+                .build();
+        this.builds = new SingleFlight<>(loadTimeout);
+        this.tenantContextHolder = tenantContextHolder;
+        this.loader = loader;
+        this.rebuildExecutor = rebuildExecutor;
+        this.listener = listener;
+    }
+
+    /**
+     * Create a single daemon worker, which applies rebuilds in the order the changes were committed.
+     *
+     * @param threadName Name of the worker thread
+     * @return The worker
+     */
+    public static ExecutorService rebuildWorker(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the value of a tenant, building it on first access.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's value
+     */
+    public V get(String tenantId) {
+        return get(tenantId, value -> false);
+    }
+
+    /**
+     * Get the value of a tenant, building it on first access or when it is outdated. While a rebuild after a
+     * change is queued, the value is served as it is.
+     *
+     * @param tenantId The tenant identifier
+     * @param outdated Check of a cached value, called with the tenant as the current tenant
+     * @return The tenant's value
+     */
+    public V get(String tenantId, Predicate<V> outdated) {
+        V value = values.getIfPresent(tenantId);
+        if (value == null || isOutdated(tenantId, value, outdated)) {
+            value = builds.load(tenantId, key -> buildIfOutdated(key, outdated));
+        }
+        return value;
+    }
+
+    /**
+     * Get the current value of every tenant.
+     *
+     * @return Values by tenant ID
+     */
+    public Map<String, V> values() {
+        return Map.copyOf(values.asMap());
+    }
+
+    /**
+     * Get the number of values held, once pending evictions have run.
+     *
+     * @return The number of values
+     */
+    public long estimatedSize() {
+        values.cleanUp();
+        return values.estimatedSize();
+    }
+
+    /**
+     * Serve a value restored from an earlier run until it has been rebuilt in the background. A tenant whose
+     * value was already built is left as it is.
+     *
+     * @param tenantId The tenant identifier
+     * @param value The restored value
+     */
+    public void restore(String tenantId, V value) {
+        if (values.asMap().putIfAbsent(tenantId, value) == null) {
+            queueRebuild(tenantId);
+        }
+    }
+
+    /**
+     * Rebuild the value of a tenant in the background once a change to its catalogue has committed. Tenants
+     * without a value are left to build it on their next read.
+     *
+     * @param tenantId The tenant identifier
+     */
+    public void rebuild(String tenantId) {
+        changes.incrementAndGet();
+        if (values.asMap().containsKey(tenantId)) {
+            queueRebuild(tenantId);
+        }
+    }
+
+    /**
+     * Stop the background rebuild worker.
+     */
+    public void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean isOutdated(String tenantId, V value, Predicate<V> outdated) {
+        return !pendingRebuilds.containsKey(tenantId) && inTenant(tenantId, () -> outdated.test(value));
+    }
+
+    /**
+     * Build the value unless a build that completed after this read's check has cached it already.
+     */
+    private V buildIfOutdated(String tenantId, Predicate<V> outdated) {
+        V value = values.asMap().get(tenantId);
+        if (value == null || isOutdated(tenantId, value, outdated)) {
+            long changesBefore = changes.get();
+            value = build(tenantId);
+            values.put(tenantId, value);
+            listener.accept(values());
+            if (changes.get() != changesBefore) {
+                // A change committed during the build, which may have read the catalogue before it, and found
+                // no value to rebuild
+                queueRebuild(tenantId);
+            }
+        }
+        return value;
+    }
+
+    private void queueRebuild(String tenantId) {
+        pendingRebuilds.merge(tenantId, 1, Integer::sum);
+        rebuildExecutor.execute(() -> runRebuild(tenantId));
+    }
+
+    private void runRebuild(String tenantId) {
+        try {
+            values.put(tenantId, build(tenantId));
+        } catch (RuntimeException e) {
+            // Drop the stale value so the next read rebuilds it synchronously
+            LOGGER.error("Failed to rebuild {} for tenant {}", name, tenantId, e);
+            values.invalidate(tenantId);
+        } finally {
+            pendingRebuilds.computeIfPresent(tenantId, (key, pending) -> pending == 1 ? null : pending - 1);
+        }
+        listener.accept(values());
+    }
+
+    private void onRemoval(RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            listener.accept(values());
+        }
+    }
+
+    private V build(String tenantId) {
+        return inTenant(tenantId, () -> loader.apply(tenantId));
+    }
+
+    /**
+     * Run a read of the tenant's catalogue with the tenant set, restoring the caller's tenant afterwards.
+     */
+    private <T> T inTenant(String tenantId, Supplier<T> read) {
+        String previousTenantId = tenantContextHolder.getTenantId();
+        tenantContextHolder.setTenantId(tenantId);
+        try {
+            return read.get();
+        } finally {
+            if (previousTenantId == null) {
+                tenantContextHolder.clear();
+            } else {
+                tenantContextHolder.setTenantId(previousTenantId);
+            }
+        }
+    }
+}
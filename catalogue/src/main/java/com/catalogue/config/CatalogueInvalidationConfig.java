@@ -0,0 +1,82 @@
+package com.catalogue.config;
+
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.catalogue.event.CatalogueChangePublisher;
+import com.catalogue.event.CatalogueChangeSubscriber;
+import com.catalogue.tenant.TenantRegistry;
+
+/**
+ * Configuration for the cache invalidation channel between catalogue nodes, enabled by
+ * {@code catalogue.invalidation.enabled}.
+ *
+ * <p>Catalogue changes committed on a node are sent to {@code catalogue.invalidation.topic} on the Kafka cluster
+ * of {@code spring.kafka.bootstrap-servers}, and every other node publishes them locally, so the category tree,
+ * snapshot and second-level caches of all nodes follow a change within the consumer lag. The topic has a single
+ * partition, which keeps all changes in order.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalogue.invalidation.enabled", havingValue = "true")
+public class CatalogueInvalidationConfig {
+
+    private final String topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Constructor.
+     *
+     * @param topic Topic the catalogue nodes exchange changes on
+     */
+    public CatalogueInvalidationConfig(@Value("${catalogue.invalidation.topic:catalogue-changes}") String topic) {
+        this.topic = topic;
+    }
+
+    /**
+     * Topic the catalogue nodes exchange changes on, created on startup if it does not exist.
+     *
+     * @return The topic definition
+     */
+    @Bean
+    public NewTopic catalogueChangesTopic() {
+        return TopicBuilder.name(topic).partitions(1).build();
+    }
+
+    /**
+     * Sends the changes committed on this node.
+     *
+     * @param kafkaTemplate Template sending the change records
+     * @return The publisher
+     */
+    @Bean
+    public CatalogueChangePublisher catalogueChangePublisher(KafkaTemplate<String, String> kafkaTemplate) {
+        return new CatalogueChangePublisher(kafkaTemplate, topic, nodeId);
+    }
+
+    /**
+     * Receives the changes committed on the other nodes.
+     *
+     * @param eventPublisher Publisher for the remote change events
+     * @param tenantRegistry Registry of the known tenants
+     * @param dataSource Data source of the catalogue, whose replica routing is told about the changes
+     * @return The subscriber
+     */
+    @Bean
+    public CatalogueChangeSubscriber catalogueChangeSubscriber(ApplicationEventPublisher eventPublisher,
+                                                               TenantRegistry tenantRegistry,
+                                                               ObjectProvider<DataSource> dataSource) {
+        return new CatalogueChangeSubscriber(eventPublisher, tenantRegistry, dataSource.getIfAvailable(), topic,
+                nodeId);
+    }
+}
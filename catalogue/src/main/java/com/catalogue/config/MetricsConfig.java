@@ -1,25 +1,29 @@
-//package com.catalogue.config;
-//
-//import org.springframework.context.annotation.Bean;
-//import org.springframework.context.annotation.Configuration;
-//
-//import io.micrometer.core.aop.TimedAspect;
-//import io.micrometer.core.instrument.MeterRegistry;
-//
-///**
-// * Configuration for application metrics using Micrometer.
-// */
-//@Configuration
-//public class MetricsConfig {
-//
-//    /**
-//     * Creates a TimedAspect bean to support the @Timed annotation.
-//     *
-//     * @param registry The meter registry
-//     * @return TimedAspect bean
-//     */
-//    @Bean
-//    public TimedAspect timedAspect(MeterRegistry registry) {
-//        return new TimedAspect(registry);
-//    }
-//}
+package com.catalogue.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration for application metrics using Micrometer.
+ * {@code @Timed} methods are recorded by {@link com.catalogue.aspect.TimedAspect}; all meters are
+ * exported in Prometheus format at {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Tags every meter with the application name, so dashboards can tell the services apart.
+     *
+     * @param applicationName The application name
+     * @return Registry customizer adding the common tags
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags(
+            @Value("${spring.application.name}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+}
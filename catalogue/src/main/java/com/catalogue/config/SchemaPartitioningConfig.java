@@ -0,0 +1,74 @@
+package com.catalogue.config;
+
+import java.sql.DatabaseMetaData;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * Configuration for the optional partitioned schema on PostgreSQL, enabled by
+ * {@code catalogue.schema.partitioning.enabled}.
+ *
+ * <p>Adds the migrations in {@code db/partitioning/postgresql} to Flyway, which hash-partition the catalogue
+ * tables on {@code tenant_key} into {@code catalogue.schema.partitioning.partitions} partitions. Entities and
+ * repositories are the same in both schemas: every repository query and association join filters on the tenant
+ * key, which is what lets PostgreSQL prune the partitions. The mode is chosen when the database is created;
+ * enabling it on a database migrated past the partitioning version needs {@code spring.flyway.out-of-order}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalogue.schema.partitioning.enabled", havingValue = "true")
+public class SchemaPartitioningConfig {
+
+    /**
+     * Location of the partitioning migrations.
+     */
+    public static final String PARTITIONING_LOCATION = "classpath:db/partitioning/postgresql";
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    /**
+     * Adds the partitioning migrations and their partition count to Flyway.
+     *
+     * @param partitions Number of hash partitions per table, fixed once the migration has run
+     * @return Customizer applied to the auto-configured Flyway
+     */
+    @Bean
+    public FlywayConfigurationCustomizer partitioningMigrations(
+            @Value("${catalogue.schema.partitioning.partitions:16}") int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("catalogue.schema.partitioning.partitions must be at least 1");
+        }
+        return configuration -> {
+            requirePostgreSql(configuration.getDataSource());
+
+            Location[] locations = Arrays.copyOf(configuration.getLocations(), configuration.getLocations().length + 1);
+            locations[locations.length - 1] = new Location(PARTITIONING_LOCATION);
+            Map<String, String> placeholders = new HashMap<>(configuration.getPlaceholders());
+            placeholders.put("partitions", Integer.toString(partitions));
+            configuration.locations(locations).placeholders(placeholders);
+        };
+    }
+
+    private static void requirePostgreSql(DataSource dataSource) {
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database for schema partitioning", e);
+        }
+        if (!POSTGRESQL.equals(product)) {
+            throw new IllegalStateException("Schema partitioning requires PostgreSQL, not " + product);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.catalogue.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.catalogue.cache.CatalogueCacheRegions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Configuration for Hibernate's second-level cache, backed by Caffeine through JCache.
+ *
+ * <p>The regions in {@link CatalogueCacheRegions} are created up front, each bounded to
+ * {@code catalogue.cache.second-level.maximum-size} entries that expire after
+ * {@code catalogue.cache.second-level.ttl-seconds}; Hibernate fails on any other region instead of creating
+ * an unbounded one. Cache keys carry the session's tenant, so tenants never share entries. Hit, miss and
+ * eviction counts of each region are published as {@code cache.*} metrics tagged with the region name.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Cache manager holding the second-level cache regions.
+     *
+     * <p>Each application context gets a cache manager of its own, so that contexts sharing a class loader,
+     * as in tests, do not share regions.
+     *
+     * @param maximumSize Maximum number of entries per region
+     * @param ttlSeconds Time after which a cached entry is reloaded, in seconds
+     * @param meterRegistry Registry receiving the region statistics
+     * @return The cache manager, closed with the application context
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${catalogue.cache.second-level.maximum-size:10000}") long maximumSize,
+            @Value("${catalogue.cache.second-level.ttl-seconds:3600}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        URI uri = URI.create("catalogue:second-level-cache-" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, Thread.currentThread().getContextClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maximumSize))
+                .setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()))
+                // Hibernate caches disassembled state, so entries need not be copied
+                .setStoreByValue(false)
+                .setNativeStatisticsEnabled(true);
+        for (String region : CatalogueCacheRegions.ALL) {
+            @SuppressWarnings("unchecked")
+            Cache<Object, Object> cache = cacheManager.createCache(region, configuration).unwrap(Cache.class);
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, region);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Enables the second-level cache on the regions of the cache manager.
+     *
+     * @param secondLevelCacheManager Cache manager holding the regions
+     * @return Customizer applied to the auto-configured entity manager factory
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
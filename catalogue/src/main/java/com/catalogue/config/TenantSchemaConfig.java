@@ -0,0 +1,67 @@
+package com.catalogue.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.catalogue.tenant.IsolatedTenantSchemas;
+import com.catalogue.tenant.TenantSchemaConnectionProvider;
+
+/**
+ * Configuration for the schema-per-tenant mode, enabled by {@code catalogue.tenancy.isolated-schemas.enabled}.
+ *
+ * <p>The tenants listed in {@code catalogue.tenancy.isolated-schemas.tenants} get a schema of their own, created
+ * and migrated on startup, and their Hibernate sessions use it instead of the shared tables. Queries are the
+ * same in both cases, since sessions are filtered by tenant key either way. JDBC writes that bypass the sessions,
+ * such as imports, reach the tenant's schema through {@link com.catalogue.tenant.TenantSchemaRouter}. Rows a
+ * tenant already has in the shared tables are not moved; isolate a tenant before its catalogue is loaded.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalogue.tenancy.isolated-schemas.enabled", havingValue = "true")
+public class TenantSchemaConfig {
+
+    /**
+     * Schemas of the isolated tenants.
+     *
+     * @param tenantIds IDs of the tenants to isolate
+     * @return The isolated tenant schemas, populated once Flyway has run
+     */
+    @Bean
+    public IsolatedTenantSchemas isolatedTenantSchemas(
+            @Value("${catalogue.tenancy.isolated-schemas.tenants:}") List<String> tenantIds) {
+        return new IsolatedTenantSchemas(tenantIds);
+    }
+
+    /**
+     * Migrates the isolated tenant schemas after the shared schema.
+     *
+     * @param schemas Schemas of the isolated tenants
+     * @return Strategy replacing the plain migration of the auto-configured Flyway
+     */
+    @Bean
+    public FlywayMigrationStrategy isolatedSchemaMigration(IsolatedTenantSchemas schemas) {
+        return schemas::migrate;
+    }
+
+    /**
+     * Routes the sessions of the isolated tenants to their schemas.
+     *
+     * @param dataSource The application's data source
+     * @param schemas Schemas of the isolated tenants
+     * @return Customizer installing the connection provider
+     */
+    @Bean
+    public HibernatePropertiesCustomizer isolatedSchemaConnections(DataSource dataSource,
+                                                                   IsolatedTenantSchemas schemas) {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                new TenantSchemaConnectionProvider(dataSource, schemas));
+    }
+}
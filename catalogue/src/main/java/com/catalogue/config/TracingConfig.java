@@ -0,0 +1,29 @@
+package com.catalogue.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.catalogue.aspect.LoggingAspect;
+
+/**
+ * Configuration applying the method tracing of {@link LoggingAspect} to services and controllers.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Creates the advisor that applies the tracing interceptor to the traced methods.
+     *
+     * @param loggingAspect The tracing interceptor
+     * @return Advisor picked up by the auto-proxy creator
+     */
+    @Bean
+    public Advisor loggingAdvisor(LoggingAspect loggingAspect) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(LoggingAspect.POINTCUT);
+        return new DefaultPointcutAdvisor(pointcut, loggingAspect);
+    }
+}
@@ -1,19 +1,29 @@
 package com.catalogue.controller;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.catalogue.cache.CategorySnapshot;
+import com.catalogue.cache.CategorySnapshotCache;
 import com.catalogue.dto.ApiResponse;
 import com.catalogue.dto.CategoryDTO;
+import com.catalogue.dto.CursorPage;
+import com.catalogue.service.CatalogueBrowseService;
 import com.catalogue.service.CategoryService;
+import com.catalogue.tenant.TenantRegistry;
 import com.catalogue.util.ValidationUtils;
 import com.common.tenant.TenantContextHolder;
 
@@ -26,34 +36,60 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final TenantContextHolder tenantContextHolder;
+    private final CategorySnapshotCache categorySnapshotCache;
+    private final CatalogueBrowseService catalogueBrowseService;
+    private final TenantRegistry tenantRegistry;
 
     /**
      * Constructor for CategoryController.
      *
      * @param categoryService Service for category operations
      * @param tenantContextHolder Utility for managing tenant context
+     * @param categorySnapshotCache Cache of pre-serialized catalogue responses
+     * @param catalogueBrowseService Service for paginated catalogue listings
+     * @param tenantRegistry Registry of the known tenants, to which a tenant's first write adds it
      */
-    public CategoryController(CategoryService categoryService, TenantContextHolder tenantContextHolder) {
+    public CategoryController(CategoryService categoryService, TenantContextHolder tenantContextHolder,
+                              CategorySnapshotCache categorySnapshotCache,
+                              CatalogueBrowseService catalogueBrowseService, TenantRegistry tenantRegistry) {
         this.categoryService = categoryService;
         this.tenantContextHolder = tenantContextHolder;
+        this.categorySnapshotCache = categorySnapshotCache;
+        this.catalogueBrowseService = catalogueBrowseService;
+        this.tenantRegistry = tenantRegistry;
     }
 
     /**
      * Get all categories for the specified tenant.
+     * The body wraps the tenant's pre-serialized catalogue snapshot, stamped with the time of the request;
+     * when the client's If-None-Match matches the snapshot ETag the response is 304 Not Modified without a body.
      *
      * @param tenantId The tenant identifier
-     * @return ApiResponse containing the list of categories
+     * @param ifNoneMatch Entity tags the client already holds, if any
+     * @return ApiResponse JSON containing the list of categories, or 304 Not Modified
      */
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<CategoryDTO>>> getAllCategories(@PathVariable String tenantId) {
+    public ResponseEntity<byte[]> getAllCategories(
+            @PathVariable String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // Set the tenant context for this request
         tenantContextHolder.setTenantId(tenantId);
 
         try {
-            List<CategoryDTO> categories = categoryService.getAllCategories();
-            ApiResponse<List<CategoryDTO>> response = ApiResponse.success(
-                    "Categories retrieved successfully", categories);
-            return ResponseEntity.ok(response);
+            CategorySnapshot snapshot = categorySnapshotCache.get(tenantId);
+
+            ResponseEntity<byte[]> response;
+            if (snapshot.matches(ifNoneMatch)) {
+                response = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(snapshot.getEtag())
+                        .build();
+            } else {
+                response = ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(snapshot.getEtag())
+                        .body(categorySnapshotCache.responseBody(snapshot, LocalDateTime.now()));
+            }
+            return response;
         } finally {
             // Always clear the tenant context after the request
             tenantContextHolder.clear();
@@ -61,7 +97,36 @@ public class CategoryController {
     }
 
     /**
-     * Create a new category for the specified tenant.
+     * Get one page of categories for the specified tenant, without their items.
+     * Selected instead of the full catalogue whenever a {@code limit} is given.
+     *
+     * @param tenantId The tenant identifier
+     * @param limit Maximum number of categories in the page
+     * @param cursor Cursor returned with the previous page, absent for the first page
+     * @param fields Comma-separated fields to include, absent for all fields
+     * @return ApiResponse containing the page of categories and the cursor for the next page
+     */
+    @GetMapping(value = "/categories", params = "limit")
+    public ResponseEntity<ApiResponse<CursorPage<Map<String, Object>>>> getCategoryPage(
+            @PathVariable String tenantId,
+            @RequestParam Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
+
+        // Set the tenant context for this request
+        tenantContextHolder.setTenantId(tenantId);
+
+        try {
+            CursorPage<Map<String, Object>> page = catalogueBrowseService.getCategoryPage(cursor, limit, fields);
+            return ResponseEntity.ok(ApiResponse.success("Categories retrieved successfully", page));
+        } finally {
+            // Always clear the tenant context after the request
+            tenantContextHolder.clear();
+        }
+    }
+
+    /**
+     * Create a new category for the specified tenant, creating the tenant too if this is its first category.
      *
      * @param tenantId The tenant identifier
      * @param categoryDTO The category data to create
@@ -74,6 +139,7 @@ public class CategoryController {
 
         // Validate the input data
         ValidationUtils.validateCategoryDTO(categoryDTO);
+        registerTenant(tenantId);
 
         // Set the tenant context for this request
         tenantContextHolder.setTenantId(tenantId);
@@ -88,4 +154,15 @@ public class CategoryController {
             tenantContextHolder.clear();
         }
     }
+
+    /**
+     * Register a new tenant once its first write has been validated. This has to happen before the service
+     * transaction begins, since Hibernate scopes the session to the tenant key then.
+     */
+    private void registerTenant(String tenantId) {
+        if (tenantRegistry.keyOf(tenantId) == null) {
+            ValidationUtils.validateTenantId(tenantId);
+            tenantRegistry.register(tenantId);
+        }
+    }
 }
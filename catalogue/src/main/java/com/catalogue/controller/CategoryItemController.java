@@ -0,0 +1,162 @@
+package com.catalogue.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.catalogue.dto.ApiResponse;
+import com.catalogue.dto.AutocompleteSuggestionDTO;
+import com.catalogue.dto.CategoryItemDetailDTO;
+import com.catalogue.dto.CursorPage;
+import com.catalogue.dto.ItemSearchResultDTO;
+import com.catalogue.service.CatalogueAutocompleteService;
+import com.catalogue.service.CatalogueBrowseService;
+import com.catalogue.service.CatalogueSearchService;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Controller for browsing restaurant category items.
+ */
+@RestController
+@RequestMapping("/api/v1/tenants/{tenantId}/catalogue")
+public class CategoryItemController {
+
+    private final CatalogueBrowseService catalogueBrowseService;
+    private final CatalogueSearchService catalogueSearchService;
+    private final CatalogueAutocompleteService catalogueAutocompleteService;
+    private final TenantContextHolder tenantContextHolder;
+
+    /**
+     * Constructor for CategoryItemController.
+     *
+     * @param catalogueBrowseService Service for paginated catalogue listings
+     * @param catalogueSearchService Service for keyword search over items
+     * @param catalogueAutocompleteService Service for prefix autocomplete over item and component names
+     * @param tenantContextHolder Utility for managing tenant context
+     */
+    public CategoryItemController(CatalogueBrowseService catalogueBrowseService,
+                                  CatalogueSearchService catalogueSearchService,
+                                  CatalogueAutocompleteService catalogueAutocompleteService,
+                                  TenantContextHolder tenantContextHolder) {
+        this.catalogueBrowseService = catalogueBrowseService;
+        this.catalogueSearchService = catalogueSearchService;
+        this.catalogueAutocompleteService = catalogueAutocompleteService;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    /**
+     * Get one page of category items for the specified tenant.
+     *
+     * @param tenantId The tenant identifier
+     * @param limit Maximum number of items in the page, defaults to 50
+     * @param cursor Cursor returned with the previous page, absent for the first page
+     * @param fields Comma-separated fields to include, absent for all fields
+     * @param excludeAllergens Comma-separated allergens the returned items must not contain
+     * @return ApiResponse containing the page of items and the cursor for the next page
+     */
+    @GetMapping("/items")
+    @SuppressWarnings("PMD.UseObjectForClearerAPI") // Each argument is a separate request parameter
+    public ResponseEntity<ApiResponse<CursorPage<Map<String, Object>>>> getItemPage(
+            @PathVariable String tenantId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String excludeAllergens) {
+
+        // Set the tenant context for this request
+        tenantContextHolder.setTenantId(tenantId);
+
+        try {
+            CursorPage<Map<String, Object>> page = catalogueBrowseService.getItemPage(
+                    cursor, limit, fields, excludeAllergens);
+            return ResponseEntity.ok(ApiResponse.success("Items retrieved successfully", page));
+        } finally {
+            // Always clear the tenant context after the request
+            tenantContextHolder.clear();
+        }
+    }
+
+    /**
+     * Get a category item with its components and active customizations for the specified tenant.
+     *
+     * @param tenantId The tenant identifier
+     * @param itemId The category item ID
+     * @param excludeAllergens Comma-separated allergens the returned customizations must not contain
+     * @return ApiResponse containing the item detail
+     */
+    @GetMapping("/items/{itemId}")
+    public ResponseEntity<ApiResponse<CategoryItemDetailDTO>> getItemDetail(
+            @PathVariable String tenantId,
+            @PathVariable Long itemId,
+            @RequestParam(required = false) String excludeAllergens) {
+
+        // Set the tenant context for this request
+        tenantContextHolder.setTenantId(tenantId);
+
+        try {
+            CategoryItemDetailDTO detail = catalogueBrowseService.getItemDetail(itemId, excludeAllergens);
+            return ResponseEntity.ok(ApiResponse.success("Item retrieved successfully", detail));
+        } finally {
+            // Always clear the tenant context after the request
+            tenantContextHolder.clear();
+        }
+    }
+
+    /**
+     * Search the active category items of the specified tenant by keyword.
+     *
+     * @param tenantId The tenant identifier
+     * @param q Keywords to search item names and descriptions for; the last may be incomplete
+     * @param limit Maximum number of results, defaults to 20
+     * @return ApiResponse containing the matching items, best match first
+     */
+    @GetMapping("/items/search")
+    public ResponseEntity<ApiResponse<List<ItemSearchResultDTO>>> searchItems(
+            @PathVariable String tenantId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+
+        // Set the tenant context for this request
+        tenantContextHolder.setTenantId(tenantId);
+
+        try {
+            List<ItemSearchResultDTO> results = catalogueSearchService.searchItems(q, limit);
+            return ResponseEntity.ok(ApiResponse.success("Items found successfully", results));
+        } finally {
+            // Always clear the tenant context after the request
+            tenantContextHolder.clear();
+        }
+    }
+
+    /**
+     * Suggest the names of active category items and their components for the text typed so far.
+     *
+     * @param tenantId The tenant identifier
+     * @param prefix Text typed so far, matched against the start of every word of a name
+     * @param limit Maximum number of suggestions, defaults to 8
+     * @return ApiResponse containing the suggestions, items by display order first, then components by name
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestionDTO>>> autocomplete(
+            @PathVariable String tenantId,
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+
+        // Set the tenant context for this request
+        tenantContextHolder.setTenantId(tenantId);
+
+        try {
+            List<AutocompleteSuggestionDTO> suggestions = catalogueAutocompleteService.suggest(prefix, limit);
+            return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+        } finally {
+            // Always clear the tenant context after the request
+            tenantContextHolder.clear();
+        }
+    }
+}
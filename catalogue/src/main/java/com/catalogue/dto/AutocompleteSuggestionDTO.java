@@ -0,0 +1,43 @@
+package com.catalogue.dto;
+
+public class AutocompleteSuggestionDTO {
+
+    /**
+     * Suggestion for a category item.
+     */
+    public static final String TYPE_ITEM = "ITEM";
+
+    /**
+     * Suggestion for a component of an active category item.
+     */
+    public static final String TYPE_COMPONENT = "COMPONENT";
+
+    private String type;
+    private Long id;
+    private String name;
+
+    // Getters and setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,109 @@
+package com.catalogue.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategoryItemDetailDTO {
+
+    private Long id;
+    private Long categoryId;
+    private String name;
+    private String description;
+    private BigDecimal basePrice;
+    private String imageUrl;
+    private String sku;
+    private Integer displayOrder;
+    private Boolean active;
+    private List<ComponentDTO> components = new ArrayList<>();
+    private List<CustomizationDTO> customizations = new ArrayList<>();
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getBasePrice() {
+        return basePrice;
+    }
+
+    public void setBasePrice(BigDecimal basePrice) {
+        this.basePrice = basePrice;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public List<ComponentDTO> getComponents() {
+        return components;
+    }
+
+    public void setComponents(List<ComponentDTO> components) {
+        this.components = components;
+    }
+
+    public List<CustomizationDTO> getCustomizations() {
+        return customizations;
+    }
+
+    public void setCustomizations(List<CustomizationDTO> customizations) {
+        this.customizations = customizations;
+    }
+}
@@ -0,0 +1,62 @@
+package com.catalogue.dto;
+
+import java.math.BigDecimal;
+
+public class ComponentDTO {
+
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal cost;
+    private Boolean allergenic;
+    private String allergenInfo;
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getCost() {
+        return cost;
+    }
+
+    public void setCost(BigDecimal cost) {
+        this.cost = cost;
+    }
+
+    public Boolean getAllergenic() {
+        return allergenic;
+    }
+
+    public void setAllergenic(Boolean allergenic) {
+        this.allergenic = allergenic;
+    }
+
+    public String getAllergenInfo() {
+        return allergenInfo;
+    }
+
+    public void setAllergenInfo(String allergenInfo) {
+        this.allergenInfo = allergenInfo;
+    }
+}
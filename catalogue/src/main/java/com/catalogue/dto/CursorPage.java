@@ -0,0 +1,33 @@
+package com.catalogue.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param <T> The type of the items in the page
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Constructor.
+     *
+     * @param items Items in this page
+     * @param nextCursor Opaque cursor for the following page, or null if this is the last page
+     */
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.catalogue.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CustomizationDTO {
+
+    private Long id;
+    private String name;
+    private BigDecimal priceAdjustment;
+    private List<ComponentDTO> components = new ArrayList<>();
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPriceAdjustment() {
+        return priceAdjustment;
+    }
+
+    public void setPriceAdjustment(BigDecimal priceAdjustment) {
+        this.priceAdjustment = priceAdjustment;
+    }
+
+    public List<ComponentDTO> getComponents() {
+        return components;
+    }
+
+    public void setComponents(List<ComponentDTO> components) {
+        this.components = components;
+    }
+}
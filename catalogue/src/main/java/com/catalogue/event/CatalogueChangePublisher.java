@@ -0,0 +1,52 @@
+package com.catalogue.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards the catalogue changes committed on this node to the other catalogue nodes over Kafka.
+ *
+ * <p>Each change is sent once its transaction has committed, as a record keyed by the tenant ID whose value is
+ * the ID of this node, so changes of a tenant stay in order and the node can skip its own records.
+ */
+public class CatalogueChangePublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogueChangePublisher.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final String nodeId;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTemplate Template sending the change records
+     * @param topic Topic the catalogue nodes exchange changes on
+     * @param nodeId ID of this node
+     */
+    public CatalogueChangePublisher(KafkaTemplate<String, String> kafkaTemplate, String topic, String nodeId) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Send a change made by this node after its transaction has committed. The send is asynchronous; if it
+     * fails, the other nodes' caches are only refreshed when their entries expire.
+     *
+     * @param event The catalogue change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        if (!event.isRemote()) {
+            kafkaTemplate.send(topic, event.getTenantId(), nodeId).whenComplete((result, e) -> {
+                if (e != null) {
+                    LOGGER.warn("Could not notify other nodes of the change to tenant {}: {}",
+                            event.getTenantId(), e.getMessage());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.catalogue.event;
+
+import javax.sql.DataSource;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+
+import com.catalogue.tenant.TenantRegistry;
+import com.common.datasource.ReplicaRoutingDataSource;
+
+/**
+ * Receives the catalogue changes committed by the other catalogue nodes and publishes them on this node as
+ * remote {@link CatalogueChangedEvent}s, so its local caches are evicted or refreshed like after a local change.
+ *
+ * <p>Every node consumes the topic in a consumer group of its own, starting from the latest records, since a
+ * node that starts has nothing cached yet. With read replicas, a changed tenant is pinned to the primary before
+ * its event is published, since the caches rebuild from reads the replicas may not have caught up with.
+ */
+public class CatalogueChangeSubscriber {
+
+    /**
+     * ID of the listener container.
+     */
+    public static final String LISTENER_ID = "catalogueChanges";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogueChangeSubscriber.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantRegistry tenantRegistry;
+    private final DataSource dataSource;
+    private final String topic;
+    private final String nodeId;
+
+    /**
+     * Constructor.
+     *
+     * @param eventPublisher Publisher for the remote change events
+     * @param tenantRegistry Registry of the known tenants
+     * @param dataSource Data source of the catalogue, or null if there is none
+     * @param topic Topic the catalogue nodes exchange changes on
+     * @param nodeId ID of this node
+     */
+    public CatalogueChangeSubscriber(ApplicationEventPublisher eventPublisher, TenantRegistry tenantRegistry,
+                                     DataSource dataSource, String topic, String nodeId) {
+        this.eventPublisher = eventPublisher;
+        this.tenantRegistry = tenantRegistry;
+        this.dataSource = dataSource;
+        this.topic = topic;
+        this.nodeId = nodeId;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getGroupId() {
+        return "catalogue-" + nodeId;
+    }
+
+    /**
+     * Publish a change record of another node as a remote change event.
+     *
+     * @param record Record keyed by the tenant ID, whose value is the ID of the node that made the change
+     */
+    @KafkaListener(id = LISTENER_ID, topics = "#{__listener.topic}", groupId = "#{__listener.groupId}",
+            properties = "auto.offset.reset=latest")
+    @SuppressWarnings("PMD.CloseResource") // The data source belongs to the application context
+    public void onChange(ConsumerRecord<String, String> record) {
+        String tenantId = record.key();
+        if (!nodeId.equals(record.value()) && tenantId != null) {
+            LOGGER.debug("Tenant {} changed on node {}", tenantId, record.value());
+            if (tenantRegistry.keyOf(tenantId) == null) {
+                // A tenant created on the other node; its row is committed, so this only loads its key
+                tenantRegistry.register(tenantId);
+            }
+            if (dataSource instanceof ReplicaRoutingDataSource replicaRouting) {
+                // The change is committed on the primary, and the rebuilds must read it from there
+                replicaRouting.recordWrite(tenantId);
+            }
+            eventPublisher.publishEvent(new CatalogueChangedEvent(tenantId, true));
+        }
+    }
+}
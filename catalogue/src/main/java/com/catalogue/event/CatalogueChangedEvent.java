@@ -0,0 +1,42 @@
+package com.catalogue.event;
+
+/**
+ * Application event published whenever a tenant's catalogue is modified.
+ * Listeners use it to invalidate anything derived from the tenant's catalogue data.
+ *
+ * <p>Changes committed by another catalogue node arrive over the invalidation channel (see
+ * {@link CatalogueChangeSubscriber}) and are published as remote events, which are not forwarded again.
+ */
+public class CatalogueChangedEvent {
+
+    private final String tenantId;
+    private final boolean remote;
+
+    /**
+     * Constructor for a change made by this node.
+     *
+     * @param tenantId The tenant whose catalogue changed
+     */
+    public CatalogueChangedEvent(String tenantId) {
+        this(tenantId, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenantId The tenant whose catalogue changed
+     * @param remote Whether the change was committed by another catalogue node
+     */
+    public CatalogueChangedEvent(String tenantId, boolean remote) {
+        this.tenantId = tenantId;
+        this.remote = remote;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
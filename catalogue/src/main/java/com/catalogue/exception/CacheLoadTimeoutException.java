@@ -0,0 +1,15 @@
+package com.catalogue.exception;
+
+/**
+ * Thrown when a request gives up waiting for a cache load started by a concurrent request.
+ */
+public class CacheLoadTimeoutException extends RuntimeException {
+
+    public CacheLoadTimeoutException(String message) {
+        super(message);
+    }
+
+    public CacheLoadTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -70,6 +70,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle CacheLoadTimeoutException.
+     *
+     * @param ex The exception
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(CacheLoadTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCacheLoadTimeoutException(
+            CacheLoadTimeoutException ex, WebRequest request) {
+
+        ApiResponse<Void> response = ApiResponse.error(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle all other exceptions.
      *
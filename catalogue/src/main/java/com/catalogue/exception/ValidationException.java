@@ -20,6 +20,18 @@ public class ValidationException extends RuntimeException {
         this.errors = errors;
     }
 
+    /**
+     * Constructor with message, validation errors and the underlying cause.
+     *
+     * @param message Error message
+     * @param errors List of validation errors
+     * @param cause The exception that caused the validation to fail
+     */
+    public ValidationException(String message, List<String> errors, Throwable cause) {
+        super(message, cause);
+        this.errors = errors;
+    }
+
     /**
      * Get validation errors.
      *
@@ -1,14 +1,18 @@
 package com.catalogue.filter;
 
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.catalogue.dto.ApiResponse;
+import com.catalogue.tenant.TenantRegistry;
 import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,22 +21,31 @@ import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Filter to extract tenant ID from the request URL and set it in the TenantContextHolder.
+ * Known tenants are set as the registry's shared ID instance. Reads for unknown tenants are rejected
+ * with 404 before reaching the service layer. Writes for unknown tenants pass through without a tenant, since
+ * they may create its first data: the controller registers the tenant once the decoded ID and the request
+ * have been validated.
  */
 @Component
 @Order(1)
 public class TenantFilter extends OncePerRequestFilter {
 
-    private static final Pattern TENANT_PATTERN = Pattern.compile("/api/v1/tenants/([^/]+)");
-
     private final TenantContextHolder tenantContextHolder;
+    private final TenantRegistry tenantRegistry;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor.
      *
      * @param tenantContextHolder Holder for tenant context
+     * @param tenantRegistry Registry of the known tenants
+     * @param objectMapper Object mapper for the error response body
      */
-    public TenantFilter(TenantContextHolder tenantContextHolder) {
+    public TenantFilter(TenantContextHolder tenantContextHolder, TenantRegistry tenantRegistry,
+                        ObjectMapper objectMapper) {
         this.tenantContextHolder = tenantContextHolder;
+        this.tenantRegistry = tenantRegistry;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -41,38 +54,40 @@ public class TenantFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        try {
-            // Extract tenant ID from URL
-            String tenantId = extractTenantId(request);
+        String path = request.getRequestURI();
+        int start = TenantPathScanner.tenantIdStart(path);
+        int end = start < 0 ? start : TenantPathScanner.tenantIdEnd(path, start);
+        String tenantId = start < 0 ? null : tenantRegistry.canonicalize(path, start, end);
 
-            if (tenantId != null) {
-                // Set tenant ID in context
+        if (start < 0) {
+            filterChain.doFilter(request, response);
+        } else if (tenantId == null && isRead(request)) {
+            rejectUnknownTenant(response, path.substring(start, end));
+        } else if (tenantId == null) {
+            // A write for a new tenant, which its controller validates and registers
+            filterChain.doFilter(request, response);
+        } else {
+            try {
                 tenantContextHolder.setTenantId(tenantId);
-            }
 
-            // Continue with the filter chain
-            filterChain.doFilter(request, response);
-        } finally {
-            // Clear tenant context after request is processed
-            tenantContextHolder.clear();
+                // Continue with the filter chain
+                filterChain.doFilter(request, response);
+            } finally {
+                // Clear tenant context after request is processed
+                tenantContextHolder.clear();
+            }
         }
     }
 
-    /**
-     * Extract tenant ID from the request URL.
-     *
-     * @param request HTTP request
-     * @return Tenant ID or null if not found
-     */
-    private String extractTenantId(HttpServletRequest request) {
-        String requestURI = request.getRequestURI();
-        Matcher matcher = TENANT_PATTERN.matcher(requestURI);
-
-        String result = null;
-        if (matcher.find()) {
-            result = matcher.group(1);
-        }
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
 
-        return result;
+    private void rejectUnknownTenant(HttpServletResponse response, String tenantId) throws IOException {
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error(HttpStatus.NOT_FOUND.value(), "Tenant not found: " + tenantId));
     }
 }
@@ -0,0 +1,47 @@
+package com.catalogue.filter;
+
+/**
+ * Locates the tenant ID segment in request paths of the form {@code .../api/v1/tenants/{tenantId}/...}.
+ * Works on indexes into the path so that finding the segment allocates nothing.
+ */
+public final class TenantPathScanner {
+
+    /**
+     * Path prefix directly preceding the tenant ID.
+     */
+    public static final String TENANT_PREFIX = "/api/v1/tenants/";
+
+    private TenantPathScanner() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Find where the tenant ID starts.
+     *
+     * @param path The request path
+     * @return Index of the first character of the tenant ID, or -1 if the path has no non-empty tenant segment
+     */
+    public static int tenantIdStart(String path) {
+        int start = -1;
+        int prefix = path.indexOf(TENANT_PREFIX);
+        if (prefix >= 0) {
+            int candidate = prefix + TENANT_PREFIX.length();
+            if (candidate < path.length() && path.charAt(candidate) != '/') {
+                start = candidate;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Find where the tenant ID ends.
+     *
+     * @param path The request path
+     * @param start Index returned by {@link #tenantIdStart(String)}
+     * @return Index after the last character of the tenant ID
+     */
+    public static int tenantIdEnd(String path, int start) {
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+}
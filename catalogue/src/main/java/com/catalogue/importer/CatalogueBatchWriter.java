@@ -0,0 +1,164 @@
+package com.catalogue.importer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.catalogue.tenant.TenantSchemaRouter;
+import com.common.model.BaseEntity;
+
+/**
+ * Set-based writes used by the catalogue import: ID allocation from the entity sequences, JDBC batch
+ * inserts, and join table rows written with PostgreSQL COPY when the connection supports it.
+ * All statements run on the connection of the surrounding transaction, switched to the schema of an isolated
+ * tenant for the rows of that tenant (see {@link TenantSchemaRouter}).
+ */
+@Repository
+public class CatalogueBatchWriter {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private final TenantSchemaRouter schemaRouter;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaRouter Router running the statements on the schema of the rows' tenant
+     */
+    public CatalogueBatchWriter(TenantSchemaRouter schemaRouter) {
+        this.schemaRouter = schemaRouter;
+    }
+
+    /**
+     * Get the schema holding a tenant's rows.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's own schema, or null if the tenant uses the shared tables
+     */
+    public String schemaOf(String tenantId) {
+        return schemaRouter.schemaOf(tenantId);
+    }
+
+    /**
+     * Check whether the current connection is a PostgreSQL connection that can stream rows with COPY.
+     *
+     * @return true if {@link #insertLinks} will use COPY
+     */
+    public boolean isCopySupported() {
+        Boolean supported = schemaRouter.inSchema(null, jdbcTemplate -> jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+        return Boolean.TRUE.equals(supported);
+    }
+
+    /**
+     * Reserve IDs from an entity sequence the same way Hibernate's pooled optimizer does: each call to the
+     * sequence returns the highest ID of a block of {@link BaseEntity#ID_ALLOCATION_SIZE} IDs.
+     *
+     * @param schema Schema of an isolated tenant, or null for the shared sequences
+     * @param sequence Name of the entity's sequence, e.g. {@code category_items_seq}
+     * @param count Number of IDs needed
+     * @return Unused IDs in ascending order
+     */
+    public List<Long> allocateIds(String schema, String sequence, int count) {
+        return schemaRouter.inSchema(schema, jdbcTemplate -> allocateIds(jdbcTemplate, sequence, count));
+    }
+
+    private static List<Long> allocateIds(JdbcTemplate jdbcTemplate, String sequence, int count) {
+        String sql = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())))
+                ? "SELECT nextval('" + sequence + "')"
+                : "SELECT NEXT VALUE FOR " + sequence;
+
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long high = nextValue(jdbcTemplate, sql);
+            if (high < BaseEntity.ID_ALLOCATION_SIZE) {
+                // A sequence created by Hibernate starts at 1; like the pooled optimizer, skip that partial block
+                high = nextValue(jdbcTemplate, sql);
+            }
+            for (long id = high - BaseEntity.ID_ALLOCATION_SIZE + 1; id <= high && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Insert rows as one JDBC batch.
+     *
+     * @param schema Schema of an isolated tenant, or null for the shared tables
+     * @param sql Parameterized INSERT statement
+     * @param rows Parameter values, one array per row
+     */
+    public void insert(String schema, String sql, List<Object[]> rows) {
+        schemaRouter.inSchema(schema, jdbcTemplate -> jdbcTemplate.batchUpdate(sql, rows));
+    }
+
+    private static long nextValue(JdbcTemplate jdbcTemplate, String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        if (value == null) {
+            throw new IllegalStateException("Sequence returned no value: " + sql);
+        }
+        return value;
+    }
+
+    /**
+     * Insert rows into a join table.
+     *
+     * @param schema Schema of an isolated tenant, or null for the shared tables
+     * @param table Table name followed by its column names, e.g. {@code links (owner_id, target_id, tenant_key)}
+     * @param links Rows to insert, one value per column
+     * @param useCopy Whether to stream the rows with COPY instead of a batch insert
+     */
+    public void insertLinks(String schema, String table, List<long[]> links, boolean useCopy) {
+        if (links.isEmpty()) {
+            return;
+        }
+
+        schemaRouter.inSchema(schema, jdbcTemplate -> {
+            if (useCopy) {
+                copyLinks(jdbcTemplate, table, links);
+            } else {
+                batchInsertLinks(jdbcTemplate, table, links);
+            }
+            return null;
+        });
+    }
+
+    private static void copyLinks(JdbcTemplate jdbcTemplate, String table, List<long[]> links) {
+        int columns = links.get(0).length;
+        StringBuilder data = new StringBuilder(links.size() * columns * 8);
+        for (long[] link : links) {
+            for (int i = 0; i < columns; i++) {
+                data.append(link[i]).append(i == columns - 1 ? '\n' : '\t');
+            }
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY " + table + " FROM STDIN", new StringReader(data.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY into " + table + " failed", e);
+            }
+        });
+    }
+
+    private static void batchInsertLinks(JdbcTemplate jdbcTemplate, String table, List<long[]> links) {
+        int columns = links.get(0).length;
+        String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " VALUES (" + placeholders + ")", links, links.size(),
+                (ps, link) -> {
+                    for (int i = 0; i < columns; i++) {
+                        ps.setLong(i + 1, link[i]);
+                    }
+                });
+    }
+}
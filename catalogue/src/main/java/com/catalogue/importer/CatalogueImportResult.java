@@ -0,0 +1,65 @@
+package com.catalogue.importer;
+
+/**
+ * Row counts of a completed catalogue import.
+ */
+public class CatalogueImportResult {
+
+    private final int components;
+    private final int categories;
+    private final int categoryItems;
+    private final int customizations;
+    private final int componentLinks;
+    private final int skipped;
+
+    /**
+     * Constructor.
+     *
+     * @param components Number of components imported
+     * @param categories Number of categories imported
+     * @param categoryItems Number of category items imported
+     * @param customizations Number of customizations imported
+     * @param componentLinks Number of item and customization component links imported
+     * @param skipped Number of elements skipped because they were invalid or referenced unknown rows
+     */
+    public CatalogueImportResult(int components, int categories, int categoryItems, int customizations,
+                                 int componentLinks, int skipped) {
+        this.components = components;
+        this.categories = categories;
+        this.categoryItems = categoryItems;
+        this.customizations = customizations;
+        this.componentLinks = componentLinks;
+        this.skipped = skipped;
+    }
+
+    public int getComponents() {
+        return components;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public int getCategoryItems() {
+        return categoryItems;
+    }
+
+    public int getCustomizations() {
+        return customizations;
+    }
+
+    public int getComponentLinks() {
+        return componentLinks;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public String toString() {
+        return components + " components, " + categories + " categories, " + categoryItems + " items, "
+                + customizations + " customizations, " + componentLinks + " component links, "
+                + skipped + " skipped";
+    }
+}
@@ -0,0 +1,368 @@
+package com.catalogue.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.catalogue.annotation.Timed;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.exception.ValidationException;
+import com.catalogue.tenant.TenantRegistry;
+import com.catalogue.util.ValidationUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming bulk import of catalogue data from the JSON format used by the sample data file.
+ * The document is read one element at a time with Jackson's streaming parser and written with JDBC batch
+ * inserts through {@link CatalogueBatchWriter}, so memory use is bounded by the batch size and the name-to-ID
+ * lookups rather than by the size of the file. IDs are reserved from the same sequences Hibernate uses, and the
+ * rows of a tenant with a schema of its own are written to that schema, where its sessions read them.
+ *
+ * <p>Sections must appear in dependency order: {@code components} and {@code categories} before
+ * {@code categoryItems}, and {@code categoryItems} before {@code categoryItemCustomizations}.
+ * Other sections, such as {@code tenants}, are skipped. References by name are resolved within the tenant.
+ * Tenants not registered yet are validated like tenants created through the API; elements that fail
+ * validation are skipped and logged with their line number.
+ */
+@Service
+@SuppressWarnings("PMD.CouplingBetweenObjects") // Parser, writer and tenant types meet in the one import pass
+public class CatalogueImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogueImporter.class);
+
+    private static final String ITEM_COMPONENTS =
+            "category_item_components (category_item_id, component_id, tenant_key)";
+    private static final String CUSTOMIZATION_COMPONENTS =
+            "customization_components (customization_id, component_id, tenant_key)";
+
+    private final CatalogueBatchWriter batchWriter;
+    private final TenantRegistry tenantRegistry;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param batchWriter Writer for the batched inserts
+     * @param tenantRegistry Registry resolving, and creating, the keys of the imported tenants
+     * @param objectMapper Object mapper whose factory creates the streaming parser
+     * @param eventPublisher Publisher for the catalogue change events of imported tenants
+     * @param batchSize Number of rows sent to the database per batch
+     */
+    public CatalogueImporter(CatalogueBatchWriter batchWriter, TenantRegistry tenantRegistry,
+                             ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                             @Value("${catalogue.import.batch-size:1000}") int batchSize) {
+        this.batchWriter = batchWriter;
+        this.tenantRegistry = tenantRegistry;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import a catalogue document in a single transaction.
+     *
+     * @param inputStream The JSON document; it is not closed by this method
+     * @return Counts of the imported and skipped rows
+     * @throws IOException If the document cannot be read or is not a JSON object
+     */
+    @Transactional
+    @Timed(value = "catalogue.import", description = "Bulk catalogue imports", longTask = true)
+    public CatalogueImportResult importCatalogue(InputStream inputStream) throws IOException {
+        ImportRun run = new ImportRun(batchWriter.isCopySupported());
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Catalogue import must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                Section section = Section.fromName(name);
+                if (section == null || parser.currentToken() != JsonToken.START_ARRAY) {
+                    LOGGER.info("Skipping section '{}'", name);
+                    parser.skipChildren();
+                } else {
+                    importSection(section, parser, run);
+                }
+            }
+        }
+
+        // Listeners run after commit, so caches are only refreshed once the import is visible
+        for (String tenantId : run.tenantIds) {
+            eventPublisher.publishEvent(new CatalogueChangedEvent(tenantId));
+        }
+
+        CatalogueImportResult result = run.result();
+        LOGGER.info("Catalogue import finished: {}", result);
+        return result;
+    }
+
+    private void importSection(Section section, JsonParser parser, ImportRun run) throws IOException {
+        LOGGER.info("Importing {}...", section.jsonName);
+        List<PendingRow> pending = new ArrayList<>(batchSize);
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int line = parser.currentTokenLocation().getLineNr();
+            JsonNode node = objectMapper.readTree(parser);
+            PendingRow row = toRow(section, node, line, run);
+            if (row == null) {
+                run.skipped++;
+            } else {
+                pending.add(row);
+                if (pending.size() == batchSize) {
+                    flush(section, pending, run);
+                    pending.clear();
+                }
+            }
+        }
+        flush(section, pending, run);
+    }
+
+    private PendingRow toRow(Section section, JsonNode node, int line, ImportRun run) {
+        PendingRow row = null;
+        try {
+            String tenantId = requiredText(node, "tenantId");
+            int tenantKey = registerTenant(tenantId);
+            String name = requiredText(node, "name");
+            Object[] values = switch (section) {
+                case COMPONENTS -> new Object[] {tenantKey, name, optionalText(node, "description"),
+                    new BigDecimal(requiredText(node, "cost")), node.path("isAllergenic").asBoolean(),
+                    optionalText(node, "allergenInfo"), run.importedAt};
+                case CATEGORIES -> new Object[] {tenantKey, name, optionalText(node, "description"),
+                    node.path("displayOrder").asInt(), node.path("active").asBoolean(true), run.importedAt};
+                case ITEMS -> new Object[] {tenantKey,
+                    run.resolve(run.categoryIds, tenantId, requiredText(node, "categoryName")),
+                    name, optionalText(node, "description"), new BigDecimal(requiredText(node, "basePrice")),
+                    optionalText(node, "imageUrl"), optionalText(node, "sku"),
+                    node.path("displayOrder").asInt(), node.path("active").asBoolean(true), run.importedAt};
+                case CUSTOMIZATIONS -> new Object[] {tenantKey,
+                    run.resolve(run.itemIds, tenantId, requiredText(node, "categoryItemName")),
+                    name, new BigDecimal(requiredText(node, "priceAdjustment")),
+                    node.path("active").asBoolean(true), run.importedAt};
+            };
+            row = new PendingRow(tenantId, tenantKey, name, values, componentNames(node));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Skipping {} element at line {}: {}", section.jsonName, line, e.getMessage());
+        }
+        return row;
+    }
+
+    /**
+     * Get the key of an element's tenant, registering it first if it is new and its ID is valid, so a malformed
+     * file cannot create tenants that requests are never routed to.
+     */
+    private int registerTenant(String tenantId) {
+        Integer tenantKey = tenantRegistry.keyOf(tenantId);
+        if (tenantKey == null) {
+            try {
+                ValidationUtils.validateTenantId(tenantId);
+            } catch (ValidationException e) {
+                throw new IllegalArgumentException("invalid tenant ID '" + tenantId + "': "
+                        + String.join("; ", e.getErrors()), e);
+            }
+            tenantKey = tenantRegistry.register(tenantId);
+        }
+        return tenantKey;
+    }
+
+    private void flush(Section section, List<PendingRow> rows, ImportRun run) {
+        Map<String, List<PendingRow>> rowsBySchema = new LinkedHashMap<>();
+        for (PendingRow row : rows) {
+            rowsBySchema.computeIfAbsent(batchWriter.schemaOf(row.tenantId), schema -> new ArrayList<>()).add(row);
+        }
+        rowsBySchema.forEach((schema, schemaRows) -> flush(section, schema, schemaRows, run));
+    }
+
+    /**
+     * Write the rows of the tenants sharing a schema, or sharing the shared tables when the schema is null.
+     */
+    private void flush(Section section, String schema, List<PendingRow> rows, ImportRun run) {
+        List<Long> ids = batchWriter.allocateIds(schema, section.sequence, rows.size());
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] rowValues = rows.get(i).values;
+            Object[] params = new Object[rowValues.length + 1];
+            params[0] = ids.get(i);
+            System.arraycopy(rowValues, 0, params, 1, rowValues.length);
+            values.add(params);
+        }
+        batchWriter.insert(schema, section.insertSql, values);
+        Map<String, Long> idsByName = switch (section) {
+            case COMPONENTS -> run.componentIds;
+            case CATEGORIES -> run.categoryIds;
+            case ITEMS -> run.itemIds;
+            case CUSTOMIZATIONS -> null;
+        };
+
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            long id = ids.get(i);
+            run.tenantIds.add(row.tenantId);
+            if (idsByName != null) {
+                idsByName.put(key(row.tenantId, row.name), id);
+            }
+            for (Long componentId : run.resolveComponents(row)) {
+                links.add(new long[] {id, componentId, row.tenantKey});
+            }
+        }
+        run.imported[section.ordinal()] += rows.size();
+
+        if (section.linkTable != null) {
+            batchWriter.insertLinks(schema, section.linkTable, links, run.copySupported);
+            run.componentLinks += links.size();
+        }
+    }
+
+    private static List<String> componentNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode component : node.path("components")) {
+            names.add(component.asText());
+        }
+        return names;
+    }
+
+    private static String requiredText(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("missing required field '" + field + "'");
+        }
+        return value.asText();
+    }
+
+    private static String optionalText(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String key(String tenantId, String name) {
+        return tenantId + ":" + name;
+    }
+
+    /**
+     * Sections of the import document, in the order their rows can be written.
+     */
+    private enum Section {
+        COMPONENTS("components", "components_seq", "INSERT INTO components (id, tenant_key, name, description,"
+                + " cost, is_allergenic, allergen_info, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", null),
+        CATEGORIES("categories", "categories_seq", "INSERT INTO categories (id, tenant_key, name, description,"
+                + " display_order, active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", null),
+        ITEMS("categoryItems", "category_items_seq", "INSERT INTO category_items (id, tenant_key, category_id,"
+                + " name, description, base_price, image_url, sku, display_order, active, created_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", ITEM_COMPONENTS),
+        CUSTOMIZATIONS("categoryItemCustomizations", "category_item_customizations_seq",
+                "INSERT INTO category_item_customizations (id, tenant_key, category_item_id, name,"
+                + " price_adjustment, active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", CUSTOMIZATION_COMPONENTS);
+
+        private final String jsonName;
+        private final String sequence;
+        private final String insertSql;
+        private final String linkTable;
+
+        Section(String jsonName, String sequence, String insertSql, String linkTable) {
+            this.jsonName = jsonName;
+            this.sequence = sequence;
+            this.insertSql = insertSql;
+            this.linkTable = linkTable;
+        }
+
+        static Section fromName(String jsonName) {
+            Section found = null;
+            for (Section section : values()) {
+                if (section.jsonName.equals(jsonName)) {
+                    found = section;
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * A parsed element waiting to be written with the next batch.
+     */
+    private static final class PendingRow {
+
+        private final String tenantId;
+        private final int tenantKey;
+        private final String name;
+        private final Object[] values;
+        private final List<String> componentNames;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        PendingRow(String tenantId, int tenantKey, String name, Object[] values, List<String> componentNames) {
+            this.tenantId = tenantId;
+            this.tenantKey = tenantKey;
+            this.name = name;
+            this.values = values;
+            this.componentNames = componentNames;
+        }
+    }
+
+    /**
+     * State of one import: the name-to-ID lookups for resolving references, and the counters.
+     */
+    private static final class ImportRun {
+
+        private final boolean copySupported;
+        private final LocalDateTime importedAt = LocalDateTime.now();
+        private final Map<String, Long> componentIds = new HashMap<>();
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<String, Long> itemIds = new HashMap<>();
+        private final Set<String> tenantIds = new HashSet<>();
+        private final int[] imported = new int[Section.values().length];
+        private int componentLinks;
+        private int skipped;
+
+        ImportRun(boolean copySupported) {
+            this.copySupported = copySupported;
+        }
+
+        Long resolve(Map<String, Long> idsByName, String tenantId, String name) {
+            Long id = idsByName.get(key(tenantId, name));
+            if (id == null) {
+                throw new IllegalArgumentException("unknown reference '" + name + "' for tenant " + tenantId);
+            }
+            return id;
+        }
+
+        Set<Long> resolveComponents(PendingRow row) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (String componentName : row.componentNames) {
+                Long id = componentIds.get(key(row.tenantId, componentName));
+                if (id == null) {
+                    LOGGER.warn("Component not found for {}: {}", row.name, componentName);
+                } else {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+
+        CatalogueImportResult result() {
+            return new CatalogueImportResult(imported[Section.COMPONENTS.ordinal()],
+                    imported[Section.CATEGORIES.ordinal()], imported[Section.ITEMS.ordinal()],
+                    imported[Section.CUSTOMIZATIONS.ordinal()], componentLinks, skipped);
+        }
+    }
+}
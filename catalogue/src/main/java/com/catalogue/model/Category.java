@@ -1,29 +1,43 @@
 package com.catalogue.model;
 
 
+import com.catalogue.cache.CatalogueCacheRegions;
 import com.common.model.TenantEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogueCacheRegions.CATEGORY)
 public class Category extends TenantEntity {
 
     private String name;
 
     private String description;
 
-    private Integer displayOrder;
+    // Keyset listings order on it, so it is never null
+    @Column(nullable = false)
+    private Integer displayOrder = 0;
 
     @Column(columnDefinition = "boolean default true")
     private Boolean active;
 
-    @OneToMany(mappedBy = "category")
+    // Joined on the tenant key as well, so PostgreSQL can prune item partitions; CategoryItem.category writes
+    // the link
+    @OneToMany
+    @JoinColumn(name = "category_id", referencedColumnName = "id", insertable = false, updatable = false)
+    @JoinColumn(name = "tenant_key", referencedColumnName = "tenant_key", insertable = false, updatable = false)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogueCacheRegions.CATEGORY_ITEMS)
     private Set<CategoryItem> categoryItems = new HashSet<>();
 
 //     Getters and setters
@@ -1,7 +1,9 @@
 package com.catalogue.model;
 
+import com.catalogue.cache.CatalogueCacheRegions;
 import com.common.model.TenantEntity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +13,8 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -18,6 +22,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "category_items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogueCacheRegions.CATEGORY_ITEM)
 public class CategoryItem extends TenantEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,20 +41,31 @@ public class CategoryItem extends TenantEntity {
 
     private String sku;
 
-    private Integer displayOrder;
+    // Keyset listings order on it, so it is never null
+    @Column(nullable = false)
+    private Integer displayOrder = 0;
 
     @Column(columnDefinition = "boolean default true")
     private Boolean active;
 
+    // Links carry the item's tenant key, so they can be partitioned and looked up by tenant
     @ManyToMany
     @JoinTable(
             name = "category_item_components",
-            joinColumns = @JoinColumn(name = "category_item_id"),
+            joinColumns = {
+                @JoinColumn(name = "category_item_id", referencedColumnName = "id"),
+                @JoinColumn(name = "tenant_key", referencedColumnName = "tenant_key")
+            },
             inverseJoinColumns = @JoinColumn(name = "component_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogueCacheRegions.ITEM_COMPONENTS)
     private Set<Component> components = new HashSet<>();
 
-    @OneToMany(mappedBy = "categoryItem")
+    // Joined on the tenant key as well, like Category.categoryItems; CategoryItemCustomization.categoryItem
+    // writes the link
+    @OneToMany
+    @JoinColumn(name = "category_item_id", referencedColumnName = "id", insertable = false, updatable = false)
+    @JoinColumn(name = "tenant_key", referencedColumnName = "tenant_key", insertable = false, updatable = false)
     private Set<CategoryItemCustomization> customizations = new HashSet<>();
 
     // Getters and setters
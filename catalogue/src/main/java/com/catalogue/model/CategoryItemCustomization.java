@@ -29,10 +29,14 @@ public class CategoryItemCustomization extends TenantEntity {
     @Column(columnDefinition = "boolean default true")
     private Boolean active;
 
+    // Links carry the customization's tenant key, so they can be partitioned and looked up by tenant
     @ManyToMany
     @JoinTable(
             name = "customization_components",
-            joinColumns = @JoinColumn(name = "customization_id"),
+            joinColumns = {
+                @JoinColumn(name = "customization_id", referencedColumnName = "id"),
+                @JoinColumn(name = "tenant_key", referencedColumnName = "tenant_key")
+            },
             inverseJoinColumns = @JoinColumn(name = "component_id")
     )
     private Set<Component> components = new HashSet<>();
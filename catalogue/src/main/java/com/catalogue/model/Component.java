@@ -1,10 +1,14 @@
 package com.catalogue.model;
 
+import com.catalogue.cache.CatalogueCacheRegions;
 import com.common.model.TenantEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -12,6 +16,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "components")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogueCacheRegions.COMPONENT)
 public class Component extends TenantEntity {
 
     private String name;
@@ -0,0 +1,262 @@
+package com.catalogue.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.catalogue.dto.CursorPage;
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.util.KeysetCursor;
+import com.common.model.TenantEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Keyset-paginated, column-projected listings of catalogue entities.
+ * Pages are ordered by (displayOrder, id) and continue strictly after the cursor, so the cost of a page
+ * does not depend on how deep into the listing it is. Only the requested columns are selected;
+ * entities are never loaded into the persistence context.
+ */
+@Repository
+public class CatalogueKeysetRepository {
+
+    private static final String ID = "id";
+    private static final String DISPLAY_ORDER = "displayOrder";
+
+    /**
+     * Fields that may be requested for categories, mapped to their entity attribute paths.
+     */
+    public static final Map<String, String> CATEGORY_FIELDS = orderedFields(
+            "id", "name", "description", "displayOrder", "active");
+
+    /**
+     * Fields that may be requested for category items, mapped to their entity attribute paths.
+     */
+    public static final Map<String, String> ITEM_FIELDS;
+
+    static {
+        Map<String, String> fields = new LinkedHashMap<>(orderedFields(
+                "id", "name", "description", "basePrice", "imageUrl", "sku", "displayOrder", "active"));
+        fields.put("categoryId", "category.id");
+        ITEM_FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Rows read per query when scanning for rows that pass a filter; at least the largest page the browse service
+     * allows, so a small page with a selective filter does not cost one query per few rows.
+     */
+    static final int FILTER_CHUNK_SIZE = 200;
+
+    /**
+     * Rows a filtered page may scan before it is returned short, with a cursor to resume from.
+     */
+    static final int MAX_SCANNED_ROWS = 2_000;
+
+    private final EntityManager entityManager;
+    private final int filterChunkSize;
+    private final int maxScannedRows;
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager Shared entity manager
+     */
+    @Autowired
+    public CatalogueKeysetRepository(EntityManager entityManager) {
+        this(entityManager, FILTER_CHUNK_SIZE, MAX_SCANNED_ROWS);
+    }
+
+    /**
+     * Constructor with explicit scan sizes for filtered pages.
+     *
+     * @param entityManager Shared entity manager
+     * @param filterChunkSize Rows read per query when scanning for rows that pass a filter
+     * @param maxScannedRows Rows a filtered page may scan before it is returned short
+     */
+    CatalogueKeysetRepository(EntityManager entityManager, int filterChunkSize, int maxScannedRows) {
+        this.entityManager = entityManager;
+        this.filterChunkSize = filterChunkSize;
+        this.maxScannedRows = maxScannedRows;
+    }
+
+    /**
+     * Find one page of categories of the current tenant.
+     *
+     * @param after Cursor to continue after, or null for the first page
+     * @param limit Maximum number of rows in the page
+     * @param fields Names of the fields to select, all keys of {@link #CATEGORY_FIELDS}
+     * @return The page of projected rows
+     */
+    public CursorPage<Map<String, Object>> findCategoryPage(
+            KeysetCursor after, int limit, List<String> fields) {
+        return findPage(Category.class, CATEGORY_FIELDS, after, limit, fields, id -> true, limit + 1);
+    }
+
+    /**
+     * Find one page of category items of the current tenant.
+     *
+     * @param after Cursor to continue after, or null for the first page
+     * @param limit Maximum number of rows in the page
+     * @param fields Names of the fields to select, all keys of {@link #ITEM_FIELDS}
+     * @return The page of projected rows
+     */
+    public CursorPage<Map<String, Object>> findItemPage(
+            KeysetCursor after, int limit, List<String> fields) {
+        return findPage(CategoryItem.class, ITEM_FIELDS, after, limit, fields, id -> true, limit + 1);
+    }
+
+    /**
+     * Find one page of the category items of the current tenant that pass an in-memory filter on their ID.
+     * Rows are scanned in keyset order, in chunks of {@link #FILTER_CHUNK_SIZE}, until the page is full. A
+     * page that has scanned {@link #MAX_SCANNED_ROWS} rows is returned short, with a cursor to resume the scan
+     * from, so a very selective filter costs the client more requests rather than one unbounded request.
+     *
+     * @param after Cursor to continue after, or null for the first page
+     * @param limit Maximum number of rows in the page
+     * @param fields Names of the fields to select, all keys of {@link #ITEM_FIELDS}
+     * @param idFilter Filter the item IDs must pass
+     * @return The page of projected rows
+     */
+    public CursorPage<Map<String, Object>> findItemPage(
+            KeysetCursor after, int limit, List<String> fields, Predicate<Long> idFilter) {
+        return findPage(CategoryItem.class, ITEM_FIELDS, after, limit, fields, idFilter,
+                Math.max(filterChunkSize, limit + 1));
+    }
+
+    private <T extends TenantEntity> CursorPage<Map<String, Object>> findPage(
+            Class<T> entityType, Map<String, String> allowedFields, KeysetCursor after, int limit,
+            List<String> fields, Predicate<Long> idFilter, int chunkSize) {
+
+        int keyIndex = fields.size();
+        Scan scan = scan(entityType, allowedFields, after, limit, fields, idFilter, chunkSize);
+        List<Tuple> tuples = scan.tuples();
+
+        boolean hasMore = tuples.size() > limit;
+        List<Tuple> pageTuples = hasMore ? tuples.subList(0, limit) : tuples;
+
+        List<Map<String, Object>> rows = new ArrayList<>(pageTuples.size());
+        for (Tuple tuple : pageTuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < keyIndex; i++) {
+                row.put(fields.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            nextCursor = cursorOf(pageTuples.get(pageTuples.size() - 1), keyIndex).encode();
+        } else if (scan.resumeAfter() != null) {
+            nextCursor = scan.resumeAfter().encode();
+        }
+
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    /**
+     * Collect up to one row more than the page holds, to learn whether another page follows without a separate
+     * count query, scanning further while the filter rejects rows and the scan budget lasts.
+     */
+    private <T extends TenantEntity> Scan scan(
+            Class<T> entityType, Map<String, String> allowedFields, KeysetCursor after, int limit,
+            List<String> fields, Predicate<Long> idFilter, int chunkSize) {
+
+        int keyIndex = fields.size();
+        List<Tuple> tuples = new ArrayList<>(limit + 1);
+        KeysetCursor scanAfter = after;
+        int scannedRows = 0;
+        boolean exhausted = false;
+        while (tuples.size() <= limit && !exhausted && scannedRows < maxScannedRows) {
+            List<Tuple> scanned = fetch(entityType, allowedFields, scanAfter, chunkSize, fields);
+            for (Tuple tuple : scanned) {
+                if (tuples.size() <= limit && idFilter.test(tuple.get(keyIndex, Long.class))) {
+                    tuples.add(tuple);
+                }
+            }
+            scannedRows += scanned.size();
+            exhausted = scanned.size() < chunkSize;
+            if (!exhausted) {
+                scanAfter = cursorOf(scanned.get(scanned.size() - 1), keyIndex);
+            }
+        }
+        // Out of budget before the page filled up: the next request resumes after the last row scanned
+        return new Scan(tuples, tuples.size() <= limit && !exhausted ? scanAfter : null);
+    }
+
+    private <T extends TenantEntity> List<Tuple> fetch(
+            Class<T> entityType, Map<String, String> allowedFields, KeysetCursor after, int maxResults,
+            List<String> fields) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        Path<Integer> displayOrder = root.get(DISPLAY_ORDER);
+        Path<Long> id = root.get(ID);
+
+        // Tuple elements are read by position: Hibernate shares path instances, so aliasing the keyset
+        // columns would clash with the same columns requested as fields
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(resolve(root, allowedFields.get(field)));
+        }
+        // The keyset columns are always selected last so the next cursor can be built from the last row
+        selections.add(id);
+        selections.add(displayOrder);
+
+        // Hibernate restricts the query to the current tenant
+        query.multiselect(selections);
+        if (after != null) {
+            query.where(cb.or(
+                    cb.greaterThan(displayOrder, after.getDisplayOrder()),
+                    cb.and(cb.equal(displayOrder, after.getDisplayOrder()), cb.greaterThan(id, after.getId()))));
+        }
+        query.orderBy(cb.asc(displayOrder), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    /**
+     * Build the cursor continuing after a row, from the keyset columns selected last.
+     */
+    private static KeysetCursor cursorOf(Tuple tuple, int keyIndex) {
+        // The column is NOT NULL, so every row falls within the keyset predicate
+        return new KeysetCursor(tuple.get(keyIndex + 1, Integer.class), tuple.get(keyIndex, Long.class));
+    }
+
+    /**
+     * Rows collected by a scan, and the cursor to resume from when the scan stopped before the page filled up.
+     */
+    private record Scan(List<Tuple> tuples, KeysetCursor resumeAfter) {
+    }
+
+    private static Path<Object> resolve(Root<?> root, String attributePath) {
+        Path<Object> path = null;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path == null ? root.get(attribute) : path.get(attribute);
+        }
+        return path;
+    }
+
+    private static Map<String, String> orderedFields(String... names) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String name : names) {
+            fields.put(name, name);
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -2,43 +2,43 @@ package com.catalogue.repository;
 
 import com.catalogue.model.CategoryItemCustomization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * Customizations of the current tenant; Hibernate adds the tenant key to every query (see TenantKeyResolver).
+ */
 @Repository
 public interface CategoryItemCustomizationRepository extends JpaRepository<CategoryItemCustomization, Long> {
 
     /**
-     * Find all customizations for a specific tenant
+     * Find all active customizations
      */
-    List<CategoryItemCustomization> findByTenantId(String tenantId);
+    List<CategoryItemCustomization> findByActiveIsTrue();
 
     /**
-     * Find all active customizations for a specific tenant
+     * Find customizations by category item ID. Compares the foreign key column, where a derived query would
+     * join the category items table.
      */
-    List<CategoryItemCustomization> findByTenantIdAndActiveIsTrue(String tenantId);
+    @Query("SELECT cic FROM CategoryItemCustomization cic WHERE cic.categoryItem.id = :categoryItemId")
+    List<CategoryItemCustomization> findByCategoryItemId(@Param("categoryItemId") Long categoryItemId);
 
     /**
-     * Find a customization by ID for a specific tenant
+     * Find active customizations by category item ID
      */
-    Optional<CategoryItemCustomization> findByIdAndTenantId(Long id, String tenantId);
+    @Query("SELECT cic FROM CategoryItemCustomization cic " +
+            "WHERE cic.categoryItem.id = :categoryItemId AND cic.active = true")
+    List<CategoryItemCustomization> findByCategoryItemIdAndActiveIsTrue(@Param("categoryItemId") Long categoryItemId);
 
     /**
-     * Find customizations by category item ID and tenant ID
+     * Check if a customization with the given name exists for a specific category item
      */
-    List<CategoryItemCustomization> findByCategoryItemIdAndTenantId(Long categoryItemId, String tenantId);
-
-    /**
-     * Find active customizations by category item ID and tenant ID
-     */
-    List<CategoryItemCustomization> findByCategoryItemIdAndTenantIdAndActiveIsTrue(
-            Long categoryItemId, String tenantId);
-
-    /**
-     * Check if a customization with the given name exists for a specific category item and tenant
-     */
-    boolean existsByNameAndCategoryItemIdAndTenantId(
-            String name, Long categoryItemId, String tenantId);
+    @Query("SELECT COUNT(cic) > 0 FROM CategoryItemCustomization cic " +
+            "WHERE cic.name = :name AND cic.categoryItem.id = :categoryItemId")
+    boolean existsByNameAndCategoryItemId(
+            @Param("name") String name,
+            @Param("categoryItemId") Long categoryItemId);
 }
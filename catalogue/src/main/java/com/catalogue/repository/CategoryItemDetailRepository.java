@@ -0,0 +1,118 @@
+package com.catalogue.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.catalogue.dto.CategoryItemDetailDTO;
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.dto.CustomizationDTO;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Read model for the detail view of a single category item, with its components and its active
+ * customizations and their components.
+ *
+ * <p>The view is assembled from exactly two projected queries, one for the item and its components and one
+ * for its customizations and theirs, so the number of statements does not grow with the number of
+ * customizations. Entities are never loaded into the persistence context.
+ */
+@Repository
+public class CategoryItemDetailRepository {
+
+    // Hibernate restricts both queries, including their joins, to the current tenant
+    private static final String ITEM_QUERY = "SELECT ci.id, ci.category.id, ci.name, ci.description, ci.basePrice, "
+            + "ci.imageUrl, ci.sku, ci.displayOrder, ci.active, " + ComponentRows.COLUMNS
+            + " FROM CategoryItem ci LEFT JOIN ci.components c"
+            + " WHERE ci.id = :itemId ORDER BY c.name, c.id";
+
+    private static final String CUSTOMIZATION_QUERY = "SELECT cust.id, cust.name, cust.priceAdjustment, "
+            + ComponentRows.COLUMNS
+            + " FROM CategoryItemCustomization cust LEFT JOIN cust.components c"
+            + " WHERE cust.categoryItem.id = :itemId AND cust.active = true"
+            + " ORDER BY cust.name, cust.id, c.name, c.id";
+
+    private static final int ITEM_COMPONENT_OFFSET = 9;
+    private static final int CUSTOMIZATION_COMPONENT_OFFSET = 3;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager Shared entity manager
+     */
+    public CategoryItemDetailRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find the detail view of a category item of the current tenant.
+     *
+     * @param itemId The category item ID
+     * @return The detail view, or empty if the tenant has no such item
+     */
+    public Optional<CategoryItemDetailDTO> findDetail(Long itemId) {
+        List<Object[]> itemRows = entityManager.createQuery(ITEM_QUERY, Object[].class)
+                .setParameter("itemId", itemId)
+                .getResultList();
+
+        Optional<CategoryItemDetailDTO> result = Optional.empty();
+        if (!itemRows.isEmpty()) {
+            CategoryItemDetailDTO detail = toItem(itemRows.get(0));
+            for (Object[] row : itemRows) {
+                addComponent(detail.getComponents(), row, ITEM_COMPONENT_OFFSET);
+            }
+            detail.setCustomizations(findCustomizations(itemId));
+            result = Optional.of(detail);
+        }
+        return result;
+    }
+
+    private List<CustomizationDTO> findCustomizations(Long itemId) {
+        List<Object[]> rows = entityManager.createQuery(CUSTOMIZATION_QUERY, Object[].class)
+                .setParameter("itemId", itemId)
+                .getResultList();
+
+        // Rows arrive grouped by customization, one per component
+        Map<Long, CustomizationDTO> customizations = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            CustomizationDTO customization = customizations.computeIfAbsent((Long) row[0], id -> {
+                CustomizationDTO dto = new CustomizationDTO();
+                dto.setId(id);
+                dto.setName((String) row[1]);
+                dto.setPriceAdjustment((BigDecimal) row[2]);
+                return dto;
+            });
+            addComponent(customization.getComponents(), row, CUSTOMIZATION_COMPONENT_OFFSET);
+        }
+        return new ArrayList<>(customizations.values());
+    }
+
+    private static CategoryItemDetailDTO toItem(Object... row) {
+        CategoryItemDetailDTO dto = new CategoryItemDetailDTO();
+        dto.setId((Long) row[0]);
+        dto.setCategoryId((Long) row[1]);
+        dto.setName((String) row[2]);
+        dto.setDescription((String) row[3]);
+        dto.setBasePrice((BigDecimal) row[4]);
+        dto.setImageUrl((String) row[5]);
+        dto.setSku((String) row[6]);
+        dto.setDisplayOrder((Integer) row[7]);
+        dto.setActive((Boolean) row[8]);
+        return dto;
+    }
+
+    private static void addComponent(List<ComponentDTO> components, Object[] row, int offset) {
+        ComponentDTO component = ComponentRows.toComponent(row, offset);
+        if (component != null) {
+            components.add(component);
+        }
+    }
+}
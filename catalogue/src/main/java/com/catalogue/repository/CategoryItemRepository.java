@@ -2,46 +2,62 @@ package com.catalogue.repository;
 
 import com.catalogue.model.CategoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * Category items of the current tenant; Hibernate adds the tenant key to every query (see TenantKeyResolver).
+ */
 @Repository
 public interface CategoryItemRepository extends JpaRepository<CategoryItem, Long> {
 
     /**
-     * Find all category items for a specific tenant, ordered by display order
+     * Find all category items, ordered by display order
      */
-    List<CategoryItem> findByTenantIdOrderByDisplayOrderAsc(String tenantId);
+    List<CategoryItem> findAllByOrderByDisplayOrderAsc();
 
     /**
-     * Find all active category items for a specific tenant, ordered by display order
+     * Find all active category items, ordered by display order
      */
-    List<CategoryItem> findByTenantIdAndActiveIsTrueOrderByDisplayOrderAsc(String tenantId);
+    List<CategoryItem> findByActiveIsTrueOrderByDisplayOrderAsc();
 
     /**
-     * Find a category item by ID for a specific tenant
+     * Find category items by category ID. Compares the foreign key column, where a derived query would
+     * join the categories table.
      */
-    Optional<CategoryItem> findByIdAndTenantId(Long id, String tenantId);
+    @Query("SELECT ci FROM CategoryItem ci WHERE ci.category.id = :categoryId")
+    List<CategoryItem> findByCategoryId(@Param("categoryId") Long categoryId);
 
     /**
-     * Find category items by category ID and tenant ID
+     * Find active category items by category ID
      */
-    List<CategoryItem> findByCategoryIdAndTenantId(Long categoryId, String tenantId);
+    @Query("SELECT ci FROM CategoryItem ci WHERE ci.category.id = :categoryId AND ci.active = true")
+    List<CategoryItem> findByCategoryIdAndActiveIsTrue(@Param("categoryId") Long categoryId);
 
     /**
-     * Find active category items by category ID and tenant ID
+     * Check if a category item with the given name exists
      */
-    List<CategoryItem> findByCategoryIdAndTenantIdAndActiveIsTrue(Long categoryId, String tenantId);
+    boolean existsByName(String name);
 
     /**
-     * Check if a category item with the given name exists for a specific tenant
+     * Check if a category item with the given SKU exists
      */
-    boolean existsByNameAndTenantId(String name, String tenantId);
+    boolean existsBySku(String sku);
 
     /**
-     * Check if a category item with the given SKU exists for a specific tenant
+     * Find the searchable fields of all active category items, as (ID, category ID, name, description, base price)
+     * rows
      */
-    boolean existsBySkuAndTenantId(String sku, String tenantId);
+    @Query("SELECT ci.id, ci.category.id, ci.name, ci.description, ci.basePrice FROM CategoryItem ci"
+            + " WHERE ci.active = true ORDER BY ci.id")
+    List<Object[]> findActiveSearchFields();
+
+    /**
+     * Find the names of all active category items, as (ID, name, display order) rows
+     */
+    @Query("SELECT ci.id, ci.name, ci.displayOrder FROM CategoryItem ci WHERE ci.active = true")
+    List<Object[]> findActiveAutocompleteFields();
 }
@@ -1,27 +1,33 @@
 package com.catalogue.repository;
 
 import com.catalogue.model.Category;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * Categories of the current tenant; Hibernate adds the tenant key to every query (see TenantKeyResolver).
+ */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     /**
-     * Find all categories for a specific tenant, ordered by display order
+     * Find all categories, ordered by display order
      */
-    List<Category> findByTenantIdOrderByDisplayOrderAsc(String tenantId);
+    List<Category> findAllByOrderByDisplayOrderAsc();
 
     /**
-     * Find a category by ID for a specific tenant
+     * Find all categories together with their items, ordered by display order.
+     * The items are fetched in the same statement, so building the category tree costs a single
+     * round trip regardless of how many categories the tenant has.
      */
-    Optional<Category> findByIdAndTenantId(Long id, String tenantId);
+    @EntityGraph(attributePaths = "categoryItems")
+    List<Category> findWithItemsByOrderByDisplayOrderAsc();
 
     /**
-     * Check if a category with the given name exists for a specific tenant
+     * Check if a category with the given name exists
      */
-    boolean existsByNameAndTenantId(String name, String tenantId);
+    boolean existsByName(String name);
 }
@@ -0,0 +1,87 @@
+package com.catalogue.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.catalogue.dto.ComponentDTO;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Loads the components of many category items or customizations at once, through the
+ * {@code category_item_components} and {@code customization_components} link tables.
+ *
+ * <p>IDs are deduplicated and queried in chunks of at most {@link #MAX_CHUNK_SIZE}. Hibernate pads each IN list
+ * to the next power of two ({@code hibernate.query.in_clause_parameter_padding}), so the number of distinct
+ * statements stays small and they keep hitting the prepared statement cache whatever the number of IDs
+ * requested.
+ */
+@Repository
+public class ComponentBatchRepository {
+
+    /**
+     * Largest number of IDs bound in one statement, a power of two so padding never goes past it.
+     */
+    public static final int MAX_CHUNK_SIZE = 256;
+
+    // Hibernate restricts both queries, including their joins, to the current tenant
+    private static final String ITEM_COMPONENTS_QUERY = "SELECT ci.id, " + ComponentRows.COLUMNS
+            + " FROM CategoryItem ci JOIN ci.components c WHERE ci.id IN :ids ORDER BY c.name, c.id";
+
+    private static final String CUSTOMIZATION_COMPONENTS_QUERY = "SELECT cust.id, " + ComponentRows.COLUMNS
+            + " FROM CategoryItemCustomization cust JOIN cust.components c WHERE cust.id IN :ids"
+            + " ORDER BY c.name, c.id";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager Shared entity manager
+     */
+    public ComponentBatchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find the components of category items of the current tenant.
+     *
+     * @param categoryItemIds The category item IDs, duplicates allowed
+     * @return Components by category item ID, in name order; items without components are absent
+     */
+    public Map<Long, List<ComponentDTO>> findByCategoryItemIds(Collection<Long> categoryItemIds) {
+        return findByOwnerIds(ITEM_COMPONENTS_QUERY, categoryItemIds);
+    }
+
+    /**
+     * Find the components of customizations of the current tenant.
+     *
+     * @param customizationIds The customization IDs, duplicates allowed
+     * @return Components by customization ID, in name order; customizations without components are absent
+     */
+    public Map<Long, List<ComponentDTO>> findByCustomizationIds(Collection<Long> customizationIds) {
+        return findByOwnerIds(CUSTOMIZATION_COMPONENTS_QUERY, customizationIds);
+    }
+
+    private Map<Long, List<ComponentDTO>> findByOwnerIds(String query, Collection<Long> ownerIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(ownerIds));
+        Map<Long, List<ComponentDTO>> components = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_CHUNK_SIZE, ids.size()));
+            List<Object[]> rows = entityManager.createQuery(query, Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            for (Object[] row : rows) {
+                components.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(ComponentRows.toComponent(row, 1));
+            }
+        }
+        return components;
+    }
+}
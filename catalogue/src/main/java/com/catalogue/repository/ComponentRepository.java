@@ -7,52 +7,59 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Components of the current tenant; Hibernate adds the tenant key to every query (see TenantKeyResolver).
+ */
 @Repository
 public interface ComponentRepository extends JpaRepository<Component, Long> {
 
     /**
-     * Find all components for a specific tenant
+     * Find components by their IDs
      */
-    List<Component> findByTenantId(String tenantId);
+    List<Component> findByIdIn(Set<Long> ids);
 
     /**
-     * Find a component by ID for a specific tenant
+     * Check if a component with the given name exists
      */
-    Optional<Component> findByIdAndTenantId(Long id, String tenantId);
+    boolean existsByName(String name);
 
     /**
-     * Find components by their IDs and tenant ID
+     * Find all allergenic components
      */
-    List<Component> findByIdInAndTenantId(Set<Long> ids, String tenantId);
+    List<Component> findByIsAllergenicIsTrue();
 
     /**
-     * Check if a component with the given name exists for a specific tenant
+     * Find components by category item ID; joined from the item, whose tenant key the link rows are joined on
      */
-    boolean existsByNameAndTenantId(String name, String tenantId);
+    @Query("SELECT c FROM CategoryItem ci JOIN ci.components c WHERE ci.id = :categoryItemId")
+    List<Component> findByCategoryItemId(@Param("categoryItemId") Long categoryItemId);
 
     /**
-     * Find all allergenic components for a specific tenant
+     * Find components by customization ID; joined from the customization, like findByCategoryItemId
      */
-    List<Component> findByIsAllergenicIsTrueAndTenantId(String tenantId);
+    @Query("SELECT c FROM CategoryItemCustomization cust JOIN cust.components c WHERE cust.id = :customizationId")
+    List<Component> findByCustomizationId(@Param("customizationId") Long customizationId);
 
     /**
-     * Find components by category item ID and tenant ID
+     * Find the allergen info of the allergenic components of every category item, as (item ID, allergen info)
+     * rows
      */
-    @Query("SELECT c FROM Component c JOIN c.categoryItems ci " +
-            "WHERE ci.id = :categoryItemId AND c.tenantId = :tenantId")
-    List<Component> findByCategoryItemIdAndTenantId(
-            @Param("categoryItemId") Long categoryItemId,
-            @Param("tenantId") String tenantId);
+    @Query("SELECT ci.id, c.allergenInfo FROM CategoryItem ci JOIN ci.components c WHERE c.isAllergenic = true")
+    List<Object[]> findCategoryItemAllergens();
 
     /**
-     * Find components by customization ID and tenant ID
+     * Find the allergen info of the allergenic components of every customization, as (customization ID,
+     * allergen info) rows
      */
-    @Query("SELECT c FROM Component c JOIN c.customizations cust " +
-            "WHERE cust.id = :customizationId AND c.tenantId = :tenantId")
-    List<Component> findByCustomizationIdAndTenantId(
-            @Param("customizationId") Long customizationId,
-            @Param("tenantId") String tenantId);
+    @Query("SELECT cust.id, c.allergenInfo FROM CategoryItemCustomization cust JOIN cust.components c"
+            + " WHERE c.isAllergenic = true")
+    List<Object[]> findCustomizationAllergens();
+
+    /**
+     * Find the names of the components of active category items, as (component ID, name) rows
+     */
+    @Query("SELECT DISTINCT c.id, c.name FROM CategoryItem ci JOIN ci.components c WHERE ci.active = true")
+    List<Object[]> findActiveItemComponentNames();
 }
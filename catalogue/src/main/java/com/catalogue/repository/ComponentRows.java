@@ -0,0 +1,41 @@
+package com.catalogue.repository;
+
+import java.math.BigDecimal;
+
+import com.catalogue.dto.ComponentDTO;
+
+/**
+ * Maps the component columns of projected query rows, selected in the order of {@link #COLUMNS}.
+ */
+final class ComponentRows {
+
+    /**
+     * Component columns of a JPQL projection, for a component aliased {@code c}.
+     */
+    static final String COLUMNS = "c.id, c.name, c.description, c.cost, c.isAllergenic, c.allergenInfo";
+
+    private ComponentRows() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Map the component in the columns starting at the offset.
+     *
+     * @param row The projected row
+     * @param offset Index of the component ID in the row
+     * @return The component, or null if a left join found none
+     */
+    static ComponentDTO toComponent(Object[] row, int offset) {
+        ComponentDTO dto = null;
+        if (row[offset] != null) {
+            dto = new ComponentDTO();
+            dto.setId((Long) row[offset]);
+            dto.setName((String) row[offset + 1]);
+            dto.setDescription((String) row[offset + 2]);
+            dto.setCost((BigDecimal) row[offset + 3]);
+            dto.setAllergenic((Boolean) row[offset + 4]);
+            dto.setAllergenInfo((String) row[offset + 5]);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,303 @@
+package com.catalogue.search;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.catalogue.dto.AutocompleteSuggestionDTO;
+
+/**
+ * Prefix index over the names of a tenant's active category items and of their components, for autocomplete.
+ *
+ * <p>Names are normalized (lower-cased, every run of characters other than letters and digits turned into one
+ * space) and inserted into a trie from the start of each of their words, so a prefix matches a name wherever one
+ * of its words starts. The trie is flattened into parallel arrays in breadth-first order: the children of a node
+ * sit next to each other, sorted by label, and are found with a binary search. Every node also holds the best
+ * ranked suggestions below it, shared with its parent when they are the same, so a lookup walks one node per
+ * prefix character and copies out a precomputed list, whatever the number of names. Items rank before
+ * components, items by display order and components by name. Instances are immutable.
+ */
+public final class AutocompleteIndex {
+
+    /**
+     * Largest number of suggestions kept for a prefix.
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final char SEPARATOR = ' ';
+
+    private static final Comparator<Suggestion> ITEM_RANKING =
+            Comparator.comparing(Suggestion::displayOrder, nullsLast(naturalOrder()))
+                    .thenComparing(Suggestion::name, nullsLast(naturalOrder()))
+                    .thenComparing(Suggestion::id);
+    private static final Comparator<Suggestion> COMPONENT_RANKING =
+            Comparator.comparing(Suggestion::name, nullsLast(naturalOrder()))
+                    .thenComparing(Suggestion::id);
+
+    // Declared after the rankings, which building it uses
+    /**
+     * Index of a tenant without active items.
+     */
+    public static final AutocompleteIndex EMPTY = build(List.of(), List.of());
+
+    private final Suggestion[] suggestions;
+    private final char[] labels;
+    private final int[] firstChildren;
+    private final int[] childCounts;
+    private final int[] rankedStarts;
+    private final int[] rankedCounts;
+    private final int[] ranked;
+
+    @SuppressWarnings("PMD.UseVarargs") // The node arrays are parallel to each other, not a variable list
+    private AutocompleteIndex(Suggestion[] suggestions, char[] labels, int[] firstChildren, int[] childCounts,
+                              int[] rankedStarts, int[] rankedCounts, int[] ranked) {
+        this.suggestions = suggestions;
+        this.labels = labels;
+        this.firstChildren = firstChildren;
+        this.childCounts = childCounts;
+        this.rankedStarts = rankedStarts;
+        this.rankedCounts = rankedCounts;
+        this.ranked = ranked;
+    }
+
+    /**
+     * Build an index from item and component rows.
+     *
+     * @param itemRows Rows of (item ID, name, display order)
+     * @param componentRows Rows of (component ID, name)
+     * @return The index
+     */
+    public static AutocompleteIndex build(List<Object[]> itemRows, List<Object[]> componentRows) {
+        List<Suggestion> ranking = new ArrayList<>(itemRows.size() + componentRows.size());
+        itemRows.stream()
+                .map(row -> new Suggestion(AutocompleteSuggestionDTO.TYPE_ITEM, (Long) row[0], (String) row[1],
+                        (Integer) row[2]))
+                .sorted(ITEM_RANKING)
+                .forEach(ranking::add);
+        componentRows.stream()
+                .map(row -> new Suggestion(AutocompleteSuggestionDTO.TYPE_COMPONENT, (Long) row[0],
+                        (String) row[1], null))
+                .sorted(COMPONENT_RANKING)
+                .forEach(ranking::add);
+        Suggestion[] suggestions = ranking.toArray(new Suggestion[0]);
+
+        // Suggestions are inserted best first, so every node collects its best ranked suggestions first
+        BuildNode root = new BuildNode(SEPARATOR);
+        int nodeCount = 1;
+        for (int s = 0; s < suggestions.length; s++) {
+            String key = normalize(suggestions[s].name());
+            for (int start = 0; start < key.length(); start = nextWord(key, start)) {
+                nodeCount += root.insert(key, start, s);
+            }
+        }
+        return flatten(suggestions, root, nodeCount);
+    }
+
+    /**
+     * Find the best ranked names with a word starting with a prefix. Letters are compared ignoring case, and
+     * any run of other characters matches any run of other characters in a name.
+     *
+     * @param prefix The text typed so far
+     * @param limit Maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}
+     * @return The matching suggestions, best ranked first
+     */
+    public List<AutocompleteSuggestionDTO> complete(String prefix, int limit) {
+        int node = find(prefix);
+        List<AutocompleteSuggestionDTO> results = new ArrayList<>();
+        if (node > ROOT) {
+            int count = Math.min(limit, rankedCounts[node]);
+            for (int r = rankedStarts[node]; r < rankedStarts[node] + count; r++) {
+                results.add(suggestions[ranked[r]].toSuggestion());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get the number of indexed names.
+     *
+     * @return The number of names
+     */
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * Get the number of trie nodes, including the root.
+     *
+     * @return The number of nodes
+     */
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    /**
+     * Walk the trie along the normalized prefix, without building the normalized string.
+     */
+    private int find(String prefix) {
+        int node = ROOT;
+        boolean pendingSeparator = false;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSeparator) {
+                    node = child(node, SEPARATOR);
+                    pendingSeparator = false;
+                }
+                node = child(node, Character.toLowerCase(c));
+            } else {
+                // Leading separators are dropped, like in the indexed names
+                pendingSeparator = node != ROOT;
+            }
+        }
+        // A trailing separator only matches names with another word after the prefix
+        return pendingSeparator ? child(node, SEPARATOR) : node;
+    }
+
+    private int child(int node, char label) {
+        int child = NONE;
+        if (node != NONE) {
+            int first = firstChildren[node];
+            int found = Arrays.binarySearch(labels, first, first + childCounts[node], label);
+            child = found >= 0 ? found : NONE;
+        }
+        return child;
+    }
+
+    private static AutocompleteIndex flatten(Suggestion[] suggestions, BuildNode root, int nodeCount) {
+        char[] labels = new char[nodeCount];
+        int[] firstChildren = new int[nodeCount];
+        int[] childCounts = new int[nodeCount];
+        int[] rankedStarts = new int[nodeCount];
+        int[] rankedCounts = new int[nodeCount];
+        int[] parents = new int[nodeCount];
+        int[] ranked = new int[nodeCount];
+        int rankedLength = 0;
+
+        BuildNode[] queue = new BuildNode[nodeCount];
+        queue[ROOT] = root;
+        int tail = 1;
+        for (int n = 0; n < nodeCount; n++) {
+            BuildNode node = queue[n];
+            queue[n] = null;
+            labels[n] = node.label;
+            firstChildren[n] = tail;
+            childCounts[n] = node.children.size();
+            for (BuildNode child : node.children.values()) {
+                parents[tail] = n;
+                queue[tail++] = child;
+            }
+
+            // Along a path with a single name, every node has the same suggestions as its parent
+            int parentStart = rankedStarts[parents[n]];
+            int parentEnd = parentStart + rankedCounts[parents[n]];
+            if (n != ROOT && Arrays.equals(ranked, parentStart, parentEnd, node.ranked, 0, node.rankedCount)) {
+                rankedStarts[n] = parentStart;
+            } else {
+                if (rankedLength + node.rankedCount > ranked.length) {
+                    ranked = Arrays.copyOf(ranked, Math.max(2 * ranked.length, rankedLength + node.rankedCount));
+                }
+                System.arraycopy(node.ranked, 0, ranked, rankedLength, node.rankedCount);
+                rankedStarts[n] = rankedLength;
+                rankedLength += node.rankedCount;
+            }
+            rankedCounts[n] = node.rankedCount;
+        }
+        return new AutocompleteIndex(suggestions, labels, firstChildren, childCounts, rankedStarts, rankedCounts,
+                Arrays.copyOf(ranked, rankedLength));
+    }
+
+    /**
+     * Lower-case a name and turn every run of characters other than letters and digits into one separator,
+     * dropping leading and trailing ones.
+     */
+    private static String normalize(String name) {
+        StringBuilder key = new StringBuilder();
+        if (name != null) {
+            boolean pendingSeparator = false;
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    if (pendingSeparator) {
+                        key.append(SEPARATOR);
+                        pendingSeparator = false;
+                    }
+                    key.append(Character.toLowerCase(c));
+                } else {
+                    pendingSeparator = key.length() > 0;
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static int nextWord(String key, int start) {
+        int separator = key.indexOf(SEPARATOR, start);
+        return separator < 0 ? key.length() : separator + 1;
+    }
+
+    /**
+     * A trie node while the index is built.
+     */
+    private static final class BuildNode {
+
+        private final char label;
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final int[] ranked = new int[MAX_SUGGESTIONS];
+        private int rankedCount;
+
+        BuildNode(char label) {
+            this.label = label;
+        }
+
+        /**
+         * Insert the key from a start index below this node, ranking the suggestion on every node passed.
+         *
+         * @return The number of nodes created
+         */
+        int insert(String key, int start, int suggestion) {
+            int created = 0;
+            BuildNode node = this;
+            for (int i = start; i < key.length(); i++) {
+                BuildNode child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    child = new BuildNode(key.charAt(i));
+                    node.children.put(child.label, child);
+                    created++;
+                }
+                child.rank(suggestion);
+                node = child;
+            }
+            return created;
+        }
+
+        private void rank(int suggestion) {
+            // All keys of a suggestion are inserted in a row, so a repeat can only be the last one ranked
+            if (rankedCount < MAX_SUGGESTIONS && (rankedCount == 0 || ranked[rankedCount - 1] != suggestion)) {
+                ranked[rankedCount++] = suggestion;
+            }
+        }
+    }
+
+    /**
+     * An indexed name.
+     */
+    private record Suggestion(String type, Long id, String name, Integer displayOrder) {
+
+        AutocompleteSuggestionDTO toSuggestion() {
+            AutocompleteSuggestionDTO dto = new AutocompleteSuggestionDTO();
+            dto.setType(type);
+            dto.setId(id);
+            dto.setName(name);
+            return dto;
+        }
+    }
+}
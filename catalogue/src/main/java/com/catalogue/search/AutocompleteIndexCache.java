@@ -0,0 +1,94 @@
+package com.catalogue.search;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.catalogue.cache.TenantRebuildCache;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.repository.CategoryItemRepository;
+import com.catalogue.repository.ComponentRepository;
+import com.common.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-tenant {@link AutocompleteIndex}, built from the tenant's active items and their components on first use.
+ *
+ * <p>After a change to a tenant's catalogue has committed, its index is rebuilt on a background worker and
+ * replaced in one step, while lookups keep using the previous one, so keystrokes never wait for a rebuild.
+ * Indexes are held in a {@link TenantRebuildCache} bounded by
+ * {@code catalogue.cache.autocomplete-index.maximum-size} and {@code ttl-seconds}.
+ */
+@Component
+public class AutocompleteIndexCache {
+
+    private final TenantRebuildCache<AutocompleteIndex> indexes;
+    private final CategoryItemRepository categoryItemRepository;
+    private final ComponentRepository componentRepository;
+
+    /**
+     * Constructor.
+     *
+     * @param categoryItemRepository Repository providing the item names
+     * @param componentRepository Repository providing the component names
+     * @param tenantContextHolder Holder for the tenant context of builds
+     * @param maximumSize Maximum number of tenants whose index is kept
+     * @param ttlSeconds Time after which an index is dropped and built again on the next lookup, in seconds
+     * @param loadTimeoutMillis Time a lookup waits for an index built by a concurrent lookup, in milliseconds
+     */
+    public AutocompleteIndexCache(CategoryItemRepository categoryItemRepository,
+                                  ComponentRepository componentRepository,
+                                  TenantContextHolder tenantContextHolder,
+                                  @Value("${catalogue.cache.autocomplete-index.maximum-size:1000}") long maximumSize,
+                                  @Value("${catalogue.cache.autocomplete-index.ttl-seconds:3600}") long ttlSeconds,
+                                  @Value("${catalogue.cache.autocomplete-index.load-timeout-ms:5000}")
+                                  long loadTimeoutMillis) {
+        this.categoryItemRepository = categoryItemRepository;
+        this.componentRepository = componentRepository;
+        this.indexes = new TenantRebuildCache<>("autocomplete index", tenantContextHolder, tenantId -> build(),
+                maximumSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(loadTimeoutMillis),
+                TenantRebuildCache.rebuildWorker("catalogue-autocomplete-index"), Ticker.systemTicker(),
+                current -> { });
+    }
+
+    /**
+     * Get the autocomplete index of a tenant, building it on first access.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's autocomplete index
+     */
+    public AutocompleteIndex get(String tenantId) {
+        return indexes.get(tenantId);
+    }
+
+    /**
+     * Rebuild the tenant's index in the background once a catalogue change has committed. Tenants that have
+     * not used autocomplete yet are left to build their index on first use.
+     *
+     * @param event The catalogue change event
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        indexes.rebuild(event.getTenantId());
+    }
+
+    /**
+     * Stop the background rebuild worker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        indexes.shutdown();
+    }
+
+    private AutocompleteIndex build() {
+        return AutocompleteIndex.build(categoryItemRepository.findActiveAutocompleteFields(),
+                componentRepository.findActiveItemComponentNames());
+    }
+}
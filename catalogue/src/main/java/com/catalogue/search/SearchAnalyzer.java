@@ -0,0 +1,62 @@
+package com.catalogue.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns item text and search queries into index terms: lower-cased runs of letters and digits, without common
+ * English stop words, with plurals reduced to their singular form.
+ */
+public final class SearchAnalyzer {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to",
+            "with");
+
+    private SearchAnalyzer() {
+    }
+
+    /**
+     * Split text into index terms.
+     *
+     * @param text The text, or null
+     * @return The terms in text order, duplicates included
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text != null) {
+            for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Reduce an English plural to its singular form, so {@code tomatoes}, {@code berries} and {@code sauces}
+     * match {@code tomato}, {@code berry} and {@code sauce}. Words too short to be plurals are left as they are.
+     *
+     * @param token A lower-cased token
+     * @return The stem
+     */
+    public static String stem(String token) {
+        String stem = token;
+        int length = token.length();
+        if (length > 4 && token.endsWith("ies") && !token.endsWith("eies") && !token.endsWith("aies")) {
+            stem = token.substring(0, length - 3) + "y";
+        } else if (length > 4 && (token.endsWith("oes") || token.endsWith("ches") || token.endsWith("shes")
+                || token.endsWith("sses") || token.endsWith("xes"))) {
+            stem = token.substring(0, length - 2);
+        } else if (length > 3 && token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")
+                && !token.endsWith("is")) {
+            stem = token.substring(0, length - 1);
+        }
+        return stem;
+    }
+}
@@ -0,0 +1,198 @@
+package com.catalogue.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.catalogue.dto.ItemSearchResultDTO;
+
+/**
+ * Inverted index over the names and descriptions of a tenant's active category items.
+ *
+ * <p>Terms (see {@link SearchAnalyzer}) are kept sorted, so every query term matches the index terms it is a
+ * prefix of with a binary search; exact matches score higher than prefix matches. An item matches a query when
+ * it matches every query term, and is scored by summing, for each query term, the weight of its best matching
+ * index term times that term's inverse document frequency. Name matches weigh more than description matches.
+ * The index holds the fields it returns, so searches never touch the database. Instances are immutable.
+ */
+public final class SearchIndex {
+
+    /**
+     * Index of a tenant without active items.
+     */
+    public static final SearchIndex EMPTY = build(List.of());
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float PREFIX_DISCOUNT = 0.5f;
+
+    // Rough JVM sizes used for the memory estimate
+    private static final long OBJECT_BYTES = 16;
+    private static final long REFERENCE_BYTES = 8;
+    private static final long DOCUMENT_BYTES = OBJECT_BYTES + 5 * REFERENCE_BYTES + 3 * 24;
+
+    private final Document[] documents;
+    private final String[] terms;
+    private final int[][] postingDocuments;
+    private final float[][] postingWeights;
+    private final long estimatedBytes;
+
+    @SuppressWarnings("PMD.UseVarargs") // The posting arrays are parallel to the terms, not a variable list
+    private SearchIndex(Document[] documents, String[] terms, int[][] postingDocuments, float[][] postingWeights) {
+        this.documents = documents;
+        this.terms = terms;
+        this.postingDocuments = postingDocuments;
+        this.postingWeights = postingWeights;
+        this.estimatedBytes = estimateBytes();
+    }
+
+    /**
+     * Build an index from item rows.
+     *
+     * @param rows Rows of (item ID, category ID, name, description, base price)
+     * @return The index
+     */
+    public static SearchIndex build(List<Object[]> rows) {
+        Document[] documents = new Document[rows.size()];
+        Map<String, Map<Integer, Float>> postings = new TreeMap<>();
+        for (int i = 0; i < documents.length; i++) {
+            Object[] row = rows.get(i);
+            Document document = new Document((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                    (BigDecimal) row[4]);
+            documents[i] = document;
+            addField(postings, i, document.name(), NAME_WEIGHT);
+            addField(postings, i, document.description(), DESCRIPTION_WEIGHT);
+        }
+
+        String[] terms = new String[postings.size()];
+        int[][] postingDocuments = new int[terms.length][];
+        float[][] postingWeights = new float[terms.length][];
+        int t = 0;
+        for (Map.Entry<String, Map<Integer, Float>> entry : postings.entrySet()) {
+            terms[t] = entry.getKey();
+            // Documents were added in index order, so each posting list is sorted
+            postingDocuments[t] = entry.getValue().keySet().stream().mapToInt(Integer::intValue).toArray();
+            postingWeights[t] = new float[postingDocuments[t].length];
+            int p = 0;
+            for (Float weight : entry.getValue().values()) {
+                postingWeights[t][p++] = weight;
+            }
+            t++;
+        }
+        return new SearchIndex(documents, terms, postingDocuments, postingWeights);
+    }
+
+    /**
+     * Find the items matching every term of a query, best match first.
+     *
+     * @param query The query text
+     * @param limit Maximum number of results
+     * @return The matching items, by descending score, then name and ID
+     */
+    public List<ItemSearchResultDTO> search(String query, int limit) {
+        Map<Integer, Float> scores = null;
+        for (String queryTerm : new LinkedHashSet<>(SearchAnalyzer.analyze(query))) {
+            Map<Integer, Float> termScores = score(queryTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // Keep the items that match every term so far
+                Map<Integer, Float> matched = scores;
+                matched.keySet().retainAll(termScores.keySet());
+                termScores.forEach((document, score) -> matched.computeIfPresent(document, (d, s) -> s + score));
+            }
+        }
+
+        List<ItemSearchResultDTO> results = new ArrayList<>();
+        if (scores != null) {
+            scores.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<Integer, Float>>comparingDouble(Map.Entry::getValue).reversed()
+                            .thenComparing(entry -> documents[entry.getKey()].name(),
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(entry -> documents[entry.getKey()].id()))
+                    .limit(limit)
+                    .forEach(entry -> results.add(documents[entry.getKey()].toResult(entry.getValue())));
+        }
+        return results;
+    }
+
+    /**
+     * Get the number of indexed items.
+     *
+     * @return The number of items
+     */
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * Get the estimated heap used by the index, from the sizes of its strings and arrays.
+     *
+     * @return The estimated size, in bytes
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private long estimateBytes() {
+        long bytes = 4 * (OBJECT_BYTES + 4 + REFERENCE_BYTES * documents.length);
+        for (Document document : documents) {
+            bytes += DOCUMENT_BYTES + stringBytes(document.name()) + stringBytes(document.description());
+        }
+        for (int t = 0; t < terms.length; t++) {
+            bytes += stringBytes(terms[t]) + 2 * (OBJECT_BYTES + 4 + 4L * postingDocuments[t].length);
+        }
+        return bytes;
+    }
+
+    /**
+     * Score the items matching one query term, exactly or as a prefix, by their best matching index term.
+     */
+    private Map<Integer, Float> score(String queryTerm) {
+        Map<Integer, Float> scores = new HashMap<>();
+        int found = Arrays.binarySearch(terms, queryTerm);
+        for (int t = found >= 0 ? found : -found - 1; t < terms.length && terms[t].startsWith(queryTerm); t++) {
+            float idf = (float) Math.log(1 + (double) documents.length / postingDocuments[t].length);
+            float factor = terms[t].length() == queryTerm.length() ? idf : idf * PREFIX_DISCOUNT;
+            for (int p = 0; p < postingDocuments[t].length; p++) {
+                scores.merge(postingDocuments[t][p], postingWeights[t][p] * factor, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private static void addField(Map<String, Map<Integer, Float>> postings, int document, String text,
+                                 float weight) {
+        for (String term : SearchAnalyzer.analyze(text)) {
+            postings.computeIfAbsent(term, key -> new LinkedHashMap<>()).merge(document, weight, Float::sum);
+        }
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : OBJECT_BYTES + 24 + value.length();
+    }
+
+    /**
+     * The fields of an indexed item.
+     */
+    private record Document(Long id, Long categoryId, String name, String description, BigDecimal basePrice) {
+
+        ItemSearchResultDTO toResult(float score) {
+            ItemSearchResultDTO dto = new ItemSearchResultDTO();
+            dto.setId(id);
+            dto.setCategoryId(categoryId);
+            dto.setName(name);
+            dto.setDescription(description);
+            dto.setBasePrice(basePrice);
+            dto.setScore(score);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.catalogue.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.catalogue.cache.TenantRebuildCache;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.repository.CategoryItemRepository;
+import com.common.tenant.TenantContextHolder;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-tenant {@link SearchIndex}, built from the tenant's active items on first search.
+ *
+ * <p>After a change to a tenant's catalogue has committed, its index is rebuilt in the background while
+ * searches keep using the previous one, so searches only reach the database for a tenant's very first query.
+ * Indexes are held in a {@link TenantRebuildCache} bounded by {@code catalogue.cache.search-index.maximum-size}
+ * and {@code ttl-seconds}. The estimated size of each tenant's index is published as
+ * {@code catalogue.search.index.memory}.
+ */
+@Component
+public class SearchIndexCache {
+
+    private final TenantRebuildCache<SearchIndex> indexes;
+    private final CategoryItemRepository categoryItemRepository;
+    private final MultiGauge memory;
+
+    /**
+     * Constructor.
+     *
+     * @param categoryItemRepository Repository providing the searchable item fields
+     * @param tenantContextHolder Holder for the tenant context of builds
+     * @param meterRegistry Registry receiving the index size metrics
+     * @param maximumSize Maximum number of tenants whose index is kept
+     * @param ttlSeconds Time after which an index is dropped and built again on the next search, in seconds
+     * @param loadTimeoutMillis Time a search waits for an index built by a concurrent search, in milliseconds
+     */
+    public SearchIndexCache(CategoryItemRepository categoryItemRepository,
+                            TenantContextHolder tenantContextHolder, MeterRegistry meterRegistry,
+                            @Value("${catalogue.cache.search-index.maximum-size:1000}") long maximumSize,
+                            @Value("${catalogue.cache.search-index.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${catalogue.cache.search-index.load-timeout-ms:5000}") long loadTimeoutMillis) {
+        this.categoryItemRepository = categoryItemRepository;
+        this.memory = MultiGauge.builder("catalogue.search.index.memory")
+                .description("Estimated heap used by the search index of each tenant")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.indexes = new TenantRebuildCache<>("search index", tenantContextHolder, tenantId -> build(),
+                maximumSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(loadTimeoutMillis),
+                TenantRebuildCache.rebuildWorker("catalogue-search-index"), Ticker.systemTicker(),
+                this::publishMemory);
+    }
+
+    /**
+     * Get the search index of a tenant, building it on first access.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's search index
+     */
+    public SearchIndex get(String tenantId) {
+        return indexes.get(tenantId);
+    }
+
+    /**
+     * Rebuild the tenant's index in the background once a catalogue change has committed. Tenants that have
+     * not searched yet are left to build their index on first search.
+     *
+     * @param event The catalogue change event
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        indexes.rebuild(event.getTenantId());
+    }
+
+    /**
+     * Stop the background rebuild worker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        indexes.shutdown();
+    }
+
+    private SearchIndex build() {
+        return SearchIndex.build(categoryItemRepository.findActiveSearchFields());
+    }
+
+    private void publishMemory(Map<String, SearchIndex> current) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        current.forEach((tenantId, index) ->
+                rows.add(MultiGauge.Row.of(Tags.of("tenant", tenantId), index.estimatedBytes())));
+        memory.register(rows, true);
+    }
+}
@@ -0,0 +1,59 @@
+package com.catalogue.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.catalogue.annotation.Timed;
+import com.catalogue.dto.AutocompleteSuggestionDTO;
+import com.catalogue.exception.ValidationException;
+import com.catalogue.search.AutocompleteIndex;
+import com.catalogue.search.AutocompleteIndexCache;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Prefix autocomplete over the names of the current tenant's active items and their components, served from the
+ * tenant's in-memory {@link AutocompleteIndex}. Not transactional: a lookup only reaches the database when it
+ * builds the tenant's first index.
+ */
+@Service
+@Timed(value = "catalogue.autocomplete", description = "Autocomplete lookups", percentiles = {0.5, 0.95, 0.99})
+public class CatalogueAutocompleteService {
+
+    /**
+     * Number of suggestions returned when the client does not ask for a number.
+     */
+    public static final int DEFAULT_LIMIT = 8;
+
+    /**
+     * Largest number of suggestions a client may request.
+     */
+    public static final int MAX_LIMIT = AutocompleteIndex.MAX_SUGGESTIONS;
+
+    private final AutocompleteIndexCache autocompleteIndexCache;
+    private final TenantContextHolder tenantContextHolder;
+
+    public CatalogueAutocompleteService(AutocompleteIndexCache autocompleteIndexCache,
+                                        TenantContextHolder tenantContextHolder) {
+        this.autocompleteIndexCache = autocompleteIndexCache;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    /**
+     * Suggest item and component names of the current tenant with a word starting with the prefix
+     */
+    public List<AutocompleteSuggestionDTO> suggest(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ValidationException("Invalid autocomplete prefix", List.of("Prefix must not be blank"));
+        }
+        int resolvedLimit = DEFAULT_LIMIT;
+        if (limit != null) {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new ValidationException("Invalid suggestion limit",
+                        List.of("Limit must be between 1 and " + MAX_LIMIT));
+            }
+            resolvedLimit = limit;
+        }
+        return autocompleteIndexCache.get(tenantContextHolder.getTenantId()).complete(prefix, resolvedLimit);
+    }
+}
@@ -0,0 +1,212 @@
+package com.catalogue.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.catalogue.annotation.Timed;
+import com.catalogue.cache.AllergenIndex;
+import com.catalogue.cache.AllergenIndexCache;
+import com.catalogue.dto.CategoryItemDetailDTO;
+import com.catalogue.dto.CursorPage;
+import com.catalogue.exception.ResourceNotFoundException;
+import com.catalogue.exception.ValidationException;
+import com.catalogue.repository.CatalogueKeysetRepository;
+import com.catalogue.repository.CategoryItemDetailRepository;
+import com.catalogue.repository.ComponentBatchRepository;
+import com.catalogue.util.KeysetCursor;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Paginated, projected browsing of the catalogue for tenants too large to list in one response,
+ * and the detail view of a single item. Items and customizations can be filtered by allergen through the
+ * tenant's {@link AllergenIndex}. Item pages can include the components of their items, which are looked up
+ * for the whole page at once through a {@link ComponentLoader}.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "catalogue.browse", description = "Paginated catalogue listings", percentiles = {0.5, 0.95, 0.99})
+public class CatalogueBrowseService {
+
+    /**
+     * Page size used when the client does not ask for one.
+     */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Item field holding the item's components, returned only when asked for.
+     */
+    public static final String COMPONENTS_FIELD = "components";
+
+    /**
+     * Largest page size a client may request; bounds the memory used by a single request.
+     */
+    public static final int MAX_LIMIT = 200;
+
+    private final CatalogueKeysetRepository keysetRepository;
+    private final CategoryItemDetailRepository itemDetailRepository;
+    private final ComponentBatchRepository componentBatchRepository;
+    private final AllergenIndexCache allergenIndexCache;
+    private final TenantContextHolder tenantContextHolder;
+
+    public CatalogueBrowseService(CatalogueKeysetRepository keysetRepository,
+                                  CategoryItemDetailRepository itemDetailRepository,
+                                  ComponentBatchRepository componentBatchRepository,
+                                  AllergenIndexCache allergenIndexCache,
+                                  TenantContextHolder tenantContextHolder) {
+        this.keysetRepository = keysetRepository;
+        this.itemDetailRepository = itemDetailRepository;
+        this.componentBatchRepository = componentBatchRepository;
+        this.allergenIndexCache = allergenIndexCache;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    /**
+     * Get one page of categories for the current tenant
+     */
+    public CursorPage<Map<String, Object>> getCategoryPage(String cursor, Integer limit, String fields) {
+        return keysetRepository.findCategoryPage(
+                KeysetCursor.decode(cursor),
+                resolveLimit(limit),
+                resolveFields(fields, CatalogueKeysetRepository.CATEGORY_FIELDS, Set.of()));
+    }
+
+    /**
+     * Get one page of category items for the current tenant, leaving out items whose components contain any
+     * of the comma-separated excluded allergens, with their components if the fields ask for them
+     */
+    public CursorPage<Map<String, Object>> getItemPage(String cursor, Integer limit, String fields,
+                                                       String excludeAllergens) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int resolvedLimit = resolveLimit(limit);
+        List<String> requestedFields = resolveFields(fields, CatalogueKeysetRepository.ITEM_FIELDS,
+                Set.of(COMPONENTS_FIELD));
+        boolean withComponents = requestedFields.contains(COMPONENTS_FIELD);
+        List<String> resolvedFields = withComponents
+                ? requestedFields.stream().filter(field -> !COMPONENTS_FIELD.equals(field)).toList()
+                : requestedFields;
+        List<String> allergens = resolveAllergens(excludeAllergens);
+
+        CursorPage<Map<String, Object>> page;
+        if (allergens.isEmpty()) {
+            page = keysetRepository.findItemPage(after, resolvedLimit, resolvedFields);
+        } else {
+            AllergenIndex index = allergenIndexCache.get(tenantContextHolder.getTenantId());
+            BitSet excluded = excludedMask(index, allergens);
+            page = keysetRepository.findItemPage(after, resolvedLimit, resolvedFields,
+                    id -> !index.itemContainsAny(id, excluded));
+        }
+        if (withComponents) {
+            addComponents(page);
+        }
+        return page;
+    }
+
+    /**
+     * Get the detail view of a category item for the current tenant, leaving out customizations whose
+     * components contain any of the comma-separated excluded allergens
+     */
+    public CategoryItemDetailDTO getItemDetail(Long itemId, String excludeAllergens) {
+        CategoryItemDetailDTO detail = itemDetailRepository.findDetail(itemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category item not found with ID: " + itemId));
+        List<String> allergens = resolveAllergens(excludeAllergens);
+        if (!allergens.isEmpty()) {
+            AllergenIndex index = allergenIndexCache.get(tenantContextHolder.getTenantId());
+            BitSet excluded = excludedMask(index, allergens);
+            detail.getCustomizations().removeIf(
+                    customization -> index.customizationContainsAny(customization.getId(), excluded));
+        }
+        return detail;
+    }
+
+    /**
+     * Validate the requested page size, falling back to the default when none is given
+     */
+    private int resolveLimit(Integer limit) {
+        int resolved = DEFAULT_LIMIT;
+        if (limit != null) {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new ValidationException("Invalid page size",
+                        List.of("Limit must be between 1 and " + MAX_LIMIT));
+            }
+            resolved = limit;
+        }
+        return resolved;
+    }
+
+    /**
+     * Parse a comma-separated allergen list, ignoring blank entries
+     */
+    private static List<String> resolveAllergens(String allergens) {
+        List<String> resolved = new ArrayList<>();
+        if (allergens != null) {
+            for (String allergen : allergens.split(",")) {
+                if (!allergen.isBlank()) {
+                    resolved.add(allergen.trim());
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Get the mask of the excluded allergens, rejecting names that no component of the tenant declares, since a
+     * misspelt allergen would otherwise let through the items it was meant to leave out
+     */
+    private static BitSet excludedMask(AllergenIndex index, List<String> allergens) {
+        List<String> undeclared = index.undeclared(allergens);
+        if (!undeclared.isEmpty()) {
+            throw new ValidationException("Invalid allergen filter", undeclared.stream()
+                    .map(allergen -> "Unknown allergen '" + allergen + "', expected one of " + index.declared())
+                    .toList());
+        }
+        return index.maskOf(allergens);
+    }
+
+    /**
+     * Add the components of every item of a page, looked up together rather than one item at a time
+     */
+    private void addComponents(CursorPage<Map<String, Object>> page) {
+        ComponentLoader componentLoader = new ComponentLoader(componentBatchRepository);
+        for (Map<String, Object> row : page.getItems()) {
+            componentLoader.requestItem((Long) row.get("id"));
+        }
+        for (Map<String, Object> row : page.getItems()) {
+            row.put(COMPONENTS_FIELD, componentLoader.forItem((Long) row.get("id")));
+        }
+    }
+
+    /**
+     * Parse a comma-separated field list, rejecting unknown fields. The ID is always included. Extra fields
+     * are not columns of the listing, so they are accepted but only included when asked for.
+     */
+    private List<String> resolveFields(String fields, Map<String, String> allowedFields, Set<String> extraFields) {
+        Set<String> resolved = new LinkedHashSet<>();
+        if (fields == null || fields.isBlank()) {
+            resolved.addAll(allowedFields.keySet());
+        } else {
+            List<String> errors = new ArrayList<>();
+            resolved.add("id");
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (allowedFields.containsKey(name) || extraFields.contains(name)) {
+                    resolved.add(name);
+                } else {
+                    List<String> allowed = new ArrayList<>(allowedFields.keySet());
+                    allowed.addAll(extraFields);
+                    errors.add("Unknown field '" + name + "'; allowed fields are " + allowed);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new ValidationException("Invalid field selection", errors);
+            }
+        }
+        return List.copyOf(resolved);
+    }
+}
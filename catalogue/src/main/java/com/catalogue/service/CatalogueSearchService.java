@@ -0,0 +1,57 @@
+package com.catalogue.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.catalogue.annotation.Timed;
+import com.catalogue.dto.ItemSearchResultDTO;
+import com.catalogue.exception.ValidationException;
+import com.catalogue.search.SearchIndexCache;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Keyword search over the names and descriptions of the current tenant's active items, served from the
+ * tenant's in-memory {@link com.catalogue.search.SearchIndex}. Not transactional: a search only reaches the
+ * database when it builds the tenant's first index.
+ */
+@Service
+@Timed(value = "catalogue.search", description = "Item searches", percentiles = {0.5, 0.95, 0.99})
+public class CatalogueSearchService {
+
+    /**
+     * Number of results returned when the client does not ask for a number.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Largest number of results a client may request.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private final SearchIndexCache searchIndexCache;
+    private final TenantContextHolder tenantContextHolder;
+
+    public CatalogueSearchService(SearchIndexCache searchIndexCache, TenantContextHolder tenantContextHolder) {
+        this.searchIndexCache = searchIndexCache;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    /**
+     * Search the current tenant's active items, best match first
+     */
+    public List<ItemSearchResultDTO> searchItems(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Invalid search query", List.of("Query must not be blank"));
+        }
+        int resolvedLimit = DEFAULT_LIMIT;
+        if (limit != null) {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new ValidationException("Invalid result limit",
+                        List.of("Limit must be between 1 and " + MAX_LIMIT));
+            }
+            resolvedLimit = limit;
+        }
+        return searchIndexCache.get(tenantContextHolder.getTenantId()).search(query, resolvedLimit);
+    }
+}
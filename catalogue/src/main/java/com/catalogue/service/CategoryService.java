@@ -1,14 +1,20 @@
 package com.catalogue.service;
 
+import com.catalogue.annotation.Timed;
+import com.catalogue.cache.CategoryTreeCache;
 import com.catalogue.dto.CategoryDTO;
 import com.catalogue.dto.CategoryItemSummaryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
 import com.catalogue.exception.DuplicateResourceException;
 import com.catalogue.exception.ResourceNotFoundException;
 import com.catalogue.model.Category;
 import com.catalogue.model.CategoryItem;
 import com.catalogue.repository.CategoryRepository;
+import com.catalogue.tenant.TenantKeyResolver;
 import com.common.tenant.TenantContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,22 +26,31 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final TenantContextHolder tenantContextHolder;
+    private final TenantKeyResolver tenantKeyResolver;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryService(CategoryRepository categoryRepository, TenantContextHolder tenantContextHolder) {
+    public CategoryService(CategoryRepository categoryRepository, TenantContextHolder tenantContextHolder,
+                           TenantKeyResolver tenantKeyResolver, CategoryTreeCache categoryTreeCache,
+                           ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
         this.tenantContextHolder = tenantContextHolder;
+        this.tenantKeyResolver = tenantKeyResolver;
+        this.categoryTreeCache = categoryTreeCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Get all categories for the current tenant
+     * Get all categories for the current tenant.
+     * Served from the category tree cache; SUPPORTS propagation means a cache hit never
+     * opens a transaction or checks out a connection.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "catalogue.categories.tree", description = "Category tree reads, cache hits included",
+            percentiles = {0.5, 0.95, 0.99})
     public List<CategoryDTO> getAllCategories() {
         String tenantId = tenantContextHolder.getTenantId();
-        return categoryRepository.findByTenantIdOrderByDisplayOrderAsc(tenantId)
-                .stream()
-                .map(this::convertToCategoryDTO)
-                .collect(Collectors.toList());
+        return categoryTreeCache.get(tenantId, key -> loadCategoryTree());
     }
 
     /**
@@ -43,31 +58,29 @@ public class CategoryService {
      */
     @Transactional(readOnly = true)
     public CategoryDTO getCategory(Long id) {
-        String tenantId = tenantContextHolder.getTenantId();
-        Category category = categoryRepository.findByIdAndTenantId(id, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with ID: " + id));
-        return convertToCategoryDTO(category);
+        return convertToCategoryDTO(findCategory(id));
     }
 
     /**
-     * Create a new category for the current tenant
+     * Create a new category for the current tenant. Hibernate assigns the tenant key of the session,
+     * so the tenant must have been registered before the transaction began (see CategoryController).
      */
     public CategoryDTO createCategory(CategoryDTO categoryDTO) {
         String tenantId = tenantContextHolder.getTenantId();
 
         // Check if a category with the same name already exists for this tenant
-        if (categoryRepository.existsByNameAndTenantId(categoryDTO.getName(), tenantId)) {
+        if (categoryRepository.existsByName(categoryDTO.getName())) {
             throw new DuplicateResourceException("Category with name '" + categoryDTO.getName() + "' already exists");
         }
 
         Category category = new Category();
-        category.setTenantId(tenantId);
         category.setName(categoryDTO.getName());
         category.setDescription(categoryDTO.getDescription());
-        category.setDisplayOrder(categoryDTO.getDisplayOrder());
+        category.setDisplayOrder(displayOrderOf(categoryDTO));
         category.setActive(categoryDTO.getActive() == null || categoryDTO.getActive());
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(tenantId));
         return convertToCategoryDTO(savedCategory);
     }
 
@@ -76,25 +89,24 @@ public class CategoryService {
      */
     public CategoryDTO updateCategory(Long id, CategoryDTO categoryDTO) {
         String tenantId = tenantContextHolder.getTenantId();
-
-        Category category = categoryRepository.findByIdAndTenantId(id, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with ID: " + id));
+        Category category = findCategory(id);
 
         // Check for name conflicts if name is being changed
         if (!category.getName().equals(categoryDTO.getName()) &&
-                categoryRepository.existsByNameAndTenantId(categoryDTO.getName(), tenantId)) {
+                categoryRepository.existsByName(categoryDTO.getName())) {
             throw new DuplicateResourceException("Category with name '" + categoryDTO.getName() + "' already exists");
         }
 
         category.setName(categoryDTO.getName());
         category.setDescription(categoryDTO.getDescription());
-        category.setDisplayOrder(categoryDTO.getDisplayOrder());
+        category.setDisplayOrder(displayOrderOf(categoryDTO));
 
         if (categoryDTO.getActive() != null) {
             category.setActive(categoryDTO.getActive());
         }
 
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(tenantId));
         return convertToCategoryDTO(updatedCategory);
     }
 
@@ -103,11 +115,37 @@ public class CategoryService {
      */
     public void deleteCategory(Long id) {
         String tenantId = tenantContextHolder.getTenantId();
+        Category category = findCategory(id);
 
-        Category category = categoryRepository.findByIdAndTenantId(id, tenantId)
+        categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(tenantId));
+    }
+
+    /**
+     * Find a category of the current tenant by ID. Loading by ID is not filtered by tenant,
+     * so the owner is checked here.
+     */
+    private Category findCategory(Long id) {
+        return categoryRepository.findById(id)
+                .filter(tenantKeyResolver::isCurrentTenant)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with ID: " + id));
+    }
 
-        categoryRepository.delete(category);
+    /**
+     * Build the category tree for the current tenant from the database
+     */
+    private List<CategoryDTO> loadCategoryTree() {
+        return categoryRepository.findWithItemsByOrderByDisplayOrderAsc()
+                .stream()
+                .map(this::convertToCategoryDTO)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Get the display order to store for a category, 0 when the client gives none
+     */
+    private static int displayOrderOf(CategoryDTO categoryDTO) {
+        return categoryDTO.getDisplayOrder() == null ? 0 : categoryDTO.getDisplayOrder();
     }
 
     /**
@@ -0,0 +1,106 @@
+package com.catalogue.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.repository.ComponentBatchRepository;
+
+/**
+ * Batches the component lookups of one request, in the style of a DataLoader.
+ *
+ * <p>Callers first request the components of every item and customization they are going to render, then
+ * read them; the first read resolves everything requested so far with a few chunked queries (see
+ * {@link ComponentBatchRepository}) rather than one query per item or customization. Results are kept for the
+ * rest of the request, so each ID is queried at most once. A loader belongs to a single request and thread.
+ */
+public class ComponentLoader {
+
+    private final ComponentBatchRepository batchRepository;
+    private final Set<Long> pendingItemIds = new LinkedHashSet<>();
+    private final Set<Long> pendingCustomizationIds = new LinkedHashSet<>();
+    private final Map<Long, List<ComponentDTO>> itemComponents = new HashMap<>();
+    private final Map<Long, List<ComponentDTO>> customizationComponents = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param batchRepository Repository resolving the batched lookups
+     */
+    public ComponentLoader(ComponentBatchRepository batchRepository) {
+        this.batchRepository = batchRepository;
+    }
+
+    /**
+     * Queue the components of a category item for the next dispatch.
+     *
+     * @param categoryItemId The category item ID
+     */
+    public void requestItem(Long categoryItemId) {
+        if (!itemComponents.containsKey(categoryItemId)) {
+            pendingItemIds.add(categoryItemId);
+        }
+    }
+
+    /**
+     * Queue the components of a customization for the next dispatch.
+     *
+     * @param customizationId The customization ID
+     */
+    public void requestCustomization(Long customizationId) {
+        if (!customizationComponents.containsKey(customizationId)) {
+            pendingCustomizationIds.add(customizationId);
+        }
+    }
+
+    /**
+     * Get the components of a category item, dispatching the queued lookups if it has not been loaded yet.
+     *
+     * @param categoryItemId The category item ID
+     * @return The item's components in name order, empty if it has none
+     */
+    public List<ComponentDTO> forItem(Long categoryItemId) {
+        requestItem(categoryItemId);
+        dispatch();
+        return itemComponents.get(categoryItemId);
+    }
+
+    /**
+     * Get the components of a customization, dispatching the queued lookups if it has not been loaded yet.
+     *
+     * @param customizationId The customization ID
+     * @return The customization's components in name order, empty if it has none
+     */
+    public List<ComponentDTO> forCustomization(Long customizationId) {
+        requestCustomization(customizationId);
+        dispatch();
+        return customizationComponents.get(customizationId);
+    }
+
+    /**
+     * Resolve every queued lookup.
+     */
+    public void dispatch() {
+        if (!pendingItemIds.isEmpty()) {
+            List<Long> ids = List.copyOf(pendingItemIds);
+            pendingItemIds.clear();
+            resolve(ids, batchRepository.findByCategoryItemIds(ids), itemComponents);
+        }
+        if (!pendingCustomizationIds.isEmpty()) {
+            List<Long> ids = List.copyOf(pendingCustomizationIds);
+            pendingCustomizationIds.clear();
+            resolve(ids, batchRepository.findByCustomizationIds(ids), customizationComponents);
+        }
+    }
+
+    private static void resolve(List<Long> ids, Map<Long, List<ComponentDTO>> found,
+                                Map<Long, List<ComponentDTO>> resolved) {
+        // IDs without components are remembered too, so they are not queried again
+        for (Long id : ids) {
+            resolved.put(id, List.copyOf(found.getOrDefault(id, List.of())));
+        }
+    }
+}
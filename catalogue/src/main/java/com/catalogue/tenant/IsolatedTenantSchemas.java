@@ -0,0 +1,170 @@
+package com.catalogue.tenant;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tenants whose catalogue lives in a database schema of its own, {@code tenant_<slug>}, rather than in the
+ * shared tables.
+ *
+ * <p>Each schema holds the full catalogue schema, migrated with the same Flyway migrations as the shared
+ * one, and a {@code tenants} table holding only its tenant, which keeps its key from the shared
+ * {@code tenants} table. Tenants not listed here keep using the shared tables.
+ */
+public class IsolatedTenantSchemas {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IsolatedTenantSchemas.class);
+
+    private static final String SCHEMA_PREFIX = "tenant_";
+    private static final String FIND_TENANT_SQL = "SELECT id FROM tenants WHERE slug = ?";
+    private static final String INSERT_TENANT_SQL = "INSERT INTO tenants (slug) VALUES (?)";
+    private static final String COPY_TENANT_SQL = "INSERT INTO tenants (id, slug) VALUES (?, ?)";
+
+    private final Map<String, String> schemaByTenantId;
+    @SuppressWarnings("PMD.AvoidUsingVolatile") // Replaced once the tenants are registered on startup
+    private volatile Map<Integer, String> schemaByTenantKey = Map.of();
+
+    /**
+     * Constructor.
+     *
+     * @param tenantIds IDs of the tenants to isolate
+     */
+    public IsolatedTenantSchemas(Collection<String> tenantIds) {
+        Map<String, String> schemas = new LinkedHashMap<>();
+        for (String tenantId : tenantIds) {
+            String schema = schemaName(tenantId);
+            if (schemas.containsValue(schema)) {
+                throw new IllegalArgumentException("Isolated tenants share the schema " + schema);
+            }
+            schemas.put(tenantId, schema);
+        }
+        this.schemaByTenantId = Map.copyOf(schemas);
+    }
+
+    /**
+     * Get the schema of a tenant.
+     *
+     * @param tenantKey The tenant key
+     * @return The tenant's own schema, or null if the tenant uses the shared tables
+     */
+    public String schemaOf(Integer tenantKey) {
+        return schemaByTenantKey.get(tenantKey);
+    }
+
+    /**
+     * Get the schema of a tenant by its ID.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's own schema, or null if the tenant uses the shared tables
+     */
+    public String schemaOf(String tenantId) {
+        return schemaByTenantId.get(tenantId);
+    }
+
+    /**
+     * Get the schemas of every isolated tenant.
+     *
+     * @return The schema names
+     */
+    public Collection<String> schemas() {
+        return schemaByTenantId.values();
+    }
+
+    /**
+     * Migrate the shared schema, then create or migrate the schema of every isolated tenant, registering the
+     * tenant in the shared {@code tenants} table first if it is new.
+     *
+     * @param flyway Flyway configured for the shared schema
+     */
+    public void migrate(Flyway flyway) {
+        flyway.migrate();
+
+        DataSource dataSource = flyway.getConfiguration().getDataSource();
+        Map<Integer, String> schemas = new HashMap<>();
+        schemaByTenantId.forEach((tenantId, schema) -> {
+            int tenantKey = registerTenant(dataSource, tenantId);
+            Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .schemas(schema)
+                    .defaultSchema(schema)
+                    .load()
+                    .migrate();
+            copyTenant(dataSource, schema, tenantId, tenantKey);
+            schemas.put(tenantKey, schema);
+            LOGGER.info("Tenant {} uses schema {}", tenantId, schema);
+        });
+        schemaByTenantKey = Map.copyOf(schemas);
+    }
+
+    /**
+     * Schema name of a tenant, its ID lower-cased with every character other than a letter or digit replaced
+     */
+    static String schemaName(String tenantId) {
+        StringBuilder schema = new StringBuilder(SCHEMA_PREFIX.length() + tenantId.length()).append(SCHEMA_PREFIX);
+        for (char c : tenantId.toLowerCase(Locale.ROOT).toCharArray()) {
+            schema.append(c >= 'a' && c <= 'z' || c >= '0' && c <= '9' ? c : '_');
+        }
+        return schema.toString();
+    }
+
+    private static int registerTenant(DataSource dataSource, String tenantId) {
+        try (Connection connection = dataSource.getConnection()) {
+            Integer tenantKey = findTenant(connection, tenantId);
+            if (tenantKey == null) {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_TENANT_SQL)) {
+                    insert.setString(1, tenantId);
+                    insert.executeUpdate();
+                }
+                tenantKey = findTenant(connection, tenantId);
+            }
+            if (tenantKey == null) {
+                throw new IllegalStateException("No key found for tenant " + tenantId);
+            }
+            return tenantKey;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot register isolated tenant " + tenantId, e);
+        }
+    }
+
+    private static void copyTenant(DataSource dataSource, String schema, String tenantId, int tenantKey) {
+        try (Connection connection = dataSource.getConnection()) {
+            String defaultSchema = connection.getSchema();
+            connection.setSchema(schema);
+            try {
+                if (findTenant(connection, tenantId) == null) {
+                    try (PreparedStatement insert = connection.prepareStatement(COPY_TENANT_SQL)) {
+                        insert.setInt(1, tenantKey);
+                        insert.setString(2, tenantId);
+                        insert.executeUpdate();
+                    }
+                }
+            } finally {
+                connection.setSchema(defaultSchema);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot copy tenant " + tenantId + " into schema " + schema, e);
+        }
+    }
+
+    private static Integer findTenant(Connection connection, String tenantId) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(FIND_TENANT_SQL)) {
+            select.setString(1, tenantId);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : null;
+            }
+        }
+    }
+}
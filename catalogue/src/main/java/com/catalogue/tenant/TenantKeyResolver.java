@@ -0,0 +1,93 @@
+package com.catalogue.tenant;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import com.common.model.TenantEntity;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Hibernate tenant identifier resolver that maps the tenant of the current thread to its tenant key.
+ *
+ * <p>Every session is opened for the key of the tenant in {@link TenantContextHolder}. Hibernate then adds the
+ * key to every query, association join and collection load of a {@link TenantEntity}, assigns it to new
+ * entities, and keeps second-level cache entries apart per tenant, so repositories no longer take the tenant
+ * as a parameter. Loading by ID is not filtered by Hibernate; callers check the result with
+ * {@link #isCurrentTenant(TenantEntity)}.
+ *
+ * <p>Sessions opened without a tenant, such as at startup, by the importer or by background jobs, use
+ * {@link #ROOT_TENANT_KEY} and see every tenant. A tenant ID that is not registered resolves to
+ * {@link #UNKNOWN_TENANT_KEY}, which no row carries. The tenant is resolved when the session opens, which
+ * is when the transaction begins.
+ */
+@Component
+public class TenantKeyResolver implements CurrentTenantIdentifierResolver<Integer>, HibernatePropertiesCustomizer {
+
+    /**
+     * Tenant key of sessions opened without a tenant, which are not filtered.
+     */
+    public static final int ROOT_TENANT_KEY = 0;
+
+    /**
+     * Tenant key of sessions opened for a tenant ID that is not registered.
+     */
+    public static final int UNKNOWN_TENANT_KEY = -1;
+
+    private final TenantContextHolder tenantContextHolder;
+    private final ObjectProvider<TenantRegistry> tenantRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param tenantContextHolder Holder for tenant context
+     * @param tenantRegistry Registry of the known tenants, looked up lazily since it depends on the
+     *                       transaction manager and so on the entity manager factory this resolver configures
+     */
+    public TenantKeyResolver(TenantContextHolder tenantContextHolder, ObjectProvider<TenantRegistry> tenantRegistry) {
+        this.tenantContextHolder = tenantContextHolder;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @Override
+    public Integer resolveCurrentTenantIdentifier() {
+        String tenantId = tenantContextHolder.getTenantId();
+        int tenantKey = ROOT_TENANT_KEY;
+        if (tenantId != null) {
+            Integer registered = tenantRegistry.getObject().keyOf(tenantId);
+            tenantKey = registered == null ? UNKNOWN_TENANT_KEY : registered;
+        }
+        return tenantKey;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        // Sessions are bound by Spring's transaction management, not Hibernate's current session context
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(Integer tenantKey) {
+        return tenantKey != null && tenantKey == ROOT_TENANT_KEY;
+    }
+
+    /**
+     * Check that an entity loaded by ID belongs to the current tenant, or that there is no current tenant.
+     *
+     * @param entity The loaded entity
+     * @return Whether the current session may return the entity
+     */
+    public boolean isCurrentTenant(TenantEntity entity) {
+        Integer tenantKey = resolveCurrentTenantIdentifier();
+        return isRoot(tenantKey) || tenantKey.equals(entity.getTenantKey());
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
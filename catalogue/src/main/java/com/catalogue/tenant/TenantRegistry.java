@@ -0,0 +1,247 @@
+package com.catalogue.tenant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory copy of the {@code tenants} table, mapping the tenant IDs (slugs) of request paths to the integer
+ * keys that catalogue rows carry, and rejecting unknown tenant IDs before they reach the service layer.
+ *
+ * <p>Lookups read an immutable open-addressing hash table and can match a region of a larger string, such as
+ * the request URI, without extracting it. They return the registry's own instance of the ID, so every
+ * request of a tenant shares one string. Registration copies the table, which is cheap at the number of
+ * tenants a service hosts and keeps lookups lock-free.
+ */
+@Component
+public class TenantRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantRegistry.class);
+
+    private static final String LOAD_TENANTS_SQL = "SELECT id, slug FROM tenants";
+    private static final String FIND_TENANT_SQL = "SELECT id FROM tenants WHERE slug = ?";
+    private static final String INSERT_TENANT_SQL = "INSERT INTO tenants (slug) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final AtomicReference<TenantTable> table =
+            new AtomicReference<>(TenantTable.build(List.of(), List.of()));
+
+    /**
+     * Constructor.
+     *
+     * @param jdbcTemplate Template for reading and creating tenants
+     * @param transactionManager Transaction manager, used to create tenants independently of the caller
+     */
+    public TenantRegistry(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Replace the registered tenants with the contents of the tenants table. Runs before the other startup
+     * listeners, which may read the catalogue.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<String> tenantIds = new ArrayList<>();
+        List<Integer> tenantKeys = new ArrayList<>();
+        jdbcTemplate.query(LOAD_TENANTS_SQL, rs -> {
+            tenantKeys.add(rs.getInt(1));
+            tenantIds.add(rs.getString(2));
+        });
+        table.set(TenantTable.build(tenantIds, tenantKeys));
+        LOGGER.info("Tenant registry loaded {} tenants", tenantIds.size());
+    }
+
+    /**
+     * Get the key of a tenant, creating the tenant if it does not exist yet. A new tenant row is committed in
+     * its own transaction, so its key stays valid even if the caller's transaction rolls back.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant key
+     */
+    public int register(String tenantId) {
+        Integer tenantKey = keyOf(tenantId);
+        if (tenantKey == null) {
+            int created = findOrCreate(tenantId);
+            table.updateAndGet(current -> current.with(tenantId, created));
+            tenantKey = created;
+        }
+        return tenantKey;
+    }
+
+    /**
+     * Get the key of a registered tenant.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant key, or null if the tenant is unknown
+     */
+    public Integer keyOf(String tenantId) {
+        Integer tenantKey = null;
+        if (tenantId != null) {
+            TenantTable current = table.get();
+            int index = current.indexOf(tenantId, 0, tenantId.length());
+            tenantKey = index < 0 ? null : current.keys[index];
+        }
+        return tenantKey;
+    }
+
+    /**
+     * Get the registered instance of a tenant ID.
+     *
+     * @param tenantId The tenant identifier
+     * @return The shared instance, or null if the tenant is unknown
+     */
+    public String canonicalize(String tenantId) {
+        return tenantId == null ? null : canonicalize(tenantId, 0, tenantId.length());
+    }
+
+    /**
+     * Get the registered instance of the tenant ID found in a region of a string, without allocating.
+     *
+     * @param text String containing the tenant ID, such as a request URI
+     * @param start Index of the first character of the tenant ID
+     * @param end Index after the last character of the tenant ID
+     * @return The shared instance, or null if the tenant is unknown
+     */
+    public String canonicalize(String text, int start, int end) {
+        TenantTable current = table.get();
+        int index = current.indexOf(text, start, end);
+        return index < 0 ? null : current.slots[index];
+    }
+
+    /**
+     * Number of registered tenants.
+     *
+     * @return The tenant count
+     */
+    public int size() {
+        return table.get().size;
+    }
+
+    private int findOrCreate(String tenantId) {
+        Integer tenantKey;
+        try {
+            tenantKey = newTransaction.execute(status -> {
+                List<Integer> existing = jdbcTemplate.queryForList(FIND_TENANT_SQL, Integer.class, tenantId);
+                if (existing.isEmpty()) {
+                    jdbcTemplate.update(INSERT_TENANT_SQL, tenantId);
+                    LOGGER.info("Created tenant {}", tenantId);
+                    existing = jdbcTemplate.queryForList(FIND_TENANT_SQL, Integer.class, tenantId);
+                }
+                return existing.get(0);
+            });
+        } catch (DuplicateKeyException e) {
+            // Created by another request or instance since the lookup
+            tenantKey = jdbcTemplate.queryForObject(FIND_TENANT_SQL, Integer.class, tenantId);
+        }
+        if (tenantKey == null) {
+            throw new IllegalStateException("No key found for tenant " + tenantId);
+        }
+        return tenantKey;
+    }
+
+    /**
+     * Immutable hash map from tenant ID to key with linear probing, looked up by string region.
+     */
+    private static final class TenantTable {
+
+        private final String[] slots;
+        private final int[] keys;
+        private final int size;
+
+        private TenantTable(String[] slots, int[] keys, int size) {
+            this.slots = slots;
+            this.keys = keys;
+            this.size = size;
+        }
+
+        static TenantTable build(List<String> tenantIds, List<Integer> tenantKeys) {
+            // At most half full, so probe sequences stay short and always reach an empty slot
+            int capacity = Integer.highestOneBit(Math.max(4, tenantIds.size() * 2 - 1)) << 1;
+            String[] slots = new String[capacity];
+            int[] keys = new int[capacity];
+            int size = 0;
+            for (int i = 0; i < tenantIds.size(); i++) {
+                if (insert(slots, keys, tenantIds.get(i), tenantKeys.get(i))) {
+                    size++;
+                }
+            }
+            return new TenantTable(slots, keys, size);
+        }
+
+        TenantTable with(String tenantId, int tenantKey) {
+            TenantTable result = this;
+            if (indexOf(tenantId, 0, tenantId.length()) < 0) {
+                List<String> tenantIds = new ArrayList<>(size + 1);
+                List<Integer> tenantKeys = new ArrayList<>(size + 1);
+                for (int i = 0; i < slots.length; i++) {
+                    if (slots[i] != null) {
+                        tenantIds.add(slots[i]);
+                        tenantKeys.add(keys[i]);
+                    }
+                }
+                tenantIds.add(tenantId);
+                tenantKeys.add(tenantKey);
+                result = build(tenantIds, tenantKeys);
+            }
+            return result;
+        }
+
+        int indexOf(String text, int start, int end) {
+            int length = end - start;
+            int mask = slots.length - 1;
+            int index = hash(text, start, end) & mask;
+            int found = -1;
+            String candidate = slots[index];
+            while (candidate != null && found < 0) {
+                if (candidate.length() == length && text.regionMatches(start, candidate, 0, length)) {
+                    found = index;
+                } else {
+                    index = (index + 1) & mask;
+                    candidate = slots[index];
+                }
+            }
+            return found;
+        }
+
+        private static boolean insert(String[] slots, int[] keys, String tenantId, int tenantKey) {
+            int mask = slots.length - 1;
+            int index = hash(tenantId, 0, tenantId.length()) & mask;
+            while (slots[index] != null && !slots[index].equals(tenantId)) {
+                index = (index + 1) & mask;
+            }
+            boolean added = slots[index] == null;
+            slots[index] = tenantId;
+            keys[index] = tenantKey;
+            return added;
+        }
+
+        /**
+         * Same value as {@link String#hashCode()} of the region, spread so the low bits vary
+         */
+        private static int hash(String text, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
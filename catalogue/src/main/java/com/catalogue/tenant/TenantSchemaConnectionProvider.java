@@ -0,0 +1,96 @@
+package com.catalogue.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+/**
+ * Hands Hibernate sessions of an isolated tenant connections switched to the tenant's schema, and every other
+ * session connections on the shared schema. Connections come from the application's pool and are switched
+ * back before they return to it.
+ */
+public class TenantSchemaConnectionProvider implements MultiTenantConnectionProvider<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DataSource dataSource;
+    private final transient IsolatedTenantSchemas schemas;
+    @SuppressWarnings("PMD.AvoidUsingVolatile") // Captured by the first session of an isolated tenant
+    private volatile String defaultSchema;
+
+    /**
+     * Constructor.
+     *
+     * @param dataSource The application's data source
+     * @param schemas Schemas of the isolated tenants
+     */
+    public TenantSchemaConnectionProvider(DataSource dataSource, IsolatedTenantSchemas schemas) {
+        this.dataSource = dataSource;
+        this.schemas = schemas;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CloseResource") // Closed by releaseConnection
+    public Connection getConnection(Integer tenantKey) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        String schema = schemas.schemaOf(tenantKey);
+        if (schema != null) {
+            try {
+                if (defaultSchema == null) {
+                    // Pooled connections are always returned on the shared schema
+                    defaultSchema = connection.getSchema();
+                }
+                connection.setSchema(schema);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(Integer tenantKey, Connection connection) throws SQLException {
+        try (connection) {
+            if (schemas.schemaOf(tenantKey) != null) {
+                connection.setSchema(defaultSchema);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this) || unwrapType.isInstance(dataSource);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        T unwrapped;
+        if (unwrapType.isInstance(this)) {
+            unwrapped = unwrapType.cast(this);
+        } else if (unwrapType.isInstance(dataSource)) {
+            unwrapped = unwrapType.cast(dataSource);
+        } else {
+            throw new IllegalArgumentException("Cannot unwrap to " + unwrapType.getName());
+        }
+        return unwrapped;
+    }
+}
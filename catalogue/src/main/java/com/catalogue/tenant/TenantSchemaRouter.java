@@ -0,0 +1,95 @@
+package com.catalogue.tenant;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs JDBC work on the schema holding a tenant's catalogue, for the writes that bypass Hibernate sessions and
+ * so {@link TenantSchemaConnectionProvider}.
+ *
+ * <p>Work for an isolated tenant gets a template on one connection switched to the tenant's schema, which is
+ * the connection of the surrounding transaction if there is one, and switched back once the work is done.
+ * Work for any other tenant, and all work when the schema-per-tenant mode is off, runs on the application's
+ * template as it is.
+ */
+@Component
+public class TenantSchemaRouter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IsolatedTenantSchemas isolatedTenantSchemas;
+
+    /**
+     * Constructor.
+     *
+     * @param jdbcTemplate JDBC template bound to the catalogue data source
+     * @param isolatedTenantSchemas Schemas of the isolated tenants, or null if the schema-per-tenant mode is off
+     */
+    public TenantSchemaRouter(JdbcTemplate jdbcTemplate, @Nullable IsolatedTenantSchemas isolatedTenantSchemas) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.isolatedTenantSchemas = isolatedTenantSchemas;
+    }
+
+    /**
+     * Get the schema of a tenant.
+     *
+     * @param tenantId The tenant identifier
+     * @return The tenant's own schema, or null if the tenant uses the shared tables
+     */
+    public String schemaOf(String tenantId) {
+        return isolatedTenantSchemas == null ? null : isolatedTenantSchemas.schemaOf(tenantId);
+    }
+
+    /**
+     * Get the schemas of every isolated tenant.
+     *
+     * @return The schema names, empty if the schema-per-tenant mode is off
+     */
+    public Collection<String> isolatedSchemas() {
+        return isolatedTenantSchemas == null ? List.of() : isolatedTenantSchemas.schemas();
+    }
+
+    /**
+     * Run JDBC work on a tenant's schema.
+     *
+     * @param tenantId The tenant identifier
+     * @param work Work given the template to run its statements with
+     * @param <T> Result type
+     * @return The result of the work
+     */
+    public <T> T inTenantSchema(String tenantId, Function<JdbcTemplate, T> work) {
+        return inSchema(schemaOf(tenantId), work);
+    }
+
+    /**
+     * Run JDBC work on a schema.
+     *
+     * @param schema The schema of an isolated tenant, or null for the shared tables
+     * @param work Work given the template to run its statements with
+     * @param <T> Result type
+     * @return The result of the work
+     */
+    public <T> T inSchema(String schema, Function<JdbcTemplate, T> work) {
+        T result;
+        if (schema == null) {
+            result = work.apply(jdbcTemplate);
+        } else {
+            result = jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+                String previousSchema = connection.getSchema();
+                connection.setSchema(schema);
+                try {
+                    return work.apply(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+                } finally {
+                    connection.setSchema(previousSchema);
+                }
+            });
+        }
+        return result;
+    }
+}
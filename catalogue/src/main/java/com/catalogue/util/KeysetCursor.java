@@ -0,0 +1,71 @@
+package com.catalogue.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import com.catalogue.exception.ValidationException;
+
+/**
+ * Position in a listing ordered by (displayOrder, id), exchanged with clients as an opaque token.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final int displayOrder;
+    private final long id;
+
+    /**
+     * Constructor.
+     *
+     * @param displayOrder Display order of the last row returned
+     * @param id ID of the last row returned
+     */
+    public KeysetCursor(int displayOrder, long id) {
+        this.displayOrder = displayOrder;
+        this.id = id;
+    }
+
+    /**
+     * Decode a cursor token received from a client.
+     *
+     * @param token The opaque cursor token, may be null or blank for the first page
+     * @return The decoded cursor, or null if no token was given
+     * @throws ValidationException If the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        KeysetCursor cursor = null;
+        if (token != null && !token.isBlank()) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = value.indexOf(SEPARATOR);
+                cursor = new KeysetCursor(
+                        Integer.parseInt(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new ValidationException("Invalid cursor",
+                        List.of("Cursor '" + token + "' is not valid"), e);
+            }
+        }
+        return cursor;
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL-safe token.
+     *
+     * @return The cursor token
+     */
+    public String encode() {
+        String value = Integer.toString(displayOrder) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -1,15 +1,10 @@
 package com.catalogue.util;
 
-import com.catalogue.model.Category;
-import com.catalogue.model.CategoryItem;
-import com.catalogue.model.CategoryItemCustomization;
-import com.catalogue.model.Component;
-import com.catalogue.repository.CategoryItemCustomizationRepository;
-import com.catalogue.repository.CategoryItemRepository;
-import com.catalogue.repository.CategoryRepository;
-import com.catalogue.repository.ComponentRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.catalogue.cache.CatalogueVersions;
+import com.catalogue.cache.SecondLevelCacheEviction;
+import com.catalogue.importer.CatalogueImportResult;
+import com.catalogue.importer.CatalogueImporter;
+import com.catalogue.tenant.TenantSchemaRouter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,14 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Utility to load sample data into the catalogue service database.
@@ -40,34 +32,33 @@ import java.util.Map;
  * Add either --spring.profiles.active=dev or --spring.profiles.active=test
  * to your run configuration to enable this data loader.
  */
-@SuppressWarnings("PMD.CouplingBetweenObjects")
 @org.springframework.stereotype.Component
 @Profile({"dev", "test", "local"}) // Added "local" profile
 public class SampleDataLoader implements CommandLineRunner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SampleDataLoader.class);
     private static final String SAMPLE_DATA_FILE = "data/restaurant-test-data.json";
+    private static final List<String> CATALOGUE_TABLES = List.of(
+            "customization_components", "category_item_components", "category_item_customizations",
+            "category_items", "categories", "components");
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    private CatalogueImporter catalogueImporter;
 
     @Autowired
-    private CategoryItemRepository categoryItemRepository;
-
-    @Autowired
-    private ComponentRepository componentRepository;
+    private DataSource dataSource;
 
     @Autowired
-    private CategoryItemCustomizationRepository customizationRepository;
+    private JdbcTemplate jdbcTemplate;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private SecondLevelCacheEviction secondLevelCacheEviction;
 
     @Autowired
-    private DataSource dataSource;
+    private CatalogueVersions catalogueVersions;
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private TenantSchemaRouter tenantSchemaRouter;
 
     /**
      * Loads sample data on application startup.
@@ -135,389 +126,46 @@ public class SampleDataLoader implements CommandLineRunner {
 
         LOGGER.info("Sample data file found: {}", resource.getFilename());
 
-        // Clear existing data first
+        // Clear existing data first; the rows are deleted over JDBC, so Hibernate's cache is cleared on commit
         clearExistingData();
+        secondLevelCacheEviction.evictAll();
+        // Snapshots persisted before the reset must not validate against the reloaded data
+        catalogueVersions.incrementAll();
 
-        // Load sample data from JSON file
-        JsonNode rootNode;
+        // Stream the JSON file straight into the database
         try (InputStream inputStream = resource.getInputStream()) {
-            LOGGER.info("Parsing JSON data file...");
-            rootNode = objectMapper.readTree(inputStream);
-            LOGGER.info("JSON data parsed successfully");
+            CatalogueImportResult result = catalogueImporter.importCatalogue(inputStream);
+            LOGGER.info("Imported {}", result);
         }
 
-        // Load components first
-        LOGGER.info("Loading components...");
-        Map<String, Component> componentMap = loadComponents(rootNode.get("components"));
-        LOGGER.info("Loaded {} components", componentMap.size());
-
-        // Load categories
-        LOGGER.info("Loading categories...");
-        Map<String, Category> categoryMap = loadCategories(rootNode.get("categories"));
-        LOGGER.info("Loaded {} categories", categoryMap.size());
-
-        // Load category items
-        LOGGER.info("Loading category items...");
-        Map<String, CategoryItem> categoryItemMap = loadCategoryItems(
-                rootNode.get("categoryItems"), categoryMap, componentMap);
-        LOGGER.info("Loaded {} category items", categoryItemMap.size());
-
-        // Load customizations
-        LOGGER.info("Loading customizations...");
-        int customizationsCount = loadCustomizations(
-                rootNode.get("categoryItemCustomizations"), categoryItemMap, componentMap);
-        LOGGER.info("Loaded {} customizations", customizationsCount);
-
         LOGGER.info("Sample data loaded successfully");
     }
 
-    private void clearExistingData() {
-        LOGGER.info("Clearing existing data...");
-
-        // Use try-catch blocks to handle errors for each repository separately
-        try {
-            LOGGER.info("Clearing customizations...");
-            customizationRepository.deleteAll();
-            LOGGER.info("Customizations cleared successfully");
-        } catch (Exception e) {
-            LOGGER.warn("Error clearing customizations: {}", e.getMessage());
-            // Continue with other clearings
-        }
-
-        try {
-            LOGGER.info("Clearing category items...");
-            categoryItemRepository.deleteAll();
-            LOGGER.info("Category items cleared successfully");
-        } catch (Exception e) {
-            LOGGER.warn("Error clearing category items: {}", e.getMessage());
-        }
-
-        try {
-            LOGGER.info("Clearing categories...");
-            categoryRepository.deleteAll();
-            LOGGER.info("Categories cleared successfully");
-        } catch (Exception e) {
-            LOGGER.warn("Error clearing categories: {}", e.getMessage());
-        }
-
-        try {
-            LOGGER.info("Clearing components...");
-            componentRepository.deleteAll();
-            LOGGER.info("Components cleared successfully");
-        } catch (Exception e) {
-            LOGGER.warn("Error clearing components: {}", e.getMessage());
-        }
-
-        LOGGER.info("Data clearing completed");
-    }
-
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private Map<String, Component> loadComponents(JsonNode componentsNode) {
-        Map<String, Component> componentMap = new HashMap<>();
-
-        if (componentsNode == null || !componentsNode.isArray() || componentsNode.isEmpty()) {
-            LOGGER.warn("No components found in sample data or invalid format");
-            return componentMap;
-        }
-
-        LOGGER.info("Found {} components in sample data", componentsNode.size());
-
-        List<Component> components = new ArrayList<>();
-        for (JsonNode node : componentsNode) {
-            try {
-                Component component = new Component();
-                component.setTenantId(node.get("tenantId").asText());
-                component.setName(node.get("name").asText());
-                component.setDescription(node.get("description").asText());
-                component.setCost(new BigDecimal(node.get("cost").asText()));
-                component.setIsAllergenic(node.get("isAllergenic").asBoolean());
-
-                if (node.has("allergenInfo") && !node.get("allergenInfo").isNull()) {
-                    component.setAllergenInfo(node.get("allergenInfo").asText());
-                }
-
-                components.add(component);
-            } catch (Exception e) {
-                LOGGER.warn("Error processing component: {}", e.getMessage());
-                // Continue with next component
-            }
-        }
-
-        LOGGER.info("Saving {} components to database", components.size());
-        List<Component> savedComponents = componentRepository.saveAll(components);
-
-        for (Component component : savedComponents) {
-            componentMap.put(component.getTenantId() + ":" + component.getName(), component);
-        }
-
-        LOGGER.info("Loaded {} components", savedComponents.size());
-        return componentMap;
-    }
-
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private Map<String, Category> loadCategories(JsonNode categoriesNode) {
-        Map<String, Category> categoryMap = new HashMap<>();
-
-        if (categoriesNode == null || !categoriesNode.isArray() || categoriesNode.isEmpty()) {
-            LOGGER.warn("No categories found in sample data or invalid format");
-            return categoryMap;
-        }
-
-        LOGGER.info("Found {} categories in sample data", categoriesNode.size());
-
-        List<Category> categories = new ArrayList<>();
-        for (JsonNode node : categoriesNode) {
-            try {
-                Category category = new Category();
-                category.setTenantId(node.get("tenantId").asText());
-                category.setName(node.get("name").asText());
-                category.setDescription(node.get("description").asText());
-                category.setDisplayOrder(node.get("displayOrder").asInt());
-                category.setActive(node.get("active").asBoolean());
-
-                categories.add(category);
-            } catch (Exception e) {
-                LOGGER.warn("Error processing category: {}", e.getMessage());
-                // Continue with next category
-            }
-        }
-
-        LOGGER.info("Saving {} categories to database", categories.size());
-        List<Category> savedCategories = categoryRepository.saveAll(categories);
-
-        for (Category category : savedCategories) {
-            categoryMap.put(category.getTenantId() + ":" + category.getName(), category);
-        }
-
-        LOGGER.info("Loaded {} categories", savedCategories.size());
-        return categoryMap;
-    }
-
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private Map<String, CategoryItem> loadCategoryItems(JsonNode itemsNode, Map<String, Category> categoryMap,
-                                                        Map<String, Component> componentMap) {
-        Map<String, CategoryItem> itemMap = new HashMap<>();
-
-        if (itemsNode == null || !itemsNode.isArray() || itemsNode.isEmpty()) {
-            LOGGER.warn("No category items found in sample data or invalid format");
-            return itemMap;
-        }
-
-        LOGGER.info("Found {} category items in sample data", itemsNode.size());
-
-        // Create and save the category items
-        List<CategoryItem> items = createCategoryItems(itemsNode, categoryMap);
-        LOGGER.info("Created {} category items, saving to database", items.size());
-
-        List<CategoryItem> savedItems = categoryItemRepository.saveAll(items);
-        LOGGER.info("Saved {} category items to database", savedItems.size());
-
-        // Create a map of the saved items for easy lookup
-        for (CategoryItem item : savedItems) {
-            itemMap.put(item.getTenantId() + ":" + item.getName(), item);
-        }
-
-        // Add components to the items
-        LOGGER.info("Adding components to category items");
-        addComponentsToCategoryItems(itemsNode, itemMap, componentMap);
-
-        LOGGER.info("Loaded {} category items with components", itemMap.size());
-        return itemMap;
-    }
-
-    /**
-     * Create the list of CategoryItem objects from JSON data.
-     */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private List<CategoryItem> createCategoryItems(JsonNode itemsNode, Map<String, Category> categoryMap) {
-        List<CategoryItem> items = new ArrayList<>();
-
-        for (JsonNode node : itemsNode) {
-            try {
-                String tenantId = node.get("tenantId").asText();
-                String categoryName = node.get("categoryName").asText();
-                String itemName = node.get("name").asText();
-
-                Category category = categoryMap.get(tenantId + ":" + categoryName);
-                if (category == null) {
-                    LOGGER.warn("Category not found for item {}: {}", itemName, categoryName);
-                    continue;
-                }
-
-                CategoryItem item = new CategoryItem();
-                item.setTenantId(tenantId);
-                item.setCategory(category);
-                item.setName(itemName);
-                item.setDescription(node.get("description").asText());
-                item.setBasePrice(new BigDecimal(node.get("basePrice").asText()));
-                item.setImageUrl(node.get("imageUrl").asText());
-                item.setSku(node.get("sku").asText());
-                item.setDisplayOrder(node.get("displayOrder").asInt());
-                item.setActive(node.get("active").asBoolean());
-
-                items.add(item);
-            } catch (Exception e) {
-                LOGGER.warn("Error processing category item: {}", e.getMessage());
-                // Continue with next item
-            }
-        }
-
-        return items;
-    }
-
-    /**
-     * Add components to the category items and save them.
-     */
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private void addComponentsToCategoryItems(JsonNode itemsNode, Map<String, CategoryItem> itemMap,
-                                              Map<String, Component> componentMap) {
-        for (JsonNode node : itemsNode) {
-            try {
-                String tenantId = node.get("tenantId").asText();
-                String itemName = node.get("name").asText();
-
-                CategoryItem item = itemMap.get(tenantId + ":" + itemName);
-                if (item == null) {
-                    LOGGER.warn("Category item not found when adding components: {}", itemName);
-                    continue;
-                }
-
-                addComponentsToItem(node, item, tenantId, componentMap);
-            } catch (Exception e) {
-                LOGGER.warn("Error adding components to category item: {}", e.getMessage());
-                // Continue with next item
-            }
-        }
-
-        LOGGER.info("Saving category items with their components");
-        // Save the items with their components
-        categoryItemRepository.saveAll(itemMap.values());
-    }
-
-    /**
-     * Helper method to add components to a specific item
-     */
-    private void addComponentsToItem(JsonNode node, CategoryItem item, String tenantId,
-                                     Map<String, Component> componentMap) {
-        JsonNode componentsNode = node.get("components");
-        if (componentsNode != null && componentsNode.isArray()) {
-            for (JsonNode componentName : componentsNode) {
-                Component component = componentMap.get(tenantId + ":" + componentName.asText());
-                if (component != null) {
-                    item.getComponents().add(component);
-                } else {
-                    LOGGER.warn("Component not found for item {}: {}",
-                            item.getName(), componentName.asText());
-                }
-            }
-        }
-    }
-
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private int loadCustomizations(JsonNode customizationsNode, Map<String, CategoryItem> itemMap,
-                                   Map<String, Component> componentMap) {
-        if (customizationsNode == null || !customizationsNode.isArray() || customizationsNode.isEmpty()) {
-            LOGGER.warn("No customizations found in sample data or invalid format");
-            return 0;
-        }
-
-        LOGGER.info("Found {} customizations in sample data", customizationsNode.size());
-
-        // Create and save the customizations
-        List<CategoryItemCustomization> customizations = createCustomizations(customizationsNode, itemMap);
-        LOGGER.info("Created {} customizations, saving to database", customizations.size());
-
-        List<CategoryItemCustomization> savedCustomizations = customizationRepository.saveAll(customizations);
-        LOGGER.info("Saved {} customizations to database", savedCustomizations.size());
-
-        // Add components to the customizations
-        LOGGER.info("Adding components to customizations");
-        addComponentsToCustomizations(customizationsNode, savedCustomizations, componentMap);
-
-        return savedCustomizations.size();
-    }
-
     /**
-     * Create the list of CategoryItemCustomization objects from JSON data.
+     * Delete all catalogue rows with set-based statements, children before parents, from the shared tables and
+     * the schema of every isolated tenant.
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private List<CategoryItemCustomization> createCustomizations(JsonNode customizationsNode,
-                                                                 Map<String, CategoryItem> itemMap) {
-        List<CategoryItemCustomization> customizations = new ArrayList<>();
-
-        for (JsonNode node : customizationsNode) {
-            try {
-                String tenantId = node.get("tenantId").asText();
-                String categoryItemName = node.get("categoryItemName").asText();
-
-                CategoryItem item = itemMap.get(tenantId + ":" + categoryItemName);
-                if (item == null) {
-                    LOGGER.warn("Category item not found for customization: {}", categoryItemName);
-                    continue;
-                }
-
-                CategoryItemCustomization customization = new CategoryItemCustomization();
-                customization.setTenantId(tenantId);
-                customization.setCategoryItem(item);
-                customization.setName(node.get("name").asText());
-                customization.setPriceAdjustment(new BigDecimal(node.get("priceAdjustment").asText()));
-                customization.setActive(node.get("active").asBoolean());
-
-                customizations.add(customization);
-            } catch (Exception e) {
-                LOGGER.warn("Error processing customization: {}", e.getMessage());
-                // Continue with next customization
-            }
-        }
-
-        return customizations;
-    }
+    private void clearExistingData() {
+        LOGGER.info("Clearing existing data...");
 
-    /**
-     * Add components to the customizations and save them.
-     */
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private void addComponentsToCustomizations(JsonNode customizationsNode,
-                                               List<CategoryItemCustomization> savedCustomizations,
-                                               Map<String, Component> componentMap) {
-        int index = 0;
-        for (JsonNode node : customizationsNode) {
-            try {
-                if (index >= savedCustomizations.size()) {
-                    break;
+        List<String> schemas = new ArrayList<>();
+        schemas.add(null);
+        schemas.addAll(tenantSchemaRouter.isolatedSchemas());
+        for (String schema : schemas) {
+            tenantSchemaRouter.inSchema(schema, schemaTemplate -> {
+                for (String table : CATALOGUE_TABLES) {
+                    // Handle errors for each table separately so one failure does not stop the others
+                    try {
+                        int deleted = schemaTemplate.update("DELETE FROM " + table);
+                        LOGGER.info("Cleared {} rows from {}", deleted, table);
+                    } catch (Exception e) {
+                        LOGGER.warn("Error clearing {}: {}", table, e.getMessage());
+                    }
                 }
-
-                CategoryItemCustomization customization = savedCustomizations.get(index++);
-                String tenantId = node.get("tenantId").asText();
-
-                addComponentsToCustomization(node, customization, tenantId, componentMap);
-            } catch (Exception e) {
-                LOGGER.warn("Error adding components to customization: {}", e.getMessage());
-                // Continue with next customization
-            }
+                return null;
+            });
         }
 
-        LOGGER.info("Saving customizations with their components");
-        // Save the customizations with their components
-        customizationRepository.saveAll(savedCustomizations);
-    }
-
-    /**
-     * Helper method to add components to a specific customization
-     */
-    private void addComponentsToCustomization(JsonNode node, CategoryItemCustomization customization,
-                                              String tenantId, Map<String, Component> componentMap) {
-        JsonNode componentsNode = node.get("components");
-        if (componentsNode != null && componentsNode.isArray()) {
-            for (JsonNode componentName : componentsNode) {
-                Component component = componentMap.get(tenantId + ":" + componentName.asText());
-                if (component != null) {
-                    customization.getComponents().add(component);
-                } else {
-                    LOGGER.warn("Component not found for customization {}: {}",
-                            customization.getName(), componentName.asText());
-                }
-            }
-        }
+        LOGGER.info("Data clearing completed");
     }
 }
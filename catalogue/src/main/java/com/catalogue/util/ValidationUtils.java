@@ -2,6 +2,7 @@ package com.catalogue.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -13,6 +14,9 @@ import com.catalogue.exception.ValidationException;
  */
 public final class ValidationUtils {
 
+    private static final int MAX_TENANT_ID_LENGTH = 100;
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9]+(-[a-z0-9]+)*");
+
     private ValidationUtils() {
         // Private constructor to prevent instantiation
     }
@@ -48,4 +52,27 @@ public final class ValidationUtils {
             throw new ValidationException("Category validation failed", errors);
         }
     }
+
+    /**
+     * Validates the ID of a tenant about to be created: lower-case letters and digits, in words joined by
+     * single hyphens.
+     *
+     * @param tenantId The decoded tenant identifier
+     * @throws ValidationException If validation fails
+     */
+    public static void validateTenantId(String tenantId) {
+        List<String> errors = new ArrayList<>();
+
+        if (StringUtils.isBlank(tenantId)) {
+            errors.add("Tenant ID is required");
+        } else if (tenantId.length() > MAX_TENANT_ID_LENGTH) {
+            errors.add("Tenant ID cannot exceed " + MAX_TENANT_ID_LENGTH + " characters");
+        } else if (!TENANT_ID.matcher(tenantId).matches()) {
+            errors.add("Tenant ID must be lower-case letters and digits, in words joined by hyphens");
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Tenant validation failed", errors);
+        }
+    }
 }
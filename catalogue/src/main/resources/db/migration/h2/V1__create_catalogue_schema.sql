@@ -0,0 +1,88 @@
+-- Catalogue schema as previously generated by Hibernate (ddl-auto=update) with IDENTITY ids.
+-- Existing databases are baselined at this version, so this script only runs on empty schemas.
+
+create table categories (
+    id bigint generated by default as identity,
+    tenant_id varchar(255) not null,
+    name varchar(255),
+    description varchar(255),
+    display_order integer,
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table components (
+    id bigint generated by default as identity,
+    tenant_id varchar(255) not null,
+    name varchar(255),
+    description text,
+    cost numeric(38,2),
+    is_allergenic boolean,
+    allergen_info varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table category_items (
+    id bigint generated by default as identity,
+    tenant_id varchar(255) not null,
+    category_id bigint not null,
+    name varchar(255),
+    description text,
+    base_price numeric(38,2),
+    image_url varchar(255),
+    sku varchar(255),
+    display_order integer,
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table category_item_customizations (
+    id bigint generated by default as identity,
+    tenant_id varchar(255) not null,
+    category_item_id bigint not null,
+    name varchar(255),
+    price_adjustment numeric(38,2),
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table category_item_components (
+    category_item_id bigint not null,
+    component_id bigint not null,
+    primary key (category_item_id, component_id)
+);
+
+create table customization_components (
+    customization_id bigint not null,
+    component_id bigint not null,
+    primary key (component_id, customization_id)
+);
+
+create table diagnostic_entities (
+    id bigint generated by default as identity,
+    name varchar(255),
+    description varchar(255),
+    primary key (id)
+);
+
+alter table category_items
+    add constraint fk_category_items_category foreign key (category_id) references categories;
+alter table category_item_customizations
+    add constraint fk_customizations_category_item foreign key (category_item_id) references category_items;
+alter table category_item_components
+    add constraint fk_item_components_item foreign key (category_item_id) references category_items;
+alter table category_item_components
+    add constraint fk_item_components_component foreign key (component_id) references components;
+alter table customization_components
+    add constraint fk_customization_components_customization foreign key (customization_id)
+        references category_item_customizations;
+alter table customization_components
+    add constraint fk_customization_components_component foreign key (component_id) references components;
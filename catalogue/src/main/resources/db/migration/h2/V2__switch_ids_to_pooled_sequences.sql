@@ -0,0 +1,18 @@
+-- Replace the identity id columns of BaseEntity tables with one sequence per table, incrementing by the
+-- Hibernate pooled optimizer's allocation size (50). Each sequence starts past the highest existing id,
+-- so rows written before the switch keep their ids and no new id can collide with them.
+
+execute immediate 'create sequence categories_seq start with '
+    || (select coalesce(max(id), 0) + 50 from categories) || ' increment by 50';
+execute immediate 'create sequence components_seq start with '
+    || (select coalesce(max(id), 0) + 50 from components) || ' increment by 50';
+execute immediate 'create sequence category_items_seq start with '
+    || (select coalesce(max(id), 0) + 50 from category_items) || ' increment by 50';
+execute immediate 'create sequence category_item_customizations_seq start with '
+    || (select coalesce(max(id), 0) + 50 from category_item_customizations) || ' increment by 50';
+
+-- Ids are now always assigned by the application, never by the column
+alter table categories alter column id drop identity;
+alter table components alter column id drop identity;
+alter table category_items alter column id drop identity;
+alter table category_item_customizations alter column id drop identity;
@@ -0,0 +1,15 @@
+-- Indexes for the tenant-scoped repository queries, as in the PostgreSQL migration. H2 has no partial
+-- indexes, so queries restricted to active or allergenic rows use the full composite indexes instead, and it
+-- already indexes every foreign key column.
+
+create index idx_categories_tenant_display_order on categories (tenant_key, display_order, id);
+create index idx_categories_tenant_name on categories (tenant_key, name);
+
+create index idx_category_items_tenant_display_order on category_items (tenant_key, display_order, id);
+create index idx_category_items_tenant_category on category_items (tenant_key, category_id);
+create index idx_category_items_tenant_name on category_items (tenant_key, name);
+create index idx_category_items_tenant_sku on category_items (tenant_key, sku);
+
+create index idx_customizations_tenant_item on category_item_customizations (tenant_key, category_item_id);
+
+create index idx_components_tenant_name on components (tenant_key, name);
@@ -0,0 +1,5 @@
+-- Count the catalogue changes of each tenant. Category snapshots persisted to local disk carry the version they
+-- were built from, so a node restarting from them can tell which are still current. Versions 6 and 7 are the
+-- optional partitioning migrations (db/partitioning/postgresql).
+
+alter table tenants add column catalogue_version bigint default 0 not null;
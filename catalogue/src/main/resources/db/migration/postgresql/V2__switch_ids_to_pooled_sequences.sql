@@ -0,0 +1,25 @@
+-- Replace the serial id columns of BaseEntity tables with one sequence per table, incrementing by the
+-- Hibernate pooled optimizer's allocation size (50). Each sequence starts past the highest existing id,
+-- so rows written before the switch keep their ids and no new id can collide with them.
+
+create sequence categories_seq increment by 50;
+create sequence components_seq increment by 50;
+create sequence category_items_seq increment by 50;
+create sequence category_item_customizations_seq increment by 50;
+
+select setval('categories_seq', coalesce(max(id), 0) + 50, false) from categories;
+select setval('components_seq', coalesce(max(id), 0) + 50, false) from components;
+select setval('category_items_seq', coalesce(max(id), 0) + 50, false) from category_items;
+select setval('category_item_customizations_seq', coalesce(max(id), 0) + 50, false)
+    from category_item_customizations;
+
+-- Ids are now always assigned by the application, never by a column default
+alter table categories alter column id drop default;
+alter table components alter column id drop default;
+alter table category_items alter column id drop default;
+alter table category_item_customizations alter column id drop default;
+
+drop sequence if exists categories_id_seq;
+drop sequence if exists components_id_seq;
+drop sequence if exists category_items_id_seq;
+drop sequence if exists category_item_customizations_id_seq;
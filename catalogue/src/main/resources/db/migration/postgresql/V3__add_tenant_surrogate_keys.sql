@@ -0,0 +1,47 @@
+-- Give each tenant a compact integer key. Catalogue rows carry the key instead of repeating the tenant slug,
+-- so tenant-leading indexes hold 4-byte keys and comparisons are integer compares. Slugs of existing rows
+-- become tenants in alphabetical order, and every row is pointed at its tenant before the slug is dropped.
+
+create table tenants (
+    id integer generated by default as identity,
+    slug varchar(255) not null,
+    created_at timestamp(6) default current_timestamp,
+    primary key (id),
+    constraint uk_tenants_slug unique (slug)
+);
+
+insert into tenants (slug)
+    select tenant_id from categories
+    union select tenant_id from components
+    union select tenant_id from category_items
+    union select tenant_id from category_item_customizations
+    order by 1;
+
+alter table categories add column tenant_key integer;
+alter table components add column tenant_key integer;
+alter table category_items add column tenant_key integer;
+alter table category_item_customizations add column tenant_key integer;
+
+update categories c set tenant_key = t.id from tenants t where t.slug = c.tenant_id;
+update components c set tenant_key = t.id from tenants t where t.slug = c.tenant_id;
+update category_items ci set tenant_key = t.id from tenants t where t.slug = ci.tenant_id;
+update category_item_customizations cic set tenant_key = t.id from tenants t where t.slug = cic.tenant_id;
+
+alter table categories alter column tenant_key set not null;
+alter table components alter column tenant_key set not null;
+alter table category_items alter column tenant_key set not null;
+alter table category_item_customizations alter column tenant_key set not null;
+
+alter table categories drop column tenant_id;
+alter table components drop column tenant_id;
+alter table category_items drop column tenant_id;
+alter table category_item_customizations drop column tenant_id;
+
+alter table categories
+    add constraint fk_categories_tenant foreign key (tenant_key) references tenants;
+alter table components
+    add constraint fk_components_tenant foreign key (tenant_key) references tenants;
+alter table category_items
+    add constraint fk_category_items_tenant foreign key (tenant_key) references tenants;
+alter table category_item_customizations
+    add constraint fk_customizations_tenant foreign key (tenant_key) references tenants;
@@ -0,0 +1,28 @@
+-- Indexes for the tenant-scoped repository queries. Every index leads with tenant_key, so a tenant's rows are
+-- one contiguous index range; the second column serves the query's other predicate or its ORDER BY, and
+-- keyset pagination also orders by id. Queries restricted to active rows (or allergenic components) use
+-- partial indexes holding only those rows. Foreign keys that are joined on get their own index, since
+-- PostgreSQL does not create one.
+
+create index idx_categories_tenant_display_order on categories (tenant_key, display_order, id);
+create index idx_categories_tenant_name on categories (tenant_key, name);
+
+create index idx_category_items_tenant_display_order on category_items (tenant_key, display_order, id);
+create index idx_category_items_tenant_display_order_active on category_items (tenant_key, display_order)
+    where active = true;
+create index idx_category_items_tenant_category on category_items (tenant_key, category_id);
+create index idx_category_items_tenant_category_active on category_items (tenant_key, category_id)
+    where active = true;
+create index idx_category_items_tenant_name on category_items (tenant_key, name);
+create index idx_category_items_tenant_sku on category_items (tenant_key, sku);
+create index idx_category_items_category on category_items (category_id);
+
+create index idx_customizations_tenant_item on category_item_customizations (tenant_key, category_item_id);
+create index idx_customizations_tenant_item_active on category_item_customizations (tenant_key, category_item_id)
+    where active = true;
+create index idx_customizations_item on category_item_customizations (category_item_id);
+
+create index idx_components_tenant_name on components (tenant_key, name);
+create index idx_components_tenant_allergenic on components (tenant_key) where is_allergenic = true;
+
+create index idx_customization_components_customization on customization_components (customization_id);
@@ -0,0 +1,18 @@
+-- Carry the tenant key on the component join tables as well, so every catalogue table can be filtered and
+-- partitioned by tenant. Existing links take the key of the item or customization that owns them.
+
+alter table category_item_components add column tenant_key integer;
+alter table customization_components add column tenant_key integer;
+
+update category_item_components l set tenant_key = ci.tenant_key
+    from category_items ci where ci.id = l.category_item_id;
+update customization_components l set tenant_key = cic.tenant_key
+    from category_item_customizations cic where cic.id = l.customization_id;
+
+alter table category_item_components alter column tenant_key set not null;
+alter table customization_components alter column tenant_key set not null;
+
+alter table category_item_components
+    add constraint fk_item_components_tenant foreign key (tenant_key) references tenants;
+alter table customization_components
+    add constraint fk_customization_components_tenant foreign key (tenant_key) references tenants;
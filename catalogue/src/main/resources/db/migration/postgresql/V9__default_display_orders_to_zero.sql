@@ -0,0 +1,11 @@
+-- Listings are keyset-paginated on (display_order, id), and a NULL display order never satisfies the keyset
+-- predicate, so rows without one were skipped or repeated depending on where the database sorts NULLs. Rows
+-- without a display order are listed first, as display order 0, which the column now defaults to.
+
+update categories set display_order = 0 where display_order is null;
+update category_items set display_order = 0 where display_order is null;
+
+alter table categories alter column display_order set default 0;
+alter table categories alter column display_order set not null;
+alter table category_items alter column display_order set default 0;
+alter table category_items alter column display_order set not null;
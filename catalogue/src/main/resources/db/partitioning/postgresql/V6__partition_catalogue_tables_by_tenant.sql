@@ -0,0 +1,152 @@
+-- Optional partitioned schema, applied only when catalogue.schema.partitioning.enabled is set (see
+-- SchemaPartitioningConfig). The tables that grow with a tenant's catalogue are hash-partitioned on tenant_key
+-- into ${partitions} partitions, so each tenant's rows share a partition with few others and vacuum, bloat and
+-- index depth are per partition rather than global. Components stay a single table.
+--
+-- Partitioned tables need the partition key in every unique constraint, so primary keys become
+-- (tenant_key, id) and references between the partitioned tables include tenant_key. The existing rows are
+-- copied into the new tables, and the indexes of V4 are recreated on them; the foreign-key-only indexes are
+-- covered by the composite keys.
+
+alter table customization_components rename to customization_components_unpartitioned;
+alter table category_item_components rename to category_item_components_unpartitioned;
+alter table category_item_customizations rename to category_item_customizations_unpartitioned;
+alter table category_items rename to category_items_unpartitioned;
+alter table categories rename to categories_unpartitioned;
+
+create table categories (
+    id bigint not null,
+    tenant_key integer not null,
+    name varchar(255),
+    description varchar(255),
+    display_order integer,
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+) partition by hash (tenant_key);
+
+create table category_items (
+    id bigint not null,
+    tenant_key integer not null,
+    category_id bigint not null,
+    name varchar(255),
+    description text,
+    base_price numeric(38,2),
+    image_url varchar(255),
+    sku varchar(255),
+    display_order integer,
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+) partition by hash (tenant_key);
+
+create table category_item_customizations (
+    id bigint not null,
+    tenant_key integer not null,
+    category_item_id bigint not null,
+    name varchar(255),
+    price_adjustment numeric(38,2),
+    active boolean default true,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+) partition by hash (tenant_key);
+
+create table category_item_components (
+    tenant_key integer not null,
+    category_item_id bigint not null,
+    component_id bigint not null
+) partition by hash (tenant_key);
+
+create table customization_components (
+    tenant_key integer not null,
+    customization_id bigint not null,
+    component_id bigint not null
+) partition by hash (tenant_key);
+
+do $$
+declare
+    parent text;
+begin
+    foreach parent in array array['categories', 'category_items', 'category_item_customizations',
+            'category_item_components', 'customization_components'] loop
+        for remainder in 0..${partitions} - 1 loop
+            execute format('create table %I partition of %I for values with (modulus %s, remainder %s)',
+                    parent || '_p' || remainder, parent, ${partitions}, remainder);
+        end loop;
+    end loop;
+end
+$$;
+
+insert into categories (id, tenant_key, name, description, display_order, active, created_at, updated_at)
+    select id, tenant_key, name, description, display_order, active, created_at, updated_at
+    from categories_unpartitioned;
+insert into category_items (id, tenant_key, category_id, name, description, base_price, image_url, sku,
+        display_order, active, created_at, updated_at)
+    select id, tenant_key, category_id, name, description, base_price, image_url, sku,
+        display_order, active, created_at, updated_at
+    from category_items_unpartitioned;
+insert into category_item_customizations (id, tenant_key, category_item_id, name, price_adjustment, active,
+        created_at, updated_at)
+    select id, tenant_key, category_item_id, name, price_adjustment, active, created_at, updated_at
+    from category_item_customizations_unpartitioned;
+insert into category_item_components (tenant_key, category_item_id, component_id)
+    select tenant_key, category_item_id, component_id from category_item_components_unpartitioned;
+insert into customization_components (tenant_key, customization_id, component_id)
+    select tenant_key, customization_id, component_id from customization_components_unpartitioned;
+
+drop table customization_components_unpartitioned;
+drop table category_item_components_unpartitioned;
+drop table category_item_customizations_unpartitioned;
+drop table category_items_unpartitioned;
+drop table categories_unpartitioned;
+
+alter table categories add primary key (tenant_key, id);
+alter table category_items add primary key (tenant_key, id);
+alter table category_item_customizations add primary key (tenant_key, id);
+alter table category_item_components add primary key (tenant_key, category_item_id, component_id);
+alter table customization_components add primary key (tenant_key, customization_id, component_id);
+
+alter table categories
+    add constraint fk_categories_tenant foreign key (tenant_key) references tenants;
+alter table category_items
+    add constraint fk_category_items_tenant foreign key (tenant_key) references tenants;
+alter table category_items
+    add constraint fk_category_items_category foreign key (tenant_key, category_id) references categories;
+alter table category_item_customizations
+    add constraint fk_customizations_tenant foreign key (tenant_key) references tenants;
+alter table category_item_customizations
+    add constraint fk_customizations_category_item foreign key (tenant_key, category_item_id)
+        references category_items;
+alter table category_item_components
+    add constraint fk_item_components_tenant foreign key (tenant_key) references tenants;
+alter table category_item_components
+    add constraint fk_item_components_item foreign key (tenant_key, category_item_id) references category_items;
+alter table category_item_components
+    add constraint fk_item_components_component foreign key (component_id) references components;
+alter table customization_components
+    add constraint fk_customization_components_tenant foreign key (tenant_key) references tenants;
+alter table customization_components
+    add constraint fk_customization_components_customization foreign key (tenant_key, customization_id)
+        references category_item_customizations;
+alter table customization_components
+    add constraint fk_customization_components_component foreign key (component_id) references components;
+
+create index idx_categories_tenant_display_order on categories (tenant_key, display_order, id);
+create index idx_categories_tenant_name on categories (tenant_key, name);
+
+create index idx_category_items_tenant_display_order on category_items (tenant_key, display_order, id);
+create index idx_category_items_tenant_display_order_active on category_items (tenant_key, display_order)
+    where active = true;
+create index idx_category_items_tenant_category on category_items (tenant_key, category_id);
+create index idx_category_items_tenant_category_active on category_items (tenant_key, category_id)
+    where active = true;
+create index idx_category_items_tenant_name on category_items (tenant_key, name);
+create index idx_category_items_tenant_sku on category_items (tenant_key, sku);
+
+create index idx_customizations_tenant_item on category_item_customizations (tenant_key, category_item_id);
+create index idx_customizations_tenant_item_active on category_item_customizations (tenant_key, category_item_id)
+    where active = true;
+
+-- The join tables' keys now lead with tenant_key, so links are found by component through their own index
+create index idx_item_components_component on category_item_components (component_id);
+create index idx_customization_components_component on customization_components (component_id);
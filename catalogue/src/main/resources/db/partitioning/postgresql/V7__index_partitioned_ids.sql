@@ -0,0 +1,7 @@
+-- Hibernate loads entities by ID (EntityManager.find, second-level cache misses) without the tenant key, so
+-- those loads cannot be pruned and the (tenant_key, id) primary keys do not serve them. Index the ID on its own,
+-- so a load by ID probes one index per partition instead of scanning every partition.
+
+create index idx_categories_id on categories (id);
+create index idx_category_items_id on category_items (id);
+create index idx_customizations_id on category_item_customizations (id);
@@ -0,0 +1,120 @@
+package com.catalogue.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@DisplayName("Logging Aspect Tests")
+class LoggingAspectTest {
+
+    private final Logger targetLogger = (Logger) LoggerFactory.getLogger(TracedService.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        targetLogger.addAppender(appender);
+        targetLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        targetLogger.detachAppender(appender);
+        targetLogger.setLevel(null);
+    }
+
+    @Nested
+    @DisplayName("Fast Path Tests")
+    class FastPathTests {
+
+        @Test
+        @DisplayName("Should log nothing when DEBUG is off and sampling is disabled")
+        void testNothingLoggedWhenDebugOff() {
+            // Given
+            TracedService service = proxy(0);
+
+            // When
+            service.list();
+
+            // Then
+            assertTrue(appender.list.isEmpty(), "No trace should be logged with DEBUG off");
+        }
+
+        @Test
+        @DisplayName("Should log entry and exit when DEBUG is on")
+        void testEntryAndExitLoggedWhenDebugOn() {
+            // Given
+            targetLogger.setLevel(Level.DEBUG);
+            TracedService service = proxy(0);
+
+            // When
+            service.list();
+
+            // Then
+            assertEquals(2, appender.list.size(), "Entry and exit should be logged at DEBUG");
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling Tests")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("Should log sampled calls at INFO with DEBUG off")
+        void testSampledCallLoggedAtInfo() {
+            // Given
+            TracedService service = proxy(1);
+
+            // When
+            service.list();
+
+            // Then
+            assertEquals(Level.INFO, appender.list.get(0).getLevel(), "Sampled calls should be logged at INFO");
+        }
+
+        @Test
+        @DisplayName("Should summarize the result instead of rendering it")
+        void testResultSummarized() {
+            // Given
+            TracedService service = proxy(1);
+
+            // When
+            service.list();
+
+            // Then
+            assertTrue(appender.list.get(0).getFormattedMessage().contains("returned ListN[3]"),
+                    "The result should be summarized by type and size");
+        }
+    }
+
+    private static TracedService proxy(double sampleRate) {
+        ProxyFactory factory = new ProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new LoggingAspect(sampleRate));
+        return (TracedService) factory.getProxy();
+    }
+
+    /**
+     * Bean whose calls are traced.
+     */
+    static class TracedService {
+
+        public List<String> list() {
+            return List.of("a", "b", "c");
+        }
+    }
+}
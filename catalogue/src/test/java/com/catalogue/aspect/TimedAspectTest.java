@@ -0,0 +1,212 @@
+package com.catalogue.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.catalogue.annotation.Timed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+@DisplayName("Timed Aspect Tests")
+class TimedAspectTest {
+
+    private MeterRegistry registry;
+    private TimedService timedService;
+    private TimedClassService timedClassService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        TimedAspect aspect = new TimedAspect(registry);
+        timedService = proxy(new TimedService(), aspect);
+        timedClassService = proxy(new TimedClassService(), aspect);
+    }
+
+    @Nested
+    @DisplayName("Timer Tests")
+    class TimerTests {
+
+        @Test
+        @DisplayName("Should record a successful call under the annotation's name")
+        void testSuccessRecorded() {
+            // When
+            timedService.lookup();
+
+            // Then
+            assertEquals(1, registry.get("test.lookup").tag("outcome", "success").timer().count(),
+                    "One successful call should be recorded");
+        }
+
+        @Test
+        @DisplayName("Should record a failed call with the error outcome")
+        @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts") // The failure is provoked, not under test
+        void testFailureRecorded() {
+            // When
+            assertThrows(IllegalStateException.class, () -> timedService.fail());
+
+            // Then
+            assertEquals(1, registry.get("test.fail").tag("outcome", "error").timer().count(),
+                    "The failed call should be recorded with the error outcome");
+        }
+
+        @Test
+        @DisplayName("Should add the declared extra tags")
+        void testExtraTags() {
+            // When
+            timedService.lookup();
+
+            // Then
+            assertEquals(1, registry.get("test.lookup").tag("layer", "service").timer().count(),
+                    "Extra tags written as key=value should be added to the timer");
+        }
+
+        @Test
+        @DisplayName("Should use the default name with class and method tags when none is given")
+        void testDefaultName() {
+            // When
+            timedClassService.list();
+
+            // Then
+            assertEquals(1, registry.get(TimedAspect.DEFAULT_METRIC_NAME)
+                    .tags("class", "TimedClassService", "method", "list", "outcome", "success").timer().count(),
+                    "Methods of a @Timed class should be recorded under the default name");
+        }
+
+        @Test
+        @DisplayName("Should reuse the meters of a method across calls")
+        void testMetersCachedPerMethod() {
+            // Given
+            timedService.lookup();
+            int meterCount = registry.getMeters().size();
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                timedService.lookup();
+            }
+
+            // Then
+            assertEquals(meterCount, registry.getMeters().size(), "Repeated calls should not register new meters");
+        }
+    }
+
+    @Nested
+    @DisplayName("Percentile Tests")
+    class PercentileTests {
+
+        @Test
+        @DisplayName("Should publish the declared percentiles")
+        void testPercentilesPublished() {
+            // Given
+            timedService.lookup();
+
+            // When
+            ValueAtPercentile[] percentiles = registry.get("test.lookup").tag("outcome", "success").timer()
+                    .takeSnapshot().percentileValues();
+
+            // Then
+            assertEquals("[0.5, 0.99]", Arrays.toString(Arrays.stream(percentiles)
+                    .mapToDouble(ValueAtPercentile::percentile).toArray()),
+                    "The percentiles declared on the annotation should be published");
+        }
+
+        @Test
+        @DisplayName("Should export a histogram in Prometheus format when percentiles are declared")
+        void testHistogramExportedToPrometheus() {
+            // Given
+            PrometheusMeterRegistry prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            TimedService prometheusTimedService = proxy(new TimedService(), new TimedAspect(prometheusRegistry));
+
+            // When
+            prometheusTimedService.lookup();
+
+            // Then
+            assertTrue(prometheusRegistry.scrape().contains("test_lookup_seconds_bucket{"),
+                    "Declaring percentiles should export histogram buckets");
+        }
+    }
+
+    @Nested
+    @DisplayName("Long Task Tests")
+    class LongTaskTests {
+
+        @Test
+        @DisplayName("Should count the task as active while it runs")
+        void testLongTaskActiveDuringCall() {
+            // When
+            int activeDuringCall = timedService.longRunning(
+                    () -> registry.get("test.import.active").longTaskTimer().activeTasks());
+
+            // Then
+            assertEquals(1, activeDuringCall, "The running task should be active");
+        }
+
+        @Test
+        @DisplayName("Should no longer count the task once it completed")
+        void testLongTaskInactiveAfterCall() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            timedService.longRunning(calls::incrementAndGet);
+
+            // When
+            int active = registry.get("test.import.active").longTaskTimer().activeTasks();
+
+            // Then
+            assertEquals(0, active, "A completed task should not be active");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, TimedAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    /**
+     * Bean with individually timed methods.
+     */
+    static class TimedService {
+
+        @Timed(value = "test.lookup", extraTags = "layer=service", percentiles = {0.5, 0.99})
+        public String lookup() {
+            return "found";
+        }
+
+        @Timed("test.fail")
+        public String fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        @Timed(value = "test.import", longTask = true)
+        public int longRunning(IntSupplier task) {
+            return task.getAsInt();
+        }
+    }
+
+    /**
+     * Bean timed as a whole.
+     */
+    @Timed
+    static class TimedClassService {
+
+        public String list() {
+            return "listed";
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Allergen Index Tests")
+class AllergenIndexTest {
+
+    private static final Long PASTA_ID = 1L;
+    private static final Long SALAD_ID = 2L;
+    private static final Long DESSERT_ID = 3L;
+    private static final Long EXTRA_CHEESE_ID = 10L;
+
+    private final AllergenIndex index = AllergenIndex.build(
+            List.of(
+                    new Object[] {PASTA_ID, "Contains gluten, eggs"},
+                    new Object[] {PASTA_ID, "Contains dairy"},
+                    new Object[] {DESSERT_ID, null}),
+            List.<Object[]>of(new Object[] {EXTRA_CHEESE_ID, "Contains dairy"}));
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should read the allergens named after 'Contains'")
+        void testContainsListParsed() {
+            // When
+            Set<String> allergens = AllergenIndex.parse("Contains Gluten, eggs and dairy");
+
+            // Then
+            assertEquals(Set.of("gluten", "egg", "dairy"), allergens, "Each named allergen should be read singular");
+        }
+
+        @Test
+        @DisplayName("Should read no allergens from missing info")
+        void testMissingInfoParsed() {
+            // When / Then
+            assertTrue(AllergenIndex.parse(null).isEmpty(), "Missing info should name no allergens");
+        }
+    }
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should match an item containing an excluded allergen in any case")
+        void testItemWithAllergenMatched() {
+            // When / Then
+            assertTrue(index.itemContainsAny(PASTA_ID, index.maskOf(List.of("DAIRY"))),
+                    "An item with a dairy component should match a dairy exclusion");
+        }
+
+        @Test
+        @DisplayName("Should not match an item without allergenic components")
+        void testItemWithoutAllergensNotMatched() {
+            // When / Then
+            assertFalse(index.itemContainsAny(SALAD_ID, index.maskOf(List.of("dairy", "nuts"))),
+                    "An item without allergens should pass any exclusion");
+        }
+
+        @Test
+        @DisplayName("Should not match an item whose allergens are not excluded")
+        void testOtherAllergensNotMatched() {
+            // When / Then
+            assertFalse(index.itemContainsAny(PASTA_ID, index.maskOf(List.of("nuts"))),
+                    "An item should pass an exclusion of allergens it does not contain");
+        }
+
+        @Test
+        @DisplayName("Should match an item with an unlabelled allergenic component on any exclusion")
+        void testUnlabelledAllergenMatched() {
+            // When / Then
+            assertTrue(index.itemContainsAny(DESSERT_ID, index.maskOf(List.of("nuts"))),
+                    "An allergen that is not named should never pass a dietary filter");
+        }
+
+        @Test
+        @DisplayName("Should match a singular exclusion to an allergen declared as a plural")
+        void testSingularExclusionMatchesPlural() {
+            // When
+            BitSet mask = index.maskOf(List.of("Egg"));
+
+            // Then
+            assertTrue(index.itemContainsAny(PASTA_ID, mask), "'egg' should match an item containing 'eggs'");
+        }
+
+        @Test
+        @DisplayName("Should match a plural exclusion to an allergen declared as a singular")
+        void testPluralExclusionMatchesSingular() {
+            // Given
+            AllergenIndex singularIndex = AllergenIndex.build(
+                    List.<Object[]>of(new Object[] {PASTA_ID, "Contains egg, tree nut"}), List.of());
+
+            // When
+            BitSet mask = singularIndex.maskOf(List.of("tree  nuts"));
+
+            // Then
+            assertTrue(singularIndex.itemContainsAny(PASTA_ID, mask), "'tree nuts' should match 'tree nut'");
+        }
+
+        @Test
+        @DisplayName("Should report the allergens no component declares")
+        void testUndeclaredAllergensReported() {
+            // When
+            List<String> undeclared = index.undeclared(List.of("EGGS", "nuts", "dairy"));
+
+            // Then
+            assertEquals(List.of("nuts"), undeclared, "Only the allergen no component names should be reported");
+        }
+
+        @Test
+        @DisplayName("Should match a customization containing an excluded allergen")
+        void testCustomizationWithAllergenMatched() {
+            // When / Then
+            assertTrue(index.customizationContainsAny(EXTRA_CHEESE_ID, index.maskOf(List.of("dairy"))),
+                    "A customization with a dairy component should match a dairy exclusion");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.catalogue.controller.CategoryController;
+import com.catalogue.dto.ApiResponse;
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.service.CategoryService;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Category Snapshot Cache Tests")
+class CategorySnapshotCacheTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final Duration TTL = Duration.ofSeconds(600);
+    private static final Duration SOFT_TTL = Duration.ofSeconds(300);
+    private static final LocalDateTime RESPONSE_TIME = LocalDateTime.of(2026, 10, 17, 12, 30);
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private CatalogueVersions catalogueVersions;
+
+    private ObjectMapper objectMapper;
+    private CategorySnapshotCache snapshotCache;
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        now = new AtomicLong();
+        // Run rebuilds on the calling thread so assertions see their result immediately
+        snapshotCache = new CategorySnapshotCache(categoryService, catalogueVersions, new TenantContextHolder(),
+                objectMapper, 1, TTL, Duration.ofSeconds(5), Runnable::run, now::get);
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should serialize without indentation")
+        void testSnapshotIsCompact() {
+            // Given
+            when(categoryService.getAllCategories()).thenReturn(List.of(category("Appetizers")));
+
+            // When
+            String body = new String(snapshotCache.responseBody(snapshotCache.get(TENANT_ID), RESPONSE_TIME),
+                    StandardCharsets.UTF_8);
+
+            // Then
+            assertFalse(body.contains("\n"), "Snapshot body should be compact JSON");
+        }
+
+        @Test
+        @DisplayName("Should stamp the response with the time of the request, not of the build")
+        void testResponseStampedAtRequestTime() throws Exception {
+            // Given
+            List<CategoryDTO> categories = List.of(category("Appetizers"));
+            when(categoryService.getAllCategories()).thenReturn(categories);
+            CategorySnapshot snapshot = snapshotCache.get(TENANT_ID);
+            ApiResponse<List<CategoryDTO>> expected = ApiResponse.success(CategorySnapshotCache.SUCCESS_MESSAGE,
+                    categories);
+            expected.setTimestamp(RESPONSE_TIME);
+
+            // When
+            byte[] body = snapshotCache.responseBody(snapshot, RESPONSE_TIME);
+
+            // Then
+            assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(expected)), objectMapper.readTree(body),
+                    "The response should be the regular catalogue response, with the request's timestamp");
+        }
+
+        @Test
+        @DisplayName("Should build the snapshot only once for repeated reads")
+        void testSnapshotIsReused() {
+            // Given
+            when(categoryService.getAllCategories()).thenReturn(List.of(category("Appetizers")));
+            CategorySnapshot first = snapshotCache.get(TENANT_ID);
+
+            // When
+            CategorySnapshot second = snapshotCache.get(TENANT_ID);
+
+            // Then
+            assertSame(first, second, "The snapshot should be reused while the tree is the same");
+        }
+
+        @Test
+        @DisplayName("Should match its own ETag in If-None-Match")
+        void testSnapshotMatchesOwnEtag() {
+            // Given
+            when(categoryService.getAllCategories()).thenReturn(List.of(category("Appetizers")));
+            CategorySnapshot snapshot = snapshotCache.get(TENANT_ID);
+
+            // When
+            boolean matches = snapshot.matches("\"other\", " + snapshot.getEtag());
+
+            // Then
+            assertTrue(matches, "Snapshot should match when its ETag is listed in If-None-Match");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should keep the ETag when the rebuilt menu is unchanged")
+        void testEtagStableForUnchangedMenu() {
+            // Given
+            when(categoryService.getAllCategories()).thenReturn(List.of(category("Appetizers")));
+            String originalEtag = snapshotCache.get(TENANT_ID).getEtag();
+
+            // When
+            snapshotCache.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+
+            // Then
+            assertEquals(originalEtag, snapshotCache.get(TENANT_ID).getEtag(),
+                    "ETag should only change when the menu content changes");
+        }
+
+        @Test
+        @DisplayName("Should change the ETag after the menu changes")
+        void testEtagChangesWhenMenuChanges() {
+            // Given
+            when(categoryService.getAllCategories())
+                    .thenReturn(List.of(category("Appetizers")))
+                    .thenReturn(List.of(category("Desserts")));
+            String originalEtag = snapshotCache.get(TENANT_ID).getEtag();
+
+            // When
+            snapshotCache.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+
+            // Then
+            assertNotEquals(originalEtag, snapshotCache.get(TENANT_ID).getEtag(),
+                    "ETag should change once the background rebuild picked up the new menu");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tree Refresh Tests")
+    class TreeRefreshTests {
+
+        private final List<Runnable> refreshes = new ArrayList<>();
+        private final AtomicReference<String> menu = new AtomicReference<>("Appetizers");
+        private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+        private CategoryController controller;
+
+        @BeforeEach
+        void setUp() {
+            // The service reads through a real tree cache, whose refreshes run when a test says so
+            CategoryTreeCache treeCache = new CategoryTreeCache(100, TTL, SOFT_TTL, Duration.ofSeconds(5),
+                    new SimpleMeterRegistry(), tenantContextHolder, refreshes::add, now::get);
+            when(categoryService.getAllCategories()).thenAnswer(invocation -> treeCache.get(
+                    tenantContextHolder.getTenantId(), tenantId -> List.of(category(menu.get()))));
+            controller = new CategoryController(categoryService, tenantContextHolder, snapshotCache, null, null);
+        }
+
+        @Test
+        @DisplayName("Should keep serving the cached snapshot while a stale tree is refreshed")
+        void testStaleSnapshotServedDuringRefresh() {
+            // Given
+            controller.getAllCategories(TENANT_ID, null);
+            menu.set("Desserts");
+            now.addAndGet(SOFT_TTL.plusSeconds(1).toNanos());
+
+            // When
+            String body = bodyOf(controller.getAllCategories(TENANT_ID, null));
+
+            // Then
+            assertTrue(body.contains("Appetizers"), "The stale catalogue should be served until it is refreshed");
+        }
+
+        @Test
+        @DisplayName("Should serve the refreshed tree once the soft TTL has passed")
+        void testRefreshedTreeServedAfterSoftTtl() {
+            // Given
+            controller.getAllCategories(TENANT_ID, null);
+            menu.set("Desserts");
+            now.addAndGet(SOFT_TTL.plusSeconds(1).toNanos());
+            controller.getAllCategories(TENANT_ID, null);
+            refreshes.forEach(Runnable::run);
+
+            // When
+            String body = bodyOf(controller.getAllCategories(TENANT_ID, null));
+
+            // Then
+            assertTrue(body.contains("Desserts"), "The catalogue refreshed by the tree cache should be served");
+        }
+
+        private String bodyOf(ResponseEntity<byte[]> response) {
+            return new String(response.getBody(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static CategoryDTO category(String name) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setName(name);
+        return dto;
+    }
+}
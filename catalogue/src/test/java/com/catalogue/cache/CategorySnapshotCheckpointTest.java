@@ -0,0 +1,213 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.service.CategoryService;
+import com.catalogue.tenant.TenantSchemaRouter;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+@DisplayName("Category Snapshot Checkpoint Tests")
+class CategorySnapshotCheckpointTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final byte[] DATA = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+    private JdbcTemplate jdbcTemplate;
+    private CatalogueVersions catalogueVersions;
+    private List<Runnable> queuedRebuilds;
+    private CategorySnapshotCache snapshotCache;
+    private CategorySnapshotCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO tenants (slug) VALUES (?)", TENANT_ID);
+        catalogueVersions = new CatalogueVersions(new TenantSchemaRouter(jdbcTemplate, null));
+        queuedRebuilds = new ArrayList<>();
+        snapshotCache = new CategorySnapshotCache(mock(CategoryService.class), catalogueVersions,
+                new TenantContextHolder(), new ObjectMapper(), 100, Duration.ofMinutes(10), Duration.ofSeconds(5),
+                queuedRebuilds::add, Ticker.systemTicker());
+        path = directory.resolve("category-snapshots.bin");
+        checkpoint = new CategorySnapshotCheckpoint(path, 60, snapshotCache, catalogueVersions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Nested
+    @DisplayName("File Tests")
+    class FileTests {
+
+        @Test
+        @DisplayName("Should read back the snapshots it wrote")
+        void testRoundTrip() throws IOException {
+            // Given
+            CategorySnapshotFile.write(path, Map.of(TENANT_ID, new CategorySnapshot(DATA, "\"etag\"", 3)));
+
+            // When
+            CategorySnapshot snapshot = CategorySnapshotFile.read(path).get(TENANT_ID);
+
+            // Then
+            assertArrayEquals(DATA, snapshot.getData(), "The category tree should survive the round trip");
+        }
+
+        @Test
+        @DisplayName("Should reject a file whose contents were modified")
+        void testCorruptFileRejected() throws IOException {
+            // Given
+            CategorySnapshotFile.write(path, Map.of(TENANT_ID, new CategorySnapshot(DATA, "\"etag\"", 3)));
+            byte[] contents = Files.readAllBytes(path);
+            contents[contents.length - 2] ^= 1;
+            Files.write(path, contents);
+
+            // When / Then
+            assertThrows(IOException.class, () -> CategorySnapshotFile.read(path),
+                    "A checksum mismatch should be reported");
+        }
+
+        @Test
+        @DisplayName("Should reject a truncated file")
+        void testTruncatedFileRejected() throws IOException {
+            // Given
+            Files.write(path, new byte[] {0x43, 0x41});
+
+            // When / Then
+            assertThrows(IOException.class, () -> CategorySnapshotFile.read(path),
+                    "A file shorter than the header should be reported");
+        }
+    }
+
+    @Nested
+    @DisplayName("Restore Tests")
+    class RestoreTests {
+
+        @Test
+        @DisplayName("Should serve a persisted snapshot whose catalogue version is current")
+        void testCurrentSnapshotServed() throws IOException {
+            // Given
+            persist(catalogueVersions.versionOf(TENANT_ID));
+
+            // When
+            checkpoint.restore();
+
+            // Then
+            assertArrayEquals(DATA, snapshotCache.get(TENANT_ID).getData(),
+                    "The restored snapshot should be served without building it");
+        }
+
+        @Test
+        @DisplayName("Should rebuild restored snapshots in the background")
+        void testRestoredSnapshotRebuilt() throws IOException {
+            // Given
+            persist(catalogueVersions.versionOf(TENANT_ID));
+
+            // When
+            checkpoint.restore();
+
+            // Then
+            assertEquals(1, queuedRebuilds.size(), "A rebuild should be queued for the restored tenant");
+        }
+
+        @Test
+        @DisplayName("Should drop a snapshot of a tenant whose catalogue changed since")
+        void testOutdatedSnapshotDropped() throws IOException {
+            // Given
+            persist(catalogueVersions.versionOf(TENANT_ID));
+            catalogueVersions.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+
+            // When
+            int restored = checkpoint.restore();
+
+            // Then
+            assertEquals(0, restored, "A snapshot older than the catalogue should not be restored");
+        }
+
+        @Test
+        @DisplayName("Should not count changes received from other nodes")
+        void testRemoteChangeNotCounted() throws IOException {
+            // Given
+            persist(catalogueVersions.versionOf(TENANT_ID));
+            catalogueVersions.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID, true));
+
+            // When
+            int restored = checkpoint.restore();
+
+            // Then
+            assertEquals(1, restored, "The node that made a change counts it");
+        }
+
+        @Test
+        @DisplayName("Should start cold when the file is unreadable")
+        void testUnreadableFileIgnored() throws IOException {
+            // Given
+            Files.write(path, new byte[] {1, 2, 3});
+
+            // When
+            int restored = checkpoint.restore();
+
+            // Then
+            assertEquals(0, restored, "An unreadable file should be ignored");
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoint Tests")
+    class CheckpointTests {
+
+        @Test
+        @DisplayName("Should not rewrite the file while the snapshots are unchanged")
+        void testUnchangedSnapshotsNotRewritten() throws IOException {
+            // Given
+            persist(catalogueVersions.versionOf(TENANT_ID));
+            checkpoint.restore();
+            checkpoint.save();
+            Files.delete(path);
+
+            // When
+            checkpoint.save();
+
+            // Then
+            assertFalse(Files.exists(path), "Unchanged snapshots should not be written again");
+        }
+    }
+
+    private void persist(long version) throws IOException {
+        CategorySnapshotFile.write(path, Map.of(TENANT_ID, new CategorySnapshot(DATA, "\"etag\"", version)));
+    }
+}
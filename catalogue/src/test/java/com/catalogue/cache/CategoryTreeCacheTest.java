@@ -0,0 +1,392 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.exception.CacheLoadTimeoutException;
+import com.common.tenant.TenantContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Category Tree Cache Tests")
+class CategoryTreeCacheTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final int CALLERS = 32;
+    private static final Duration SOFT_TTL = Duration.ofSeconds(300);
+    private static final Duration HARD_TTL = Duration.ofSeconds(600);
+
+    private CategoryTreeCache categoryTreeCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TenantContextHolder tenantContextHolder;
+    private AtomicLong now;
+    private List<Runnable> queuedRefreshes;
+    private AtomicInteger loads;
+    private Function<String, List<CategoryDTO>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tenantContextHolder = new TenantContextHolder();
+        now = new AtomicLong();
+        queuedRefreshes = new ArrayList<>();
+        categoryTreeCache = cache(Duration.ofSeconds(5));
+        loads = new AtomicInteger();
+        loader = tenantId -> {
+            CategoryDTO category = new CategoryDTO();
+            category.setName("Version " + loads.incrementAndGet());
+            return List.of(category);
+        };
+    }
+
+    @Nested
+    @DisplayName("Read-through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should load only once for repeated reads of the same tenant")
+        void testRepeatedReadsLoadOnce() {
+            // When
+            categoryTreeCache.get(TENANT_ID, loader);
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals(1, loads.get(), "Second read should be served from the cache");
+        }
+
+        @Test
+        @DisplayName("Should load separately for each tenant")
+        void testTenantsAreCachedSeparately() {
+            // When
+            categoryTreeCache.get(TENANT_ID, loader);
+            categoryTreeCache.get("tenant2", loader);
+
+            // Then
+            assertEquals(2, loads.get(), "Each tenant should have its own cache entry");
+        }
+
+        @Test
+        @DisplayName("Should publish hit counts to the meter registry")
+        void testHitsArePublishedAsMetrics() {
+            // When
+            categoryTreeCache.get(TENANT_ID, loader);
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals(1.0, meterRegistry.get("cache.gets")
+                            .tag("cache", CategoryTreeCache.CACHE_NAME)
+                            .tag("result", "hit")
+                            .functionCounter().count(),
+                    "One cache hit should be recorded");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should reload after a catalogue change event for the tenant")
+        void testChangeEventEvictsTenant() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // When
+            categoryTreeCache.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals(2, loads.get(), "Tree should be reloaded after the tenant's catalogue changed");
+        }
+
+        @Test
+        @DisplayName("Should keep other tenants cached after a change event")
+        void testChangeEventDoesNotEvictOtherTenants() {
+            // Given
+            categoryTreeCache.get("tenant2", loader);
+
+            // When
+            categoryTreeCache.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+            categoryTreeCache.get("tenant2", loader);
+
+            // Then
+            assertEquals(1, loads.get(), "Other tenants should still be served from the cache");
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            executor = Executors.newFixedThreadPool(CALLERS);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Should load once per expiry for concurrent misses of a tenant")
+        void testConcurrentMissesLoadOncePerExpiry() throws Exception {
+            // Given
+            getConcurrently(loader);
+            categoryTreeCache.evict(TENANT_ID);
+
+            // When
+            getConcurrently(loader);
+
+            // Then
+            assertEquals(2, loads.get(), "Concurrent misses should share one load for each expiry");
+        }
+
+        @Test
+        @DisplayName("Should rethrow a failed load to every waiting caller")
+        void testFailureReachesEveryCaller() throws Exception {
+            // Given
+            Function<String, List<CategoryDTO>> failingLoader = tenantId -> {
+                throw new IllegalStateException("Database unavailable");
+            };
+
+            // When
+            List<Throwable> failures = getConcurrently(failingLoader);
+
+            // Then
+            assertEquals(CALLERS, failures.size(), "Every caller should see the failure of the load");
+        }
+
+        @Test
+        @DisplayName("Should stop waiting for a concurrent load after the timeout")
+        void testWaitTimesOut() throws Exception {
+            // Given
+            categoryTreeCache = cache(Duration.ofMillis(50));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.submit(() -> categoryTreeCache.get(TENANT_ID, tenantId -> {
+                started.countDown();
+                awaitQuietly(release);
+                return List.of();
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // When / Then
+            try {
+                assertThrows(CacheLoadTimeoutException.class, () -> categoryTreeCache.get(TENANT_ID, loader),
+                        "A caller should give up waiting for a load that takes longer than the timeout");
+            } finally {
+                release.countDown();
+            }
+        }
+
+        /**
+         * Read the tree from {@link #CALLERS} threads at once. The loader only returns once every caller has
+         * arrived, so all but the first caller miss while the load is in flight.
+         */
+        private List<Throwable> getConcurrently(Function<String, List<CategoryDTO>> delegate) throws Exception {
+            CountDownLatch arrived = new CountDownLatch(CALLERS);
+            Function<String, List<CategoryDTO>> gatedLoader = tenantId -> {
+                awaitQuietly(arrived);
+                return delegate.apply(tenantId);
+            };
+            List<Future<List<CategoryDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return categoryTreeCache.get(TENANT_ID, gatedLoader);
+                }));
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<List<CategoryDTO>> result : results) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        }
+
+        private void awaitQuietly(CountDownLatch latch) {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale-While-Revalidate Tests")
+    class StaleWhileRevalidateTests {
+
+        @Test
+        @DisplayName("Should serve a tree past the soft TTL without loading it")
+        void testStaleTreeServed() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+
+            // When
+            List<CategoryDTO> tree = categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals("Version 1", tree.get(0).getName(), "The stale tree should be returned at once");
+        }
+
+        @Test
+        @DisplayName("Should serve the refreshed tree once the background refresh has run")
+        void testRefreshedTreeServed() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // When
+            runQueuedRefreshes();
+
+            // Then
+            assertEquals("Version 2", categoryTreeCache.get(TENANT_ID, loader).get(0).getName(),
+                    "The refreshed tree should replace the stale one");
+        }
+
+        @Test
+        @DisplayName("Should queue one refresh per tenant however often the stale tree is read")
+        void testOneRefreshQueued() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+
+            // When
+            for (int i = 0; i < 3; i++) {
+                categoryTreeCache.get(TENANT_ID, loader);
+            }
+
+            // Then
+            assertEquals(1, queuedRefreshes.size(), "Reads of a tree being refreshed should not queue more refreshes");
+        }
+
+        @Test
+        @DisplayName("Should load synchronously past the hard TTL")
+        void testExpiredTreeLoaded() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(HARD_TTL.plusSeconds(1));
+
+            // When
+            List<CategoryDTO> tree = categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals("Version 2", tree.get(0).getName(), "An expired tree should be loaded by the request");
+        }
+
+        @Test
+        @DisplayName("Should refresh in the tenant's context")
+        void testRefreshRunsInTenantContext() {
+            // Given
+            List<String> tenants = new ArrayList<>();
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+            categoryTreeCache.get(TENANT_ID, tenantId -> {
+                tenants.add(tenantContextHolder.getTenantId());
+                return loader.apply(tenantId);
+            });
+
+            // When
+            runQueuedRefreshes();
+
+            // Then
+            assertEquals(List.of(TENANT_ID), tenants, "The refresh should see the tenant it refreshes");
+        }
+
+        @Test
+        @DisplayName("Should keep serving the stale tree when a refresh fails")
+        void testFailedRefreshKeepsStaleTree() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+            categoryTreeCache.get(TENANT_ID, tenantId -> {
+                throw new IllegalStateException("Database unavailable");
+            });
+            runQueuedRefreshes();
+
+            // When
+            List<CategoryDTO> tree = categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals("Version 1", tree.get(0).getName(), "A failed refresh should leave the stale tree in place");
+        }
+
+        @Test
+        @DisplayName("Should count refreshes by result")
+        void testRefreshesCounted() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(1));
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // When
+            runQueuedRefreshes();
+
+            // Then
+            assertEquals(1.0, meterRegistry.get("catalogue.cache.category-tree.refreshes")
+                            .tag("result", "success").counter().count(),
+                    "One successful refresh should be recorded");
+        }
+
+        @Test
+        @DisplayName("Should record the age of stale trees served")
+        void testStalenessRecorded() {
+            // Given
+            categoryTreeCache.get(TENANT_ID, loader);
+            advance(SOFT_TTL.plusSeconds(10));
+
+            // When
+            categoryTreeCache.get(TENANT_ID, loader);
+
+            // Then
+            assertEquals((double) SOFT_TTL.plusSeconds(10).toSeconds(),
+                    meterRegistry.get("catalogue.cache.category-tree.staleness").timer().max(TimeUnit.SECONDS),
+                    "The age of the stale tree should be recorded");
+        }
+    }
+
+    private CategoryTreeCache cache(Duration loadTimeout) {
+        return new CategoryTreeCache(10, HARD_TTL, SOFT_TTL, loadTimeout, meterRegistry, tenantContextHolder,
+                queuedRefreshes::add, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private void runQueuedRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>(queuedRefreshes);
+        queuedRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+}
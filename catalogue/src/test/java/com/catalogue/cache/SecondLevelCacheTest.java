@@ -0,0 +1,240 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.catalogue.config.SecondLevelCacheConfig;
+import com.catalogue.model.Category;
+import com.catalogue.repository.CategoryRepository;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the second-level cache on H2, with each read and write in a committed transaction of its own, as
+ * requests would.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-Level Cache Tests")
+class SecondLevelCacheTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final String OTHER_TENANT_ID = "tenant2";
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    @Autowired
+    private SecondLevelCacheEviction secondLevelCacheEviction;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        tenantRegistry.register(TENANT_ID);
+        tenantRegistry.register(OTHER_TENANT_ID);
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should serve a category loaded again from the cache")
+        void testCategoryServedFromCache() {
+            // Given
+            Long categoryId = saveCategory(TENANT_ID);
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits + 1, hits(CatalogueCacheRegions.CATEGORY),
+                    "A category cached on insert should not be read from the database again");
+        }
+
+        @Test
+        @DisplayName("Should serve a category's items collection from the cache")
+        void testCollectionServedFromCache() {
+            // Given
+            Long categoryId = saveCategory(TENANT_ID);
+            inTenant(TENANT_ID, () -> findCategory(categoryId).getCategoryItems().size());
+            double hits = hits(CatalogueCacheRegions.CATEGORY_ITEMS);
+
+            // When
+            inTenant(TENANT_ID, () -> findCategory(categoryId).getCategoryItems().size());
+
+            // Then
+            assertEquals(hits + 1, hits(CatalogueCacheRegions.CATEGORY_ITEMS),
+                    "A loaded collection should not be read from the database again");
+        }
+
+        @Test
+        @DisplayName("Should not serve a tenant's entries to another tenant")
+        void testTenantsDoNotShareEntries() {
+            // Given
+            Long categoryId = saveCategory(TENANT_ID);
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(OTHER_TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits, hits(CatalogueCacheRegions.CATEGORY),
+                    "Cache keys should include the tenant of the session");
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict a tenant's entries")
+        void testTenantEvicted() {
+            // Given
+            Long categoryId = saveCategory(TENANT_ID);
+            secondLevelCacheEviction.evictTenant(TENANT_ID);
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits, hits(CatalogueCacheRegions.CATEGORY),
+                    "An evicted category should be read from the database");
+        }
+
+        @Test
+        @DisplayName("Should keep other tenants' entries when evicting a tenant")
+        void testOtherTenantsKept() {
+            // Given
+            Long categoryId = saveCategory(OTHER_TENANT_ID);
+            secondLevelCacheEviction.evictTenant(TENANT_ID);
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(OTHER_TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits + 1, hits(CatalogueCacheRegions.CATEGORY),
+                    "Another tenant's category should still be cached");
+        }
+
+        @Test
+        @DisplayName("Should keep other tenants' entries cached alongside an evicted tenant's")
+        void testOnlyEvictedTenantRemoved() {
+            // Given
+            saveCategory(TENANT_ID);
+            Long categoryId = saveCategory(OTHER_TENANT_ID);
+            secondLevelCacheEviction.evictTenant(TENANT_ID);
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(OTHER_TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits + 1, hits(CatalogueCacheRegions.CATEGORY),
+                    "Evicting a tenant should remove its indexed keys only");
+        }
+
+        @Test
+        @DisplayName("Should evict every entry")
+        void testAllEvicted() {
+            // Given
+            Long categoryId = saveCategory(OTHER_TENANT_ID);
+            secondLevelCacheEviction.evictAll();
+            double hits = hits(CatalogueCacheRegions.CATEGORY);
+
+            // When
+            findCategory(OTHER_TENANT_ID, categoryId);
+
+            // Then
+            assertEquals(hits, hits(CatalogueCacheRegions.CATEGORY),
+                    "No category should be cached after evicting every entry");
+        }
+    }
+
+    private Long saveCategory(String tenantId) {
+        return inTenant(tenantId, () -> {
+            Category category = new Category();
+            category.setName("Starters");
+            category.setDisplayOrder(0);
+            category.setActive(true);
+            return categoryRepository.save(category).getId();
+        });
+    }
+
+    private void findCategory(String tenantId, Long categoryId) {
+        inTenant(tenantId, () -> findCategory(categoryId));
+    }
+
+    private Category findCategory(Long categoryId) {
+        return entityManager.find(Category.class, categoryId);
+    }
+
+    private <T> T inTenant(String tenantId, Supplier<T> work) {
+        tenantContextHolder.setTenantId(tenantId);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> work.get());
+        } finally {
+            tenantContextHolder.clear();
+        }
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+    }
+
+    /**
+     * Minimal JPA configuration with the second-level cache enabled.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({SecondLevelCacheConfig.class, SecondLevelCacheEviction.class, TenantContextHolder.class,
+        TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
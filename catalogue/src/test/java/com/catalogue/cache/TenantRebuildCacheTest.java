@@ -0,0 +1,230 @@
+package com.catalogue.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.common.tenant.TenantContextHolder;
+
+@DisplayName("Tenant Rebuild Cache Tests")
+class TenantRebuildCacheTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final Duration TTL = Duration.ofSeconds(600);
+
+    private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+    private final AtomicReference<String> menu = new AtomicReference<>("Pizza");
+    private final AtomicInteger builds = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> queuedRebuilds = new ArrayList<>();
+    private final List<Map<String, String>> published = new ArrayList<>();
+    private TenantRebuildCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TenantRebuildCache<>("menu", tenantContextHolder, tenantId -> build(), 2, TTL,
+                Duration.ofSeconds(5), queuedRebuilds::add, now::get, published::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextHolder.clear();
+    }
+
+    @Nested
+    @DisplayName("Build Tests")
+    class BuildTests {
+
+        @Test
+        @DisplayName("Should build a tenant's value once for repeated reads")
+        void testValueBuiltOnce() {
+            // When
+            cache.get(TENANT_ID);
+            cache.get(TENANT_ID);
+
+            // Then
+            assertEquals(1, builds.get(), "The value should be built on the first read only");
+        }
+
+        @Test
+        @DisplayName("Should build with the tenant as the current tenant and restore the caller's")
+        void testBuiltInTenantContext() {
+            // Given
+            tenantContextHolder.setTenantId("caller");
+
+            // When
+            String value = cache.get(TENANT_ID) + "/" + tenantContextHolder.getTenantId();
+
+            // Then
+            assertEquals("tenant1:Pizza/caller", value, "The build should see the tenant, the caller its own");
+        }
+
+        @Test
+        @DisplayName("Should build again when the cached value is outdated")
+        void testOutdatedValueRebuilt() {
+            // Given
+            cache.get(TENANT_ID);
+            menu.set("Pasta");
+
+            // When
+            String value = cache.get(TENANT_ID, cached -> !cached.endsWith(menu.get()));
+
+            // Then
+            assertEquals("tenant1:Pasta", value, "An outdated value should be built again on read");
+        }
+
+        @Test
+        @DisplayName("Should serve an outdated value while a rebuild is queued")
+        void testOutdatedValueServedDuringRebuild() {
+            // Given
+            cache.get(TENANT_ID);
+            menu.set("Pasta");
+            cache.rebuild(TENANT_ID);
+
+            // When
+            String value = cache.get(TENANT_ID, cached -> !cached.endsWith(menu.get()));
+
+            // Then
+            assertEquals("tenant1:Pizza", value, "The queued rebuild should replace the value, not the read");
+        }
+
+        @Test
+        @DisplayName("Should pass all values to the listener after a build")
+        void testListenerCalledAfterBuild() {
+            // When
+            cache.get(TENANT_ID);
+
+            // Then
+            assertEquals(List.of(Map.of(TENANT_ID, "tenant1:Pizza")), published,
+                    "The listener should see the built value");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should serve the previous value until the background rebuild has run")
+        void testPreviousValueServedDuringRebuild() {
+            // Given
+            cache.get(TENANT_ID);
+            menu.set("Pasta");
+
+            // When
+            cache.rebuild(TENANT_ID);
+
+            // Then
+            assertEquals("tenant1:Pizza", cache.get(TENANT_ID), "Reads should use the previous value");
+        }
+
+        @Test
+        @DisplayName("Should serve the rebuilt value once the rebuild has run")
+        void testRebuiltValueServed() {
+            // Given
+            cache.get(TENANT_ID);
+            menu.set("Pasta");
+            cache.rebuild(TENANT_ID);
+
+            // When
+            queuedRebuilds.forEach(Runnable::run);
+
+            // Then
+            assertEquals("tenant1:Pasta", cache.get(TENANT_ID), "Reads should use the rebuilt value");
+        }
+
+        @Test
+        @DisplayName("Should not build a value for a tenant that has not read it")
+        void testUnreadTenantNotBuilt() {
+            // Given
+            cache.rebuild(TENANT_ID);
+
+            // When
+            queuedRebuilds.forEach(Runnable::run);
+
+            // Then
+            assertEquals(0, builds.get(), "A change should not build a value nobody has read");
+        }
+
+        @Test
+        @DisplayName("Should drop the value when its rebuild fails")
+        void testFailedRebuildDropsValue() {
+            // Given
+            cache.get(TENANT_ID);
+            menu.set(null);
+            cache.rebuild(TENANT_ID);
+
+            // When
+            queuedRebuilds.forEach(Runnable::run);
+
+            // Then
+            assertTrue(cache.values().isEmpty(), "A stale value should not be kept after a failed rebuild");
+        }
+
+        @Test
+        @DisplayName("Should serve a restored value until its background rebuild has run")
+        void testRestoredValueRebuilt() {
+            // Given
+            cache.restore(TENANT_ID, "restored");
+
+            // When
+            queuedRebuilds.forEach(Runnable::run);
+
+            // Then
+            assertEquals("tenant1:Pizza", cache.get(TENANT_ID), "A restored value should be rebuilt");
+        }
+    }
+
+    @Nested
+    @DisplayName("Bound Tests")
+    class BoundTests {
+
+        @Test
+        @DisplayName("Should build a value again once its TTL has passed")
+        void testExpiredValueRebuilt() {
+            // Given
+            cache.get(TENANT_ID);
+
+            // When
+            now.addAndGet(TTL.plusSeconds(1).toNanos());
+            cache.get(TENANT_ID);
+
+            // Then
+            assertEquals(2, builds.get(), "An expired value should be built again");
+        }
+
+        @Test
+        @DisplayName("Should keep no more values than the maximum size")
+        void testValueCountBounded() {
+            // When
+            cache.get(TENANT_ID);
+            cache.get("tenant2");
+            cache.get("tenant3");
+
+            // Then
+            assertTrue(cache.estimatedSize() <= 2, "Values beyond the maximum size should be evicted");
+        }
+    }
+
+    private String build() {
+        builds.incrementAndGet();
+        String current = menu.get();
+        if (current == null) {
+            throw new IllegalStateException("Menu unavailable");
+        }
+        return tenantContextHolder.getTenantId() + ":" + current;
+    }
+}
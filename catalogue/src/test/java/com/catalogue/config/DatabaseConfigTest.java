@@ -0,0 +1,169 @@
+package com.catalogue.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.common.config.DatabaseConfig;
+import com.common.config.DatabasePoolProperties;
+import com.common.config.DatabaseReplicaProperties;
+import com.common.datasource.ReplicaRoutingDataSource;
+import com.common.tenant.TenantContextHolder;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import javax.sql.DataSource;
+
+@DisplayName("Database Config Tests")
+class DatabaseConfigTest {
+
+    private static final String POOL_NAME = "catalogue-pool";
+
+    private DatabasePoolProperties poolProperties;
+    private DatabaseReplicaProperties replicaProperties;
+    private MeterRegistry meterRegistry;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        poolProperties = new DatabasePoolProperties();
+        poolProperties.setMaximumPoolSize(4);
+        poolProperties.setMinimumIdle(1);
+        poolProperties.setConnectionTimeout(Duration.ofMillis(500));
+        poolProperties.setStatementCacheSize(64);
+        replicaProperties = new DatabaseReplicaProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    @SuppressWarnings("PMD.CloseResource") // Closes the data source under test
+    void tearDown() throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Pool Settings Tests")
+    class PoolSettingsTests {
+
+        @Test
+        @DisplayName("Should size the pool from the pool properties")
+        void testPoolSizeFromProperties() {
+            // When
+            createDataSource();
+
+            // Then
+            assertEquals(4, pool().getMaximumPoolSize(), "Maximum pool size should come from the properties");
+        }
+
+        @Test
+        @DisplayName("Should apply the connection timeout from the pool properties")
+        void testConnectionTimeoutFromProperties() {
+            // When
+            createDataSource();
+
+            // Then
+            assertEquals(500, pool().getConnectionTimeout(),
+                    "Connection timeout should come from the properties");
+        }
+
+        @Test
+        @DisplayName("Should pass the statement cache size to the driver")
+        void testStatementCacheSizePassedToDriver() {
+            // When
+            createDataSource();
+
+            // Then
+            assertEquals("64", pool().getDataSourceProperties().getProperty("QUERY_CACHE_SIZE"),
+                    "The H2 query cache should be sized from the statement cache setting");
+        }
+
+        @Test
+        @DisplayName("Should route through the replicas when replica URLs are configured")
+        void testReplicaRoutingWhenReplicasConfigured() {
+            // Given
+            replicaProperties.getUrls().add("jdbc:h2:mem:" + UUID.randomUUID());
+
+            // When
+            createDataSource();
+
+            // Then
+            assertInstanceOf(ReplicaRoutingDataSource.class, dataSource,
+                    "Read-only transactions should be routable to the replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should report utilization as the share of the pool in use")
+        void testUtilizationGauge() throws SQLException {
+            // Given
+            createDataSource();
+
+            // When
+            double utilization;
+            try (Connection connection = dataSource.getConnection()) {
+                utilization = connection.isValid(1) ? utilization() : -1;
+            }
+
+            // Then
+            assertEquals(0.25, utilization, 0.001, "One of four connections in use should be 25% utilization");
+        }
+
+        @Test
+        @DisplayName("Should register the pool's timeout counter once the pool starts")
+        void testTimeoutCounterRegistered() throws SQLException {
+            // Given
+            createDataSource();
+
+            // When
+            dataSource.getConnection().close();
+
+            // Then
+            assertEquals(0, meterRegistry.get("hikaricp.connections.timeout").tag("pool", POOL_NAME)
+                    .counter().count(), "No connection request should have timed out");
+        }
+    }
+
+    private HikariDataSource pool() {
+        return (HikariDataSource) dataSource;
+    }
+
+    private double utilization() {
+        return meterRegistry.get(DatabaseConfig.UTILIZATION_METRIC).tag("pool", POOL_NAME).gauge().value();
+    }
+
+    private void createDataSource() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.application.name", "catalogue")
+                .withProperty("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID())
+                .withProperty("spring.datasource.driverClassName", "org.h2.Driver")
+                .withProperty("spring.datasource.username", "sa");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+
+        DatabaseConfig config = new DatabaseConfig(environment, poolProperties, replicaProperties,
+                new TenantContextHolder(), beanFactory.getBeanProvider(MeterRegistry.class));
+        dataSource = config.dataSource();
+    }
+}
@@ -0,0 +1,309 @@
+package com.catalogue.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.common.datasource.ReplicaRoutingDataSource;
+import com.common.tenant.TenantContextHolder;
+
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(5);
+
+    private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+    private final MutableClock clock = new MutableClock();
+    private final List<String> databaseUrls = new ArrayList<>();
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        tenantContextHolder.setTenantId(TENANT_ID);
+        useReplicas(database("primary"), database("replica-a"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        tenantContextHolder.clear();
+        routingDataSource.close();
+        for (String url : databaseUrls) {
+            new JdbcTemplate(new DriverManagerDataSource(url)).execute("SHUTDOWN");
+        }
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should send read-only transactions to the replica")
+        void testReadOnlyUsesReplica() {
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("replica-a", node, "Read-only transactions should be served by the replica");
+        }
+
+        @Test
+        @DisplayName("Should send read-write transactions to the primary")
+        void testReadWriteUsesPrimary() {
+            // When
+            String node = readWriteTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("primary", node, "Read-write transactions should be served by the primary");
+        }
+
+        @Test
+        @DisplayName("Should use the primary outside transactions")
+        void testNoTransactionUsesPrimary() {
+            // When
+            String node = currentNode();
+
+            // Then
+            assertEquals("primary", node, "Statements outside transactions should be served by the primary");
+        }
+
+        @Test
+        @DisplayName("Should rotate read-only transactions across replicas")
+        void testRoundRobinAcrossReplicas() {
+            // Given
+            useReplicas(database("primary"), database("replica-a"), database("replica-b"));
+
+            // When
+            List<String> nodes = List.of(
+                    readOnlyTransaction.execute(status -> currentNode()),
+                    readOnlyTransaction.execute(status -> currentNode()),
+                    readOnlyTransaction.execute(status -> currentNode()));
+
+            // Then
+            assertEquals(List.of("replica-a", "replica-b", "replica-a"), nodes,
+                    "Replicas should be used in turn");
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes Tests")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("Should keep a tenant's reads on the primary right after it wrote")
+        void testReadAfterWriteUsesPrimary() {
+            // Given
+            readWriteTransaction.execute(status -> currentNode());
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("primary", node, "A tenant should read its own writes from the primary");
+        }
+
+        @Test
+        @DisplayName("Should return to the replica once the window has passed")
+        void testReadAfterWindowUsesReplica() {
+            // Given
+            readWriteTransaction.execute(status -> currentNode());
+            clock.advance(READ_YOUR_WRITES_WINDOW.plusMillis(1));
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("replica-a", node, "Reads should go back to the replica after the window");
+        }
+
+        @Test
+        @DisplayName("Should not pin other tenants to the primary")
+        void testOtherTenantUsesReplica() {
+            // Given
+            readWriteTransaction.execute(status -> currentNode());
+            tenantContextHolder.setTenantId("tenant2");
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("replica-a", node, "Only the tenant that wrote should be pinned to the primary");
+        }
+
+        @Test
+        @DisplayName("Should keep a tenant's reads on the primary after a write recorded from elsewhere")
+        void testRecordedWriteUsesPrimary() {
+            // Given
+            routingDataSource.recordWrite(TENANT_ID);
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("primary", node, "A tenant written on another node should read from the primary");
+        }
+
+        @Test
+        @DisplayName("Should not pin the tenant when the write rolled back")
+        void testRolledBackWriteUsesReplica() {
+            // Given
+            readWriteTransaction.executeWithoutResult(status -> {
+                currentNode();
+                status.setRollbackOnly();
+            });
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("replica-a", node, "Only committed writes should pin the tenant");
+        }
+    }
+
+    @Nested
+    @DisplayName("Health Tests")
+    class HealthTests {
+
+        @Test
+        @DisplayName("Should skip a replica that cannot hand out connections")
+        void testUnavailableReplicaIsSkipped() {
+            // Given
+            useReplicas(database("primary"), new UnavailableDataSource(), database("replica-b"));
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("replica-b", node, "Reads should move on to the next healthy replica");
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary when no replica is available")
+        void testAllReplicasUnavailableUsesPrimary() {
+            // Given
+            useReplicas(database("primary"), new UnavailableDataSource());
+
+            // When
+            String node = readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals("primary", node, "Reads should fall back to the primary");
+        }
+
+        @Test
+        @DisplayName("Should not retry a failed replica during its back-off")
+        void testFailedReplicaBackedOff() {
+            // Given
+            UnavailableDataSource unavailable = new UnavailableDataSource();
+            useReplicas(database("primary"), unavailable, database("replica-b"));
+            readOnlyTransaction.execute(status -> currentNode());
+
+            // When
+            readOnlyTransaction.execute(status -> currentNode());
+            readOnlyTransaction.execute(status -> currentNode());
+
+            // Then
+            assertEquals(1, unavailable.attempts, "The failed replica should be skipped until its back-off ends");
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void useReplicas(DataSource primary, DataSource... replicas) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replicas), tenantContextHolder,
+                READ_YOUR_WRITES_WINDOW, Duration.ofSeconds(30), clock);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Create an in-memory database whose single row names it, standing in for one database server
+     */
+    private DataSource database(String name) {
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        databaseUrls.add(url);
+        DataSource dataSource = new DriverManagerDataSource(url);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(32))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * A replica that is down.
+     */
+    private static final class UnavailableDataSource extends AbstractDataSource {
+
+        private int attempts;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts++;
+            throw new SQLException("Connection refused");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+
+    /**
+     * Clock that only moves when a test advances it.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.catalogue.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("Schema Partitioning Config Tests")
+class SchemaPartitioningConfigTest {
+
+    private final SchemaPartitioningConfig config = new SchemaPartitioningConfig();
+
+    @Test
+    @DisplayName("Should refuse to partition a database other than PostgreSQL")
+    void testRejectsOtherDatabases() {
+        // Given
+        FlywayConfigurationCustomizer customizer = config.partitioningMigrations(16);
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> customizer.customize(configuration),
+                "Partitioning should only be enabled on PostgreSQL");
+    }
+
+    @Test
+    @DisplayName("Should reject a partition count below one")
+    void testRejectsInvalidPartitionCount() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> config.partitioningMigrations(0),
+                "A partitioned table needs at least one partition");
+    }
+}
@@ -2,13 +2,18 @@ package com.catalogue.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 //import org.springframework.mock.web.MockHttpServletResponse;
@@ -26,14 +32,21 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.catalogue.cache.CategorySnapshot;
+import com.catalogue.cache.CategorySnapshotCache;
+import com.catalogue.dto.ApiResponse;
 import com.catalogue.dto.CategoryDTO;
+import com.catalogue.dto.CursorPage;
 import com.catalogue.exception.DuplicateResourceException;
 import com.catalogue.exception.GlobalExceptionHandler;
 //import com.catalogue.exception.ValidationException;
+import com.catalogue.service.CatalogueBrowseService;
 import com.catalogue.service.CategoryService;
+import com.catalogue.tenant.TenantRegistry;
 import com.common.tenant.TenantContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Category Controller Tests")
@@ -47,6 +60,15 @@ class CategoryControllerTest {
     @Mock
     private TenantContextHolder tenantContextHolder;
 
+    @Mock
+    private CategorySnapshotCache categorySnapshotCache;
+
+    @Mock
+    private CatalogueBrowseService catalogueBrowseService;
+
+    @Mock
+    private TenantRegistry tenantRegistry;
+
     @InjectMocks
     private CategoryController categoryController;
 
@@ -80,19 +102,82 @@ class CategoryControllerTest {
         categoryDTO2.setDisplayOrder(2);
         categoryDTO2.setActive(true);
 
-        // Set up tenant context holder behavior
-        doNothing().when(tenantContextHolder).setTenantId(tenantId);
-        doNothing().when(tenantContextHolder).clear();
+        // Set up tenant context holder behavior; requests rejected before the tenant is set skip it
+        lenient().doNothing().when(tenantContextHolder).setTenantId(tenantId);
+        lenient().doNothing().when(tenantContextHolder).clear();
     }
 
     @Nested
     @DisplayName("GET /categories")
     class GetAllCategoriesTests {
 
+        private static final String ETAG = "\"0123456789abcdef\"";
+
         @BeforeEach
-        void setUp() {
+        void setUp() throws Exception {
             List<CategoryDTO> categories = Arrays.asList(categoryDTO1, categoryDTO2);
-            when(categoryService.getAllCategories()).thenReturn(categories);
+            byte[] body = new ObjectMapper().registerModule(new JavaTimeModule())
+                    .writeValueAsBytes(ApiResponse.success(CategorySnapshotCache.SUCCESS_MESSAGE, categories));
+            CategorySnapshot snapshot = new CategorySnapshot(body, ETAG, 1);
+            when(categorySnapshotCache.get(tenantId)).thenReturn(snapshot);
+            // Responses matching If-None-Match are sent without a body
+            lenient().when(categorySnapshotCache.responseBody(eq(snapshot), any(LocalDateTime.class)))
+                    .thenReturn(body);
+        }
+
+        @Test
+        @DisplayName("Should return the snapshot ETag")
+        void testGetAllCategoriesReturnsEtag() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId))
+                    .andReturn();
+
+            // Assert
+            assertEquals(ETAG, result.getResponse().getHeader(HttpHeaders.ETAG),
+                    "Response should carry the ETag of the tenant's catalogue snapshot");
+        }
+
+        @Test
+        @DisplayName("Should return 304 Not Modified when If-None-Match matches")
+        void testGetAllCategoriesReturnsNotModifiedForMatchingEtag() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                    .andReturn();
+
+            // Assert
+            assertEquals(HttpStatus.NOT_MODIFIED.value(), result.getResponse().getStatus(),
+                    "Response status should be 304 when the client already holds the current catalogue");
+        }
+
+        @Test
+        @DisplayName("Should return no body when If-None-Match matches")
+        void testGetAllCategoriesReturnsEmptyBodyForMatchingEtag() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                    .andReturn();
+
+            // Assert
+            assertEquals(0, result.getResponse().getContentLength(),
+                    "A 304 response should not carry a body");
+        }
+
+        @Test
+        @DisplayName("Should return 200 OK when If-None-Match does not match")
+        void testGetAllCategoriesReturnsOkForStaleEtag() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                    .andReturn();
+
+            // Assert
+            assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus(),
+                    "Response status should be 200 when the client's ETag is out of date");
         }
 
         @Test
@@ -226,6 +311,66 @@ class CategoryControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /categories?limit=")
+    class GetCategoryPageTests {
+
+        private static final String NEXT_CURSOR = "Mjo0Mg";
+
+        @BeforeEach
+        void setUp() {
+            List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "name", "Appetizers"));
+            when(catalogueBrowseService.getCategoryPage(null, 1, "name"))
+                    .thenReturn(new CursorPage<>(rows, NEXT_CURSOR));
+        }
+
+        @Test
+        @DisplayName("Should return only the requested fields")
+        void testGetCategoryPageReturnsRequestedFields() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .param("limit", "1")
+                                    .param("fields", "name"))
+                    .andReturn();
+
+            // Assert
+            JsonNode item = objectMapper.readTree(result.getResponse().getContentAsString())
+                    .path("data").path("items").get(0);
+            assertEquals(2, item.size(), "Page rows should contain only the ID and the requested fields");
+        }
+
+        @Test
+        @DisplayName("Should return the cursor for the next page")
+        void testGetCategoryPageReturnsNextCursor() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .param("limit", "1")
+                                    .param("fields", "name"))
+                    .andReturn();
+
+            // Assert
+            JsonNode responseJson = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(NEXT_CURSOR, responseJson.path("data").path("nextCursor").asText(),
+                    "Response should carry the cursor for the next page");
+        }
+
+        @Test
+        @DisplayName("Should not use the catalogue snapshot")
+        void testGetCategoryPageBypassesSnapshot() throws Exception {
+            // Act
+            mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/v1/tenants/{tenantId}/catalogue/categories", tenantId)
+                                    .param("limit", "1")
+                                    .param("fields", "name"))
+                    .andReturn();
+
+            // Assert
+            verify(categorySnapshotCache, times(0)).get(tenantId);
+        }
+    }
+
     @Nested
     @DisplayName("POST /categories - Success")
     class CreateCategorySuccessTests {
@@ -369,6 +514,92 @@ class CategoryControllerTest {
             verify(tenantContextHolder, times(1)).clear();
         }
     }
+    @Nested
+    @DisplayName("POST /categories - New Tenant")
+    class CreateCategoryNewTenantTests {
+
+        private CategoryDTO inputDTO;
+
+        @BeforeEach
+        void setUp() {
+            inputDTO = new CategoryDTO();
+            inputDTO.setName("Breads");
+        }
+
+        @Test
+        @DisplayName("Should register a new tenant with a valid first category")
+        void testCreateCategoryRegistersNewTenant() throws Exception {
+            // Arrange
+            when(tenantRegistry.keyOf("french-bakery")).thenReturn(null);
+
+            // Act
+            mockMvc.perform(
+                            MockMvcRequestBuilders.post("/api/v1/tenants/{tenantId}/catalogue/categories",
+                                            "french-bakery")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(inputDTO)))
+                    .andReturn();
+
+            // Assert
+            verify(tenantRegistry).register("french-bakery");
+        }
+
+        @Test
+        @DisplayName("Should not register a new tenant with an invalid first category")
+        void testInvalidCategoryDoesNotRegisterTenant() throws Exception {
+            // Arrange
+            inputDTO.setName(" ");
+            lenient().when(tenantRegistry.keyOf("french-bakery")).thenReturn(null);
+
+            // Act
+            mockMvc.perform(
+                            MockMvcRequestBuilders.post("/api/v1/tenants/{tenantId}/catalogue/categories",
+                                            "french-bakery")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(inputDTO)))
+                    .andReturn();
+
+            // Assert
+            verify(tenantRegistry, never()).register(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid new tenant ID with 400 Bad Request")
+        void testInvalidTenantIdRejected() throws Exception {
+            // Arrange
+            when(tenantRegistry.keyOf("French Bakery")).thenReturn(null);
+
+            // Act
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.post("/api/v1/tenants/{tenantId}/catalogue/categories",
+                                            "French Bakery")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(inputDTO)))
+                    .andReturn();
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST.value(), result.getResponse().getStatus(),
+                    "Response status should be 400 Bad Request for an invalid tenant ID");
+        }
+
+        @Test
+        @DisplayName("Should not register an invalid new tenant ID")
+        void testInvalidTenantIdNotRegistered() throws Exception {
+            // Arrange
+            when(tenantRegistry.keyOf("French Bakery")).thenReturn(null);
+
+            // Act
+            mockMvc.perform(
+                            MockMvcRequestBuilders.post("/api/v1/tenants/{tenantId}/catalogue/categories",
+                                            "French Bakery")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(inputDTO)))
+                    .andReturn();
+
+            // Assert
+            verify(tenantRegistry, never()).register(anyString());
+        }
+    }
     /*
         @Nested
         @DisplayName("POST /categories - Validation Failure")
@@ -0,0 +1,301 @@
+package com.catalogue.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import com.catalogue.cache.CategoryTreeCache;
+import com.catalogue.config.CatalogueInvalidationConfig;
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.datasource.ReplicaRoutingDataSource;
+import com.common.tenant.TenantContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Catalogue Invalidation Tests")
+class CatalogueInvalidationTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final String TOPIC = "catalogue-changes-test";
+    private static final String NODE_ID = "node1";
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    @DisplayName("Publisher Tests")
+    class PublisherTests {
+
+        @Mock
+        private KafkaTemplate<String, String> kafkaTemplate;
+
+        @Test
+        @DisplayName("Should send a local change keyed by its tenant")
+        void testLocalChangeSent() {
+            // Given
+            when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+            CatalogueChangePublisher publisher = new CatalogueChangePublisher(kafkaTemplate, TOPIC, NODE_ID);
+
+            // When
+            publisher.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID));
+
+            // Then
+            verify(kafkaTemplate).send(TOPIC, TENANT_ID, NODE_ID);
+        }
+
+        @Test
+        @DisplayName("Should not send a change received from another node")
+        void testRemoteChangeNotSent() {
+            // Given
+            CatalogueChangePublisher publisher = new CatalogueChangePublisher(kafkaTemplate, TOPIC, NODE_ID);
+
+            // When
+            publisher.onCatalogueChanged(new CatalogueChangedEvent(TENANT_ID, true));
+
+            // Then
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    @DisplayName("Subscriber Tests")
+    class SubscriberTests {
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Mock
+        private TenantRegistry tenantRegistry;
+
+        @Mock
+        private ReplicaRoutingDataSource dataSource;
+
+        private CatalogueChangeSubscriber subscriber;
+
+        @BeforeEach
+        void setUp() {
+            subscriber = new CatalogueChangeSubscriber(eventPublisher, tenantRegistry, dataSource, TOPIC, NODE_ID);
+        }
+
+        @Test
+        @DisplayName("Should publish another node's change as a remote event")
+        void testOtherNodeChangePublished() {
+            // Given
+            when(tenantRegistry.keyOf(TENANT_ID)).thenReturn(1);
+
+            // When
+            subscriber.onChange(new ConsumerRecord<>(TOPIC, 0, 0, TENANT_ID, "node2"));
+
+            // Then
+            verify(eventPublisher).publishEvent(
+                    ArgumentMatchers.<CatalogueChangedEvent>argThat(CatalogueChangedEvent::isRemote));
+        }
+
+        @Test
+        @DisplayName("Should ignore the changes of its own node")
+        void testOwnChangeIgnored() {
+            // When
+            subscriber.onChange(new ConsumerRecord<>(TOPIC, 0, 0, TENANT_ID, NODE_ID));
+
+            // Then
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should register a tenant created on another node")
+        void testUnknownTenantRegistered() {
+            // Given
+            when(tenantRegistry.keyOf(TENANT_ID)).thenReturn(null);
+
+            // When
+            subscriber.onChange(new ConsumerRecord<>(TOPIC, 0, 0, TENANT_ID, "node2"));
+
+            // Then
+            verify(tenantRegistry).register(TENANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should pin the changed tenant to the primary before publishing the change")
+        void testChangedTenantPinnedToPrimary() {
+            // Given
+            when(tenantRegistry.keyOf(TENANT_ID)).thenReturn(1);
+            List<String> calls = new ArrayList<>();
+            doAnswer(invocation -> calls.add("recordWrite")).when(dataSource).recordWrite(TENANT_ID);
+            doAnswer(invocation -> calls.add("publishEvent")).when(eventPublisher)
+                    .publishEvent(any(CatalogueChangedEvent.class));
+
+            // When
+            subscriber.onChange(new ConsumerRecord<>(TOPIC, 0, 0, TENANT_ID, "node2"));
+
+            // Then
+            assertEquals(List.of("recordWrite", "publishEvent"), calls,
+                    "The rebuilds triggered by the event should already read from the primary");
+        }
+    }
+
+    @Nested
+    @EmbeddedKafka(partitions = 1, topics = TOPIC)
+    @DisplayName("Convergence Tests")
+    class ConvergenceTests {
+
+        private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+        private ConfigurableApplicationContext writer;
+        private ConfigurableApplicationContext reader;
+
+        @BeforeEach
+        void setUp(EmbeddedKafkaBroker broker) {
+            writer = startNode(broker);
+            reader = startNode(broker);
+            KafkaListenerEndpointRegistry registry = reader.getBean(KafkaListenerEndpointRegistry.class);
+            ContainerTestUtils.waitForAssignment(
+                    registry.getListenerContainer(CatalogueChangeSubscriber.LISTENER_ID), 1);
+        }
+
+        @AfterEach
+        void tearDown() {
+            reader.close();
+            writer.close();
+        }
+
+        @Test
+        @DisplayName("Should reload another node's cached tree within the maximum lag")
+        void testOtherNodeConverges() {
+            // Given
+            // The reader starts from the latest offset, so wait until it sees a first change before measuring
+            writer.publishEvent(new CatalogueChangedEvent("warm-up"));
+            await(() -> !reader.getBean(ReceivedChanges.class).events.isEmpty(), MAX_LAG);
+            CategoryTreeCache readerCache = reader.getBean(CategoryTreeCache.class);
+            AtomicInteger loads = new AtomicInteger();
+            readerCache.get(TENANT_ID, tenantId -> {
+                loads.incrementAndGet();
+                return List.of(new CategoryDTO());
+            });
+
+            // When
+            writer.publishEvent(new CatalogueChangedEvent(TENANT_ID));
+
+            // Then
+            assertTrue(await(() -> {
+                readerCache.get(TENANT_ID, tenantId -> {
+                    loads.incrementAndGet();
+                    return List.of(new CategoryDTO());
+                });
+                return loads.get() == 2;
+            }, MAX_LAG), "The reader should reload the tree within " + MAX_LAG);
+        }
+
+        @Test
+        @DisplayName("Should not receive its own changes")
+        void testOwnChangesNotReceived() {
+            // Given
+            writer.publishEvent(new CatalogueChangedEvent(TENANT_ID));
+            await(() -> !reader.getBean(ReceivedChanges.class).events.isEmpty(), MAX_LAG);
+
+            // When
+            List<CatalogueChangedEvent> received = writer.getBean(ReceivedChanges.class).events;
+
+            // Then
+            assertEquals(1, received.size(), "The writer should only see its local change");
+        }
+
+        private ConfigurableApplicationContext startNode(EmbeddedKafkaBroker broker) {
+            return new SpringApplicationBuilder(NodeConfiguration.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                            "--catalogue.invalidation.enabled=true",
+                            "--catalogue.invalidation.topic=" + TOPIC);
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean met = condition.getAsBoolean();
+        while (!met && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+            met = condition.getAsBoolean();
+        }
+        return met;
+    }
+
+    /**
+     * Records the change events published on a node.
+     */
+    static class ReceivedChanges {
+
+        private final List<CatalogueChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onCatalogueChanged(CatalogueChangedEvent event) {
+            events.add(event);
+        }
+    }
+
+    /**
+     * A catalogue node with only its category tree cache and the invalidation channel.
+     */
+    @Configuration
+    @ImportAutoConfiguration(KafkaAutoConfiguration.class)
+    @Import({CatalogueInvalidationConfig.class, CategoryTreeCache.class, TenantContextHolder.class})
+    static class NodeConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TenantRegistry tenantRegistry() {
+            TenantRegistry tenantRegistry = mock(TenantRegistry.class);
+            when(tenantRegistry.keyOf(anyString())).thenReturn(1);
+            return tenantRegistry;
+        }
+
+        @Bean
+        ReceivedChanges receivedChanges() {
+            return new ReceivedChanges();
+        }
+    }
+}
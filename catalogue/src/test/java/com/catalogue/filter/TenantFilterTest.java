@@ -0,0 +1,207 @@
+package com.catalogue.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("Tenant Filter Tests")
+class TenantFilterTest {
+
+    private static final String TENANT_ID = "american-grill";
+
+    private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+    private final AtomicReference<String> seenTenantId = new AtomicReference<>();
+
+    private TenantRegistry tenantRegistry;
+    private TenantFilter tenantFilter;
+
+    @BeforeEach
+    void setUp() {
+        tenantRegistry = mock(TenantRegistry.class);
+        lenient().when(tenantRegistry.canonicalize(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            String tenantId = path.substring(invocation.<Integer>getArgument(1), invocation.getArgument(2));
+            return TENANT_ID.equals(tenantId) ? TENANT_ID : null;
+        });
+        tenantFilter = new TenantFilter(tenantContextHolder, tenantRegistry,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Nested
+    @DisplayName("Path Scanner Tests")
+    class PathScannerTests {
+
+        @Test
+        @DisplayName("Should find the tenant segment between the prefix and the next slash")
+        void testTenantSegmentFound() {
+            // Given
+            String path = "/api/v1/tenants/american-grill/categories";
+            int start = TenantPathScanner.tenantIdStart(path);
+
+            // When
+            String tenantId = path.substring(start, TenantPathScanner.tenantIdEnd(path, start));
+
+            // Then
+            assertEquals(TENANT_ID, tenantId, "The tenant segment should be located");
+        }
+
+        @Test
+        @DisplayName("Should find a tenant segment at the end of the path")
+        void testTrailingTenantSegmentFound() {
+            // Given
+            String path = "/api/v1/tenants/american-grill";
+            int start = TenantPathScanner.tenantIdStart(path);
+
+            // When
+            int end = TenantPathScanner.tenantIdEnd(path, start);
+
+            // Then
+            assertEquals(path.length(), end, "The tenant segment should end with the path");
+        }
+
+        @Test
+        @DisplayName("Should report an empty tenant segment as missing")
+        void testEmptyTenantSegmentMissing() {
+            // When
+            int start = TenantPathScanner.tenantIdStart("/api/v1/tenants//categories");
+
+            // Then
+            assertEquals(-1, start, "An empty tenant segment should not be found");
+        }
+    }
+
+    @Nested
+    @DisplayName("Known Tenant Tests")
+    class KnownTenantTests {
+
+        @Test
+        @DisplayName("Should set the registered tenant instance during the request")
+        void testCanonicalTenantSet() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("GET", "/api/v1/tenants/american-grill/categories");
+
+            // When
+            tenantFilter.doFilter(request, new MockHttpServletResponse(), chain());
+
+            // Then
+            assertSame(TENANT_ID, seenTenantId.get(),
+                    "The registry's tenant instance should be set in the context");
+        }
+
+        @Test
+        @DisplayName("Should clear the tenant after the request")
+        void testTenantClearedAfterRequest() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("GET", "/api/v1/tenants/american-grill/categories");
+
+            // When
+            tenantFilter.doFilter(request, new MockHttpServletResponse(), chain());
+
+            // Then
+            assertNull(tenantContextHolder.getTenantId(), "The tenant context should be cleared");
+        }
+    }
+
+    @Nested
+    @DisplayName("Unknown Tenant Tests")
+    class UnknownTenantTests {
+
+        @Test
+        @DisplayName("Should reject a read for an unknown tenant with 404")
+        void testUnknownTenantReadRejected() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("GET", "/api/v1/tenants/french-bakery/categories");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            tenantFilter.doFilter(request, response, chain());
+
+            // Then
+            assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatus(),
+                    "Reads for unknown tenants should not reach the service layer");
+        }
+
+        @Test
+        @DisplayName("Should pass a write for a new tenant through")
+        void testNewTenantWritePassed() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("POST", "/api/v1/tenants/french-bakery/categories");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            tenantFilter.doFilter(request, response, chain());
+
+            // Then
+            assertEquals(HttpStatus.OK.value(), response.getStatus(), "A new tenant should be able to create data");
+        }
+
+        @Test
+        @DisplayName("Should leave registering a new tenant to the validated write")
+        void testNewTenantNotRegisteredFromPath() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("POST", "/api/v1/tenants/french-bakery/categories");
+
+            // When
+            tenantFilter.doFilter(request, new MockHttpServletResponse(), chain());
+
+            // Then
+            verify(tenantRegistry, never()).register(anyString());
+        }
+
+        @Test
+        @DisplayName("Should pass requests without a tenant segment through")
+        void testPathWithoutTenantPassed() throws Exception {
+            // Given
+            MockHttpServletRequest request = request("GET", "/actuator/health");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            tenantFilter.doFilter(request, response, chain());
+
+            // Then
+            assertEquals(HttpStatus.OK.value(), response.getStatus(), "Requests outside tenants should pass");
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    /**
+     * Chain ending in a servlet that records the tenant set in the context
+     */
+    private MockFilterChain chain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                seenTenantId.set(tenantContextHolder.getTenantId());
+            }
+        });
+    }
+}
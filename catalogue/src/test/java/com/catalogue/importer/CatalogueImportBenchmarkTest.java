@@ -0,0 +1,197 @@
+package com.catalogue.importer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.catalogue.tenant.TenantSchemaRouter;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Imports a synthetic 500,000-item tenant into a file-backed H2 database, so that the heap limit of the
+ * benchmark task bounds the importer rather than the stored rows.
+ * Excluded from the regular build; run with {@code gradle :catalogue:benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/benchmark/catalogue;DB_CLOSE_ON_EXIT=FALSE",
+        // Migrated by Flyway like the application schema, since TenantRegistry reads the tenants table on startup
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Catalogue Import Benchmark")
+class CatalogueImportBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogueImportBenchmarkTest.class);
+
+    private static final String TENANT_ID = "benchmark-tenant";
+    private static final int CATEGORIES = 100;
+    private static final int COMPONENTS = 1_000;
+    private static final int ITEMS = 500_000;
+    private static final int COMPONENTS_PER_ITEM = 3;
+    private static final int CUSTOMIZATIONS = 50_000;
+
+    /**
+     * Time budget for the import, generation of the file excluded. H2 is far slower than PostgreSQL with
+     * COPY, so the budget is a regression guard rather than a production target.
+     */
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(180);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Drop the schema, so the next run of the file-backed database migrates and imports from scratch.
+     */
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Should import a 500k-item tenant within the time budget")
+    void testImportsLargeTenantWithinBudget() throws IOException {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path file = tempDir.resolve("catalogue.json");
+        writeSyntheticCatalogue(objectMapper, file);
+        CatalogueImporter importer = new CatalogueImporter(
+                new CatalogueBatchWriter(new TenantSchemaRouter(jdbcTemplate, null)),
+                new TenantRegistry(jdbcTemplate, transactionManager),
+                objectMapper, eventPublisher, 1000);
+
+        // When
+        long start = System.nanoTime();
+        CatalogueImportResult result = new TransactionTemplate(transactionManager).execute(status -> {
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                return importer.importCatalogue(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        LOGGER.info("Imported {} in {} ms ({} MB file)", result, elapsed.toMillis(), Files.size(file) >> 20);
+
+        // Then
+        assertTrue(elapsed.compareTo(TIME_BUDGET) < 0,
+                "Import took " + elapsed.toMillis() + " ms, budget is " + TIME_BUDGET.toMillis() + " ms");
+    }
+
+    private static void writeSyntheticCatalogue(ObjectMapper objectMapper, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("components");
+            for (int i = 0; i < COMPONENTS; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("tenantId", TENANT_ID);
+                generator.writeStringField("name", "Component " + i);
+                generator.writeStringField("description", "Synthetic component " + i);
+                generator.writeNumberField("cost", 0.25 + i % 10);
+                generator.writeBooleanField("isAllergenic", i % 7 == 0);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("categories");
+            for (int i = 0; i < CATEGORIES; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("tenantId", TENANT_ID);
+                generator.writeStringField("name", "Category " + i);
+                generator.writeNumberField("displayOrder", i);
+                generator.writeBooleanField("active", true);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("categoryItems");
+            for (int i = 0; i < ITEMS; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("tenantId", TENANT_ID);
+                generator.writeStringField("categoryName", "Category " + i % CATEGORIES);
+                generator.writeStringField("name", "Item " + i);
+                generator.writeStringField("description", "Synthetic item " + i);
+                generator.writeNumberField("basePrice", 5 + i % 20);
+                generator.writeStringField("sku", "SKU-" + i);
+                generator.writeNumberField("displayOrder", i / CATEGORIES);
+                generator.writeBooleanField("active", true);
+                generator.writeArrayFieldStart("components");
+                for (int c = 0; c < COMPONENTS_PER_ITEM; c++) {
+                    generator.writeString("Component " + (i + c * 17) % COMPONENTS);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("categoryItemCustomizations");
+            for (int i = 0; i < CUSTOMIZATIONS; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("tenantId", TENANT_ID);
+                generator.writeStringField("categoryItemName", "Item " + i * (ITEMS / CUSTOMIZATIONS));
+                generator.writeStringField("name", "Extra " + i);
+                generator.writeNumberField("priceAdjustment", 1);
+                generator.writeArrayFieldStart("components");
+                generator.writeString("Component " + i % COMPONENTS);
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
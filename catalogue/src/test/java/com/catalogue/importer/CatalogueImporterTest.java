@@ -0,0 +1,159 @@
+package com.catalogue.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.catalogue.event.CatalogueChangedEvent;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.catalogue.tenant.TenantSchemaRouter;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+@RecordApplicationEvents
+@DisplayName("Catalogue Importer Tests")
+class CatalogueImporterTest {
+
+    private static final String SAMPLE_DATA_FILE = "data/restaurant-test-data.json";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private CatalogueImporter catalogueImporter;
+
+    @BeforeEach
+    void setUp() {
+        // A small batch size makes every section span several batches
+        catalogueImporter = new CatalogueImporter(
+                new CatalogueBatchWriter(new TenantSchemaRouter(jdbcTemplate, null)),
+                new TenantRegistry(jdbcTemplate, transactionManager),
+                new ObjectMapper(), eventPublisher, 4);
+    }
+
+    @Test
+    @DisplayName("Should import every item of the sample data file")
+    void testImportsAllSampleItems() throws IOException {
+        // When
+        CatalogueImportResult result = importSampleData();
+
+        // Then
+        assertEquals(30, result.getCategoryItems(), "All sample items should be imported");
+    }
+
+    @Test
+    @DisplayName("Should write one join row per item component")
+    void testWritesItemComponentLinks() throws IOException {
+        // When
+        importSampleData();
+
+        // Then
+        Integer links = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_item_components", Integer.class);
+        assertEquals(61, links, "Every known component listed on a sample item should be linked to it");
+    }
+
+    @Test
+    @DisplayName("Should link customizations to the items they belong to")
+    void testLinksCustomizationsToItems() throws IOException {
+        // When
+        importSampleData();
+
+        // Then
+        Integer linked = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM category_item_customizations c"
+                        + " JOIN category_items i ON i.id = c.category_item_id AND i.tenant_key = c.tenant_key",
+                Integer.class);
+        assertEquals(5, linked, "Each customization should reference an item of its own tenant");
+    }
+
+    @Test
+    @DisplayName("Should skip items that reference an unknown category")
+    void testSkipsItemsWithUnknownCategory() throws IOException {
+        // Given
+        String json = "{\"categories\": [{\"tenantId\": \"t1\", \"name\": \"Mains\", \"displayOrder\": 1}],"
+                + " \"categoryItems\": ["
+                + "{\"tenantId\": \"t1\", \"categoryName\": \"Mains\", \"name\": \"Steak\", \"basePrice\": 20},"
+                + "{\"tenantId\": \"t1\", \"categoryName\": \"Desserts\", \"name\": \"Cake\", \"basePrice\": 5}]}";
+
+        // When
+        CatalogueImportResult result = importJson(json);
+
+        // Then
+        assertEquals(1, result.getSkipped(), "The item with an unknown category should be skipped");
+    }
+
+    @Test
+    @DisplayName("Should skip elements with a malformed tenant ID without registering the tenant")
+    void testSkipsElementsWithMalformedTenantId() throws IOException {
+        // Given
+        String json = "{\"categories\": [{\"tenantId\": \"Bad Tenant/1\", \"name\": \"Mains\"}]}";
+
+        // When
+        importJson(json);
+
+        // Then
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tenants WHERE slug = ?", Integer.class,
+                "Bad Tenant/1"), "A malformed tenant ID should not be registered");
+    }
+
+    @Test
+    @DisplayName("Should publish one change event per imported tenant")
+    void testPublishesChangeEventPerTenant() throws IOException {
+        // When
+        importSampleData();
+
+        // Then
+        assertEquals(2L, applicationEvents.stream(CatalogueChangedEvent.class).count(),
+                "Each of the two sample tenants should be announced as changed");
+    }
+
+    private CatalogueImportResult importSampleData() throws IOException {
+        try (InputStream inputStream = new ClassPathResource(SAMPLE_DATA_FILE).getInputStream()) {
+            return catalogueImporter.importCatalogue(inputStream);
+        }
+    }
+
+    private CatalogueImportResult importJson(String json) throws IOException {
+        return catalogueImporter.importCatalogue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     * The entities are only scanned so that the schema is generated.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,75 @@
+package com.catalogue.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.common.model.BaseEntity;
+
+/**
+ * Migrates a schema that already holds rows with identity ids to pooled sequences.
+ */
+@DisplayName("Pooled Sequence Migration Tests")
+class PooledSequenceMigrationTest {
+
+    private static final String MIGRATIONS = "classpath:db/migration/h2";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // Schema and rows as they existed before the switch to sequences
+        Flyway.configure().dataSource(dataSource).locations(MIGRATIONS).target("1").load().migrate();
+        for (int i = 0; i < 120; i++) {
+            jdbcTemplate.update("INSERT INTO categories (tenant_id, name) VALUES ('tenant1', ?)", "Category " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start the sequence past the highest existing id")
+    void testSequenceStartsPastExistingIds() {
+        // When
+        migrateToLatest();
+
+        // Then
+        long firstPooledId = nextCategoryBlockHigh() - BaseEntity.ID_ALLOCATION_SIZE + 1;
+        Long maxExistingId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Long.class);
+        assertTrue(firstPooledId > maxExistingId,
+                "The first pooled id " + firstPooledId + " should be above the existing id " + maxExistingId);
+    }
+
+    @Test
+    @DisplayName("Should increment the sequence by the allocation size")
+    void testSequenceIncrementsByAllocationSize() {
+        // Given
+        migrateToLatest();
+
+        // When
+        long first = nextCategoryBlockHigh();
+        long second = nextCategoryBlockHigh();
+
+        // Then
+        assertEquals(BaseEntity.ID_ALLOCATION_SIZE, second - first,
+                "Each sequence call should reserve one block of ids for the pooled optimizer");
+    }
+
+    private void migrateToLatest() {
+        Flyway.configure().dataSource(dataSource).locations(MIGRATIONS).load().migrate();
+    }
+
+    private long nextCategoryBlockHigh() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR categories_seq", Long.class);
+    }
+}
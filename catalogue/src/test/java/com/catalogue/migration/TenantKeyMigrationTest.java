@@ -0,0 +1,105 @@
+package com.catalogue.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Migrates a schema whose rows carry tenant slugs to integer tenant keys.
+ */
+@DisplayName("Tenant Key Migration Tests")
+class TenantKeyMigrationTest {
+
+    private static final String MIGRATIONS = "classpath:db/migration/h2";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // Schema and rows as they existed before tenant keys
+        Flyway.configure().dataSource(dataSource).locations(MIGRATIONS).target("2").load().migrate();
+        insertCatalogue("american-grill", 1, 3);
+        insertCatalogue("italian-bistro", 100, 5);
+        jdbcTemplate.update("INSERT INTO components (id, tenant_id, name) VALUES (500, 'sushi-bar', 'Rice')");
+    }
+
+    @Test
+    @DisplayName("Should create one tenant per distinct slug")
+    void testOneTenantPerSlug() {
+        // When
+        migrateToLatest();
+
+        // Then
+        Integer tenants = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tenants", Integer.class);
+        assertEquals(3, tenants, "Every slug found in any catalogue table should become a tenant");
+    }
+
+    @Test
+    @DisplayName("Should point every row at the tenant of its former slug")
+    void testRowsKeepTheirTenant() {
+        // When
+        migrateToLatest();
+
+        // Then
+        Integer items = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_items i"
+                + " JOIN tenants t ON t.id = i.tenant_key WHERE t.slug = 'italian-bistro'", Integer.class);
+        assertEquals(5, items, "Items should belong to the tenant whose slug they carried");
+    }
+
+    @Test
+    @DisplayName("Should keep customizations with the tenant of their item")
+    void testCustomizationsMatchTheirItems() {
+        // When
+        migrateToLatest();
+
+        // Then
+        Integer mismatched = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_item_customizations c"
+                + " JOIN category_items i ON i.id = c.category_item_id WHERE i.tenant_key <> c.tenant_key",
+                Integer.class);
+        assertEquals(0, mismatched, "A customization and its item should share a tenant key");
+    }
+
+    @Test
+    @DisplayName("Should give component links the tenant key of the item or customization owning them")
+    void testLinksMatchTheirOwners() {
+        // When
+        migrateToLatest();
+
+        // Then
+        Integer mismatched = jdbcTemplate.queryForObject("SELECT (SELECT COUNT(*) FROM category_item_components l"
+                + " JOIN category_items i ON i.id = l.category_item_id WHERE i.tenant_key <> l.tenant_key)"
+                + " + (SELECT COUNT(*) FROM customization_components l JOIN category_item_customizations c"
+                + " ON c.id = l.customization_id WHERE c.tenant_key <> l.tenant_key)", Integer.class);
+        assertEquals(0, mismatched, "A component link should share the tenant key of its owner");
+    }
+
+    private void insertCatalogue(String tenantId, long firstId, int itemCount) {
+        jdbcTemplate.update("INSERT INTO categories (id, tenant_id, name) VALUES (?, ?, 'Mains')", firstId, tenantId);
+        jdbcTemplate.update("INSERT INTO components (id, tenant_id, name) VALUES (?, ?, 'Salt')", firstId, tenantId);
+        for (int i = 1; i <= itemCount; i++) {
+            jdbcTemplate.update("INSERT INTO category_items (id, tenant_id, category_id, name) VALUES (?, ?, ?, ?)",
+                    firstId + i, tenantId, firstId, "Item " + i);
+            jdbcTemplate.update("INSERT INTO category_item_customizations (id, tenant_id, category_item_id, name)"
+                    + " VALUES (?, ?, ?, 'Extra')", firstId + i, tenantId, firstId + i);
+            jdbcTemplate.update("INSERT INTO category_item_components (category_item_id, component_id) VALUES (?, ?)",
+                    firstId + i, firstId);
+            jdbcTemplate.update("INSERT INTO customization_components (customization_id, component_id) VALUES (?, ?)",
+                    firstId + i, firstId);
+        }
+    }
+
+    private void migrateToLatest() {
+        Flyway.configure().dataSource(dataSource).locations(MIGRATIONS).load().migrate();
+    }
+}
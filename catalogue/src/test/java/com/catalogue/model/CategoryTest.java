@@ -79,10 +79,10 @@ public class CategoryTest {
         }
 
         @Test
-        @DisplayName("Should have null display order by default")
-        void testDefaultDisplayOrderIsNull() {
+        @DisplayName("Should have display order 0 by default")
+        void testDefaultDisplayOrderIsZero() {
             // Then
-            assertNull(category.getDisplayOrder(), "Default category display order should be null");
+            assertEquals(0, category.getDisplayOrder(), "Default category display order should be 0");
         }
 
         @Test
@@ -107,24 +107,24 @@ public class CategoryTest {
         }
 
         @Test
-        @DisplayName("Should set and get tenant ID properly")
-        void testTenantIdProperty() {
+        @DisplayName("Should set and get tenant key properly")
+        void testTenantKeyProperty() {
             // Given
-            String expected = "tenant1";
+            Integer expected = 7;
 
             // When
-            category.setTenantId(expected);
-            String actual = category.getTenantId();
+            category.setTenantKey(expected);
+            Integer actual = category.getTenantKey();
 
             // Then
-            assertEquals(expected, actual, "Category tenant ID should match the value that was set");
+            assertEquals(expected, actual, "Category tenant key should match the value that was set");
         }
 
         @Test
-        @DisplayName("Should have null tenant ID by default")
-        void testDefaultTenantIdIsNull() {
+        @DisplayName("Should have null tenant key by default")
+        void testDefaultTenantKeyIsNull() {
             // Then
-            assertNull(category.getTenantId(), "Default category tenant ID should be null");
+            assertNull(category.getTenantKey(), "Default category tenant key should be null");
         }
     }
 }
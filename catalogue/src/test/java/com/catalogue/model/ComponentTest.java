@@ -94,20 +94,20 @@ public class ComponentTest {
         }
 
         @Test
-        @DisplayName("Should set and get tenant ID properly")
-        void testTenantIdProperty() {
-            String expected = "tenant1";
+        @DisplayName("Should set and get tenant key properly")
+        void testTenantKeyProperty() {
+            Integer expected = 7;
 
-            component.setTenantId(expected);
+            component.setTenantKey(expected);
 
-            assertEquals(expected, component.getTenantId(),
-                    "Component tenant ID should match the value that was set");
+            assertEquals(expected, component.getTenantKey(),
+                    "Component tenant key should match the value that was set");
         }
 
         @Test
-        @DisplayName("Should have null tenant ID by default")
-        void testDefaultTenantIdIsNull() {
-            assertNull(component.getTenantId(), "Default component tenant ID should be null");
+        @DisplayName("Should have null tenant key by default")
+        void testDefaultTenantKeyIsNull() {
+            assertNull(component.getTenantKey(), "Default component tenant key should be null");
         }
     }
 
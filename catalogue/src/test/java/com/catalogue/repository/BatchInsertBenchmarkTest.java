@@ -0,0 +1,111 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.config.HibernateBatchingConfig;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares persisting items with the shared JDBC batch size against one statement per row.
+ * Excluded from the regular build; run with {@code gradle :catalogue:benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("Batch Insert Benchmark")
+class BatchInsertBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchInsertBenchmarkTest.class);
+
+    private static final String TENANT_ID = "benchmark-tenant";
+    private static final int ITEMS = 20_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private int tenantKey;
+
+    @Test
+    @DisplayName("Should persist items faster with JDBC batching than without")
+    void testBatchedInsertsAreFaster() {
+        // Given
+        tenantKey = TenantRows.create(entityManager, TENANT_ID);
+        Category category = new Category();
+        category.setTenantKey(tenantKey);
+        category.setName("Benchmark");
+        entityManager.persist(category);
+        // Warm up both paths so the JIT does not favour whichever runs second
+        persistItems(category, FLUSH_INTERVAL, 1);
+        persistItems(category, FLUSH_INTERVAL, null);
+
+        // When
+        long unbatchedNanos = persistItems(category, ITEMS, 1);
+        long batchedNanos = persistItems(category, ITEMS, null);
+
+        // Then
+        LOGGER.info("Persisted {} items: unbatched {} ms, batched {} ms ({}x)", ITEMS,
+                unbatchedNanos / 1_000_000, batchedNanos / 1_000_000,
+                String.format("%.1f", (double) unbatchedNanos / batchedNanos));
+        assertTrue(batchedNanos < unbatchedNanos,
+                "Batched inserts should be faster than one statement per row");
+    }
+
+    /**
+     * Persist and flush items, returning the elapsed time. A null batch size keeps the configured default.
+     */
+    @SuppressWarnings("PMD.CloseResource") // The session belongs to the test transaction
+    private long persistItems(Category category, int count, Integer batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            CategoryItem item = new CategoryItem();
+            item.setTenantKey(tenantKey);
+            item.setCategory(entityManager.getReference(Category.class, category.getId()));
+            item.setName("Item " + i);
+            item.setBasePrice(BigDecimal.TEN);
+            item.setDisplayOrder(i);
+            entityManager.persist(item);
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = System.nanoTime() - start;
+        session.setJdbcBatchSize(null);
+        return elapsed;
+    }
+
+    /**
+     * Minimal JPA configuration with the shared batching settings.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({HibernateBatchingConfig.class, TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
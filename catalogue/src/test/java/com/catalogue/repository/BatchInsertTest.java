@@ -0,0 +1,125 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.config.HibernateBatchingConfig;
+import com.common.model.BaseEntity;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Batch Insert Tests")
+class BatchInsertTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final int ITEM_COUNT = 500;
+
+    @Autowired
+    private CategoryItemRepository categoryItemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int tenantKey;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tenantKey = TenantRows.create(entityManager.getEntityManager(), TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("Should send item inserts in JDBC batches")
+    void testItemInsertsAreBatched() {
+        // Given
+        List<CategoryItem> items = newItems(persistCategory(), ITEM_COUNT);
+        statistics.clear();
+
+        // When
+        categoryItemRepository.saveAll(items);
+        entityManager.flush();
+
+        // Then
+        // One insert batch and one sequence call per block of ids, where unbatched inserts would need one each
+        long expectedStatements = 2L * (ITEM_COUNT / BaseEntity.ID_ALLOCATION_SIZE + 1);
+        assertTrue(statistics.getPrepareStatementCount() <= expectedStatements,
+                "Inserts and sequence calls should each take one statement per " + BaseEntity.ID_ALLOCATION_SIZE
+                        + " items, but " + statistics.getPrepareStatementCount() + " were prepared");
+    }
+
+    @Test
+    @DisplayName("Should assign a distinct id to every item")
+    void testPooledIdsAreUnique() {
+        // Given
+        List<CategoryItem> items = newItems(persistCategory(), ITEM_COUNT);
+
+        // When
+        categoryItemRepository.saveAll(items);
+        entityManager.flush();
+
+        // Then
+        assertEquals(ITEM_COUNT, items.stream().map(CategoryItem::getId).distinct().count(),
+                "Ids handed out by the pooled optimizer should never repeat");
+    }
+
+    private Category persistCategory() {
+        Category category = new Category();
+        category.setTenantKey(tenantKey);
+        category.setName("Mains");
+        category.setDisplayOrder(1);
+        category.setActive(true);
+        return entityManager.persistAndFlush(category);
+    }
+
+    private List<CategoryItem> newItems(Category category, int count) {
+        List<CategoryItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CategoryItem item = new CategoryItem();
+            item.setTenantKey(tenantKey);
+            item.setCategory(category);
+            item.setName("Item " + i);
+            item.setBasePrice(BigDecimal.TEN);
+            item.setDisplayOrder(i);
+            item.setActive(true);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Minimal JPA configuration with the shared batching settings.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({HibernateBatchingConfig.class, TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,284 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+
+import com.catalogue.dto.CursorPage;
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.catalogue.util.KeysetCursor;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@DisplayName("Catalogue Keyset Repository Tests")
+class CatalogueKeysetRepositoryTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final String OTHER_TENANT_ID = "tenant2";
+    private static final long OTHER_TENANT_FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private CatalogueKeysetRepository keysetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    /**
+     * Run the test transaction as the tenant, since Hibernate scopes a session when it opens.
+     */
+    @BeforeTransaction
+    void setTenant() {
+        tenantRegistry.register(TENANT_ID);
+        tenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterTransaction
+    void clearTenant() {
+        tenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Should visit every item exactly once when following cursors")
+    void testCursorsVisitEveryItemOnce() {
+        // Given
+        persistItems(25);
+
+        // When
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(
+                    KeysetCursor.decode(cursor), 7, List.of("id"));
+            page.getItems().forEach(row -> ids.add(row.get("id")));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(25L, ids.stream().distinct().count(), "Every item should be returned exactly once");
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on the last page")
+    void testLastPageHasNoCursor() {
+        // Given
+        persistItems(3);
+
+        // When
+        CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(null, 3, List.of("id"));
+
+        // Then
+        assertNull(page.getNextCursor(), "A page holding the remaining rows should not offer a next cursor");
+    }
+
+    @Test
+    @DisplayName("Should select only the requested fields")
+    void testOnlyRequestedFieldsAreSelected() {
+        // Given
+        persistItems(1);
+
+        // When
+        Map<String, Object> row = keysetRepository.findItemPage(
+                null, 1, List.of("id", "basePrice")).getItems().get(0);
+
+        // Then
+        assertEquals(List.of("id", "basePrice"), List.copyOf(row.keySet()),
+                "Rows should contain exactly the requested fields");
+    }
+
+    @Test
+    @DisplayName("Should fill a page with rows passing the filter")
+    void testFilteredPageIsFull() {
+        // Given
+        persistItems(25);
+
+        // When
+        CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(
+                null, 4, List.of("id"), id -> id % 3 == 0);
+
+        // Then
+        assertEquals(4, page.getItems().size(), "Rejected rows should not leave the page short");
+    }
+
+    @Test
+    @DisplayName("Should visit every row passing the filter exactly once when following cursors")
+    void testFilteredCursorsVisitEveryPassingItemOnce() {
+        // Given
+        persistItems(25);
+        List<Object> expected = keysetRepository.findItemPage(null, 25, List.of("id")).getItems().stream()
+                .map(row -> row.get("id"))
+                .filter(id -> (Long) id % 2 == 0)
+                .toList();
+
+        // When
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(
+                    KeysetCursor.decode(cursor), 3, List.of("id"), id -> id % 2 == 0);
+            page.getItems().forEach(row -> ids.add(row.get("id")));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(expected, ids, "Every passing item should be returned once, in listing order");
+    }
+
+    @Test
+    @DisplayName("Should return a short page with a cursor once the scan budget is spent")
+    void testShortPageWhenScanBudgetSpent() {
+        // Given
+        persistItems(25);
+        CatalogueKeysetRepository budgeted = new CatalogueKeysetRepository(entityManager.getEntityManager(), 5, 10);
+
+        // When
+        CursorPage<Map<String, Object>> page = budgeted.findItemPage(null, 3, List.of("id"), id -> false);
+
+        // Then
+        assertNotNull(page.getNextCursor(), "A page cut short by the scan budget should offer a cursor to resume");
+    }
+
+    @Test
+    @DisplayName("Should visit every passing row exactly once when pages are cut short by the scan budget")
+    void testBudgetedCursorsVisitEveryPassingItemOnce() {
+        // Given
+        persistItems(25);
+        CatalogueKeysetRepository budgeted = new CatalogueKeysetRepository(entityManager.getEntityManager(), 5, 10);
+        List<Object> expected = keysetRepository.findItemPage(null, 25, List.of("id")).getItems().stream()
+                .map(row -> row.get("id"))
+                .filter(id -> (Long) id % 7 == 0)
+                .toList();
+
+        // When
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Map<String, Object>> page = budgeted.findItemPage(
+                    KeysetCursor.decode(cursor), 3, List.of("id"), id -> id % 7 == 0);
+            page.getItems().forEach(row -> ids.add(row.get("id")));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(expected, ids, "Resuming after short pages should neither skip nor repeat rows");
+    }
+
+    @Test
+    @DisplayName("Should visit rows inserted without a display order exactly once when following cursors")
+    @SuppressWarnings("PMD.CloseResource") // The entity manager belongs to the test transaction
+    void testCursorsVisitRowsWithoutDisplayOrderOnce() {
+        // Given
+        persistItems(6);
+        EntityManager em = entityManager.getEntityManager();
+        Object categoryId = em.createNativeQuery("SELECT MIN(category_id) FROM category_items").getSingleResult();
+        Object tenantKey = em.createNativeQuery("SELECT id FROM tenants WHERE slug = ?1")
+                .setParameter(1, TENANT_ID)
+                .getSingleResult();
+        for (long id = 900L; id < 905L; id++) {
+            // The column is left out, as a client or an older schema would
+            em.createNativeQuery("INSERT INTO category_items (id, tenant_key, category_id, name, base_price, active)"
+                            + " VALUES (?1, ?2, ?3, ?4, 10, true)")
+                    .setParameter(1, id)
+                    .setParameter(2, tenantKey)
+                    .setParameter(3, categoryId)
+                    .setParameter(4, "Unordered " + id)
+                    .executeUpdate();
+        }
+        List<Object> expected = keysetRepository.findItemPage(null, 100, List.of("id")).getItems().stream()
+                .map(row -> row.get("id"))
+                .toList();
+
+        // When
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(
+                    KeysetCursor.decode(cursor), 4, List.of("id"));
+            page.getItems().forEach(row -> ids.add(row.get("id")));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(expected, ids,
+                "Every item should be returned once in listing order, including those without a display order");
+    }
+
+    @Test
+    @DisplayName("Should not return rows belonging to another tenant")
+    @SuppressWarnings("PMD.CloseResource") // The entity manager belongs to the test transaction
+    void testPagesAreTenantScoped() {
+        // Given
+        persistItems(2);
+        EntityManager em = entityManager.getEntityManager();
+        TenantRows.createCategoryWithItems(em, TenantRows.create(em, OTHER_TENANT_ID), OTHER_TENANT_FIRST_ID, 4);
+
+        // When
+        CursorPage<Map<String, Object>> page = keysetRepository.findItemPage(null, 10, List.of("id"));
+
+        // Then
+        assertEquals(2, page.getItems().size(), "Only the tenant's own items should be listed");
+    }
+
+    /**
+     * Persist items of the tenant the test runs as; Hibernate assigns their tenant key
+     */
+    private void persistItems(int count) {
+        Category category = new Category();
+        category.setName("Category for " + TENANT_ID);
+        category.setDisplayOrder(0);
+        category.setActive(true);
+        entityManager.persist(category);
+
+        for (int i = 0; i < count; i++) {
+            CategoryItem item = new CategoryItem();
+            item.setCategory(category);
+            item.setName("Item " + i);
+            item.setBasePrice(BigDecimal.TEN);
+            // Repeat display orders so the ID tie-breaker is exercised
+            item.setDisplayOrder(i / 3);
+            item.setActive(true);
+            entityManager.persist(item);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({CatalogueKeysetRepository.class, TenantContextHolder.class, TenantRegistry.class,
+        TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
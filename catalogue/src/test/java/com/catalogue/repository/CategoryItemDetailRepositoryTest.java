@@ -0,0 +1,230 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+
+import com.catalogue.dto.CategoryItemDetailDTO;
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.dto.CustomizationDTO;
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.model.CategoryItemCustomization;
+import com.catalogue.model.Component;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Category Item Detail Repository Tests")
+class CategoryItemDetailRepositoryTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final String OTHER_TENANT_ID = "tenant2";
+    private static final long OTHER_TENANT_FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private CategoryItemDetailRepository itemDetailRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    private Statistics statistics;
+
+    /**
+     * Run the test transaction as the tenant, since Hibernate scopes a session when it opens.
+     */
+    @BeforeTransaction
+    void setTenant() {
+        tenantRegistry.register(TENANT_ID);
+        tenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterTransaction
+    void clearTenant() {
+        tenantContextHolder.clear();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should not issue more statements as the number of customizations grows")
+    void testStatementCountDoesNotGrowWithCustomizations() {
+        // Given
+        long smallItemStatements = countStatementsForDetail(persistItem(1, 2));
+        Long largeItemId = persistItem(10, 2);
+
+        // When
+        long largeItemStatements = countStatementsForDetail(largeItemId);
+
+        // Then
+        assertEquals(smallItemStatements, largeItemStatements,
+                "Customizations should be loaded in a fixed number of statements");
+    }
+
+    @Test
+    @DisplayName("Should return the components of the item")
+    void testItemComponentsReturned() {
+        // Given
+        Long itemId = persistItem(0, 3);
+
+        // When
+        CategoryItemDetailDTO detail = itemDetailRepository.findDetail(itemId).orElseThrow();
+
+        // Then
+        assertEquals(List.of("Item component 0", "Item component 1", "Item component 2"),
+                detail.getComponents().stream().map(ComponentDTO::getName).toList(),
+                "The item's components should be returned in name order");
+    }
+
+    @Test
+    @DisplayName("Should group the components of each customization under it")
+    void testCustomizationComponentsGrouped() {
+        // Given
+        Long itemId = persistItem(3, 2);
+
+        // When
+        List<CustomizationDTO> customizations = itemDetailRepository.findDetail(itemId).orElseThrow()
+                .getCustomizations();
+
+        // Then
+        assertEquals(List.of(2, 2, 2),
+                customizations.stream().map(customization -> customization.getComponents().size()).toList(),
+                "Each customization should carry its own components");
+    }
+
+    @Test
+    @DisplayName("Should leave out inactive customizations")
+    void testInactiveCustomizationsExcluded() {
+        // Given
+        Long itemId = persistItem(2, 0);
+        CategoryItem item = entityManager.find(CategoryItem.class, itemId);
+        persistCustomization(item, "Inactive", false, Set.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CustomizationDTO> customizations = itemDetailRepository.findDetail(itemId).orElseThrow()
+                .getCustomizations();
+
+        // Then
+        assertEquals(2, customizations.size(), "Only active customizations should be returned");
+    }
+
+    @Test
+    @DisplayName("Should not find an item belonging to another tenant")
+    @SuppressWarnings("PMD.CloseResource") // The entity manager belongs to the test transaction
+    void testOtherTenantItemNotFound() {
+        // Given
+        EntityManager em = entityManager.getEntityManager();
+        TenantRows.createCategoryWithItems(em, TenantRows.create(em, OTHER_TENANT_ID), OTHER_TENANT_FIRST_ID, 1);
+
+        // When / Then
+        assertTrue(itemDetailRepository.findDetail(OTHER_TENANT_FIRST_ID + 1).isEmpty(),
+                "Another tenant's item should not be visible");
+    }
+
+    /**
+     * Persist an item of the tenant the test runs as, with the given number of active customizations, each
+     * having the given number of components. The item itself has that many components too.
+     */
+    private Long persistItem(int customizations, int components) {
+        Category category = new Category();
+        category.setName("Category");
+        category.setDisplayOrder(0);
+        category.setActive(true);
+        entityManager.persist(category);
+
+        CategoryItem item = new CategoryItem();
+        item.setCategory(category);
+        item.setName("Item");
+        item.setBasePrice(BigDecimal.TEN);
+        item.setDisplayOrder(0);
+        item.setActive(true);
+        item.setComponents(persistComponents("Item component", components));
+        entityManager.persist(item);
+
+        for (int i = 0; i < customizations; i++) {
+            persistCustomization(item, "Customization " + i, true,
+                    persistComponents("Customization " + i + " component", components));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return item.getId();
+    }
+
+    private void persistCustomization(CategoryItem item, String name, boolean active, Set<Component> components) {
+        CategoryItemCustomization customization = new CategoryItemCustomization();
+        customization.setCategoryItem(item);
+        customization.setName(name);
+        customization.setPriceAdjustment(BigDecimal.ONE);
+        customization.setActive(active);
+        customization.setComponents(components);
+        entityManager.persist(customization);
+    }
+
+    private Set<Component> persistComponents(String prefix, int count) {
+        Set<Component> components = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Component component = new Component();
+            component.setName(prefix + " " + i);
+            component.setCost(BigDecimal.ONE);
+            component.setIsAllergenic(false);
+            entityManager.persist(component);
+            components.add(component);
+        }
+        return components;
+    }
+
+    private long countStatementsForDetail(Long itemId) {
+        statistics.clear();
+        itemDetailRepository.findDetail(itemId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({CategoryItemDetailRepository.class, TenantContextHolder.class, TenantRegistry.class,
+        TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,169 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.model.Component;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Category Repository Tests")
+class CategoryRepositoryTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final int ITEMS_PER_CATEGORY = 3;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int tenantKey;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tenantKey = TenantRows.create(entityManager.getEntityManager(), TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("Should load the category tree with a single statement")
+    void testCategoryTreeLoadsWithSingleStatement() {
+        // Given
+        persistCategories(5);
+
+        // When
+        long statements = countStatementsForCategoryTree();
+
+        // Then
+        assertEquals(1L, statements, "Loading the category tree should issue exactly one statement");
+    }
+
+    @Test
+    @DisplayName("Should not issue more statements as the number of categories grows")
+    void testStatementCountDoesNotGrowWithCategories() {
+        // Given
+        persistCategories(2);
+        long smallTenantStatements = countStatementsForCategoryTree();
+        persistCategories(40);
+
+        // When
+        long largeTenantStatements = countStatementsForCategoryTree();
+
+        // Then
+        assertEquals(smallTenantStatements, largeTenantStatements,
+                "Statement count should stay constant as categories are added");
+    }
+
+    @Test
+    @DisplayName("Should return each category once despite the item join")
+    void testCategoriesAreNotDuplicatedByItemJoin() {
+        // Given
+        persistCategories(4);
+
+        // When
+        List<Category> categories = categoryRepository.findWithItemsByOrderByDisplayOrderAsc();
+
+        // Then
+        assertEquals(4, categories.size(), "Each category should appear exactly once");
+    }
+
+    @Test
+    @DisplayName("Should write the item's tenant key on its component links")
+    void testComponentLinksCarryTenantKey() {
+        // Given
+        persistCategories(1);
+        CategoryItem item = entityManager.getEntityManager()
+                .createQuery("SELECT ci FROM CategoryItem ci", CategoryItem.class).getResultList().get(0);
+        Component component = new Component();
+        component.setTenantKey(tenantKey);
+        component.setName("Salt");
+        entityManager.persist(component);
+
+        // When
+        item.getComponents().add(component);
+        entityManager.flush();
+
+        // Then
+        Object linkTenantKey = entityManager.getEntityManager()
+                .createNativeQuery("SELECT tenant_key FROM category_item_components").getSingleResult();
+        assertEquals(tenantKey, ((Number) linkTenantKey).intValue(), "The link should carry the item's tenant key");
+    }
+
+    private long countStatementsForCategoryTree() {
+        statistics.clear();
+
+        List<Category> categories = categoryRepository.findWithItemsByOrderByDisplayOrderAsc();
+        for (Category category : categories) {
+            for (CategoryItem item : category.getCategoryItems()) {
+                item.getName();
+            }
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistCategories(int count) {
+        long existing = categoryRepository.count();
+
+        for (int i = 0; i < count; i++) {
+            Category category = new Category();
+            category.setTenantKey(tenantKey);
+            category.setName("Category " + (existing + i));
+            category.setDisplayOrder((int) existing + i);
+            category.setActive(true);
+            entityManager.persist(category);
+
+            for (int j = 0; j < ITEMS_PER_CATEGORY; j++) {
+                CategoryItem item = new CategoryItem();
+                item.setTenantKey(tenantKey);
+                item.setCategory(category);
+                item.setName(category.getName() + " item " + j);
+                item.setBasePrice(BigDecimal.TEN);
+                item.setDisplayOrder(j);
+                item.setActive(true);
+                entityManager.persist(item);
+            }
+        }
+
+        // Detach everything so the next read goes to the database instead of the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,197 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.model.CategoryItemCustomization;
+import com.catalogue.model.Component;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Component Batch Repository Tests")
+class ComponentBatchRepositoryTest {
+
+    private static final String TENANT_ID = "tenant1";
+
+    @Autowired
+    private ComponentBatchRepository batchRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    /**
+     * Run the test transaction as the tenant, since Hibernate scopes a session when it opens.
+     */
+    @BeforeTransaction
+    void setTenant() {
+        tenantRegistry.register(TENANT_ID);
+        tenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterTransaction
+    void clearTenant() {
+        tenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Should load the components of many items with one statement per chunk")
+    void testOneStatementPerChunk() {
+        // Given
+        List<Long> itemIds = persistItems(ComponentBatchRepository.MAX_CHUNK_SIZE + 1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        batchRepository.findByCategoryItemIds(itemIds);
+
+        // Then
+        assertEquals(2L, statistics.getPrepareStatementCount(),
+                "One chunk of the maximum size and one for the remaining item should be queried");
+    }
+
+    @Test
+    @DisplayName("Should return the components of each item under its ID")
+    void testComponentsGroupedByItem() {
+        // Given
+        List<Long> itemIds = persistItems(3);
+
+        // When
+        Map<Long, List<ComponentDTO>> components = batchRepository.findByCategoryItemIds(itemIds);
+
+        // Then
+        assertEquals("Component 2", components.get(itemIds.get(2)).get(0).getName(),
+                "Each item should get its own components");
+    }
+
+    @Test
+    @DisplayName("Should return each component once when an ID is requested twice")
+    void testDuplicateIdsDeduplicated() {
+        // Given
+        Long itemId = persistItems(1).get(0);
+
+        // When
+        Map<Long, List<ComponentDTO>> components = batchRepository.findByCategoryItemIds(
+                List.of(itemId, itemId, itemId));
+
+        // Then
+        assertEquals(1, components.get(itemId).size(), "Duplicate IDs should not duplicate components");
+    }
+
+    @Test
+    @DisplayName("Should return the components of customizations under their IDs")
+    void testCustomizationComponentsLoaded() {
+        // Given
+        CategoryItem item = entityManager.find(CategoryItem.class, persistItems(1).get(0));
+        CategoryItemCustomization customization = new CategoryItemCustomization();
+        customization.setCategoryItem(item);
+        customization.setName("Extra");
+        customization.setPriceAdjustment(BigDecimal.ONE);
+        customization.setActive(true);
+        customization.setComponents(Set.of(persistComponent("Extra component")));
+        entityManager.persist(customization);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Map<Long, List<ComponentDTO>> components = batchRepository.findByCustomizationIds(
+                List.of(customization.getId()));
+
+        // Then
+        assertEquals("Extra component", components.get(customization.getId()).get(0).getName(),
+                "The customization's components should be returned");
+    }
+
+    @Test
+    @DisplayName("Should have Hibernate pad the IN lists")
+    void testInClausePaddingEnabled() {
+        // When
+        Object padding = entityManagerFactory.getProperties().get(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING);
+
+        // Then
+        assertEquals("true", String.valueOf(padding), "IN lists should be padded to share statements");
+    }
+
+    /**
+     * Persist items of the tenant the test runs as, each with one component named after its index
+     */
+    private List<Long> persistItems(int count) {
+        Category category = new Category();
+        category.setName("Category");
+        category.setDisplayOrder(0);
+        category.setActive(true);
+        entityManager.persist(category);
+
+        List<CategoryItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CategoryItem item = new CategoryItem();
+            item.setCategory(category);
+            item.setName("Item " + i);
+            item.setBasePrice(BigDecimal.TEN);
+            item.setDisplayOrder(i);
+            item.setActive(true);
+            item.setComponents(Set.of(persistComponent("Component " + i)));
+            entityManager.persist(item);
+            items.add(item);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return items.stream().map(CategoryItem::getId).toList();
+    }
+
+    private Component persistComponent(String name) {
+        Component component = new Component();
+        component.setName(name);
+        component.setCost(BigDecimal.ONE);
+        component.setIsAllergenic(false);
+        entityManager.persist(component);
+        return component;
+    }
+
+    /**
+     * Minimal JPA configuration so the test slice does not pick up the full application context.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({ComponentBatchRepository.class, TenantContextHolder.class, TenantRegistry.class,
+        TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,380 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.catalogue.config.SchemaPartitioningConfig;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Checks that every tenant-scoped repository query reads a single partition of each partitioned table.
+ *
+ * <p>Runs only against PostgreSQL, given as {@code CATALOGUE_TEST_POSTGRES_URL}. The partitioned schema is
+ * migrated into its own database schema, which is dropped afterwards. Partitions read are counted from the
+ * transaction's table statistics, so pruning at planning and at execution time are both seen. Queries run as one
+ * tenant, so the tenant key comes from Hibernate's tenant filter. Loads by ID are not filtered by tenant and
+ * read every partition, through the ID indexes.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOGUE_TEST_POSTGRES_URL", matches = ".+")
+@DataJpaTest(properties = {
+    "spring.datasource.url=${CATALOGUE_TEST_POSTGRES_URL}",
+    "spring.datasource.hikari.schema=" + PartitionPruningTest.SCHEMA,
+    "spring.flyway.default-schema=" + PartitionPruningTest.SCHEMA,
+    "catalogue.schema.partitioning.enabled=true",
+    "catalogue.schema.partitioning.partitions=8"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = PartitionPruningTest.JpaTestConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Partition Pruning Tests")
+class PartitionPruningTest {
+
+    static final String SCHEMA = "catalogue_partition_pruning";
+
+    private static final int TENANTS = 20;
+    private static final String TENANT_ID = "pruning-7";
+
+    private static final String PARTITION_SCANS_SQL = "SELECT p.relname, s.relname,"
+            + " s.seq_scan + COALESCE(s.idx_scan, 0) FROM pg_stat_xact_user_tables s"
+            + " JOIN pg_inherits i ON i.inhrelid = s.relid JOIN pg_class p ON p.oid = i.inhparent"
+            + " WHERE s.schemaname = current_schema()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryItemRepository categoryItemRepository;
+
+    @Autowired
+    private CategoryItemCustomizationRepository customizationRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private CatalogueKeysetRepository keysetRepository;
+
+    private int tenantKey;
+    private long categoryId;
+    private long itemId;
+    private long customizationId;
+    private Map<String, Long> scansBefore;
+
+    /**
+     * Seed a few rows for every tenant, committed, so each partition holds data.
+     */
+    @BeforeAll
+    void seedCatalogue() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.execute("TRUNCATE tenants, components, categories, category_items,"
+                    + " category_item_customizations, category_item_components, customization_components CASCADE");
+            jdbcTemplate.update("INSERT INTO tenants (slug) SELECT 'pruning-' || g FROM generate_series(1, ?) g",
+                    TENANTS);
+            jdbcTemplate.update("INSERT INTO categories (id, tenant_key, name, display_order, active)"
+                    + " SELECT row_number() OVER (), t.id, 'Category ' || g, g, true"
+                    + " FROM tenants t, generate_series(1, 3) g");
+            jdbcTemplate.update("INSERT INTO category_items"
+                    + " (id, tenant_key, category_id, name, base_price, sku, display_order, active)"
+                    + " SELECT row_number() OVER (), c.tenant_key, c.id, 'Item ' || c.id || '-' || g, 10,"
+                    + " 'SKU-' || c.id || '-' || g, g, true FROM categories c, generate_series(1, 3) g");
+            jdbcTemplate.update("INSERT INTO category_item_customizations"
+                    + " (id, tenant_key, category_item_id, name, price_adjustment, active)"
+                    + " SELECT i.id, i.tenant_key, i.id, 'Extra', 1, true FROM category_items i");
+            jdbcTemplate.update("INSERT INTO components (id, tenant_key, name, cost, is_allergenic)"
+                    + " SELECT row_number() OVER (), t.id, 'Component ' || g, 1, g = 1"
+                    + " FROM tenants t, generate_series(1, 3) g");
+            jdbcTemplate.update("INSERT INTO category_item_components (tenant_key, category_item_id, component_id)"
+                    + " SELECT i.tenant_key, i.id, c.id FROM category_items i"
+                    + " JOIN components c ON c.tenant_key = i.tenant_key");
+            jdbcTemplate.update("INSERT INTO customization_components (tenant_key, customization_id, component_id)"
+                    + " SELECT cu.tenant_key, cu.id, c.id FROM category_item_customizations cu"
+                    + " JOIN components c ON c.tenant_key = cu.tenant_key");
+        });
+        tenantKey = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE slug = ?", Integer.class, TENANT_ID);
+        tenantRegistry.reload();
+        tenantContextHolder.setTenantId(TENANT_ID);
+        categoryId = firstId("categories");
+        itemId = firstId("category_items");
+        customizationId = firstId("category_item_customizations");
+    }
+
+    /**
+     * Drop the schema holding the partitioned tables.
+     */
+    @AfterAll
+    void dropSchema() {
+        tenantContextHolder.clear();
+        jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+    }
+
+    /**
+     * Record the scans counted so far, which include statements of earlier transactions not yet reported.
+     */
+    @BeforeEach
+    void recordScans() {
+        scansBefore = new HashMap<>();
+        jdbcTemplate.query(PARTITION_SCANS_SQL, rs -> {
+            scansBefore.put(rs.getString(2), rs.getLong(3));
+        });
+    }
+
+    @Test
+    @DisplayName("Category findAllByOrderByDisplayOrderAsc should read one partition")
+    void testCategoryFindAllOrderByDisplayOrder() {
+        // When
+        categoryRepository.findAllByOrderByDisplayOrderAsc();
+
+        // Then
+        assertSinglePartitions("categories");
+    }
+
+    @Test
+    @DisplayName("Category findWithItemsByOrderByDisplayOrderAsc should read one partition of each table")
+    void testCategoryFindWithItems() {
+        // When
+        categoryRepository.findWithItemsByOrderByDisplayOrderAsc();
+
+        // Then
+        assertSinglePartitions("categories", "category_items");
+    }
+
+    @Test
+    @DisplayName("Category existsByName should read one partition")
+    void testCategoryExistsByName() {
+        // When
+        categoryRepository.existsByName("Category 1");
+
+        // Then
+        assertSinglePartitions("categories");
+    }
+
+    @Test
+    @DisplayName("Item findAllByOrderByDisplayOrderAsc should read one partition")
+    void testItemFindAllOrderByDisplayOrder() {
+        // When
+        categoryItemRepository.findAllByOrderByDisplayOrderAsc();
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Item findByActiveIsTrueOrderByDisplayOrderAsc should read one partition")
+    void testItemFindActiveOrderByDisplayOrder() {
+        // When
+        categoryItemRepository.findByActiveIsTrueOrderByDisplayOrderAsc();
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Item findByCategoryId should read one partition")
+    void testItemFindByCategoryId() {
+        // When
+        categoryItemRepository.findByCategoryId(categoryId);
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Item findByCategoryIdAndActiveIsTrue should read one partition")
+    void testItemFindActiveByCategoryId() {
+        // When
+        categoryItemRepository.findByCategoryIdAndActiveIsTrue(categoryId);
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Item existsByName should read one partition")
+    void testItemExistsByName() {
+        // When
+        categoryItemRepository.existsByName("Item");
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Item existsBySku should read one partition")
+    void testItemExistsBySku() {
+        // When
+        categoryItemRepository.existsBySku("SKU");
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    @Test
+    @DisplayName("Customization findAll should read one partition")
+    void testCustomizationFindAll() {
+        // When
+        customizationRepository.findAll();
+
+        // Then
+        assertSinglePartitions("category_item_customizations");
+    }
+
+    @Test
+    @DisplayName("Customization findByActiveIsTrue should read one partition")
+    void testCustomizationFindActive() {
+        // When
+        customizationRepository.findByActiveIsTrue();
+
+        // Then
+        assertSinglePartitions("category_item_customizations");
+    }
+
+    @Test
+    @DisplayName("Customization findByCategoryItemId should read one partition")
+    void testCustomizationFindByCategoryItemId() {
+        // When
+        customizationRepository.findByCategoryItemId(itemId);
+
+        // Then
+        assertSinglePartitions("category_item_customizations");
+    }
+
+    @Test
+    @DisplayName("Customization findByCategoryItemIdAndActiveIsTrue should read one partition")
+    void testCustomizationFindActiveByCategoryItemId() {
+        // When
+        customizationRepository.findByCategoryItemIdAndActiveIsTrue(itemId);
+
+        // Then
+        assertSinglePartitions("category_item_customizations");
+    }
+
+    @Test
+    @DisplayName("Customization existsByNameAndCategoryItemId should read one partition")
+    void testCustomizationExistsByNameAndCategoryItemId() {
+        // When
+        customizationRepository.existsByNameAndCategoryItemId("Extra", itemId);
+
+        // Then
+        assertSinglePartitions("category_item_customizations");
+    }
+
+    @Test
+    @DisplayName("Component findByCategoryItemId should read one partition of the join table")
+    void testComponentFindByCategoryItemId() {
+        // When
+        componentRepository.findByCategoryItemId(itemId);
+
+        // Then
+        assertSinglePartitions("category_items", "category_item_components");
+    }
+
+    @Test
+    @DisplayName("Component findByCustomizationId should read one partition of the join table")
+    void testComponentFindByCustomizationId() {
+        // When
+        componentRepository.findByCustomizationId(customizationId);
+
+        // Then
+        assertSinglePartitions("category_item_customizations", "customization_components");
+    }
+
+    @Test
+    @DisplayName("Loading an item's components should read one partition of the join table")
+    void testItemComponentsLoad() {
+        // When
+        categoryItemRepository.findByCategoryId(categoryId).get(0).getComponents().size();
+
+        // Then
+        assertSinglePartitions("category_items", "category_item_components");
+    }
+
+    @Test
+    @DisplayName("Keyset findCategoryPage should read one partition")
+    void testKeysetFindCategoryPage() {
+        // When
+        keysetRepository.findCategoryPage(null, 50, List.of("id", "name"));
+
+        // Then
+        assertSinglePartitions("categories");
+    }
+
+    @Test
+    @DisplayName("Keyset findItemPage should read one partition")
+    void testKeysetFindItemPage() {
+        // When
+        keysetRepository.findItemPage(null, 50, List.of("id", "name"));
+
+        // Then
+        assertSinglePartitions("category_items");
+    }
+
+    /**
+     * Check that the partitioned tables read since {@link #recordScans()} are exactly the given ones, one partition
+     * each
+     */
+    private void assertSinglePartitions(String... tables) {
+        Map<String, Long> expected = new TreeMap<>();
+        Stream.of(tables).forEach(table -> expected.put(table, 1L));
+        Map<String, Long> partitionsRead = new TreeMap<>();
+        jdbcTemplate.query(PARTITION_SCANS_SQL, rs -> {
+            if (rs.getLong(3) > scansBefore.getOrDefault(rs.getString(2), 0L)) {
+                partitionsRead.merge(rs.getString(1), 1L, Long::sum);
+            }
+        });
+        assertEquals(expected, partitionsRead, "Each partitioned table should be read in one partition only");
+    }
+
+    private long firstId(String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + table + " WHERE tenant_key = ?", Long.class,
+                tenantKey);
+    }
+
+    /**
+     * Minimal JPA configuration with the partitioned schema enabled.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({CatalogueKeysetRepository.class, SchemaPartitioningConfig.class, TenantContextHolder.class,
+        TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,529 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * Checks through EXPLAIN that every tenant-scoped repository query reads the catalogue tables through an index.
+ *
+ * <p>Runs only against PostgreSQL 16 or later, given as {@code CATALOGUE_TEST_POSTGRES_URL}, e.g.
+ * {@code jdbc:postgresql://localhost:5432/catalogue_test?user=postgres}. The statements Hibernate sends are
+ * captured and explained as generic plans, which is how the planner sees them once a prepared statement is
+ * reused. The seeded catalogue spans many tenants, so a scan of a whole table is never the cheapest plan.
+ * Queries run as one of the seeded tenants, so the tenant key comes from Hibernate's tenant filter.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOGUE_TEST_POSTGRES_URL", matches = ".+")
+@DataJpaTest(properties = {
+    "spring.datasource.url=${CATALOGUE_TEST_POSTGRES_URL}",
+    // Lets EXPLAIN take the numbered parameters of a generic plan without binding them
+    "spring.datasource.hikari.data-source-properties.preferQueryMode=simple"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryIndexUsageTest.JpaTestConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Repository Index Usage Tests")
+class RepositoryIndexUsageTest {
+
+    private static final String TENANT_PREFIX = "index-usage-";
+    private static final int TENANTS = 200;
+    private static final long FIRST_ID = 1_000_000_000L;
+
+    private static final Set<String> CATALOGUE_TABLES = Set.of("categories", "category_items",
+            "category_item_customizations", "components", "category_item_components", "customization_components");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryItemRepository categoryItemRepository;
+
+    @Autowired
+    private CategoryItemCustomizationRepository customizationRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private CatalogueKeysetRepository keysetRepository;
+
+    /**
+     * Seed the catalogue once, committed, so every test explains against the same statistics.
+     */
+    @BeforeAll
+    void seedCatalogue() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            deleteSeededRows();
+            jdbcTemplate.update("INSERT INTO tenants (slug) SELECT ? || g FROM generate_series(1, ?) g",
+                    TENANT_PREFIX, TENANTS);
+            jdbcTemplate.update("INSERT INTO categories (id, tenant_key, name, display_order, active)"
+                    + " SELECT ? + row_number() OVER (), t.id, 'Category ' || g, g, true"
+                    + " FROM tenants t, generate_series(1, 20) g WHERE t.slug LIKE ?", FIRST_ID, TENANT_PREFIX + "%");
+            jdbcTemplate.update("INSERT INTO category_items"
+                    + " (id, tenant_key, category_id, name, base_price, sku, display_order, active)"
+                    + " SELECT ? + row_number() OVER (), c.tenant_key, c.id, 'Item ' || c.id || '-' || g, 10,"
+                    + " 'SKU-' || c.id || '-' || g, g, g % 10 <> 0"
+                    + " FROM categories c, generate_series(1, 20) g WHERE c.id > ?", FIRST_ID, FIRST_ID);
+            jdbcTemplate.update("INSERT INTO category_item_customizations"
+                    + " (id, tenant_key, category_item_id, name, price_adjustment, active)"
+                    + " SELECT ? + row_number() OVER (), i.tenant_key, i.id, 'Extra', 1, i.id % 3 <> 0"
+                    + " FROM category_items i WHERE i.id > ? AND i.id % 4 = 0", FIRST_ID, FIRST_ID);
+            jdbcTemplate.update("INSERT INTO components (id, tenant_key, name, cost, is_allergenic)"
+                    + " SELECT ? + row_number() OVER (), t.id, 'Component ' || g, 1, g % 10 = 0"
+                    + " FROM tenants t, generate_series(1, 50) g WHERE t.slug LIKE ?", FIRST_ID, TENANT_PREFIX + "%");
+            jdbcTemplate.update("INSERT INTO category_item_components (category_item_id, component_id, tenant_key)"
+                    + " SELECT i.id, c.id, i.tenant_key FROM category_items i"
+                    + " JOIN components c ON c.tenant_key = i.tenant_key"
+                    + " WHERE i.id > ? AND c.id > ? AND (i.id + c.id) % 17 = 0", FIRST_ID, FIRST_ID);
+            jdbcTemplate.update("INSERT INTO customization_components (customization_id, component_id, tenant_key)"
+                    + " SELECT cu.id, c.id, cu.tenant_key FROM category_item_customizations cu"
+                    + " JOIN components c ON c.tenant_key = cu.tenant_key"
+                    + " WHERE cu.id > ? AND c.id > ? AND (cu.id + c.id) % 25 = 0", FIRST_ID, FIRST_ID);
+        });
+        CATALOGUE_TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE " + table));
+        tenantRegistry.reload();
+        tenantContextHolder.setTenantId(TENANT_PREFIX + TENANTS / 2);
+    }
+
+    /**
+     * Remove the seeded rows.
+     */
+    @AfterAll
+    void deleteCatalogue() {
+        tenantContextHolder.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> deleteSeededRows());
+    }
+
+    @BeforeEach
+    void setUp() {
+        statementCapture.clear();
+    }
+
+    @Nested
+    @DisplayName("Category Repository")
+    class CategoryRepositoryTests {
+
+        @Test
+        @DisplayName("findAllByOrderByDisplayOrderAsc should use an index")
+        void testFindAllOrderByDisplayOrder() {
+            // When
+            categoryRepository.findAllByOrderByDisplayOrderAsc();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findWithItemsByOrderByDisplayOrderAsc should use an index")
+        void testFindWithItems() {
+            // When
+            categoryRepository.findWithItemsByOrderByDisplayOrderAsc();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findById should use an index")
+        void testFindById() {
+            // When
+            categoryRepository.findById(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("existsByName should use an index")
+        void testExistsByName() {
+            // When
+            categoryRepository.existsByName("Category 1");
+
+            // Then
+            assertIndexScans();
+        }
+    }
+
+    @Nested
+    @DisplayName("Category Item Repository")
+    class CategoryItemRepositoryTests {
+
+        @Test
+        @DisplayName("findAllByOrderByDisplayOrderAsc should use an index")
+        void testFindAllOrderByDisplayOrder() {
+            // When
+            categoryItemRepository.findAllByOrderByDisplayOrderAsc();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByActiveIsTrueOrderByDisplayOrderAsc should use an index")
+        void testFindActiveOrderByDisplayOrder() {
+            // When
+            categoryItemRepository.findByActiveIsTrueOrderByDisplayOrderAsc();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findById should use an index")
+        void testFindById() {
+            // When
+            categoryItemRepository.findById(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCategoryId should use an index")
+        void testFindByCategoryId() {
+            // When
+            categoryItemRepository.findByCategoryId(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCategoryIdAndActiveIsTrue should use an index")
+        void testFindActiveByCategoryId() {
+            // When
+            categoryItemRepository.findByCategoryIdAndActiveIsTrue(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("existsByName should use an index")
+        void testExistsByName() {
+            // When
+            categoryItemRepository.existsByName("Item");
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("existsBySku should use an index")
+        void testExistsBySku() {
+            // When
+            categoryItemRepository.existsBySku("SKU");
+
+            // Then
+            assertIndexScans();
+        }
+    }
+
+    @Nested
+    @DisplayName("Category Item Customization Repository")
+    class CustomizationRepositoryTests {
+
+        @Test
+        @DisplayName("findAll should use an index")
+        void testFindAll() {
+            // When
+            customizationRepository.findAll();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByActiveIsTrue should use an index")
+        void testFindActive() {
+            // When
+            customizationRepository.findByActiveIsTrue();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findById should use an index")
+        void testFindById() {
+            // When
+            customizationRepository.findById(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCategoryItemId should use an index")
+        void testFindByCategoryItemId() {
+            // When
+            customizationRepository.findByCategoryItemId(FIRST_ID + 4);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCategoryItemIdAndActiveIsTrue should use an index")
+        void testFindActiveByCategoryItemId() {
+            // When
+            customizationRepository.findByCategoryItemIdAndActiveIsTrue(FIRST_ID + 4);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("existsByNameAndCategoryItemId should use an index")
+        void testExistsByNameAndCategoryItemId() {
+            // When
+            customizationRepository.existsByNameAndCategoryItemId("Extra", FIRST_ID + 4);
+
+            // Then
+            assertIndexScans();
+        }
+    }
+
+    @Nested
+    @DisplayName("Component Repository")
+    class ComponentRepositoryTests {
+
+        @Test
+        @DisplayName("findAll should use an index")
+        void testFindAll() {
+            // When
+            componentRepository.findAll();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findById should use an index")
+        void testFindById() {
+            // When
+            componentRepository.findById(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByIdIn should use an index")
+        void testFindByIdIn() {
+            // When
+            componentRepository.findByIdIn(Set.of(FIRST_ID + 1, FIRST_ID + 2));
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("existsByName should use an index")
+        void testExistsByName() {
+            // When
+            componentRepository.existsByName("Component 1");
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByIsAllergenicIsTrue should use an index")
+        void testFindAllergenic() {
+            // When
+            componentRepository.findByIsAllergenicIsTrue();
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCategoryItemId should use an index")
+        void testFindByCategoryItemId() {
+            // When
+            componentRepository.findByCategoryItemId(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findByCustomizationId should use an index")
+        void testFindByCustomizationId() {
+            // When
+            componentRepository.findByCustomizationId(FIRST_ID + 1);
+
+            // Then
+            assertIndexScans();
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalogue Keyset Repository")
+    class KeysetRepositoryTests {
+
+        @Test
+        @DisplayName("findCategoryPage should use an index")
+        void testFindCategoryPage() {
+            // When
+            keysetRepository.findCategoryPage(null, 50, List.of("id", "name"));
+
+            // Then
+            assertIndexScans();
+        }
+
+        @Test
+        @DisplayName("findItemPage should use an index")
+        void testFindItemPage() {
+            // When
+            keysetRepository.findItemPage(null, 50, List.of("id", "name"));
+
+            // Then
+            assertIndexScans();
+        }
+    }
+
+    /**
+     * Explain every captured statement and check that no catalogue table is read with a sequential scan
+     */
+    private void assertIndexScans() {
+        List<String> seqScans = new ArrayList<>();
+        for (String sql : statementCapture.statements()) {
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class));
+            Matcher matcher = SEQ_SCAN.matcher(plan);
+            while (matcher.find()) {
+                if (CATALOGUE_TABLES.contains(matcher.group(1))) {
+                    seqScans.add(sql + "\n" + plan);
+                }
+            }
+        }
+        assertEquals(List.of(), seqScans, "Repository queries should read catalogue tables through indexes");
+    }
+
+    /**
+     * Replace JDBC placeholders with the numbered parameters EXPLAIN expects
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private void deleteSeededRows() {
+        String seededTenants = "SELECT id FROM tenants WHERE slug LIKE '" + TENANT_PREFIX + "%'";
+        jdbcTemplate.update("DELETE FROM customization_components WHERE customization_id IN"
+                + " (SELECT id FROM category_item_customizations WHERE tenant_key IN (" + seededTenants + "))");
+        jdbcTemplate.update("DELETE FROM category_item_components WHERE category_item_id IN"
+                + " (SELECT id FROM category_items WHERE tenant_key IN (" + seededTenants + "))");
+        for (String table : List.of("category_item_customizations", "category_items", "categories", "components")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE tenant_key IN (" + seededTenants + ")");
+        }
+        jdbcTemplate.update("DELETE FROM tenants WHERE slug LIKE ?", TENANT_PREFIX + "%");
+    }
+
+    /**
+     * Records the SELECT statements Hibernate prepares.
+     */
+    static class StatementCapture implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, 6)) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+
+    /**
+     * Minimal JPA configuration with the statement capture installed.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({CatalogueKeysetRepository.class, TenantContextHolder.class, TenantRegistry.class,
+        TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+
+        @Bean
+        StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCapture statementCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCapture);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.catalogue.repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Creates the tenant rows that catalogue rows reference by key, and catalogue rows of tenants other than the
+ * one a test session runs as, which Hibernate refuses to persist.
+ */
+final class TenantRows {
+
+    private TenantRows() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Insert a tenant in the current transaction.
+     *
+     * @param entityManager Entity manager of the test transaction
+     * @param tenantId The tenant identifier
+     * @return The generated tenant key
+     */
+    static int create(EntityManager entityManager, String tenantId) {
+        entityManager.createNativeQuery("INSERT INTO tenants (slug) VALUES (?1)")
+                .setParameter(1, tenantId)
+                .executeUpdate();
+        return ((Number) entityManager.createNativeQuery("SELECT id FROM tenants WHERE slug = ?1")
+                .setParameter(1, tenantId)
+                .getSingleResult()).intValue();
+    }
+
+    /**
+     * Insert a category and its items for a tenant with SQL, bypassing the session's tenant.
+     *
+     * @param entityManager Entity manager of the test transaction
+     * @param tenantKey Key of the owning tenant
+     * @param categoryId ID of the category; the items take the IDs that follow it
+     * @param items Number of items in the category
+     */
+    static void createCategoryWithItems(EntityManager entityManager, int tenantKey, long categoryId, int items) {
+        entityManager.createNativeQuery("INSERT INTO categories (id, tenant_key, name, display_order, active)"
+                        + " VALUES (?1, ?2, ?3, 0, true)")
+                .setParameter(1, categoryId)
+                .setParameter(2, tenantKey)
+                .setParameter(3, "Category " + categoryId)
+                .executeUpdate();
+        for (int i = 1; i <= items; i++) {
+            entityManager.createNativeQuery("INSERT INTO category_items"
+                            + " (id, tenant_key, category_id, name, base_price, display_order, active)"
+                            + " VALUES (?1, ?2, ?3, ?4, 10, 0, true)")
+                    .setParameter(1, categoryId + i)
+                    .setParameter(2, tenantKey)
+                    .setParameter(3, categoryId)
+                    .setParameter(4, "Item " + i)
+                    .executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.catalogue.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+
+import com.catalogue.model.Category;
+import com.catalogue.model.CategoryItem;
+import com.catalogue.tenant.TenantKeyResolver;
+import com.catalogue.tenant.TenantRegistry;
+import com.common.tenant.TenantContextHolder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Checks that Hibernate scopes repository queries and inserts to the tenant of the session, as resolved by
+ * {@link TenantKeyResolver} when the test transaction begins.
+ */
+@DataJpaTest
+@DisplayName("Tenant Scoping Tests")
+class TenantScopingTest {
+
+    private static final String TENANT_ID = "tenant1";
+    private static final String OTHER_TENANT_ID = "tenant2";
+    private static final long OTHER_CATEGORY_ID = 1_000_000L;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryItemRepository categoryItemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantContextHolder tenantContextHolder;
+
+    @Autowired
+    private TenantKeyResolver tenantKeyResolver;
+
+    private int tenantKey;
+
+    @BeforeTransaction
+    void setTenant() {
+        tenantKey = tenantRegistry.register(TENANT_ID);
+        tenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterTransaction
+    void clearTenant() {
+        tenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Should only find the current tenant's rows")
+    void testQueriesAreTenantScoped() {
+        // Given
+        persistCategory("Starters");
+        createOtherTenantCategory(3);
+
+        // When
+        List<Category> categories = categoryRepository.findAll();
+
+        // Then
+        assertEquals(1, categories.size(), "Another tenant's categories should not be returned");
+    }
+
+    @Test
+    @DisplayName("Should scope derived queries to the current tenant")
+    void testDerivedQueriesAreTenantScoped() {
+        // Given
+        createOtherTenantCategory(3);
+
+        // When
+        List<CategoryItem> items = categoryItemRepository.findByCategoryId(OTHER_CATEGORY_ID);
+
+        // Then
+        assertEquals(List.of(), items, "Another tenant's items should not be found by their category");
+    }
+
+    @Test
+    @DisplayName("Should assign the session's tenant key to new entities")
+    void testTenantKeyAssignedOnInsert() {
+        // When
+        Category category = persistCategory("Starters");
+
+        // Then
+        assertEquals(tenantKey, category.getTenantKey(), "New entities should belong to the current tenant");
+    }
+
+    @Test
+    @DisplayName("Should refuse to insert an entity of another tenant")
+    void testOtherTenantInsertRejected() {
+        // Given
+        Category category = new Category();
+        category.setTenantKey(TenantRows.create(entityManager.getEntityManager(), OTHER_TENANT_ID));
+        category.setName("Starters");
+
+        // When / Then
+        assertThrows(PersistenceException.class, () -> entityManager.persistAndFlush(category),
+                "A session should only write its own tenant's rows");
+    }
+
+    @Test
+    @DisplayName("Should leave the tenant check of loads by ID to the caller")
+    void testLoadByIdNotScoped() {
+        // Given
+        createOtherTenantCategory(0);
+
+        // When
+        Category category = categoryRepository.findById(OTHER_CATEGORY_ID).orElseThrow();
+
+        // Then
+        assertFalse(tenantKeyResolver.isCurrentTenant(category),
+                "Another tenant's category loaded by ID should be recognised as foreign");
+    }
+
+    private Category persistCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setDisplayOrder(0);
+        category.setActive(true);
+        return entityManager.persistFlushFind(category);
+    }
+
+    @SuppressWarnings("PMD.CloseResource") // The entity manager belongs to the test transaction
+    private void createOtherTenantCategory(int items) {
+        EntityManager em = entityManager.getEntityManager();
+        TenantRows.createCategoryWithItems(em, TenantRows.create(em, OTHER_TENANT_ID), OTHER_CATEGORY_ID, items);
+    }
+
+    /**
+     * Minimal JPA configuration with the tenant resolver installed.
+     */
+    @SpringBootConfiguration
+    @EntityScan("com.catalogue.model")
+    @EnableJpaRepositories("com.catalogue.repository")
+    @Import({TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class})
+    static class JpaTestConfiguration {
+    }
+}
@@ -0,0 +1,149 @@
+package com.catalogue.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.catalogue.dto.AutocompleteSuggestionDTO;
+
+@DisplayName("Autocomplete Index Tests")
+class AutocompleteIndexTest {
+
+    private final AutocompleteIndex index = AutocompleteIndex.build(
+            List.of(
+                    item(1L, "Pizza Margherita", 2),
+                    item(2L, "Pizza Pepperoni", 1),
+                    item(3L, "Garlic Bread", 3),
+                    item(4L, "Pasta al Pomodoro", null)),
+            List.of(
+                    component(10L, "Pepper"),
+                    component(11L, "Parmesan")));
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should match the start of any word of a name")
+        void testWordStartMatched() {
+            // When
+            List<String> names = names(index.complete("marg", 10));
+
+            // Then
+            assertEquals(List.of("Pizza Margherita"), names, "A prefix of a later word should match the name");
+        }
+
+        @Test
+        @DisplayName("Should ignore case and separator characters")
+        void testCaseAndSeparatorsIgnored() {
+            // When
+            List<String> names = names(index.complete("  PIZZA--ma", 10));
+
+            // Then
+            assertEquals(List.of("Pizza Margherita"), names,
+                    "Case and runs of separators should not matter, leading separators should be dropped");
+        }
+
+        @Test
+        @DisplayName("Should only match names with another word after a trailing separator")
+        void testTrailingSeparatorRequiresNextWord() {
+            // When
+            List<String> names = names(index.complete("pepper ", 10));
+
+            // Then
+            assertEquals(List.of(), names, "A trailing space should not match a name ending with the prefix");
+        }
+
+        @Test
+        @DisplayName("Should not match text in the middle of a word")
+        void testMidWordNotMatched() {
+            // When / Then
+            assertTrue(index.complete("izza", 10).isEmpty(), "Only the starts of words should match");
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranking Tests")
+    class RankingTests {
+
+        @Test
+        @DisplayName("Should rank items by display order before components by name")
+        void testItemsByDisplayOrderThenComponents() {
+            // When
+            List<String> names = names(index.complete("p", 10));
+
+            // Then
+            assertEquals(List.of("Pizza Pepperoni", "Pizza Margherita", "Pasta al Pomodoro", "Parmesan", "Pepper"),
+                    names, "Items without a display order should follow ordered items, components come last");
+        }
+
+        @Test
+        @DisplayName("Should suggest a name once when several of its words match")
+        void testNameSuggestedOnce() {
+            // When
+            List<String> names = names(index.complete("pep", 10));
+
+            // Then
+            assertEquals(List.of("Pizza Pepperoni", "Pepper"), names, "Each name should be suggested once");
+        }
+
+        @Test
+        @DisplayName("Should return at most the requested number of suggestions")
+        void testLimitApplied() {
+            // When
+            List<String> names = names(index.complete("p", 2));
+
+            // Then
+            assertEquals(List.of("Pizza Pepperoni", "Pizza Margherita"), names,
+                    "Suggestions should be the best ranked ones, cut at the limit");
+        }
+
+        @Test
+        @DisplayName("Should keep the best ranked suggestions when more names match than are kept")
+        void testBestRankedKept() {
+            // Given
+            List<Object[]> items = new ArrayList<>();
+            for (int i = AutocompleteIndex.MAX_SUGGESTIONS + 5; i > 0; i--) {
+                items.add(item((long) i, "Soup " + i, i));
+            }
+
+            // When
+            List<AutocompleteSuggestionDTO> suggestions = AutocompleteIndex.build(items, List.of())
+                    .complete("soup", AutocompleteIndex.MAX_SUGGESTIONS);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L),
+                    suggestions.stream().map(AutocompleteSuggestionDTO::getId).toList(),
+                    "The suggestions with the lowest display orders should be kept");
+        }
+    }
+
+    @Test
+    @DisplayName("Should share the suggestions of nodes along a path with a single name")
+    void testSingleNamePathShared() {
+        // Given
+        AutocompleteIndex single = AutocompleteIndex.build(List.<Object[]>of(item(1L, "Tiramisu", 1)), List.of());
+
+        // When / Then
+        assertEquals("Tiramisu", single.complete("tiramis", 1).get(0).getName(),
+                "Every node of a single name's path should suggest it");
+    }
+
+    private static Object[] item(Long id, String name, Integer displayOrder) {
+        return new Object[] {id, name, displayOrder};
+    }
+
+    private static Object[] component(Long id, String name) {
+        return new Object[] {id, name};
+    }
+
+    private static List<String> names(List<AutocompleteSuggestionDTO> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestionDTO::getName).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.catalogue.search;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.catalogue.repository.CategoryItemRepository;
+import com.common.tenant.TenantContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Building, rebuilding and bounding the indexes are covered by the tests of the shared
+ * {@link com.catalogue.cache.TenantRebuildCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Index Cache Tests")
+class SearchIndexCacheTest {
+
+    private static final String TENANT_ID = "tenant1";
+
+    @Mock
+    private CategoryItemRepository categoryItemRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchIndexCache searchIndexCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchIndexCache = new SearchIndexCache(categoryItemRepository, new TenantContextHolder(), meterRegistry,
+                1000, 3600, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndexCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should publish the estimated size of each tenant's index")
+    void testMemoryPublished() {
+        // Given
+        when(categoryItemRepository.findActiveSearchFields()).thenReturn(rows("Pizza"));
+
+        // When
+        searchIndexCache.get(TENANT_ID);
+
+        // Then
+        assertTrue(meterRegistry.get("catalogue.search.index.memory").tag("tenant", TENANT_ID).gauge().value() > 0,
+                "The tenant's index size should be published");
+    }
+
+    private static List<Object[]> rows(String name) {
+        return List.<Object[]>of(new Object[] {1L, 10L, name, null, BigDecimal.TEN});
+    }
+}
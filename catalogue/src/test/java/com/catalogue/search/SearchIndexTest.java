@@ -0,0 +1,112 @@
+package com.catalogue.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.catalogue.dto.ItemSearchResultDTO;
+
+@DisplayName("Search Index Tests")
+class SearchIndexTest {
+
+    private static final Long MARGHERITA_ID = 1L;
+    private static final Long GARLIC_BREAD_ID = 2L;
+    private static final Long TOMATO_SOUP_ID = 3L;
+    private static final Long BRUSCHETTA_ID = 4L;
+
+    private final SearchIndex index = SearchIndex.build(List.of(
+            row(MARGHERITA_ID, "Pizza Margherita", "Tomatoes, mozzarella and fresh basil"),
+            row(GARLIC_BREAD_ID, "Garlic Bread", "Toasted bread with garlic butter"),
+            row(TOMATO_SOUP_ID, "Tomato Soup", "Slow-cooked soup"),
+            row(BRUSCHETTA_ID, "Bruschetta", "Grilled bread topped with tomato and garlic")));
+
+    @Nested
+    @DisplayName("Analyzer Tests")
+    class AnalyzerTests {
+
+        @Test
+        @DisplayName("Should reduce plurals to their singular form")
+        void testPluralsStemmed() {
+            // When
+            List<String> terms = SearchAnalyzer.analyze("Tomatoes, berries and sauces in glass");
+
+            // Then
+            assertEquals(List.of("tomato", "berry", "sauce", "glass"), terms,
+                    "Plurals should be stemmed and stop words dropped");
+        }
+    }
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should match a term in the singular and the plural alike")
+        void testPluralQueryMatchesSingular() {
+            // When
+            List<Long> ids = ids(index.search("tomatoes", 10));
+
+            // Then
+            assertEquals(List.of(TOMATO_SOUP_ID, BRUSCHETTA_ID, MARGHERITA_ID), ids,
+                    "Every item mentioning a tomato should match, name matches first, then by name");
+        }
+
+        @Test
+        @DisplayName("Should match an incomplete last word as a prefix")
+        void testPrefixMatched() {
+            // When
+            List<Long> ids = ids(index.search("marg", 10));
+
+            // Then
+            assertEquals(List.of(MARGHERITA_ID), ids, "A prefix of a term should match it");
+        }
+
+        @Test
+        @DisplayName("Should only return items matching every query term")
+        void testAllTermsRequired() {
+            // When
+            List<Long> ids = ids(index.search("garlic tomato", 10));
+
+            // Then
+            assertEquals(List.of(BRUSCHETTA_ID), ids, "Items matching only one of the terms should be left out");
+        }
+
+        @Test
+        @DisplayName("Should rank a name match above a description match")
+        void testNameMatchRankedFirst() {
+            // When
+            List<Long> ids = ids(index.search("bread", 10));
+
+            // Then
+            assertEquals(List.of(GARLIC_BREAD_ID, BRUSCHETTA_ID), ids, "The item named after the term should lead");
+        }
+
+        @Test
+        @DisplayName("Should return nothing for a query of stop words only")
+        void testStopWordsOnlyQuery() {
+            // When / Then
+            assertTrue(index.search("the and with", 10).isEmpty(), "Stop words should not match every item");
+        }
+
+        @Test
+        @DisplayName("Should return at most the requested number of results")
+        void testLimitApplied() {
+            // When / Then
+            assertEquals(1, index.search("tomato", 1).size(), "Results should be cut at the limit");
+        }
+    }
+
+    private static Object[] row(Long id, String name, String description) {
+        return new Object[] {id, 10L, name, description, BigDecimal.TEN};
+    }
+
+    private static List<Long> ids(List<ItemSearchResultDTO> results) {
+        return results.stream().map(ItemSearchResultDTO::getId).toList();
+    }
+}
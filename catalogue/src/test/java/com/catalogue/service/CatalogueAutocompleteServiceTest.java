@@ -0,0 +1,62 @@
+package com.catalogue.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.catalogue.exception.ValidationException;
+import com.catalogue.search.AutocompleteIndex;
+import com.catalogue.search.AutocompleteIndexCache;
+import com.common.tenant.TenantContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Catalogue Autocomplete Service Tests")
+class CatalogueAutocompleteServiceTest {
+
+    @Mock
+    private AutocompleteIndexCache autocompleteIndexCache;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    @InjectMocks
+    private CatalogueAutocompleteService catalogueAutocompleteService;
+
+    @Test
+    @DisplayName("Should look up the current tenant's index")
+    void testCurrentTenantLookedUp() {
+        // Given
+        when(tenantContextHolder.getTenantId()).thenReturn("tenant1");
+        when(autocompleteIndexCache.get("tenant1")).thenReturn(AutocompleteIndex.EMPTY);
+
+        // When
+        catalogueAutocompleteService.suggest("piz", null);
+
+        // Then
+        verify(autocompleteIndexCache).get("tenant1");
+    }
+
+    @Test
+    @DisplayName("Should reject a blank prefix")
+    void testBlankPrefixRejected() {
+        // When / Then
+        assertThrows(ValidationException.class, () -> catalogueAutocompleteService.suggest(" ", null),
+                "A blank prefix should be rejected");
+    }
+
+    @Test
+    @DisplayName("Should reject a limit above the maximum")
+    void testLimitAboveMaximumRejected() {
+        // When / Then
+        assertThrows(ValidationException.class,
+                () -> catalogueAutocompleteService.suggest("piz", CatalogueAutocompleteService.MAX_LIMIT + 1),
+                "Limits above the maximum should be rejected");
+    }
+}
@@ -0,0 +1,211 @@
+package com.catalogue.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.catalogue.cache.AllergenIndex;
+import com.catalogue.cache.AllergenIndexCache;
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.dto.CursorPage;
+import com.catalogue.exception.ValidationException;
+import com.catalogue.repository.CatalogueKeysetRepository;
+import com.catalogue.repository.ComponentBatchRepository;
+import com.common.tenant.TenantContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Catalogue Browse Service Tests")
+class CatalogueBrowseServiceTest {
+
+    @Mock
+    private CatalogueKeysetRepository keysetRepository;
+
+    @Mock
+    private AllergenIndexCache allergenIndexCache;
+
+    @Mock
+    private ComponentBatchRepository componentBatchRepository;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    @InjectMocks
+    private CatalogueBrowseService catalogueBrowseService;
+
+    @Nested
+    @DisplayName("Page Size Tests")
+    class PageSizeTests {
+
+        @Test
+        @DisplayName("Should use the default page size when none is given")
+        void testDefaultPageSize() {
+            // When
+            catalogueBrowseService.getItemPage(null, null, null, null);
+
+            // Then
+            verify(keysetRepository).findItemPage(isNull(),
+                    eq(CatalogueBrowseService.DEFAULT_LIMIT),
+                    eq(List.copyOf(CatalogueKeysetRepository.ITEM_FIELDS.keySet())));
+        }
+
+        @Test
+        @DisplayName("Should reject a page size above the maximum")
+        void testPageSizeAboveMaximumIsRejected() {
+            // When / Then
+            assertThrows(ValidationException.class,
+                    () -> catalogueBrowseService.getItemPage(null, CatalogueBrowseService.MAX_LIMIT + 1, null, null),
+                    "Page sizes above the maximum should be rejected");
+        }
+
+        @Test
+        @DisplayName("Should reject a page size below one")
+        void testPageSizeBelowOneIsRejected() {
+            // When / Then
+            assertThrows(ValidationException.class,
+                    () -> catalogueBrowseService.getCategoryPage(null, 0, null),
+                    "Page sizes below one should be rejected");
+        }
+    }
+
+    @Nested
+    @DisplayName("Field Selection Tests")
+    class FieldSelectionTests {
+
+        @Test
+        @DisplayName("Should always select the ID alongside the requested fields")
+        void testIdIsAlwaysSelected() {
+            // When
+            catalogueBrowseService.getCategoryPage(null, 10, "name, name");
+
+            // Then
+            verify(keysetRepository).findCategoryPage(null, 10, List.of("id", "name"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields")
+        void testUnknownFieldIsRejected() {
+            // When / Then
+            assertThrows(ValidationException.class,
+                    () -> catalogueBrowseService.getCategoryPage(null, 10, "name,secret"),
+                    "Fields that are not part of the listing should be rejected");
+        }
+    }
+
+    @Nested
+    @DisplayName("Component Tests")
+    class ComponentTests {
+
+        @Test
+        @DisplayName("Should add the components of every item when they are asked for")
+        void testComponentsAdded() {
+            // Given
+            ComponentDTO component = new ComponentDTO();
+            component.setName("Cheese");
+            when(keysetRepository.findItemPage(null, 10, List.of("id", "name"))).thenReturn(page(1L, 2L));
+            when(componentBatchRepository.findByCategoryItemIds(any())).thenReturn(Map.of(1L, List.of(component)));
+
+            // When
+            CursorPage<Map<String, Object>> page = catalogueBrowseService.getItemPage(null, 10, "name,components",
+                    null);
+
+            // Then
+            assertEquals(List.of(component), page.getItems().get(0).get(CatalogueBrowseService.COMPONENTS_FIELD),
+                    "The item should carry its components");
+        }
+
+        @Test
+        @DisplayName("Should look up the components of a whole page at once")
+        void testComponentsLookedUpOncePerPage() {
+            // Given
+            when(keysetRepository.findItemPage(null, 10, List.of("id"))).thenReturn(page(1L, 2L, 3L));
+            when(componentBatchRepository.findByCategoryItemIds(any())).thenReturn(Map.of());
+
+            // When
+            catalogueBrowseService.getItemPage(null, 10, "components", null);
+
+            // Then
+            verify(componentBatchRepository).findByCategoryItemIds(List.of(1L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("Should not look up components unless they are asked for")
+        void testComponentsNotLookedUpByDefault() {
+            // Given
+            when(keysetRepository.findItemPage(any(), eq(10), any())).thenReturn(page(1L));
+
+            // When
+            catalogueBrowseService.getItemPage(null, 10, null, null);
+
+            // Then
+            verify(componentBatchRepository, never()).findByCategoryItemIds(any());
+        }
+
+        private CursorPage<Map<String, Object>> page(Long... itemIds) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Long itemId : itemIds) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", itemId);
+                rows.add(row);
+            }
+            return new CursorPage<>(rows, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("Allergen Filter Tests")
+    class AllergenFilterTests {
+
+        @Test
+        @DisplayName("Should leave out items containing an excluded allergen")
+        void testItemWithExcludedAllergenFiltered() {
+            // Given
+            when(tenantContextHolder.getTenantId()).thenReturn("tenant1");
+            when(allergenIndexCache.get("tenant1")).thenReturn(AllergenIndex.build(
+                    List.of(new Object[] {7L, "Contains dairy"}, new Object[] {8L, "Contains nuts"}), List.of()));
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Predicate<Long>> filter = ArgumentCaptor.forClass(Predicate.class);
+            when(keysetRepository.findItemPage(isNull(), eq(10), any(), filter.capture())).thenReturn(null);
+
+            // When
+            catalogueBrowseService.getItemPage(null, 10, null, "nuts, dairy");
+
+            // Then
+            assertFalse(filter.getValue().test(7L), "An item with a dairy component should be filtered out");
+        }
+
+        @Test
+        @DisplayName("Should reject an allergen that no component declares")
+        void testUndeclaredAllergenRejected() {
+            // Given
+            when(tenantContextHolder.getTenantId()).thenReturn("tenant1");
+            when(allergenIndexCache.get("tenant1")).thenReturn(AllergenIndex.build(
+                    List.<Object[]>of(new Object[] {7L, "Contains dairy"}), List.of()));
+
+            // When / Then
+            assertThrows(ValidationException.class,
+                    () -> catalogueBrowseService.getItemPage(null, 10, null, "dairy, diary"),
+                    "A misspelt allergen should be rejected rather than let its items through");
+        }
+    }
+}
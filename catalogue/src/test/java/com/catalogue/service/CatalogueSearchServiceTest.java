@@ -0,0 +1,62 @@
+package com.catalogue.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.catalogue.exception.ValidationException;
+import com.catalogue.search.SearchIndex;
+import com.catalogue.search.SearchIndexCache;
+import com.common.tenant.TenantContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Catalogue Search Service Tests")
+class CatalogueSearchServiceTest {
+
+    @Mock
+    private SearchIndexCache searchIndexCache;
+
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    @InjectMocks
+    private CatalogueSearchService catalogueSearchService;
+
+    @Test
+    @DisplayName("Should search the current tenant's index")
+    void testCurrentTenantSearched() {
+        // Given
+        when(tenantContextHolder.getTenantId()).thenReturn("tenant1");
+        when(searchIndexCache.get("tenant1")).thenReturn(SearchIndex.EMPTY);
+
+        // When
+        catalogueSearchService.searchItems("pizza", null);
+
+        // Then
+        verify(searchIndexCache).get("tenant1");
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query")
+    void testBlankQueryRejected() {
+        // When / Then
+        assertThrows(ValidationException.class, () -> catalogueSearchService.searchItems(" ", null),
+                "A blank query should be rejected");
+    }
+
+    @Test
+    @DisplayName("Should reject a limit above the maximum")
+    void testLimitAboveMaximumRejected() {
+        // When / Then
+        assertThrows(ValidationException.class,
+                () -> catalogueSearchService.searchItems("pizza", CatalogueSearchService.MAX_LIMIT + 1),
+                "Limits above the maximum should be rejected");
+    }
+}
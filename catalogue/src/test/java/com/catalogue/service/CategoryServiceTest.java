@@ -5,7 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,12 +24,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.catalogue.cache.CategoryTreeCache;
 import com.catalogue.dto.CategoryDTO;
+import com.catalogue.event.CatalogueChangedEvent;
 import com.catalogue.exception.DuplicateResourceException;
 import com.catalogue.exception.ResourceNotFoundException;
 import com.catalogue.model.Category;
 import com.catalogue.repository.CategoryRepository;
+import com.catalogue.tenant.TenantKeyResolver;
 import com.common.tenant.TenantContextHolder;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,10 +46,20 @@ public class CategoryServiceTest {
     @Mock
     private TenantContextHolder tenantContextHolder;
 
+    @Mock
+    private TenantKeyResolver tenantKeyResolver;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
     private static String tenantId = "tenant1";
+    private static int tenantKey = 7;
     private Category category1;
     private Category category2;
 
@@ -56,7 +72,7 @@ public class CategoryServiceTest {
         category1.setDescription("Starter dishes");
         category1.setDisplayOrder(1);
         category1.setActive(true);
-        category1.setTenantId(tenantId);
+        category1.setTenantKey(tenantKey);
 
         category2 = new Category();
         category2.setId(2L);
@@ -64,10 +80,11 @@ public class CategoryServiceTest {
         category2.setDescription("Main dishes");
         category2.setDisplayOrder(2);
         category2.setActive(true);
-        category2.setTenantId(tenantId);
+        category2.setTenantKey(tenantKey);
 
         // Mock tenant context
-        when(tenantContextHolder.getTenantId()).thenReturn(tenantId);
+        lenient().when(tenantContextHolder.getTenantId()).thenReturn(tenantId);
+        lenient().when(tenantKeyResolver.isCurrentTenant(any(Category.class))).thenReturn(true);
     }
 
     @Nested
@@ -76,8 +93,14 @@ public class CategoryServiceTest {
 
         @BeforeEach
         void setUp() {
-            when(categoryRepository.findByTenantIdOrderByDisplayOrderAsc(tenantId))
+            when(categoryRepository.findWithItemsByOrderByDisplayOrderAsc())
                     .thenReturn(Arrays.asList(category1, category2));
+
+            // Let the cache behave as a miss and delegate to the loader
+            when(categoryTreeCache.get(eq(tenantId), any())).thenAnswer(invocation -> {
+                Function<String, List<CategoryDTO>> loader = invocation.getArgument(1);
+                return loader.apply(tenantId);
+            });
         }
 
         @Test
@@ -130,7 +153,17 @@ public class CategoryServiceTest {
             categoryService.getAllCategories();
 
             // Then
-            verify(categoryRepository, times(1)).findByTenantIdOrderByDisplayOrderAsc(tenantId);
+            verify(categoryRepository, times(1)).findWithItemsByOrderByDisplayOrderAsc();
+        }
+
+        @Test
+        @DisplayName("Should read through the category tree cache with the tenant ID")
+        void testGetAllCategoriesReadsThroughCache() {
+            // When
+            categoryService.getAllCategories();
+
+            // Then
+            verify(categoryTreeCache, times(1)).get(eq(tenantId), any());
         }
     }
 
@@ -142,7 +175,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category DTO when found")
         void testGetCategoryReturnsCategoryDTO() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -157,7 +190,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category with correct ID")
         void testGetCategoryReturnsCorrectId() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -172,7 +205,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category with correct name")
         void testGetCategoryReturnsCorrectName() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -187,7 +220,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category with correct description")
         void testGetCategoryReturnsCorrectDescription() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -202,7 +235,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category with correct display order")
         void testGetCategoryReturnsCorrectDisplayOrder() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -217,7 +250,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return category with correct active status")
         void testGetCategoryReturnsCorrectActiveStatus() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
@@ -229,38 +262,51 @@ public class CategoryServiceTest {
         }
 
         @Test
-        @DisplayName("Should call tenant context holder")
-        void testGetCategoryCallsTenantContextHolder() {
+        @DisplayName("Should check that the category belongs to the current tenant")
+        void testGetCategoryChecksTenant() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
             categoryService.getCategory(1L);
 
             // Then
-            verify(tenantContextHolder, times(1)).getTenantId();
+            verify(tenantKeyResolver, times(1)).isCurrentTenant(category1);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for a category of another tenant")
+        void testGetCategoryThrowsExceptionForOtherTenant() {
+            // Given
+            when(categoryRepository.findById(1L))
+                    .thenReturn(Optional.of(category1));
+            when(tenantKeyResolver.isCurrentTenant(category1)).thenReturn(false);
+
+            // When & Then
+            assertThrows(ResourceNotFoundException.class, () -> categoryService.getCategory(1L),
+                    "Should not return a category owned by another tenant");
         }
 
         @Test
-        @DisplayName("Should call repository with correct ID and tenant ID")
+        @DisplayName("Should call repository with correct ID")
         void testGetCategoryCallsRepositoryWithCorrectParams() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(1L, tenantId))
+            when(categoryRepository.findById(1L))
                     .thenReturn(Optional.of(category1));
 
             // When
             categoryService.getCategory(1L);
 
             // Then
-            verify(categoryRepository, times(1)).findByIdAndTenantId(1L, tenantId);
+            verify(categoryRepository, times(1)).findById(1L);
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when category not found")
         void testGetCategoryThrowsExceptionWhenNotFound() {
             // Given
-            when(categoryRepository.findByIdAndTenantId(anyLong(), anyString()))
+            when(categoryRepository.findById(anyLong()))
                     .thenReturn(Optional.empty());
 
             // When & Then
@@ -291,14 +337,14 @@ public class CategoryServiceTest {
             newCategory.setDescription("Sweet treats");
             newCategory.setDisplayOrder(3);
             newCategory.setActive(true);
-            newCategory.setTenantId(tenantId);
+            newCategory.setTenantKey(tenantKey);
         }
 
         @Test
         @DisplayName("Should return a non-null DTO when created successfully")
         void testCreateCategoryReturnsNonNullDTO() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -315,7 +361,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return DTO with correct ID")
         void testCreateCategoryReturnsCorrectId() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -332,7 +378,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return DTO with correct name")
         void testCreateCategoryReturnsCorrectName() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -349,7 +395,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return DTO with correct description")
         void testCreateCategoryReturnsCorrectDescription() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -366,7 +412,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return DTO with correct display order")
         void testCreateCategoryReturnsCorrectDisplayOrder() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -383,7 +429,7 @@ public class CategoryServiceTest {
         @DisplayName("Should return DTO with correct active status")
         void testCreateCategoryReturnsCorrectActiveStatus() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -400,7 +446,7 @@ public class CategoryServiceTest {
         @DisplayName("Should call tenant context holder")
         void testCreateCategoryCallsTenantContextHolder() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -416,7 +462,7 @@ public class CategoryServiceTest {
         @DisplayName("Should check if name already exists")
         void testCreateCategoryChecksIfNameExists() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -425,14 +471,14 @@ public class CategoryServiceTest {
             categoryService.createCategory(inputDTO);
 
             // Then
-            verify(categoryRepository, times(1)).existsByNameAndTenantId("Desserts", tenantId);
+            verify(categoryRepository, times(1)).existsByName("Desserts");
         }
 
         @Test
         @DisplayName("Should save category with correct data")
         void testCreateCategorySavesCategory() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -448,7 +494,7 @@ public class CategoryServiceTest {
         @DisplayName("Should throw exception when category name already exists")
         void testCreateCategoryThrowsExceptionWhenNameExists() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(true);
 
             // When & Then
@@ -462,7 +508,7 @@ public class CategoryServiceTest {
         @DisplayName("Should not call save when category name already exists")
         void testCreateCategoryDoesNotCallSaveWhenNameExists() {
             // Given
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(true);
 
             // When
@@ -483,7 +529,7 @@ public class CategoryServiceTest {
             // Given
             inputDTO.setActive(null); // No active flag set
 
-            when(categoryRepository.existsByNameAndTenantId("Desserts", tenantId))
+            when(categoryRepository.existsByName("Desserts"))
                     .thenReturn(false);
             when(categoryRepository.save(any(Category.class)))
                     .thenReturn(newCategory);
@@ -495,5 +541,59 @@ public class CategoryServiceTest {
             assertEquals(true, createdDTO.getActive(),
                     "Created category active flag should default to true");
         }
+
+        @Test
+        @DisplayName("Should publish a catalogue change event when created")
+        void testCreateCategoryPublishesChangeEvent() {
+            // Given
+            when(categoryRepository.existsByName("Desserts"))
+                    .thenReturn(false);
+            when(categoryRepository.save(any(Category.class)))
+                    .thenReturn(newCategory);
+
+            // When
+            categoryService.createCategory(inputDTO);
+
+            // Then
+            verify(eventPublisher, times(1)).publishEvent(any(CatalogueChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("updateCategory and deleteCategory Tests")
+    class ModifyCategoryTests {
+
+        @Test
+        @DisplayName("Should publish a catalogue change event when updated")
+        void testUpdateCategoryPublishesChangeEvent() {
+            // Given
+            CategoryDTO inputDTO = new CategoryDTO();
+            inputDTO.setName("Appetizers");
+            inputDTO.setDisplayOrder(5);
+            when(categoryRepository.findById(1L))
+                    .thenReturn(Optional.of(category1));
+            when(categoryRepository.save(any(Category.class)))
+                    .thenReturn(category1);
+
+            // When
+            categoryService.updateCategory(1L, inputDTO);
+
+            // Then
+            verify(eventPublisher, times(1)).publishEvent(any(CatalogueChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should publish a catalogue change event when deleted")
+        void testDeleteCategoryPublishesChangeEvent() {
+            // Given
+            when(categoryRepository.findById(1L))
+                    .thenReturn(Optional.of(category1));
+
+            // When
+            categoryService.deleteCategory(1L);
+
+            // Then
+            verify(eventPublisher, times(1)).publishEvent(any(CatalogueChangedEvent.class));
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.catalogue.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.catalogue.dto.ComponentDTO;
+import com.catalogue.repository.ComponentBatchRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Component Loader Tests")
+class ComponentLoaderTest {
+
+    @Mock
+    private ComponentBatchRepository batchRepository;
+
+    private ComponentLoader componentLoader;
+
+    @BeforeEach
+    void setUp() {
+        componentLoader = new ComponentLoader(batchRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve every requested item with one batched lookup")
+    void testRequestedItemsResolvedTogether() {
+        // Given
+        when(batchRepository.findByCategoryItemIds(any())).thenReturn(Map.of());
+        componentLoader.requestItem(1L);
+        componentLoader.requestItem(2L);
+        componentLoader.requestItem(3L);
+
+        // When
+        componentLoader.forItem(1L);
+        componentLoader.forItem(2L);
+        componentLoader.forItem(3L);
+
+        // Then
+        verify(batchRepository).findByCategoryItemIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should not look up an item that was loaded already")
+    void testLoadedItemNotLookedUpAgain() {
+        // Given
+        when(batchRepository.findByCategoryItemIds(any())).thenReturn(Map.of());
+        componentLoader.forItem(1L);
+
+        // When
+        componentLoader.forItem(1L);
+
+        // Then
+        verify(batchRepository, times(1)).findByCategoryItemIds(any());
+    }
+
+    @Test
+    @DisplayName("Should return no components for an item that has none")
+    void testItemWithoutComponentsIsEmpty() {
+        // Given
+        when(batchRepository.findByCategoryItemIds(any())).thenReturn(Map.of());
+
+        // When
+        List<ComponentDTO> components = componentLoader.forItem(1L);
+
+        // Then
+        assertTrue(components.isEmpty(), "An item without components should get an empty list");
+    }
+
+    @Test
+    @DisplayName("Should return the components found for a customization")
+    void testCustomizationComponentsReturned() {
+        // Given
+        ComponentDTO component = new ComponentDTO();
+        component.setName("Cheese");
+        when(batchRepository.findByCustomizationIds(any())).thenReturn(Map.of(7L, List.of(component)));
+
+        // When
+        List<ComponentDTO> components = componentLoader.forCustomization(7L);
+
+        // Then
+        assertEquals(List.of(component), components, "The customization's components should be returned");
+    }
+}
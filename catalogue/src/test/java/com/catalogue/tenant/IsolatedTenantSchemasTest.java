@@ -0,0 +1,234 @@
+package com.catalogue.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.catalogue.cache.CategoryTreeCache;
+import com.catalogue.config.TenantSchemaConfig;
+import com.catalogue.dto.CategoryDTO;
+import com.catalogue.importer.CatalogueBatchWriter;
+import com.catalogue.importer.CatalogueImporter;
+import com.catalogue.model.Category;
+import com.catalogue.repository.CategoryRepository;
+import com.catalogue.service.CategoryService;
+import com.common.tenant.TenantContextHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Isolated Tenant Schemas Tests")
+class IsolatedTenantSchemasTest {
+
+    @Nested
+    @DisplayName("Schema Name Tests")
+    class SchemaNameTests {
+
+        @Test
+        @DisplayName("Should derive the schema name from the tenant ID")
+        void testSchemaName() {
+            // When
+            String schema = IsolatedTenantSchemas.schemaName("Big-Chain.2");
+
+            // Then
+            assertEquals("tenant_big_chain_2", schema, "Schema names should be lower case letters, digits and _");
+        }
+
+        @Test
+        @DisplayName("Should reject tenants that would share a schema")
+        void testSharedSchemaRejected() {
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> new IsolatedTenantSchemas(List.of("big-chain", "big_chain")),
+                    "Each isolated tenant needs a schema of its own");
+        }
+    }
+
+    /**
+     * Runs the schema-per-tenant mode on H2, committing each write in a transaction of the tenant.
+     */
+    @Nested
+    @DataJpaTest(properties = {
+        "catalogue.tenancy.isolated-schemas.enabled=true",
+        "catalogue.tenancy.isolated-schemas.tenants=" + SchemaRoutingTests.ISOLATED_TENANT_ID
+    })
+    @ContextConfiguration(classes = SchemaRoutingTests.JpaTestConfiguration.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Schema Routing Tests")
+    class SchemaRoutingTests {
+
+        static final String ISOLATED_TENANT_ID = "big-chain";
+        private static final String SHARED_TENANT_ID = "corner-cafe";
+        private static final String ISOLATED_SCHEMA = "\"tenant_big_chain\"";
+
+        @Autowired
+        private CategoryRepository categoryRepository;
+
+        @Autowired
+        private TenantRegistry tenantRegistry;
+
+        @Autowired
+        private TenantContextHolder tenantContextHolder;
+
+        @Autowired
+        private CategoryService categoryService;
+
+        @Autowired
+        private CatalogueImporter catalogueImporter;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @BeforeEach
+        void setUp() {
+            // Loaded on application startup
+            tenantRegistry.reload();
+            tenantRegistry.register(SHARED_TENANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should store an isolated tenant's rows in its own schema")
+        void testIsolatedTenantUsesOwnSchema() {
+            // Given
+            saveCategory(ISOLATED_TENANT_ID, "Isolated starters");
+
+            // When
+            int rows = countCategories(ISOLATED_SCHEMA + ".categories", "Isolated starters");
+
+            // Then
+            assertEquals(1, rows, "The category should be stored in the tenant's schema");
+        }
+
+        @Test
+        @DisplayName("Should not store an isolated tenant's rows in the shared tables")
+        void testIsolatedTenantSkipsSharedTables() {
+            // Given
+            saveCategory(ISOLATED_TENANT_ID, "Private starters");
+
+            // When
+            int rows = countCategories("categories", "Private starters");
+
+            // Then
+            assertEquals(0, rows, "The shared tables should not hold the isolated tenant's rows");
+        }
+
+        @Test
+        @DisplayName("Should keep other tenants in the shared tables")
+        void testOtherTenantsUseSharedTables() {
+            // Given
+            saveCategory(SHARED_TENANT_ID, "Shared starters");
+
+            // When
+            int rows = countCategories("categories", "Shared starters");
+
+            // Then
+            assertEquals(1, rows, "Tenants that are not isolated should use the shared tables");
+        }
+
+        @Test
+        @DisplayName("Should read an isolated tenant's rows back from its schema")
+        void testIsolatedTenantReadsOwnSchema() {
+            // Given
+            saveCategory(ISOLATED_TENANT_ID, "Returning starters");
+
+            // When
+            boolean exists = inTenant(ISOLATED_TENANT_ID,
+                    () -> categoryRepository.existsByName("Returning starters"));
+
+            // Then
+            assertTrue(exists, "Sessions of the isolated tenant should read its schema");
+        }
+
+        @Test
+        @DisplayName("Should import an isolated tenant's rows into its own schema")
+        void testImportedRowsReadFromOwnSchema() throws IOException {
+            // Given
+            catalogueImporter.importCatalogue(new ByteArrayInputStream(("{\"categories\": [{\"tenantId\": \""
+                    + ISOLATED_TENANT_ID + "\", \"name\": \"Imported starters\"}]}")
+                    .getBytes(StandardCharsets.UTF_8)));
+
+            // When
+            List<String> names = inTenant(ISOLATED_TENANT_ID,
+                    () -> categoryService.getAllCategories().stream().map(CategoryDTO::getName).toList());
+
+            // Then
+            assertTrue(names.contains("Imported starters"),
+                    "Imported rows should be written where the tenant's sessions read them");
+        }
+
+        private void saveCategory(String tenantId, String name) {
+            inTenant(tenantId, () -> {
+                Category category = new Category();
+                category.setName(name);
+                category.setDisplayOrder(0);
+                category.setActive(true);
+                return categoryRepository.save(category);
+            });
+        }
+
+        private <T> T inTenant(String tenantId, Supplier<T> work) {
+            tenantContextHolder.setTenantId(tenantId);
+            try {
+                return new TransactionTemplate(transactionManager).execute(status -> work.get());
+            } finally {
+                tenantContextHolder.clear();
+            }
+        }
+
+        private int countCategories(String table, String name) {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE name = ?",
+                    Integer.class, name);
+            return count == null ? 0 : count;
+        }
+
+        /**
+         * Minimal JPA configuration with the schema-per-tenant mode.
+         */
+        @SpringBootConfiguration
+        @EntityScan("com.catalogue.model")
+        @EnableJpaRepositories("com.catalogue.repository")
+        @Import({TenantSchemaConfig.class, TenantContextHolder.class, TenantRegistry.class, TenantKeyResolver.class,
+            TenantSchemaRouter.class, CatalogueBatchWriter.class, CatalogueImporter.class, CategoryService.class,
+            CategoryTreeCache.class})
+        static class JpaTestConfiguration {
+
+            @Bean
+            MeterRegistry meterRegistry() {
+                return new SimpleMeterRegistry();
+            }
+
+            @Bean
+            ObjectMapper objectMapper() {
+                return new ObjectMapper();
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.catalogue.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import com.catalogue.model.Category;
+import com.common.tenant.TenantContextHolder;
+
+@DisplayName("Tenant Key Resolver Tests")
+class TenantKeyResolverTest {
+
+    private static final String TENANT_ID = "american-grill";
+    private static final int TENANT_KEY = 7;
+
+    private final TenantContextHolder tenantContextHolder = new TenantContextHolder();
+
+    private TenantKeyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        TenantRegistry tenantRegistry = mock(TenantRegistry.class);
+        when(tenantRegistry.keyOf(anyString())).thenReturn(null);
+        when(tenantRegistry.keyOf(TENANT_ID)).thenReturn(TENANT_KEY);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("tenantRegistry", tenantRegistry);
+        resolver = new TenantKeyResolver(tenantContextHolder, beanFactory.getBeanProvider(TenantRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextHolder.clear();
+    }
+
+    @Nested
+    @DisplayName("Resolution Tests")
+    class ResolutionTests {
+
+        @Test
+        @DisplayName("Should resolve the key of the current tenant")
+        void testRegisteredTenantResolved() {
+            // Given
+            tenantContextHolder.setTenantId(TENANT_ID);
+
+            // When
+            Integer tenantKey = resolver.resolveCurrentTenantIdentifier();
+
+            // Then
+            assertEquals(TENANT_KEY, tenantKey, "Sessions should be opened for the tenant's key");
+        }
+
+        @Test
+        @DisplayName("Should resolve the root key without a current tenant")
+        void testRootWithoutTenant() {
+            // When
+            Integer tenantKey = resolver.resolveCurrentTenantIdentifier();
+
+            // Then
+            assertTrue(resolver.isRoot(tenantKey), "Sessions outside a tenant should see every tenant");
+        }
+
+        @Test
+        @DisplayName("Should resolve an unknown tenant to a key no row carries")
+        void testUnknownTenantResolved() {
+            // Given
+            tenantContextHolder.setTenantId("french-bakery");
+
+            // When
+            Integer tenantKey = resolver.resolveCurrentTenantIdentifier();
+
+            // Then
+            assertEquals(TenantKeyResolver.UNKNOWN_TENANT_KEY, tenantKey,
+                    "An unknown tenant should neither see every tenant nor another tenant's rows");
+        }
+
+        @Test
+        @DisplayName("Should not treat an unknown tenant as root")
+        void testUnknownTenantNotRoot() {
+            // When
+            boolean root = resolver.isRoot(TenantKeyResolver.UNKNOWN_TENANT_KEY);
+
+            // Then
+            assertFalse(root, "Only sessions without a tenant should be unfiltered");
+        }
+    }
+
+    @Nested
+    @DisplayName("Ownership Tests")
+    class OwnershipTests {
+
+        @Test
+        @DisplayName("Should accept an entity of the current tenant")
+        void testOwnEntityAccepted() {
+            // Given
+            tenantContextHolder.setTenantId(TENANT_ID);
+
+            // When
+            boolean current = resolver.isCurrentTenant(category(TENANT_KEY));
+
+            // Then
+            assertTrue(current, "The tenant's own entity should be returned");
+        }
+
+        @Test
+        @DisplayName("Should reject an entity of another tenant")
+        void testOtherTenantEntityRejected() {
+            // Given
+            tenantContextHolder.setTenantId(TENANT_ID);
+
+            // When
+            boolean current = resolver.isCurrentTenant(category(TENANT_KEY + 1));
+
+            // Then
+            assertFalse(current, "Another tenant's entity loaded by ID should not be returned");
+        }
+
+        @Test
+        @DisplayName("Should accept any entity without a current tenant")
+        void testAnyEntityAcceptedAsRoot() {
+            // When
+            boolean current = resolver.isCurrentTenant(category(TENANT_KEY + 1));
+
+            // Then
+            assertTrue(current, "Sessions outside a tenant should see every tenant's entities");
+        }
+    }
+
+    @Test
+    @DisplayName("Should install itself as Hibernate's tenant identifier resolver")
+    void testInstalledInHibernateProperties() {
+        // Given
+        Map<String, Object> properties = new HashMap<>();
+
+        // When
+        resolver.customize(properties);
+
+        // Then
+        assertSame(resolver, properties.get(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER),
+                "Hibernate should resolve session tenants through the resolver");
+    }
+
+    private static Category category(int tenantKey) {
+        Category category = new Category();
+        category.setTenantKey(tenantKey);
+        return category;
+    }
+}
@@ -0,0 +1,167 @@
+package com.catalogue.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("Tenant Registry Tests")
+class TenantRegistryTest {
+
+    private static final String PATH = "/api/v1/tenants/american-grill/categories";
+
+    private JdbcTemplate jdbcTemplate;
+    private TenantRegistry tenantRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO tenants (slug) VALUES ('american-grill'), ('italian-bistro')");
+        tenantRegistry = new TenantRegistry(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        tenantRegistry.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should return the registered instance for an equal tenant ID")
+        void testCanonicalInstanceReturned() {
+            // Given
+            String first = tenantRegistry.canonicalize(new StringBuilder("italian-bistro").toString());
+
+            // When
+            String second = tenantRegistry.canonicalize(new StringBuilder("italian-bistro").toString());
+
+            // Then
+            assertSame(first, second, "Equal tenant IDs should share one instance");
+        }
+
+        @Test
+        @DisplayName("Should find a tenant ID in a region of a path")
+        void testRegionLookup() {
+            // When
+            String tenantId = tenantRegistry.canonicalize(PATH, 16, 30);
+
+            // Then
+            assertEquals("american-grill", tenantId, "The tenant segment should be matched in place");
+        }
+
+        @Test
+        @DisplayName("Should not match a region that is a prefix of a tenant ID")
+        void testPrefixRegionNotMatched() {
+            // When
+            String tenantId = tenantRegistry.canonicalize(PATH, 16, 24);
+
+            // Then
+            assertNull(tenantId, "A partial tenant ID should not be matched");
+        }
+
+        @Test
+        @DisplayName("Should return null for an unknown tenant")
+        void testUnknownTenant() {
+            // When
+            Integer tenantKey = tenantRegistry.keyOf("french-bakery");
+
+            // Then
+            assertNull(tenantKey, "An unknown tenant should have no key");
+        }
+
+        @Test
+        @DisplayName("Should return the key stored in the tenants table")
+        void testKeyLoaded() {
+            // Given
+            Integer expected = jdbcTemplate.queryForObject(
+                    "SELECT id FROM tenants WHERE slug = 'italian-bistro'", Integer.class);
+
+            // When
+            Integer tenantKey = tenantRegistry.keyOf("italian-bistro");
+
+            // Then
+            assertEquals(expected, tenantKey, "The registry should map the slug to its table key");
+        }
+    }
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should create a tenant row for a new tenant")
+        void testNewTenantCreated() {
+            // When
+            int tenantKey = tenantRegistry.register("french-bakery");
+
+            // Then
+            assertEquals(tenantKey, jdbcTemplate.queryForObject(
+                    "SELECT id FROM tenants WHERE slug = 'french-bakery'", Integer.class),
+                    "A new tenant should be stored with the key it was given");
+        }
+
+        @Test
+        @DisplayName("Should reuse a tenant created elsewhere since the last reload")
+        void testExistingRowReused() {
+            // Given
+            jdbcTemplate.update("INSERT INTO tenants (slug) VALUES ('french-bakery')");
+
+            // When
+            tenantRegistry.register("french-bakery");
+
+            // Then
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM tenants WHERE slug = 'french-bakery'", Integer.class),
+                    "A tenant already in the table should not be created again");
+        }
+
+        @Test
+        @DisplayName("Should register a tenant only once")
+        void testDuplicateRegistrationIgnored() {
+            // Given
+            tenantRegistry.register("french-bakery");
+
+            // When
+            tenantRegistry.register(new StringBuilder("french-bakery").toString());
+
+            // Then
+            assertEquals(3, tenantRegistry.size(), "A tenant should be counted once");
+        }
+
+        @Test
+        @DisplayName("Should keep every tenant when the table grows")
+        void testGrowthKeepsTenants() {
+            // Given
+            for (int i = 0; i < 100; i++) {
+                tenantRegistry.register("tenant-" + i);
+            }
+
+            // When
+            long found = IntStream.range(0, 100)
+                    .filter(i -> tenantRegistry.canonicalize("tenant-" + i) != null)
+                    .count();
+
+            // Then
+            assertEquals(100, found, "All registered tenants should be found after growing");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.catalogue.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.catalogue.exception.ValidationException;
+
+@DisplayName("Keyset Cursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should decode the position it was encoded from")
+    void testCursorRoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(7, 12_345L);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(12_345L, decoded.getId(), "Decoded cursor should point at the same row");
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page")
+    void testBlankCursorIsFirstPage() {
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(" ");
+
+        // Then
+        assertNull(decoded, "A blank cursor should decode to no position");
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void testMalformedCursorIsRejected() {
+        // When / Then
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not-a-cursor"),
+                "A malformed cursor should be reported as a validation error");
+    }
+}
@@ -1,24 +1,56 @@
 package com.common.config;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.env.Environment;
 
+import com.common.datasource.ReplicaRoutingDataSource;
+import com.common.tenant.TenantContextHolder;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import javax.sql.DataSource;
 
 @Configuration
 @Profile("!local") // Only active when local profile is NOT active
+@EnableConfigurationProperties({DatabasePoolProperties.class, DatabaseReplicaProperties.class})
 public class DatabaseConfig {
 
+    /**
+     * Share of the maximum pool size currently in use, from 0 to 1.
+     */
+    public static final String UTILIZATION_METRIC = "hikaricp.connections.utilization";
+
     private final Environment env;
+    private final DatabasePoolProperties poolProperties;
+    private final DatabaseReplicaProperties replicaProperties;
+    private final TenantContextHolder tenantContextHolder;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
-    public DatabaseConfig(Environment env) {
+    public DatabaseConfig(Environment env, DatabasePoolProperties poolProperties,
+                          DatabaseReplicaProperties replicaProperties, TenantContextHolder tenantContextHolder,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
         this.env = env;
+        this.poolProperties = poolProperties;
+        this.replicaProperties = replicaProperties;
+        this.tenantContextHolder = tenantContextHolder;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
+    @SuppressWarnings("PMD.CloseResource") // The pools are closed with the bean
     public DataSource dataSource() {
         String username = env.getProperty("SPRING_DATASOURCE_USERNAME");
         String password = env.getProperty("SPRING_DATASOURCE_PASSWORD");
@@ -31,12 +63,79 @@ public class DatabaseConfig {
             password = env.getProperty("spring.datasource.password");
         }
 
-        return DataSourceBuilder.create()
-                .url(env.getProperty("spring.datasource.url"))
+        String poolName = env.getProperty("spring.application.name", "application") + "-pool";
+        HikariDataSource primary = createPool(poolName, env.getProperty("spring.datasource.url"),
+                username, password);
+
+        DataSource dataSource = primary;
+        if (!replicaProperties.getUrls().isEmpty()) {
+            List<HikariDataSource> replicas = new ArrayList<>();
+            for (String url : replicaProperties.getUrls()) {
+                replicas.add(createPool(poolName + "-replica-" + replicas.size(), url,
+                        replicaProperties.getUsername() == null ? username : replicaProperties.getUsername(),
+                        replicaProperties.getPassword() == null ? password : replicaProperties.getPassword()));
+            }
+            dataSource = new ReplicaRoutingDataSource(primary, replicas, tenantContextHolder,
+                    replicaProperties.getReadYourWritesWindow(), replicaProperties.getUnhealthyBackoff(),
+                    Clock.systemUTC());
+        }
+        return dataSource;
+    }
+
+    private HikariDataSource createPool(String poolName, String url, String username, String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
                 .driverClassName(env.getProperty("spring.datasource.driver-class-name",
                         env.getProperty("spring.datasource.driverClassName")))
                 .username(username)
                 .password(password)
                 .build();
+
+        dataSource.setPoolName(poolName);
+        configurePool(dataSource);
+        meterRegistry.ifAvailable(registry -> bindMetrics(dataSource, registry));
+        return dataSource;
+    }
+
+    /**
+     * Apply the pool sizing, timeouts, validation and driver statement cache settings
+     */
+    private void configurePool(HikariDataSource dataSource) {
+        dataSource.setMaximumPoolSize(poolProperties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(poolProperties.getMinimumIdle());
+        dataSource.setConnectionTimeout(poolProperties.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(poolProperties.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(poolProperties.getMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(poolProperties.getLeakDetectionThreshold().toMillis());
+        dataSource.setConnectionTestQuery(poolProperties.getValidationQuery());
+        dataSource.setValidationTimeout(poolProperties.getValidationTimeout().toMillis());
+
+        // The pool has no statement cache of its own; the drivers in use each cache per connection
+        String url = dataSource.getJdbcUrl() == null ? "" : dataSource.getJdbcUrl().toLowerCase(Locale.ROOT);
+        String cacheSize = String.valueOf(poolProperties.getStatementCacheSize());
+        if (url.startsWith("jdbc:postgresql:")) {
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", cacheSize);
+        } else if (url.startsWith("jdbc:h2:")) {
+            dataSource.addDataSourceProperty("QUERY_CACHE_SIZE", cacheSize);
+        }
+        poolProperties.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+    }
+
+    /**
+     * Publish the pool's own metrics (active, idle and pending connections, acquire time, timeouts)
+     * and a utilization gauge. Must run before the pool starts, which happens on the first connection.
+     */
+    private static void bindMetrics(HikariDataSource dataSource, MeterRegistry registry) {
+        dataSource.setMetricRegistry(registry);
+        Gauge.builder(UTILIZATION_METRIC, dataSource, DatabaseConfig::utilization)
+                .description("Share of the maximum pool size in use")
+                .tag("pool", dataSource.getPoolName())
+                .register(registry);
+    }
+
+    private static double utilization(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
     }
 }
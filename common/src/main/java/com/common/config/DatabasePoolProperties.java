@@ -0,0 +1,146 @@
+package com.common.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection pool settings for the service DataSource, bound from {@code common.datasource.pool.*}.
+ * Defaults suit a single service instance against a shared database; size pools from the
+ * {@code hikaricp.connections.*} metrics rather than raising them speculatively.
+ */
+@ConfigurationProperties(prefix = "common.datasource.pool")
+public class DatabasePoolProperties {
+
+    /**
+     * Largest number of connections, idle and in use.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Number of idle connections the pool tries to keep ready.
+     */
+    private int minimumIdle = 2;
+
+    /**
+     * How long a caller waits for a connection before the request fails.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * How long a connection above {@link #minimumIdle} may sit idle before it is retired.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Maximum lifetime of a connection; keep it below any database or network idle cut-off.
+     */
+    private Duration maxLifetime = Duration.ofMinutes(30);
+
+    /**
+     * How long a connection may be held before a possible leak is logged; zero disables detection.
+     */
+    private Duration leakDetectionThreshold = Duration.ZERO;
+
+    /**
+     * Query used to validate connections. Leave unset for drivers supporting {@code Connection.isValid}.
+     */
+    private String validationQuery;
+
+    /**
+     * How long a connection validation may take.
+     */
+    private Duration validationTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Number of prepared statements cached per connection by the driver; zero disables the cache.
+     */
+    private int statementCacheSize = 256;
+
+    /**
+     * Additional driver properties, applied after the pool's own settings.
+     */
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Duration getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    public void setMaxLifetime(Duration maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    public Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    public void setValidationQuery(String validationQuery) {
+        this.validationQuery = validationQuery;
+    }
+
+    public Duration getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    public void setValidationTimeout(Duration validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public Map<String, String> getDataSourceProperties() {
+        return dataSourceProperties;
+    }
+
+    public void setDataSourceProperties(Map<String, String> dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+}
@@ -0,0 +1,80 @@
+package com.common.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas for read-only transactions, bound from {@code common.datasource.replica.*}.
+ * Without URLs every transaction uses the primary. Replica pools share the primary's pool settings.
+ */
+@ConfigurationProperties(prefix = "common.datasource.replica")
+public class DatabaseReplicaProperties {
+
+    /**
+     * JDBC URLs of the replicas, used round-robin.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Replica user name; defaults to the primary's.
+     */
+    private String username;
+
+    /**
+     * Replica password; defaults to the primary's.
+     */
+    private String password;
+
+    /**
+     * How long a tenant's reads stay on the primary after it wrote; cover the usual replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * How long a replica that failed to hand out a connection is skipped.
+     */
+    private Duration unhealthyBackoff = Duration.ofSeconds(30);
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public Duration getUnhealthyBackoff() {
+        return unhealthyBackoff;
+    }
+
+    public void setUnhealthyBackoff(Duration unhealthyBackoff) {
+        this.unhealthyBackoff = unhealthyBackoff;
+    }
+}
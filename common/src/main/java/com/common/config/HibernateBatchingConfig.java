@@ -0,0 +1,26 @@
+package com.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching defaults shared by every service.
+ * Inserts and updates are grouped per entity type so consecutive statements can share a batch.
+ * Values set explicitly under {@code spring.jpa.properties} take precedence.
+ */
+@Configuration
+public class HibernateBatchingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchingCustomizer(
+            @Value("${common.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package com.common.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.common.tenant.TenantContextHolder;
+
+/**
+ * DataSource that sends read-only transactions to replica pools and everything else to the primary.
+ *
+ * <p>Physical connections are fetched lazily, at the first statement, because transaction managers ask for
+ * a connection before the transaction's read-only flag is published. Replicas are used round-robin; a
+ * replica that fails to hand out a connection is skipped for a back-off period, and reads fall back to the
+ * primary when no replica is available.
+ *
+ * <p>Read-your-writes: after a read-write transaction commits, read-only transactions of the same tenant
+ * stay on the primary for a window covering the replication lag. Writes without a tenant, such as bulk
+ * imports, pin every tenant. Writes committed elsewhere, such as by another node, are recorded with
+ * {@link #recordWrite(String)}.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String ALL_TENANTS = "";
+
+    private final Router router;
+
+    /**
+     * Constructor.
+     *
+     * @param primary Pool for writes and read-your-writes reads
+     * @param replicas Pools for read-only transactions
+     * @param tenantContextHolder Holder of the tenant whose writes are tracked
+     * @param readYourWritesWindow How long a tenant's reads stay on the primary after it wrote
+     * @param unhealthyBackoff How long a failing replica is skipped
+     * @param clock Clock for the read-your-writes and back-off windows
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                    TenantContextHolder tenantContextHolder, Duration readYourWritesWindow,
+                                    Duration unhealthyBackoff, Clock clock) {
+        this(new Router(primary, replicas, tenantContextHolder, readYourWritesWindow, unhealthyBackoff, clock));
+    }
+
+    private ReplicaRoutingDataSource(Router router) {
+        super(router);
+        this.router = router;
+    }
+
+    /**
+     * Record a write committed outside this data source, so the tenant's reads stay on the primary for the
+     * read-your-writes window like after a local write.
+     *
+     * @param tenantId The tenant written, or null for every tenant
+     */
+    public void recordWrite(String tenantId) {
+        router.recordWrite(tenantId);
+    }
+
+    /**
+     * Close the primary and replica pools.
+     */
+    @Override
+    public void close() throws IOException {
+        closePool(router.primary);
+        for (Replica replica : router.replicas) {
+            closePool(replica.dataSource);
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource") // Closes the pool it is given
+    private static void closePool(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * A replica pool and the time until which it is skipped.
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        @SuppressWarnings("PMD.AvoidUsingVolatile") // Updated by request threads without locking
+        private volatile long unhealthyUntil;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * Records the commit time of a read-write transaction for its tenant.
+     */
+    private static final class WriteTracker implements TransactionSynchronization {
+
+        private final Router router;
+        private final String tenantId;
+
+        WriteTracker(Router router, String tenantId) {
+            this.router = router;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public void afterCommit() {
+            router.recordWrite(tenantId);
+        }
+    }
+
+    /**
+     * Target of the lazy proxy; picks the pool when the first statement needs a physical connection.
+     */
+    private static final class Router extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final List<Replica> replicas;
+        private final TenantContextHolder tenantContextHolder;
+        private final long readYourWritesMillis;
+        private final long unhealthyBackoffMillis;
+        private final Clock clock;
+        private final AtomicInteger nextReplica = new AtomicInteger();
+        private final Map<String, Long> lastWriteByTenant = new ConcurrentHashMap<>();
+
+        Router(DataSource primary, List<? extends DataSource> replicas, TenantContextHolder tenantContextHolder,
+               Duration readYourWritesWindow, Duration unhealthyBackoff, Clock clock) {
+            super();
+            this.primary = primary;
+            this.replicas = replicas.stream().map(Replica::new).toList();
+            this.tenantContextHolder = tenantContextHolder;
+            this.readYourWritesMillis = readYourWritesWindow.toMillis();
+            this.unhealthyBackoffMillis = unhealthyBackoff.toMillis();
+            this.clock = clock;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = null;
+            String tenantId = tenantContextHolder.getTenantId();
+
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (!recentlyWritten(tenantId)) {
+                    connection = replicaConnection();
+                }
+            } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new WriteTracker(this, tenantId));
+            }
+
+            return connection == null ? primary.getConnection() : connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        /**
+         * Get a connection from the next healthy replica, or null if none can provide one
+         */
+        private Connection replicaConnection() {
+            Connection connection = null;
+            long now = clock.millis();
+            for (int attempt = 0; attempt < replicas.size() && connection == null; attempt++) {
+                Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+                if (replica.unhealthyUntil <= now) {
+                    try {
+                        connection = replica.dataSource.getConnection();
+                    } catch (SQLException e) {
+                        replica.unhealthyUntil = now + unhealthyBackoffMillis;
+                        LOGGER.warn("Replica unavailable, skipping it for {} ms: {}", unhealthyBackoffMillis,
+                                e.getMessage());
+                    }
+                }
+            }
+            return connection;
+        }
+
+        void recordWrite(String tenantId) {
+            lastWriteByTenant.put(tenantId == null ? ALL_TENANTS : tenantId, clock.millis());
+        }
+
+        private boolean recentlyWritten(String tenantId) {
+            long cutoff = clock.millis() - readYourWritesMillis;
+            return isAfter(lastWriteByTenant.get(ALL_TENANTS), cutoff)
+                    || tenantId != null && isAfter(lastWriteByTenant.get(tenantId), cutoff);
+        }
+
+        private static boolean isAfter(Long timestamp, long cutoff) {
+            return timestamp != null && timestamp > cutoff;
+        }
+    }
+}
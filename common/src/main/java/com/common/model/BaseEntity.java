@@ -13,8 +13,18 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    /**
+     * Number of ids reserved per sequence call. Matches the default allocation size Hibernate uses for the
+     * implicit {@code <table>_seq} sequence of each entity, and the increment of those sequences.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Sequence-generated so Hibernate can batch inserts; the pooled optimizer hands out
+     * {@link #ID_ALLOCATION_SIZE} ids per database round trip.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     private LocalDateTime createdAt;
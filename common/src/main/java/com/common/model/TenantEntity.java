@@ -1,19 +1,26 @@
 package com.common.model;
 
+import org.hibernate.annotations.TenantId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 
 @MappedSuperclass
 public abstract class TenantEntity extends BaseEntity {
 
-    @Column(name = "tenant_id", nullable = false)
-    private String tenantId;
+    /**
+     * Integer surrogate key of the owning tenant in the {@code tenants} table, rather than the tenant's slug.
+     * Hibernate's tenant identifier: sessions of a tenant only read its rows and assign its key on insert.
+     */
+    @TenantId
+    @Column(name = "tenant_key", nullable = false)
+    private Integer tenantKey;
 
-    public String getTenantId() {
-        return tenantId;
+    public Integer getTenantKey() {
+        return tenantKey;
     }
 
-    public void setTenantId(String tenantId) {
-        this.tenantId = tenantId;
+    public void setTenantKey(Integer tenantKey) {
+        this.tenantKey = tenantKey;
     }
 }